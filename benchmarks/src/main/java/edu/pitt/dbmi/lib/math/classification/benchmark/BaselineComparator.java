@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compare two JMH result files, for example the baselines of two versions.
+ * Benchmarks are matched by name, mode and parameters. A benchmark regresses
+ * when its throughput drops, or its time or its allocation per operation
+ * (gc.alloc.rate.norm) grows, by more than the threshold.
+ *
+ * Usage: BaselineComparator baseline.json current.json [threshold percent]
+ *
+ * The exit status is 1 when any benchmark regresses.
+ *
+ * Oct 20, 2026 2:52:25 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public final class BaselineComparator {
+
+    public static final double DEFAULT_THRESHOLD = 10.0;
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private BaselineComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator baseline.json current.json [threshold percent]");
+            System.exit(2);
+        }
+
+        double threshold = (args.length > 2) ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+        List<String> regressions = compare(Paths.get(args[0]), Paths.get(args[1]), threshold);
+        if (!regressions.isEmpty()) {
+            System.out.printf("%n%d regression(s) over %.1f%%:%n", regressions.size(), threshold);
+            regressions.forEach(System.out::println);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Print the change of every benchmark found in both files.
+     *
+     * @param baselineFile JMH JSON results to compare against
+     * @param currentFile JMH JSON results to compare
+     * @param threshold largest change allowed, in percent
+     * @return the benchmarks that regressed
+     * @throws IOException
+     */
+    public static List<String> compare(Path baselineFile, Path currentFile, double threshold) throws IOException {
+        Map<String, Map<String, Object>> baseline = readResults(baselineFile);
+        Map<String, Map<String, Object>> current = readResults(currentFile);
+
+        List<String> regressions = new ArrayList<>();
+        System.out.printf("%-90s %14s %14s %9s %9s%n", "Benchmark", "Baseline", "Current", "Change", "Alloc");
+        for (Map.Entry<String, Map<String, Object>> entry : current.entrySet()) {
+            Map<String, Object> baselineResult = baseline.get(entry.getKey());
+            if (baselineResult == null) {
+                continue;
+            }
+
+            Map<String, Object> currentResult = entry.getValue();
+            boolean isThroughput = "thrpt".equals(currentResult.get("mode"));
+            double baselineScore = getScore(baselineResult, "primaryMetric");
+            double currentScore = getScore(currentResult, "primaryMetric");
+            double change = percentChange(baselineScore, currentScore);
+            double allocationChange = percentChange(
+                    getSecondaryScore(baselineResult, ALLOCATION_METRIC),
+                    getSecondaryScore(currentResult, ALLOCATION_METRIC));
+
+            String unit = (String) ((Map<?, ?>) currentResult.get("primaryMetric")).get("scoreUnit");
+            String line = String.format("%-90s %14.4g %14.4g %8.1f%% %8.1f%%  %s",
+                    entry.getKey(), baselineScore, currentScore, change, allocationChange, unit);
+            System.out.println(line);
+
+            boolean slower = isThroughput ? (change < -threshold) : (change > threshold);
+            if (slower || allocationChange > threshold) {
+                regressions.add(line);
+            }
+        }
+
+        return regressions;
+    }
+
+    private static Map<String, Map<String, Object>> readResults(Path file) throws IOException {
+        Object json = JsonReader.read(Files.readString(file, StandardCharsets.UTF_8));
+        if (!(json instanceof List)) {
+            throw new IllegalArgumentException(file + " is not a JMH JSON result file.");
+        }
+
+        Map<String, Map<String, Object>> results = new LinkedHashMap<>();
+        for (Object item : (List<?>) json) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> result = (Map<String, Object>) item;
+            results.put(createKey(result), result);
+        }
+
+        return results;
+    }
+
+    /**
+     * Name, mode and parameters sorted by name, e.g.
+     * EvaluatorBenchmark.rocCurve thrpt n=1000,prevalence=0.05,quantizationLevels=0
+     */
+    private static String createKey(Map<String, Object> result) {
+        String benchmark = (String) result.get("benchmark");
+        String name = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+
+        StringBuilder key = new StringBuilder(name).append(' ').append(result.get("mode"));
+        Object params = result.get("params");
+        if (params instanceof Map) {
+            String separator = " ";
+            for (Map.Entry<?, ?> param : new TreeMap<>((Map<?, ?>) params).entrySet()) {
+                key.append(separator).append(param.getKey()).append('=').append(param.getValue());
+                separator = ",";
+            }
+        }
+
+        return key.toString();
+    }
+
+    private static double getScore(Map<?, ?> result, String metric) {
+        Object value = (result.get(metric) instanceof Map) ? ((Map<?, ?>) result.get(metric)).get("score") : null;
+        if (value instanceof Double) {
+            return (Double) value;
+        } else if (value instanceof String) {
+            // JMH writes NaN and infinities as strings
+            return Double.parseDouble((String) value);
+        } else {
+            return Double.NaN;
+        }
+    }
+
+    private static double getSecondaryScore(Map<?, ?> result, String metric) {
+        Object secondaryMetrics = result.get("secondaryMetrics");
+
+        return (secondaryMetrics instanceof Map) ? getScore((Map<?, ?>) secondaryMetrics, metric) : Double.NaN;
+    }
+
+    private static double percentChange(double baseline, double current) {
+        return (baseline == 0) ? Double.NaN : (current - baseline) / baseline * 100.0;
+    }
+
+}
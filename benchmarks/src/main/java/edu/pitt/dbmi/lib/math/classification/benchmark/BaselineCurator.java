@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Extract a baseline from a JMH result file: the score and its unit, and the
+ * allocation per operation (gc.alloc.rate.norm), of every benchmark that is
+ * not in the sample time mode, one benchmark per line. This is all that
+ * BaselineComparator reads; the raw data, the percentiles and the JVM details
+ * are left out so that the baseline stays small enough to review.
+ *
+ * Usage: BaselineCurator result.json baseline.json
+ *
+ * Oct 20, 2026 2:55:37 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public final class BaselineCurator {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private BaselineCurator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineCurator result.json baseline.json");
+            System.exit(2);
+        }
+
+        curate(Paths.get(args[0]), Paths.get(args[1]));
+    }
+
+    /**
+     * Write the baseline of a JMH result file.
+     *
+     * @param resultFile JMH JSON results
+     * @param baselineFile file to write the baseline to
+     * @throws IOException
+     */
+    public static void curate(Path resultFile, Path baselineFile) throws IOException {
+        Object json = JsonReader.read(Files.readString(resultFile, StandardCharsets.UTF_8));
+        if (!(json instanceof List)) {
+            throw new IllegalArgumentException(resultFile + " is not a JMH JSON result file.");
+        }
+
+        StringBuilder baseline = new StringBuilder("[\n");
+        String separator = "";
+        for (Object item : (List<?>) json) {
+            Map<?, ?> result = (Map<?, ?>) item;
+            if ("sample".equals(result.get("mode"))) {
+                continue;
+            }
+
+            baseline.append(separator)
+                    .append("    {\"benchmark\": ").append(quote(result.get("benchmark")))
+                    .append(", \"mode\": ").append(quote(result.get("mode")))
+                    .append(", \"params\": {");
+            if (result.get("params") instanceof Map) {
+                String paramSeparator = "";
+                for (Map.Entry<?, ?> param : new TreeMap<>((Map<?, ?>) result.get("params")).entrySet()) {
+                    baseline.append(paramSeparator).append(quote(param.getKey())).append(": ").append(quote(param.getValue()));
+                    paramSeparator = ", ";
+                }
+            }
+            baseline.append("}, \"primaryMetric\": ").append(metric(result.get("primaryMetric")));
+
+            Object secondaryMetrics = result.get("secondaryMetrics");
+            if (secondaryMetrics instanceof Map && ((Map<?, ?>) secondaryMetrics).containsKey(ALLOCATION_METRIC)) {
+                baseline.append(", \"secondaryMetrics\": {").append(quote(ALLOCATION_METRIC)).append(": ")
+                        .append(metric(((Map<?, ?>) secondaryMetrics).get(ALLOCATION_METRIC))).append('}');
+            }
+            baseline.append('}');
+            separator = ",\n";
+        }
+        baseline.append("\n]\n");
+
+        Files.writeString(baselineFile, baseline, StandardCharsets.UTF_8);
+    }
+
+    private static String metric(Object value) {
+        Map<?, ?> metric = (value instanceof Map) ? (Map<?, ?>) value : Map.of();
+        Object score = metric.get("score");
+
+        // JMH writes NaN and infinities as strings
+        String scoreText = (score instanceof Double) ? score.toString() : quote(score);
+
+        return "{\"score\": " + scoreText + ", \"scoreUnit\": " + quote(metric.get("scoreUnit")) + "}";
+    }
+
+    private static String quote(Object value) {
+        return "\"" + String.valueOf(value).replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.benchmark;
+
+import edu.pitt.dbmi.lib.math.classification.data.SyntheticDataGenerator;
+
+/**
+ * Settings of the reproducible data of the benchmarks, generated with
+ * SyntheticDataGenerator from a fixed seed and an AUC of 0.8, so the expected
+ * AUC does not depend on the size of the data. Quantizing the predictions to
+ * a number of levels creates ties.
+ *
+ * Oct 20, 2026 2:14:37 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+final class BenchmarkData {
+
+    static final long SEED = 20261020L;
+
+    static final double AREA_UNDER_ROC_CURVE = 0.8;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * @param prevalence fraction of positive outcomes
+     * @param quantizationLevels number of levels the predictions are rounded
+     * to, or 0 for no ties
+     * @return generator of the benchmark data
+     */
+    static SyntheticDataGenerator createGenerator(double prevalence, int quantizationLevels) {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED, prevalence, AREA_UNDER_ROC_CURVE);
+        generator.setQuantizationLevels(quantizationLevels);
+
+        return generator;
+    }
+
+}
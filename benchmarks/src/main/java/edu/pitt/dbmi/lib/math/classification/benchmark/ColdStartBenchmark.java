@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.benchmark;
+
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshowDecileGroup;
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.roc.ROCCurve;
+import edu.pitt.dbmi.lib.math.classification.roc.stat.DeLongConfidenceInterval;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time of the first evaluation in a new JVM: loading a small file, the ROC
+ * curve, its DeLong confidence interval and the Hosmer-Lemeshow statistics,
+ * including loading and initializing the classes. The setup does not touch
+ * any class of the library, so every fork starts cold.
+ *
+ * Oct 20, 2026 5:12:46 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ColdStartBenchmark {
+
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("cold-start-", ".csv");
+
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < 1000; i++) {
+                int observedValue = (random.nextDouble() < 0.3) ? 1 : 0;
+                writer.write(observedValue + "," + (0.6 * random.nextDouble() + 0.4 * observedValue));
+                writer.newLine();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public double firstEvaluation() throws IOException {
+        List<ObservedPredictedValue> data = ResourcesLoader.loadData(file, Delimiters.COMMA, 1, 2, false);
+        ROCCurve roc = new ROCCurve(data);
+
+        return new DeLongConfidenceInterval(roc).getStandardError() + new HosmerLemeshowDecileGroup(data).getPValue();
+    }
+
+}
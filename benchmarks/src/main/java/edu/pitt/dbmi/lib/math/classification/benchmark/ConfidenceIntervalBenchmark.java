@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.benchmark;
+
+import edu.pitt.dbmi.lib.math.classification.roc.DeLongROCCurve;
+import edu.pitt.dbmi.lib.math.classification.roc.stat.ConfidenceInterval;
+import edu.pitt.dbmi.lib.math.classification.roc.stat.DeLongConfidenceInterval;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the DeLong confidence interval on a curve computed once per
+ * trial. The sizes stop at 10^5 by default; larger sizes can be given with
+ * -p n=...
+ *
+ * Oct 20, 2026 2:26:52 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfidenceIntervalBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int n;
+
+    @Param({"0.05", "0.5"})
+    public double prevalence;
+
+    @Param({"0", "100"})
+    public int quantizationLevels;
+
+    private DeLongROCCurve roc;
+
+    @Setup
+    public void setUp() {
+        roc = new DeLongROCCurve(BenchmarkData.createGenerator(prevalence, quantizationLevels).generate(n));
+    }
+
+    @Benchmark
+    public ConfidenceInterval deLongConfidenceInterval() {
+        return new DeLongConfidenceInterval(roc);
+    }
+
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.cache;
+
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Key of a cached result: a 128-bit hash of the content of the dataset and
+ * the parameters of the evaluation.
+ *
+ * The hash runs two independent 64-bit lanes over the data, each mixing every
+ * 8-byte word with the SplitMix64 finalizer. It is fast and well distributed,
+ * but not cryptographic: it guards against accidental collisions, not
+ * crafted ones.
+ *
+ * Oct 19, 2026 9:52:30 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public final class CacheKey {
+
+    private static final long SEED_1 = 0x9E3779B97F4A7C15L;
+    private static final long SEED_2 = 0xC2B2AE3D27D4EB4FL;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final long contentHash1;
+    private final long contentHash2;
+    private final String parameters;
+
+    private CacheKey(long contentHash1, long contentHash2, String parameters) {
+        this.contentHash1 = contentHash1;
+        this.contentHash2 = contentHash2;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Create a key from observed and predicted values.
+     *
+     * @param observedValues observed values
+     * @param predictedValues predicted values
+     * @param parameters name and parameters of the evaluation
+     * @return key
+     */
+    public static CacheKey of(int[] observedValues, double[] predictedValues, Object... parameters) {
+        if (observedValues.length != predictedValues.length) {
+            throw new IllegalArgumentException("Observed values and predicted values must have the same length.");
+        }
+
+        Hasher hasher = new Hasher();
+        for (int i = 0; i < observedValues.length; i++) {
+            hasher.add(observedValues[i]);
+            hasher.add(Double.doubleToLongBits(predictedValues[i]));
+        }
+
+        return hasher.toKey(observedValues.length, parameters);
+    }
+
+    /**
+     * Create a key from a list of observed and predicted values.
+     *
+     * @param observedPredictedValues observed and predicted values
+     * @param parameters name and parameters of the evaluation
+     * @return key
+     */
+    public static CacheKey of(List<ObservedPredictedValue> observedPredictedValues, Object... parameters) {
+        Hasher hasher = new Hasher();
+        for (ObservedPredictedValue obsPredVal : observedPredictedValues) {
+            hasher.add(obsPredVal.getObservedValue());
+            hasher.add(Double.doubleToLongBits(obsPredVal.getPredictedValue()));
+        }
+
+        return hasher.toKey(observedPredictedValues.size(), parameters);
+    }
+
+    /**
+     * Create a key from the bytes of a data file, so that a cached result can
+     * be found without parsing the file.
+     *
+     * @param file data file
+     * @param parameters name and parameters of the evaluation, including how
+     * the file is read
+     * @return key
+     * @throws IOException
+     */
+    public static CacheKey of(Path file, Object... parameters) throws IOException {
+        Hasher hasher = new Hasher();
+        long size = 0;
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int numOfBytes;
+            while ((numOfBytes = channel.read(buffer)) != -1) {
+                size += numOfBytes;
+                buffer.flip();
+                while (buffer.remaining() >= Long.BYTES) {
+                    hasher.add(buffer.getLong());
+                }
+                buffer.compact();
+            }
+        }
+
+        // the last few bytes
+        buffer.flip();
+        long tail = 0;
+        for (int shift = 0; buffer.hasRemaining(); shift += 8) {
+            tail |= (buffer.get() & 0xFFL) << shift;
+        }
+        hasher.add(tail);
+
+        return hasher.toKey(size, parameters);
+    }
+
+    /**
+     * Create a key for the same data with more parameters, for example the
+     * size of an image rendered from an evaluation.
+     *
+     * @param moreParameters parameters to append
+     * @return key
+     */
+    public CacheKey withParameters(Object... moreParameters) {
+        return new CacheKey(contentHash1, contentHash2, parameters + Arrays.deepToString(moreParameters));
+    }
+
+    private static final class Hasher {
+
+        private long hash1 = SEED_1;
+        private long hash2 = SEED_2;
+
+        private void add(long value) {
+            hash1 = Long.rotateLeft(hash1 ^ mix(value ^ SEED_1), 27) * 5 + 0x52DCE729;
+            hash2 = Long.rotateLeft(hash2 + mix(value ^ SEED_2), 31) * 5 + 0x38495AB5;
+        }
+
+        private CacheKey toKey(long length, Object[] parameters) {
+            add(length);
+
+            return new CacheKey(mix(hash1 ^ hash2), mix(hash2 + SEED_1), Arrays.deepToString(parameters));
+        }
+
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * Get the key as a file name. The parameters are hashed to 128 bits with
+     * the same hash as the content, so that keys that differ only in their
+     * parameters (for example the size of an image) get different files.
+     *
+     * @return hexadecimal string of the content hash and the parameter hash
+     */
+    public String toFileName() {
+        byte[] bytes = parameters.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+
+        Hasher hasher = new Hasher();
+        while (buffer.remaining() >= Long.BYTES) {
+            hasher.add(buffer.getLong());
+        }
+        long tail = 0;
+        for (int shift = 0; buffer.hasRemaining(); shift += 8) {
+            tail |= (buffer.get() & 0xFFL) << shift;
+        }
+        hasher.add(tail);
+        hasher.add(bytes.length);
+
+        long parameterHash1 = mix(hasher.hash1 ^ hasher.hash2);
+        long parameterHash2 = mix(hasher.hash2 + SEED_1);
+
+        return String.format("%016x%016x%016x%016x", contentHash1, contentHash2, parameterHash1, parameterHash2);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CacheKey)) {
+            return false;
+        }
+
+        CacheKey other = (CacheKey) obj;
+
+        return contentHash1 == other.contentHash1
+                && contentHash2 == other.contentHash2
+                && parameters.equals(other.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (contentHash1 ^ (contentHash1 >>> 32)) * 31 + parameters.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x %s", contentHash1, contentHash2, parameters);
+    }
+
+    public long getContentHash1() {
+        return contentHash1;
+    }
+
+    public long getContentHash2() {
+        return contentHash2;
+    }
+
+    public String getParameters() {
+        return parameters;
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.cache;
+
+/**
+ * Snapshot of the counters of a cache.
+ *
+ * Oct 19, 2026 10:01:37 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class CacheStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long totalLoadTime;
+    private final long size;
+    private final long weight;
+
+    public CacheStatistics(long hitCount, long missCount, long evictionCount, long totalLoadTime, long size, long weight) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.totalLoadTime = totalLoadTime;
+        this.size = size;
+        this.weight = weight;
+    }
+
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+
+        return (requestCount == 0) ? 0 : ((double) hitCount) / requestCount;
+    }
+
+    /**
+     * Get the average time to compute a missing value.
+     *
+     * @return nanoseconds
+     */
+    public double getAverageLoadTime() {
+        return (missCount == 0) ? 0 : ((double) totalLoadTime) / missCount;
+    }
+
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(String.format("Entries:   %d (weight %d)%n", size, weight));
+        sb.append(String.format("Hits:      %d%n", hitCount));
+        sb.append(String.format("Misses:    %d%n", missCount));
+        sb.append(String.format("Hit rate:  %1.4f%n", getHitRate()));
+        sb.append(String.format("Evictions: %d%n", evictionCount));
+        sb.append(String.format("Avg load:  %1.3f ms", getAverageLoadTime() / 1.0e6));
+
+        return sb.toString();
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return nanoseconds spent computing missing values
+     */
+    public long getTotalLoadTime() {
+        return totalLoadTime;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getWeight() {
+        return weight;
+    }
+
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Size-bounded cache of computed results, such as ROC curves, confidence
+ * intervals and Hosmer-Lemeshow statistics, keyed by {@link CacheKey}.
+ *
+ * The total weight of the entries is kept at or below the maximum by evicting
+ * the least recently used or the least frequently used entries. A missing
+ * value is computed outside the lock, and threads asking for a value that is
+ * being computed wait for it instead of computing it again.
+ *
+ * Oct 19, 2026 10:08:45 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ * @param <V> type of the cached values
+ */
+public class EvaluationCache<V> {
+
+    private final long maximumWeight;
+    private final EvictionPolicy evictionPolicy;
+    private final ToLongFunction<V> weigher;
+
+    /**
+     * Entries in access order (LRU) or insertion order (LFU).
+     */
+    private final LinkedHashMap<CacheKey, Entry<V>> entries;
+
+    /**
+     * Keys per access count, each set in order of last access (LFU only).
+     */
+    private final TreeMap<Long, LinkedHashSet<CacheKey>> keysPerFrequency;
+
+    private final Map<CacheKey, CompletableFuture<V>> loading;
+
+    private long weight;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long totalLoadTime;
+
+    /**
+     * Cache holding at most the given number of entries.
+     *
+     * @param maximumSize maximum number of entries
+     * @param evictionPolicy which entries to evict
+     */
+    public EvaluationCache(long maximumSize, EvictionPolicy evictionPolicy) {
+        this(maximumSize, evictionPolicy, value -> 1);
+    }
+
+    /**
+     * Cache holding entries up to the given total weight.
+     *
+     * @param maximumWeight maximum total weight of the entries
+     * @param evictionPolicy which entries to evict
+     * @param weigher weight of a value, for example its size in bytes
+     */
+    public EvaluationCache(long maximumWeight, EvictionPolicy evictionPolicy, ToLongFunction<V> weigher) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("Maximum weight must be greater than zero.");
+        }
+        if (evictionPolicy == null || weigher == null) {
+            throw new IllegalArgumentException("An eviction policy and a weigher are required.");
+        }
+
+        this.maximumWeight = maximumWeight;
+        this.evictionPolicy = evictionPolicy;
+        this.weigher = weigher;
+        this.entries = new LinkedHashMap<>(16, 0.75f, evictionPolicy == EvictionPolicy.LRU);
+        this.keysPerFrequency = new TreeMap<>();
+        this.loading = new HashMap<>();
+    }
+
+    /**
+     * Get the value of the key, computing it if it is not cached.
+     *
+     * @param key key of the value
+     * @param loader computes the value when it is not cached
+     * @return cached or computed value
+     */
+    public V get(CacheKey key, Supplier<? extends V> loader) {
+        CompletableFuture<V> future;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                hitCount++;
+                recordAccess(key, entry);
+
+                return entry.value;
+            }
+
+            future = loading.get(key);
+            if (future != null) {
+                hitCount++;
+            } else {
+                missCount++;
+                loading.put(key, new CompletableFuture<>());
+            }
+        }
+
+        if (future != null) {
+            return await(future);
+        }
+
+        return load(key, loader);
+    }
+
+    private V load(CacheKey key, Supplier<? extends V> loader) {
+        long start = System.nanoTime();
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error exception) {
+            CompletableFuture<V> future;
+            synchronized (this) {
+                future = loading.remove(key);
+            }
+            future.completeExceptionally(exception);
+
+            throw exception;
+        }
+
+        List<Entry<V>> evicted;
+        CompletableFuture<V> future;
+        synchronized (this) {
+            totalLoadTime += System.nanoTime() - start;
+            future = loading.remove(key);
+            evicted = store(key, value);
+        }
+        future.complete(value);
+        notifyEvictions(evicted);
+
+        return value;
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw exception;
+        }
+    }
+
+    /**
+     * Get the cached value of the key without computing it.
+     *
+     * @param key key of the value
+     * @return cached value or null
+     */
+    public synchronized V getIfPresent(CacheKey key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount++;
+
+            return null;
+        }
+
+        hitCount++;
+        recordAccess(key, entry);
+
+        return entry.value;
+    }
+
+    public void put(CacheKey key, V value) {
+        List<Entry<V>> evicted;
+        synchronized (this) {
+            evicted = store(key, value);
+        }
+        notifyEvictions(evicted);
+    }
+
+    public synchronized void invalidate(CacheKey key) {
+        Entry<V> entry = entries.remove(key);
+        if (entry != null) {
+            remove(entry);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        keysPerFrequency.clear();
+        weight = 0;
+    }
+
+    /**
+     * Add or replace an entry and evict entries until the cache fits.
+     *
+     * @return evicted entries
+     */
+    private List<Entry<V>> store(CacheKey key, V value) {
+        Entry<V> previous = entries.remove(key);
+        if (previous != null) {
+            remove(previous);
+        }
+
+        List<Entry<V>> evicted = new ArrayList<>();
+        long valueWeight = weigher.applyAsLong(value);
+        if (valueWeight > maximumWeight) {
+            // never fits, hand it straight to the eviction hook
+            evictionCount++;
+            evicted.add(new Entry<>(key, value, valueWeight));
+
+            return evicted;
+        }
+
+        while (weight + valueWeight > maximumWeight) {
+            Entry<V> victim = entries.remove(findVictim());
+            remove(victim);
+            evictionCount++;
+            evicted.add(victim);
+        }
+
+        Entry<V> entry = new Entry<>(key, value, valueWeight);
+        entries.put(key, entry);
+        weight += valueWeight;
+        if (evictionPolicy == EvictionPolicy.LFU) {
+            keysPerFrequency.computeIfAbsent(entry.frequency, frequency -> new LinkedHashSet<>()).add(key);
+        }
+
+        return evicted;
+    }
+
+    private CacheKey findVictim() {
+        if (evictionPolicy == EvictionPolicy.LFU) {
+            return keysPerFrequency.firstEntry().getValue().iterator().next();
+        }
+
+        // access order: the first entry is the least recently used
+        Iterator<CacheKey> iterator = entries.keySet().iterator();
+
+        return iterator.next();
+    }
+
+    private void recordAccess(CacheKey key, Entry<V> entry) {
+        if (evictionPolicy == EvictionPolicy.LFU) {
+            removeFrequency(key, entry.frequency);
+            entry.frequency++;
+            keysPerFrequency.computeIfAbsent(entry.frequency, frequency -> new LinkedHashSet<>()).add(key);
+        }
+    }
+
+    private void remove(Entry<V> entry) {
+        weight -= entry.weight;
+        if (evictionPolicy == EvictionPolicy.LFU) {
+            removeFrequency(entry.key, entry.frequency);
+        }
+    }
+
+    private void removeFrequency(CacheKey key, long frequency) {
+        LinkedHashSet<CacheKey> keys = keysPerFrequency.get(frequency);
+        keys.remove(key);
+        if (keys.isEmpty()) {
+            keysPerFrequency.remove(frequency);
+        }
+    }
+
+    private void notifyEvictions(List<Entry<V>> evicted) {
+        for (Entry<V> entry : evicted) {
+            onEviction(entry.key, entry.value);
+        }
+    }
+
+    /**
+     * Called, outside the lock, for each value evicted from the cache.
+     *
+     * @param key key of the evicted value
+     * @param value evicted value
+     */
+    protected void onEviction(CacheKey key, V value) {
+    }
+
+    public synchronized CacheStatistics getStatistics() {
+        return new CacheStatistics(hitCount, missCount, evictionCount, totalLoadTime, entries.size(), weight);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    private static final class Entry<V> {
+
+        private final CacheKey key;
+        private final V value;
+        private final long weight;
+        private long frequency;
+
+        private Entry(CacheKey key, V value, long weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.frequency = 1;
+        }
+
+    }
+
+}
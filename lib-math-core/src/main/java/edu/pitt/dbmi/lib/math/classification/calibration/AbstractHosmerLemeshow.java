@@ -0,0 +1,665 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration;
+
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.monitoring.PhaseTimer;
+import edu.pitt.dbmi.lib.math.classification.utils.CompensatedSum;
+import edu.pitt.dbmi.lib.math.classification.utils.PairedArrays;
+import java.util.List;
+import java.util.function.DoubleToIntFunction;
+import java.util.stream.IntStream;
+import org.apache.commons.math3.distribution.ChiSquaredDistribution;
+
+/**
+ *
+ * Mar 6, 2023 2:20:24 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public abstract class AbstractHosmerLemeshow implements HosmerLemeshow {
+
+    /**
+     * Number of data tallied by each task when the data is tallied in
+     * parallel. Smaller datasets are tallied on the calling thread.
+     */
+    protected static final int PARALLEL_CHUNK_SIZE = 1 << 16;
+
+    protected String summary;
+
+    protected int numberOfPredictions;
+
+    /**
+     * The number of groups (intervals) to split the data into. Groups without
+     * any data are dropped from the results.
+     */
+    protected int numberOfGroups;
+
+    /**
+     * Actual measured value. Value should be 0 or 1.
+     */
+    protected int[] observedValues;
+
+    /**
+     * Value predicted by classifier. Value should be between 0 and 1,
+     * inclusive.
+     */
+    protected double[] predictedValues;
+
+    /**
+     * Copies of the observed values and predicted values sorted in ascending
+     * order of the predicted values, made on first request so that the
+     * statistics never pay for a full sort.
+     */
+    private volatile SortedData sortedData;
+
+    /**
+     * Contains the group number. The first interval is first group and so on...
+     */
+    protected int[] groups;
+
+    /**
+     * Contains the number of data in each group.
+     */
+    protected int[] numberOfDataPerGroup;
+
+    /**
+     * Contains the sum of actual positive outcomes within each group.
+     */
+    protected int[] positiveObservedSumPerGroup;
+
+    /**
+     * Contains the sum of all the predicted outcomes within each group.
+     */
+    protected double[] predictedSumPerGroup;
+
+    /**
+     * Contains the Hosmer-Lemeshow chi square statistic for each group.
+     */
+    protected double[] hlChi2PerGroup;
+
+    /**
+     * Contains the margin of errors for each group.
+     */
+    protected double[] marginOfErrorPerGroup;
+
+    /**
+     * Contains the average of observed positive outcome for each group
+     * (interval);<br>
+     * observed_avg = (# of positive observed outcome) / (# of data in the
+     * interval)<br>
+     * This is the values for the y-axis in the HL plot.
+     */
+    protected double[] hlObservedValues;
+
+    /**
+     * Contains the average of predicted outcomes for each group (interval)<br>
+     * predicted_avg = (sum of the predicted outcomes) / (# of data in the
+     * interval)<br>
+     * This is the values for the x-axis in the HL plot.
+     */
+    protected double[] hlExpectedValues;
+
+    protected int degreesOfFreedom;
+
+    protected double pValue;
+
+    /**
+     * The measurement of the observed accuracy in each bin.
+     */
+    protected double expectedCalibrationError;
+
+    /**
+     * The highest gap over all bins.
+     */
+    protected double maxCalibrationError;
+
+    /**
+     * The average miscalibration where each bin gets weighted equally.
+     */
+    protected double averageCalibrationError;
+
+    /**
+     * Group the data and compute the statistics.
+     *
+     * @param observedPredictedValues data to group
+     * @param numberOfGroups number of groups to split the data into
+     * @param groupIndexerFactory creates the function that assigns each
+     * predicted value to a group
+     */
+    protected AbstractHosmerLemeshow(List<ObservedPredictedValue> observedPredictedValues, int numberOfGroups, GroupIndexerFactory groupIndexerFactory) {
+        if (observedPredictedValues == null || observedPredictedValues.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "A list of data containing both observed value and predicted value is required.");
+        }
+        if (numberOfGroups < 1) {
+            throw new IllegalArgumentException("Number of groups must be at least 1.");
+        }
+        if (groupIndexerFactory == null) {
+            throw new IllegalArgumentException("A group indexer factory is required.");
+        }
+
+        this.numberOfGroups = numberOfGroups;
+
+        numberOfPredictions = observedPredictedValues.size();
+
+        // populate observed values and predicted values
+        observedValues = new int[numberOfPredictions];
+        predictedValues = new double[numberOfPredictions];
+        int index = 0;
+        for (ObservedPredictedValue obsPredVal : observedPredictedValues) {
+            observedValues[index] = obsPredVal.getObservedValue();
+            predictedValues[index] = obsPredVal.getPredictedValue();
+            index++;
+        }
+
+        // tally the data in each group in a single pass
+        PhaseTimer timer = PhaseTimer.start(getClass().getSimpleName(), "group");
+        int[] dataCounts = new int[numberOfGroups];
+        int[] positiveCounts = new int[numberOfGroups];
+        double[] predictedSums = new double[numberOfGroups];
+        tallyGroups(groupIndexerFactory.create(predictedValues, observedValues, numberOfGroups), dataCounts, positiveCounts, predictedSums);
+        timer.stop(numberOfPredictions);
+
+        timer = PhaseTimer.start(getClass().getSimpleName(), "statistics");
+        computeStatistics(dataCounts, positiveCounts, predictedSums);
+        timer.stop(numberOfPredictions);
+    }
+
+    /**
+     * Compute the statistics from the number of data, the number of positive
+     * outcomes and the sum of the predicted values already tallied for each
+     * group. The observed values and predicted values are not available.
+     *
+     * @param dataCounts number of data in each group
+     * @param positiveCounts number of positive outcomes in each group
+     * @param predictedSums sum of the predicted values in each group
+     */
+    protected AbstractHosmerLemeshow(int[] dataCounts, int[] positiveCounts, double[] predictedSums) {
+        this(dataCounts, positiveCounts, predictedSums, new int[0], new double[0]);
+    }
+
+    /**
+     * Compute the statistics from the tallies already computed for each
+     * group, keeping the data the tallies were computed from.
+     *
+     * @param dataCounts number of data in each group
+     * @param positiveCounts number of positive outcomes in each group
+     * @param predictedSums sum of the predicted values in each group
+     * @param sortedObservedValues observed values, in ascending order of the
+     * predicted values, or an empty array
+     * @param sortedPredictedValues predicted values, in ascending order, or an
+     * empty array
+     */
+    protected AbstractHosmerLemeshow(int[] dataCounts, int[] positiveCounts, double[] predictedSums, int[] sortedObservedValues, double[] sortedPredictedValues) {
+        if (dataCounts == null || positiveCounts == null || predictedSums == null) {
+            throw new IllegalArgumentException("Group tallies are required.");
+        }
+        if (dataCounts.length == 0 || dataCounts.length != positiveCounts.length || dataCounts.length != predictedSums.length) {
+            throw new IllegalArgumentException("Group tallies must have the same number of groups.");
+        }
+
+        numberOfGroups = dataCounts.length;
+        for (int dataCount : dataCounts) {
+            numberOfPredictions = Math.addExact(numberOfPredictions, dataCount);
+        }
+        if (numberOfPredictions == 0) {
+            throw new IllegalArgumentException("Group tallies must contain at least one data.");
+        }
+
+        if (sortedObservedValues.length != sortedPredictedValues.length
+                || (sortedPredictedValues.length > 0 && sortedPredictedValues.length != numberOfPredictions)) {
+            throw new IllegalArgumentException("The sorted data does not match the group tallies.");
+        }
+
+        observedValues = sortedObservedValues;
+        predictedValues = sortedPredictedValues;
+        sortedData = new SortedData(sortedObservedValues, sortedPredictedValues);
+
+        computeStatistics(dataCounts, positiveCounts, predictedSums);
+    }
+
+    private void computeStatistics(int[] dataCounts, int[] positiveCounts, double[] predictedSums) {
+        computePlotPoints(dataCounts, positiveCounts, predictedSums);
+
+        degreesOfFreedom = groups.length - 2;
+
+        pValue = computePValue(degreesOfFreedom, hlChi2PerGroup);
+
+        // calibration metrics
+        expectedCalibrationError = computeExpectedCalibrationError(hlExpectedValues, hlObservedValues, numberOfDataPerGroup, numberOfPredictions);
+        maxCalibrationError = computeMaxCalibrationError(hlExpectedValues, hlObservedValues, numberOfDataPerGroup);
+        averageCalibrationError = computeAverageCalibrationError(hlExpectedValues, hlObservedValues, numberOfDataPerGroup);
+    }
+
+    /**
+     * Count the number of data, the number of positive outcomes and the sum of
+     * the predicted values for each group. Large datasets are split into
+     * chunks of fixed size that are tallied in parallel, each into its own
+     * counters, and then merged with a pairwise tree in chunk order. The
+     * predicted values are summed with compensated summation. Since neither
+     * the chunks nor the tree depend on the number of threads, the results are
+     * the same whether the data is tallied in parallel or sequentially.
+     *
+     * @param groupIndexer maps a predicted value to its group index
+     * @param dataCounts number of data in each group
+     * @param positiveCounts number of positive outcomes in each group
+     * @param predictedSums sum of the predicted values in each group
+     */
+    protected void tallyGroups(DoubleToIntFunction groupIndexer, int[] dataCounts, int[] positiveCounts, double[] predictedSums) {
+        int numOfGroups = dataCounts.length;
+        int numOfChunks = (numberOfPredictions + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+        GroupTally[] tallies = (numOfChunks <= 1)
+                ? new GroupTally[]{tallyGroups(groupIndexer, 0, numberOfPredictions, numOfGroups)}
+                : IntStream.range(0, numOfChunks)
+                        .parallel()
+                        .mapToObj(chunk -> {
+                            int from = chunk * PARALLEL_CHUNK_SIZE;
+                            int to = Math.min(from + PARALLEL_CHUNK_SIZE, numberOfPredictions);
+
+                            return tallyGroups(groupIndexer, from, to, numOfGroups);
+                        })
+                        .toArray(GroupTally[]::new);
+
+        // pairwise merge: ((0 + 1) + (2 + 3)) + ...
+        for (int stride = 1; stride < tallies.length; stride *= 2) {
+            for (int i = 0; i + stride < tallies.length; i += 2 * stride) {
+                tallies[i].add(tallies[i + stride]);
+            }
+        }
+
+        GroupTally total = tallies[0];
+        for (int i = 0; i < numOfGroups; i++) {
+            dataCounts[i] += total.dataCounts[i];
+            positiveCounts[i] += total.positiveCounts[i];
+            predictedSums[i] += total.predictedSums[i] + total.predictedCompensations[i];
+        }
+    }
+
+    private GroupTally tallyGroups(DoubleToIntFunction groupIndexer, int from, int to, int numOfGroups) {
+        GroupTally tally = new GroupTally(numOfGroups);
+        for (int i = from; i < to; i++) {
+            double predictedValue = predictedValues[i];
+            int groupIndex = groupIndexer.applyAsInt(predictedValue);
+            tally.dataCounts[groupIndex]++;
+            tally.positiveCounts[groupIndex] += observedValues[i];
+            CompensatedSum.add(tally.predictedSums, tally.predictedCompensations, groupIndex, predictedValue);
+        }
+
+        return tally;
+    }
+
+    /**
+     * Compute the chart points and the Hosmer-Lemeshow statistic for each
+     * group that has at least one member.
+     *
+     * @param dataCounts number of data in each group
+     * @param positiveCounts number of positive outcomes in each group
+     * @param predictedSums sum of the predicted values in each group
+     */
+    protected void computePlotPoints(int[] dataCounts, int[] positiveCounts, double[] predictedSums) {
+        int totalNumOfGroups = 0;
+        for (int dataCount : dataCounts) {
+            if (dataCount > 0) {
+                totalNumOfGroups++;
+            }
+        }
+
+        groups = new int[totalNumOfGroups];
+        numberOfDataPerGroup = new int[totalNumOfGroups];
+        positiveObservedSumPerGroup = new int[totalNumOfGroups];
+        predictedSumPerGroup = new double[totalNumOfGroups];
+        hlChi2PerGroup = new double[totalNumOfGroups];
+        marginOfErrorPerGroup = new double[totalNumOfGroups];
+        hlObservedValues = new double[totalNumOfGroups];
+        hlExpectedValues = new double[totalNumOfGroups];
+
+        int groupIndex = 0;
+        for (int i = 0; i < dataCounts.length; i++) {
+            int numOfData = dataCounts[i];  // number of observations in the group
+            if (numOfData == 0) {
+                continue;
+            }
+
+            int numOfPosObserVal = positiveCounts[i];  // observed number of cases in the group
+            double predictedValueSum = predictedSums[i];  // expected number of cases in the group
+            double xValue = predictedValueSum / numOfData;  // average of the predicted values within the interval
+            double yValue = ((double) numOfPosObserVal) / numOfData;  // # positive divided by (# positive + # negative) with in the interval
+
+            hlExpectedValues[groupIndex] = xValue;
+            hlObservedValues[groupIndex] = yValue;
+            groups[groupIndex] = i + 1;
+            numberOfDataPerGroup[groupIndex] = numOfData;
+            positiveObservedSumPerGroup[groupIndex] = numOfPosObserVal;
+            predictedSumPerGroup[groupIndex] = predictedValueSum;
+            marginOfErrorPerGroup[groupIndex] = CRITICAL_VALUE * Math.sqrt((xValue * (1 - xValue)) / numOfData);
+            hlChi2PerGroup[groupIndex] = Math.pow(numOfPosObserVal - predictedValueSum, 2) / (predictedValueSum * (1 - (predictedValueSum / numOfData)));
+
+            groupIndex++;
+        }
+    }
+
+    /**
+     * Get the observed values and predicted values sorted in ascending order
+     * of the predicted values. The sort is done on copies, once, so the
+     * instance stays immutable and can be shared between threads.
+     *
+     * @return sorted copies of the data
+     */
+    private SortedData getSortedData() {
+        SortedData data = sortedData;
+        if (data == null) {
+            synchronized (this) {
+                data = sortedData;
+                if (data == null) {
+                    int[] sortedObservedValues = observedValues.clone();
+                    double[] sortedPredictedValues = predictedValues.clone();
+                    PairedArrays.sort(sortedPredictedValues, sortedObservedValues);
+
+                    data = new SortedData(sortedObservedValues, sortedPredictedValues);
+                    sortedData = data;
+                }
+            }
+        }
+
+        return data;
+    }
+
+    protected double computePValue(int degreesOfFreedom, double[] hlChi2PerGroup) {
+        double pvalue = -1.0;
+
+        if (degreesOfFreedom > 0) {
+            ChiSquaredDistribution distribution = new ChiSquaredDistribution(degreesOfFreedom);
+
+            double hlTotal = CompensatedSum.sum(hlChi2PerGroup);
+
+            if (!Double.isInfinite(hlTotal)) {
+                pvalue = 1.0 - distribution.cumulativeProbability(hlTotal);
+            }
+        }
+
+        return pvalue;
+    }
+
+    /**
+     * The Expected Calibration Error (ECE) measures the observed accuracy in
+     * each group (bin).
+     *
+     * @param hlExpectedValues
+     * @param hlObservedValues
+     * @param numberOfDataPerGroup
+     * @param numberOfPredictions
+     * @return
+     */
+    protected double computeExpectedCalibrationError(double[] hlExpectedValues, double[] hlObservedValues, int[] numberOfDataPerGroup, int numberOfPredictions) {
+        double ece = 0;
+
+        for (int i = 0; i < numberOfDataPerGroup.length; i++) {
+            double yValue = hlObservedValues[i];  // the true fraction of positive instances in bin i (accuracy of the data items in the bin)
+            double xValue = hlExpectedValues[i]; // the mean of the post-calibrated probabilities for the instances in bin i (average confidence)
+            double iProb = ((double) numberOfDataPerGroup[i]) / numberOfPredictions;  // the empirical probability (fraction) of all instances that fall into bin i
+
+            ece += iProb * Math.abs(yValue - xValue);
+        }
+
+        return ece;
+    }
+
+    /**
+     * The Maximum Calibration Error (MCE) denotes the highest gap over all
+     * groups (bins).
+     *
+     * @param hlExpectedValues
+     * @param hlObservedValues
+     * @param numberOfDataPerGroup
+     * @return
+     */
+    protected double computeMaxCalibrationError(double[] hlExpectedValues, double[] hlObservedValues, int[] numberOfDataPerGroup) {
+        double mce = 0;
+
+        for (int i = 0; i < numberOfDataPerGroup.length; i++) {
+            double yValue = hlObservedValues[i];  // the true fraction of positive instances in bin i (accuracy of the data items in the bin)
+            double xValue = hlExpectedValues[i]; // the mean of the post-calibrated probabilities for the instances in bin i (average confidence)
+
+            double diffSoreAccuracy = Math.abs(yValue - xValue);
+            if (mce < diffSoreAccuracy) {
+                mce = diffSoreAccuracy;
+            }
+
+        }
+
+        return mce;
+    }
+
+    /**
+     * Average Calibration Error (ACE) denotes the average miscalibration where
+     * each bin gets weighted equally.
+     *
+     * @param hlExpectedValues
+     * @param hlObservedValues
+     * @param numberOfDataPerGroup
+     * @return
+     */
+    protected double computeAverageCalibrationError(double[] hlExpectedValues, double[] hlObservedValues, int[] numberOfDataPerGroup) {
+        double ace = 0;
+
+        int numOfNonemptyBins = numberOfDataPerGroup.length;
+        for (int i = 0; i < numberOfDataPerGroup.length; i++) {
+            double yValue = hlObservedValues[i];  // the true fraction of positive instances in bin i (accuracy of the data items in the bin)
+            double xValue = hlExpectedValues[i]; // the mean of the post-calibrated probabilities for the instances in bin i (average confidence)
+
+            ace += Math.abs(yValue - xValue) / numOfNonemptyBins;
+        }
+
+        return ace;
+    }
+
+    @Override
+    public String getSummary() {
+        if (summary == null) {
+            StringBuilder dataBuilder = new StringBuilder("========================================================================\n");
+            dataBuilder.append(String.format("%-6s %-8s %-13s %-15s %-8s 95%s CI\n", "Group", "N", "Obs (%)", "Exp (%)", "HL", "%"));
+            dataBuilder.append("========================================================================\n");
+            int dataTotal = 0;
+            int observedValueTotal = 0;
+            double predictedValueTotal = CompensatedSum.sum(predictedSumPerGroup);
+            double hlTotal = CompensatedSum.sum(hlChi2PerGroup);
+            int numOfGroup = groups.length;
+            for (int j = 0; j < numOfGroup; j++) {
+                dataTotal += numberOfDataPerGroup[j];
+                observedValueTotal += positiveObservedSumPerGroup[j];
+                dataBuilder.append(String.format("%-6d %-8d %-13s %-15s %-8.2f %s\n",
+                        groups[j], numberOfDataPerGroup[j],
+                        String.format("%d (%2.1f)", positiveObservedSumPerGroup[j], hlObservedValues[j] * 100),
+                        String.format("%3.1f (%2.1f)", predictedSumPerGroup[j], hlExpectedValues[j] * 100),
+                        hlChi2PerGroup[j],
+                        String.format("(%1.4f, %1.4f)", hlExpectedValues[j] - marginOfErrorPerGroup[j], hlExpectedValues[j] + marginOfErrorPerGroup[j])));
+            }
+
+            dataBuilder.append("------------------------------------------------------------------------\n");
+            double perObsTotal = ((double) observedValueTotal / dataTotal) * 100;
+            double perExpTotal = ((double) predictedValueTotal / dataTotal) * 100;
+            dataBuilder.append(String.format("%-6s %-8d %-13s %-15s %.2f\n",
+                    "Total",
+                    dataTotal,
+                    String.format("%d (%-2.1f)", observedValueTotal, perObsTotal),
+                    String.format("%-3.1f (%-2.1f)", predictedValueTotal, perExpTotal),
+                    hlTotal));
+            dataBuilder.append("\n");
+            dataBuilder.append(String.format("Total Number of Groups: %d\n", numOfGroup));
+            dataBuilder.append(String.format("Hosmer-Lemeshow Chi2(%d): %1.2f\n", numOfGroup, hlTotal));
+            dataBuilder.append(String.format("Degree of Freedom: %d\n", degreesOfFreedom));
+            dataBuilder.append(String.format("P-Value: %f\n", pValue));
+            dataBuilder.append("\n");
+            dataBuilder.append("Calibration Metrics\n");
+            dataBuilder.append("------------------------------------\n");
+            dataBuilder.append(String.format("Expected Calibration Error (ECE): %f\n", expectedCalibrationError));
+            dataBuilder.append(String.format("Maximum Calibration Error (MCE): %f\n", maxCalibrationError));
+            dataBuilder.append(String.format("Average Calibration Error (ACE) : %f\n", averageCalibrationError));
+            dataBuilder.append("========================================================================");
+
+            summary = dataBuilder.toString();
+        }
+
+        return summary;
+    }
+
+    @Override
+    public String toString() {
+        return getSummary();
+    }
+
+    @Override
+    public int getNumberOfPredictions() {
+        return numberOfPredictions;
+    }
+
+    @Override
+    public int getNumberOfGroups() {
+        return numberOfGroups;
+    }
+
+    @Override
+    public int[] getObservedValues() {
+        return getSortedData().observedValues;
+    }
+
+    @Override
+    public double[] getPredictedValues() {
+        return getSortedData().predictedValues;
+    }
+
+    @Override
+    public int[] getGroups() {
+        return groups;
+    }
+
+    @Override
+    public int[] getNumberOfDataPerGroup() {
+        return numberOfDataPerGroup;
+    }
+
+    @Override
+    public int[] getPositiveObservedSumPerGroup() {
+        return positiveObservedSumPerGroup;
+    }
+
+    @Override
+    public double[] getPredictedSumPerGroup() {
+        return predictedSumPerGroup;
+    }
+
+    @Override
+    public double[] getHlChi2PerGroup() {
+        return hlChi2PerGroup;
+    }
+
+    @Override
+    public double[] getMarginOfErrorPerGroup() {
+        return marginOfErrorPerGroup;
+    }
+
+    @Override
+    public double[] getHlObservedValues() {
+        return hlObservedValues;
+    }
+
+    @Override
+    public double[] getHlExpectedValues() {
+        return hlExpectedValues;
+    }
+
+    @Override
+    public int getDegreesOfFreedom() {
+        return degreesOfFreedom;
+    }
+
+    @Override
+    public double getPValue() {
+        return pValue;
+    }
+
+    @Override
+    public double getExpectedCalibrationError() {
+        return expectedCalibrationError;
+    }
+
+    @Override
+    public double getMaxCalibrationError() {
+        return maxCalibrationError;
+    }
+
+    @Override
+    public double getAverageCalibrationError() {
+        return averageCalibrationError;
+    }
+
+    /**
+     * Per-task counters used when tallying the groups in parallel.
+     */
+    private static final class GroupTally {
+
+        private final int[] dataCounts;
+        private final int[] positiveCounts;
+        private final double[] predictedSums;
+        private final double[] predictedCompensations;
+
+        private GroupTally(int numberOfGroups) {
+            dataCounts = new int[numberOfGroups];
+            positiveCounts = new int[numberOfGroups];
+            predictedSums = new double[numberOfGroups];
+            predictedCompensations = new double[numberOfGroups];
+        }
+
+        private void add(GroupTally other) {
+            for (int i = 0; i < dataCounts.length; i++) {
+                dataCounts[i] += other.dataCounts[i];
+                positiveCounts[i] += other.positiveCounts[i];
+                CompensatedSum.add(predictedSums, predictedCompensations, other.predictedSums, other.predictedCompensations, i);
+            }
+        }
+
+    }
+
+    /**
+     * Creates the function that maps a predicted value to the index of its
+     * group, from 0 to numberOfGroups - 1. Called once, before the data is
+     * tallied. It may reorder the observed values and predicted values, as long
+     * as the pairing is kept.
+     */
+    @FunctionalInterface
+    protected interface GroupIndexerFactory {
+
+        DoubleToIntFunction create(double[] predictedValues, int[] observedValues, int numberOfGroups);
+
+    }
+
+    private static final class SortedData {
+
+        private final int[] observedValues;
+        private final double[] predictedValues;
+
+        private SortedData(int[] observedValues, double[] predictedValues) {
+            this.observedValues = observedValues;
+            this.predictedValues = predictedValues;
+        }
+
+    }
+
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration;
+
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.utils.CompensatedSum;
+import edu.pitt.dbmi.lib.math.classification.utils.PairedArrays;
+import java.util.List;
+
+/**
+ * Index over the sorted predictions that holds the prefix sums of the positive
+ * outcomes and of the predicted values. Once built, the Hosmer-Lemeshow
+ * statistics and calibration metrics of any binning can be computed in
+ * O(g log n) for g groups, without scanning the data again.
+ *
+ * Oct 19, 2026 11:46:50 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class CalibrationIndex {
+
+    /**
+     * Predicted values sorted in ascending order.
+     */
+    private final double[] predictedValues;
+
+    /**
+     * positiveObservedPrefixSums[i] is the number of positive outcomes among
+     * the first i sorted predictions.
+     */
+    private final int[] positiveObservedPrefixSums;
+
+    /**
+     * predictedPrefixSums[i] + predictedPrefixCompensations[i] is the sum of
+     * the first i sorted predictions, with the rounding error of the running
+     * sum kept in the compensation.
+     */
+    private final double[] predictedPrefixSums;
+
+    private final double[] predictedPrefixCompensations;
+
+    public CalibrationIndex(List<ObservedPredictedValue> observedPredictedValues) {
+        if (observedPredictedValues == null || observedPredictedValues.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "A list of data containing both observed value and predicted value is required.");
+        }
+
+        int size = observedPredictedValues.size();
+        int[] observedValues = new int[size];
+        predictedValues = new double[size];
+        int index = 0;
+        for (ObservedPredictedValue obsPredVal : observedPredictedValues) {
+            observedValues[index] = obsPredVal.getObservedValue();
+            predictedValues[index] = obsPredVal.getPredictedValue();
+            index++;
+        }
+
+        PairedArrays.sort(predictedValues, observedValues);
+
+        positiveObservedPrefixSums = new int[size + 1];
+        predictedPrefixSums = new double[size + 1];
+        predictedPrefixCompensations = new double[size + 1];
+        for (int i = 0; i < size; i++) {
+            positiveObservedPrefixSums[i + 1] = positiveObservedPrefixSums[i] + observedValues[i];
+            predictedPrefixSums[i + 1] = predictedPrefixSums[i];
+            predictedPrefixCompensations[i + 1] = predictedPrefixCompensations[i];
+            CompensatedSum.add(predictedPrefixSums, predictedPrefixCompensations, i + 1, predictedValues[i]);
+        }
+    }
+
+    /**
+     * Group the data into quantiles of (roughly) equal size, the same way as
+     * {@link HosmerLemeshowDecileGroup}.
+     *
+     * @param numberOfGroups number of groups
+     * @return Hosmer-Lemeshow statistics of the groups
+     */
+    public HosmerLemeshow getDecileGroups(int numberOfGroups) {
+        checkNumberOfGroups(numberOfGroups);
+
+        // a group ends after the last prediction equal to its threshold
+        int[] upperIndices = HosmerLemeshowDecileGroup.computeUpperIndices(predictedValues.length, numberOfGroups);
+        int[] groupEnds = new int[numberOfGroups];
+        for (int i = 0; i < numberOfGroups; i++) {
+            groupEnds[i] = upperBound(predictedValues[upperIndices[i]]);
+        }
+
+        return createHosmerLemeshow(groupEnds);
+    }
+
+    /**
+     * Group the data into probability intervals of equal width, the same way
+     * as {@link HosmerLemeshowRiskGroup}.
+     *
+     * @param numberOfGroups number of groups
+     * @return Hosmer-Lemeshow statistics of the groups
+     */
+    public HosmerLemeshow getRiskGroups(int numberOfGroups) {
+        checkNumberOfGroups(numberOfGroups);
+
+        // a group ends before the first prediction at or above its threshold
+        double[] thresholds = HosmerLemeshowRiskGroup.computeThresholds(numberOfGroups);
+        int[] groupEnds = new int[numberOfGroups];
+        for (int i = 0; i < thresholds.length; i++) {
+            groupEnds[i] = lowerBound(thresholds[i]);
+        }
+        groupEnds[numberOfGroups - 1] = predictedValues.length;
+
+        return createHosmerLemeshow(groupEnds);
+    }
+
+    /**
+     * Get the number of predictions in the index.
+     *
+     * @return number of predictions
+     */
+    public int getNumberOfPredictions() {
+        return predictedValues.length;
+    }
+
+    private HosmerLemeshow createHosmerLemeshow(int[] groupEnds) {
+        int numOfGroups = groupEnds.length;
+        int[] dataCounts = new int[numOfGroups];
+        int[] positiveCounts = new int[numOfGroups];
+        double[] predictedSums = new double[numOfGroups];
+
+        int groupStart = 0;
+        for (int i = 0; i < numOfGroups; i++) {
+            int groupEnd = Math.max(groupStart, groupEnds[i]);
+            dataCounts[i] = groupEnd - groupStart;
+            positiveCounts[i] = positiveObservedPrefixSums[groupEnd] - positiveObservedPrefixSums[groupStart];
+            predictedSums[i] = (predictedPrefixSums[groupEnd] - predictedPrefixSums[groupStart])
+                    + (predictedPrefixCompensations[groupEnd] - predictedPrefixCompensations[groupStart]);
+
+            groupStart = groupEnd;
+        }
+
+        return new TalliedHosmerLemeshow(dataCounts, positiveCounts, predictedSums);
+    }
+
+    /**
+     * Find the index of the first prediction greater than or equal to the
+     * given value.
+     */
+    private int lowerBound(double value) {
+        int low = 0;
+        int high = predictedValues.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (predictedValues[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Find the index of the first prediction greater than the given value.
+     */
+    private int upperBound(double value) {
+        int low = 0;
+        int high = predictedValues.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (predictedValues[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private static void checkNumberOfGroups(int numberOfGroups) {
+        if (numberOfGroups < 1) {
+            throw new IllegalArgumentException("Number of groups must be at least 1.");
+        }
+    }
+
+}
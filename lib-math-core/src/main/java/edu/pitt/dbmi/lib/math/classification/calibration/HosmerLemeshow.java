@@ -28,14 +28,36 @@ public interface HosmerLemeshow {
 
     public static final double CRITICAL_VALUE = 1.96;
 
-    public final int NUM_OF_INTERVAL = 10;  // break the data into 10 intervals
+    public final int NUM_OF_INTERVAL = 10;  // break the data into 10 intervals by default
 
     public String getSummary();
 
     public int getNumberOfPredictions();
 
+    /**
+     * Get the number of groups (intervals) the data was split into, including
+     * groups without any data. Implementations that do not override this
+     * split the data into the default number of intervals.
+     *
+     * @return number of groups
+     */
+    public default int getNumberOfGroups() {
+        return NUM_OF_INTERVAL;
+    }
+
+    /**
+     * Get the observed values, sorted in ascending order of their predicted
+     * values.
+     *
+     * @return observed values
+     */
     public int[] getObservedValues();
 
+    /**
+     * Get the predicted values, sorted in ascending order.
+     *
+     * @return predicted values
+     */
     public double[] getPredictedValues();
 
     public int[] getGroups();
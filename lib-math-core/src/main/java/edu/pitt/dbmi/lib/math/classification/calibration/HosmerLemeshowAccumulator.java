@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration;
+
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.utils.CompensatedSum;
+import java.util.List;
+import java.util.function.DoubleToIntFunction;
+
+/**
+ * Accumulates a stream of predictions into fixed-width risk groups without
+ * keeping the data. Only the number of data, the number of positive outcomes
+ * and the sum of predictions are kept for each group.
+ *
+ * The accumulator is thread-safe. Each thread adds to one of several stripes,
+ * each with its own lock, so concurrent writers rarely contend. Accumulators
+ * built on different shards of the data can be merged, and a snapshot with the
+ * same statistics as {@link HosmerLemeshowRiskGroup} can be taken at any time.
+ *
+ * Oct 19, 2026 10:52:33 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class HosmerLemeshowAccumulator {
+
+    private final int numberOfGroups;
+
+    private final DoubleToIntFunction groupIndexer;
+
+    private final Stripe[] stripes;
+
+    public HosmerLemeshowAccumulator() {
+        this(HosmerLemeshow.NUM_OF_INTERVAL);
+    }
+
+    public HosmerLemeshowAccumulator(int numberOfGroups) {
+        if (numberOfGroups < 1) {
+            throw new IllegalArgumentException("Number of groups must be at least 1.");
+        }
+
+        this.numberOfGroups = numberOfGroups;
+        this.groupIndexer = HosmerLemeshowRiskGroup.createGroupIndexer(numberOfGroups);
+
+        // power of two so that a stripe can be picked with a mask
+        int numOfStripes = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1;
+        this.stripes = new Stripe[numOfStripes];
+        for (int i = 0; i < numOfStripes; i++) {
+            stripes[i] = new Stripe(numberOfGroups);
+        }
+    }
+
+    /**
+     * Add a single prediction.
+     *
+     * @param observedValue actual outcome, 0 or 1
+     * @param predictedValue value predicted by classifier
+     */
+    public void add(int observedValue, double predictedValue) {
+        checkObservedValue(observedValue);
+        int groupIndex = groupIndexer.applyAsInt(predictedValue);
+
+        Stripe stripe = currentStripe();
+        synchronized (stripe) {
+            stripe.dataCounts[groupIndex]++;
+            stripe.positiveCounts[groupIndex] += observedValue;
+            CompensatedSum.add(stripe.predictedSums, stripe.predictedCompensations, groupIndex, predictedValue);
+        }
+    }
+
+    public void add(ObservedPredictedValue observedPredictedValue) {
+        add(observedPredictedValue.getObservedValue(), observedPredictedValue.getPredictedValue());
+    }
+
+    /**
+     * Add a batch of predictions, taking the stripe lock only once.
+     *
+     * @param observedPredictedValues
+     */
+    public void addAll(List<ObservedPredictedValue> observedPredictedValues) {
+        // check the whole batch first so that a bad value adds nothing
+        for (ObservedPredictedValue observedPredictedValue : observedPredictedValues) {
+            checkObservedValue(observedPredictedValue.getObservedValue());
+        }
+
+        Stripe stripe = currentStripe();
+        synchronized (stripe) {
+            for (ObservedPredictedValue observedPredictedValue : observedPredictedValues) {
+                double predictedValue = observedPredictedValue.getPredictedValue();
+                int groupIndex = groupIndexer.applyAsInt(predictedValue);
+                stripe.dataCounts[groupIndex]++;
+                stripe.positiveCounts[groupIndex] += observedPredictedValue.getObservedValue();
+                CompensatedSum.add(stripe.predictedSums, stripe.predictedCompensations, groupIndex, predictedValue);
+            }
+        }
+    }
+
+    /**
+     * Add everything accumulated by another accumulator, for example one that
+     * was built on a different shard of the data. The other accumulator is
+     * left unchanged.
+     *
+     * @param other accumulator with the same number of groups
+     */
+    public void merge(HosmerLemeshowAccumulator other) {
+        if (other.numberOfGroups != numberOfGroups) {
+            throw new IllegalArgumentException(String.format(
+                    "Cannot merge an accumulator with %d groups into one with %d groups.",
+                    other.numberOfGroups, numberOfGroups));
+        }
+
+        Stripe total = other.collect();
+
+        Stripe stripe = currentStripe();
+        synchronized (stripe) {
+            stripe.add(total);
+        }
+    }
+
+    /**
+     * Compute the Hosmer-Lemeshow statistics of everything accumulated so far.
+     *
+     * @return Hosmer-Lemeshow statistics of the risk groups
+     */
+    public HosmerLemeshow snapshot() {
+        Stripe total = collect();
+        if (total.numberOfData() == 0) {
+            throw new IllegalStateException("No data has been accumulated.");
+        }
+
+        int[] dataCounts = new int[numberOfGroups];
+        int[] positiveCounts = new int[numberOfGroups];
+        double[] predictedSums = new double[numberOfGroups];
+        for (int i = 0; i < numberOfGroups; i++) {
+            dataCounts[i] = Math.toIntExact(total.dataCounts[i]);
+            positiveCounts[i] = Math.toIntExact(total.positiveCounts[i]);
+            predictedSums[i] = total.predictedSums[i] + total.predictedCompensations[i];
+        }
+
+        return new TalliedHosmerLemeshow(dataCounts, positiveCounts, predictedSums);
+    }
+
+    /**
+     * Get the number of predictions accumulated so far.
+     *
+     * @return number of predictions
+     */
+    public long getNumberOfPredictions() {
+        return collect().numberOfData();
+    }
+
+    public int getNumberOfGroups() {
+        return numberOfGroups;
+    }
+
+    private static void checkObservedValue(int observedValue) {
+        if (observedValue != 0 && observedValue != 1) {
+            throw new IllegalArgumentException("Observed value must be 0 or 1.");
+        }
+    }
+
+    private Stripe currentStripe() {
+        long threadId = Thread.currentThread().getId();
+
+        return stripes[(int) (threadId ^ (threadId >>> 32)) & (stripes.length - 1)];
+    }
+
+    private Stripe collect() {
+        Stripe total = new Stripe(numberOfGroups);
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                total.add(stripe);
+            }
+        }
+
+        return total;
+    }
+
+    /**
+     * Counters guarded by their own lock.
+     */
+    private static final class Stripe {
+
+        private final long[] dataCounts;
+        private final long[] positiveCounts;
+        private final double[] predictedSums;
+        private final double[] predictedCompensations;
+
+        private Stripe(int numberOfGroups) {
+            dataCounts = new long[numberOfGroups];
+            positiveCounts = new long[numberOfGroups];
+            predictedSums = new double[numberOfGroups];
+            predictedCompensations = new double[numberOfGroups];
+        }
+
+        private void add(Stripe other) {
+            for (int i = 0; i < dataCounts.length; i++) {
+                dataCounts[i] += other.dataCounts[i];
+                positiveCounts[i] += other.positiveCounts[i];
+                CompensatedSum.add(predictedSums, predictedCompensations, other.predictedSums, other.predictedCompensations, i);
+            }
+        }
+
+        private long numberOfData() {
+            long total = 0;
+            for (long dataCount : dataCounts) {
+                total += dataCount;
+            }
+
+            return total;
+        }
+
+    }
+
+}
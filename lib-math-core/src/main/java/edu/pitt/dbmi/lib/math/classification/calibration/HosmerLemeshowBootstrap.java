@@ -0,0 +1,331 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Bootstrap 95% confidence intervals for the calibration metrics (ECE, MCE
+ * and ACE) and for the observed proportion of each Hosmer-Lemeshow group.
+ *
+ * The groups are kept as they were computed on the original data. Since both
+ * decile and risk groups are contiguous ranges of the sorted predictions, a
+ * replicate only needs how many times each prediction was drawn: the draws
+ * are counted into a per-task array and the groups are summed in one scan
+ * over the sorted arrays.
+ *
+ * Each replicate has its own random generator split from the seed in
+ * replicate order, so the results are the same for any number of threads.
+ *
+ * Oct 19, 2026 4:15:38 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class HosmerLemeshowBootstrap {
+
+    public static final int DEFAULT_NUMBER_OF_REPLICATES = 1000;
+
+    public static final long DEFAULT_SEED = 1L;
+
+    /**
+     * Number of replicates computed by each task.
+     */
+    private static final int REPLICATES_PER_TASK = 16;
+
+    private static final double LOWER_PERCENTILE = 0.025;
+    private static final double UPPER_PERCENTILE = 0.975;
+
+    private String summary;
+
+    private final HosmerLemeshow hosmerLemeshow;
+
+    private final int numberOfReplicates;
+
+    private final long seed;
+
+    private double[] expectedCalibrationErrors;
+
+    private double[] maxCalibrationErrors;
+
+    private double[] averageCalibrationErrors;
+
+    /**
+     * Observed proportion of each group in each replicate, or NaN when no
+     * data of the group was drawn.
+     */
+    private double[][] hlObservedValueReplicates;
+
+    private double[] hlObservedLowerBounds;
+
+    private double[] hlObservedUpperBounds;
+
+    public HosmerLemeshowBootstrap(HosmerLemeshow hosmerLemeshow) {
+        this(hosmerLemeshow, DEFAULT_NUMBER_OF_REPLICATES, DEFAULT_SEED);
+    }
+
+    public HosmerLemeshowBootstrap(HosmerLemeshow hosmerLemeshow, int numberOfReplicates, long seed) {
+        if (hosmerLemeshow == null) {
+            throw new IllegalArgumentException("Hosmer-Lemeshow statistics are required.");
+        }
+        if (hosmerLemeshow.getPredictedValues().length == 0) {
+            throw new IllegalArgumentException("The Hosmer-Lemeshow statistics do not have the data they were computed from.");
+        }
+        if (numberOfReplicates < 2) {
+            throw new IllegalArgumentException("Number of replicates must be at least 2.");
+        }
+
+        this.hosmerLemeshow = hosmerLemeshow;
+        this.numberOfReplicates = numberOfReplicates;
+        this.seed = seed;
+
+        resample();
+    }
+
+    private void resample() {
+        int[] observedValues = hosmerLemeshow.getObservedValues();
+        double[] predictedValues = hosmerLemeshow.getPredictedValues();
+        int[] numberOfDataPerGroup = hosmerLemeshow.getNumberOfDataPerGroup();
+        int numOfGroups = numberOfDataPerGroup.length;
+        int size = predictedValues.length;
+
+        // the groups are consecutive ranges of the sorted data
+        int[] groupEnds = new int[numOfGroups];
+        int groupEnd = 0;
+        for (int i = 0; i < numOfGroups; i++) {
+            groupEnd += numberOfDataPerGroup[i];
+            groupEnds[i] = groupEnd;
+        }
+
+        // one generator per replicate, independent of the number of threads
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[numberOfReplicates];
+        for (int i = 0; i < numberOfReplicates; i++) {
+            randoms[i] = root.split();
+        }
+
+        expectedCalibrationErrors = new double[numberOfReplicates];
+        maxCalibrationErrors = new double[numberOfReplicates];
+        averageCalibrationErrors = new double[numberOfReplicates];
+        hlObservedValueReplicates = new double[numOfGroups][numberOfReplicates];
+
+        int numOfTasks = (numberOfReplicates + REPLICATES_PER_TASK - 1) / REPLICATES_PER_TASK;
+        IntStream.range(0, numOfTasks)
+                .parallel()
+                .forEach(task -> {
+                    int[] drawCounts = new int[size];
+                    int from = task * REPLICATES_PER_TASK;
+                    int to = Math.min(from + REPLICATES_PER_TASK, numberOfReplicates);
+                    for (int replicate = from; replicate < to; replicate++) {
+                        resample(replicate, randoms[replicate], drawCounts, observedValues, predictedValues, groupEnds);
+                    }
+                });
+
+        hlObservedLowerBounds = new double[numOfGroups];
+        hlObservedUpperBounds = new double[numOfGroups];
+        for (int i = 0; i < numOfGroups; i++) {
+            double[] values = hlObservedValueReplicates[i].clone();
+            hlObservedLowerBounds[i] = percentile(values, LOWER_PERCENTILE);
+            hlObservedUpperBounds[i] = percentile(values, UPPER_PERCENTILE);
+        }
+    }
+
+    private void resample(int replicate, SplittableRandom random, int[] drawCounts, int[] observedValues, double[] predictedValues, int[] groupEnds) {
+        int size = predictedValues.length;
+        for (int i = 0; i < size; i++) {
+            drawCounts[random.nextInt(size)]++;
+        }
+
+        double ece = 0;
+        double mce = 0;
+        double errorSum = 0;
+        int numOfNonemptyGroups = 0;
+        int groupStart = 0;
+        for (int group = 0; group < groupEnds.length; group++) {
+            int dataCount = 0;
+            int positiveCount = 0;
+            double predictedSum = 0;
+            for (int i = groupStart; i < groupEnds[group]; i++) {
+                int drawCount = drawCounts[i];
+                if (drawCount > 0) {
+                    dataCount += drawCount;
+                    positiveCount += drawCount * observedValues[i];
+                    predictedSum += drawCount * predictedValues[i];
+                    drawCounts[i] = 0;
+                }
+            }
+            groupStart = groupEnds[group];
+
+            if (dataCount == 0) {
+                hlObservedValueReplicates[group][replicate] = Double.NaN;
+                continue;
+            }
+
+            double yValue = ((double) positiveCount) / dataCount;
+            double xValue = predictedSum / dataCount;
+            double error = Math.abs(yValue - xValue);
+            hlObservedValueReplicates[group][replicate] = yValue;
+
+            ece += ((double) dataCount) / size * error;
+            mce = Math.max(mce, error);
+            errorSum += error;
+            numOfNonemptyGroups++;
+        }
+
+        expectedCalibrationErrors[replicate] = ece;
+        maxCalibrationErrors[replicate] = mce;
+        averageCalibrationErrors[replicate] = errorSum / numOfNonemptyGroups;
+    }
+
+    /**
+     * Compute the percentile of the values with linear interpolation between
+     * the closest ranks, ignoring NaN. The values are sorted in place.
+     */
+    private static double percentile(double[] values, double percentile) {
+        Arrays.sort(values);  // NaN is sorted last
+
+        int numOfValues = values.length;
+        while (numOfValues > 0 && Double.isNaN(values[numOfValues - 1])) {
+            numOfValues--;
+        }
+        if (numOfValues == 0) {
+            return Double.NaN;
+        }
+
+        double rank = percentile * (numOfValues - 1);
+        int lower = (int) rank;
+        int upper = Math.min(lower + 1, numOfValues - 1);
+
+        return values[lower] + (rank - lower) * (values[upper] - values[lower]);
+    }
+
+    public String getSummary() {
+        if (summary == null) {
+            int[] groups = hosmerLemeshow.getGroups();
+            int[] numberOfDataPerGroup = hosmerLemeshow.getNumberOfDataPerGroup();
+            int[] positiveObservedSumPerGroup = hosmerLemeshow.getPositiveObservedSumPerGroup();
+            double[] hlObservedValues = hosmerLemeshow.getHlObservedValues();
+
+            StringBuilder dataBuilder = new StringBuilder("========================================================================\n");
+            dataBuilder.append(String.format("%-6s %-8s %-13s Bootstrap 95%s CI\n", "Group", "N", "Obs (%)", "%"));
+            dataBuilder.append("========================================================================\n");
+            for (int j = 0; j < groups.length; j++) {
+                dataBuilder.append(String.format("%-6d %-8d %-13s %s\n",
+                        groups[j], numberOfDataPerGroup[j],
+                        String.format("%d (%2.1f)", positiveObservedSumPerGroup[j], hlObservedValues[j] * 100),
+                        String.format("(%1.4f, %1.4f)", hlObservedLowerBounds[j], hlObservedUpperBounds[j])));
+            }
+            dataBuilder.append("\n");
+            dataBuilder.append(String.format("Number of Replicates: %d\n", numberOfReplicates));
+            dataBuilder.append(String.format("Seed: %d\n", seed));
+            dataBuilder.append("\n");
+            dataBuilder.append("Calibration Metrics\n");
+            dataBuilder.append("------------------------------------\n");
+            dataBuilder.append(String.format("Expected Calibration Error (ECE): %f (%1.4f, %1.4f)\n",
+                    hosmerLemeshow.getExpectedCalibrationError(),
+                    getExpectedCalibrationErrorLowerBound(), getExpectedCalibrationErrorUpperBound()));
+            dataBuilder.append(String.format("Maximum Calibration Error (MCE): %f (%1.4f, %1.4f)\n",
+                    hosmerLemeshow.getMaxCalibrationError(),
+                    getMaxCalibrationErrorLowerBound(), getMaxCalibrationErrorUpperBound()));
+            dataBuilder.append(String.format("Average Calibration Error (ACE) : %f (%1.4f, %1.4f)\n",
+                    hosmerLemeshow.getAverageCalibrationError(),
+                    getAverageCalibrationErrorLowerBound(), getAverageCalibrationErrorUpperBound()));
+            dataBuilder.append("========================================================================");
+
+            summary = dataBuilder.toString();
+        }
+
+        return summary;
+    }
+
+    @Override
+    public String toString() {
+        return getSummary();
+    }
+
+    public HosmerLemeshow getHosmerLemeshow() {
+        return hosmerLemeshow;
+    }
+
+    public int getNumberOfReplicates() {
+        return numberOfReplicates;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public double[] getExpectedCalibrationErrors() {
+        return expectedCalibrationErrors;
+    }
+
+    public double[] getMaxCalibrationErrors() {
+        return maxCalibrationErrors;
+    }
+
+    public double[] getAverageCalibrationErrors() {
+        return averageCalibrationErrors;
+    }
+
+    public double getExpectedCalibrationErrorLowerBound() {
+        return percentile(expectedCalibrationErrors.clone(), LOWER_PERCENTILE);
+    }
+
+    public double getExpectedCalibrationErrorUpperBound() {
+        return percentile(expectedCalibrationErrors.clone(), UPPER_PERCENTILE);
+    }
+
+    public double getMaxCalibrationErrorLowerBound() {
+        return percentile(maxCalibrationErrors.clone(), LOWER_PERCENTILE);
+    }
+
+    public double getMaxCalibrationErrorUpperBound() {
+        return percentile(maxCalibrationErrors.clone(), UPPER_PERCENTILE);
+    }
+
+    public double getAverageCalibrationErrorLowerBound() {
+        return percentile(averageCalibrationErrors.clone(), LOWER_PERCENTILE);
+    }
+
+    public double getAverageCalibrationErrorUpperBound() {
+        return percentile(averageCalibrationErrors.clone(), UPPER_PERCENTILE);
+    }
+
+    /**
+     * Get the lower bound of the 95% CI of the observed proportion of each
+     * group, in the same order as {@link HosmerLemeshow#getGroups()}.
+     *
+     * @return lower bounds
+     */
+    public double[] getHlObservedLowerBounds() {
+        return hlObservedLowerBounds;
+    }
+
+    /**
+     * Get the upper bound of the 95% CI of the observed proportion of each
+     * group, in the same order as {@link HosmerLemeshow#getGroups()}.
+     *
+     * @return upper bounds
+     */
+    public double[] getHlObservedUpperBounds() {
+        return hlObservedUpperBounds;
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration;
+
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.utils.PairedArrays;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleToIntFunction;
+
+/**
+ * Hosmer-Lemeshow calibration chart binning by decile, splitting the dataset
+ * into 10 equal parts. Other quantiles can be used by specifying the number of
+ * groups.
+ *
+ * Mar 30, 2012 11:43:49 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class HosmerLemeshowDecileGroup extends AbstractHosmerLemeshow {
+
+    public HosmerLemeshowDecileGroup(List<ObservedPredictedValue> observedPredictedValues) {
+        this(observedPredictedValues, NUM_OF_INTERVAL);
+    }
+
+    public HosmerLemeshowDecileGroup(List<ObservedPredictedValue> observedPredictedValues, int numberOfGroups) {
+        super(observedPredictedValues, numberOfGroups, HosmerLemeshowDecileGroup::selectGroupIndexer);
+    }
+
+    /**
+     * Find the upper threshold (inclusive) of each group with a multi-way
+     * quickselect instead of sorting all of the data. The threshold of the jth
+     * group is the predicted value at the (j / numberOfGroups) quantile. A
+     * predicted value belongs to the first group whose threshold is greater
+     * than or equal to it.
+     *
+     * @param predictedValues predicted values, partially reordered in place
+     * @param observedValues observed values, kept paired with the predicted
+     * values
+     * @param numberOfGroups number of groups
+     * @return function returning the group index of a predicted value
+     */
+    private static DoubleToIntFunction selectGroupIndexer(double[] predictedValues, int[] observedValues, int numberOfGroups) {
+        int[] upperIndices = computeUpperIndices(predictedValues.length, numberOfGroups);
+
+        PairedArrays.select(predictedValues, observedValues, distinct(upperIndices));
+
+        double[] thresholds = new double[numberOfGroups];
+        for (int i = 0; i < numberOfGroups; i++) {
+            thresholds[i] = predictedValues[upperIndices[i]];
+        }
+
+        return createGroupIndexer(thresholds);
+    }
+
+    /**
+     * Create the decile-group indexer for the given upper thresholds.
+     *
+     * @param thresholds upper thresholds (inclusive) of the groups, in
+     * ascending order
+     * @return function returning the group index of a predicted value
+     */
+    static DoubleToIntFunction createGroupIndexer(double[] thresholds) {
+        return predictedValue -> findGroupIndex(predictedValue, thresholds);
+    }
+
+    /**
+     * Compute the index, in the sorted data, of the upper threshold (the
+     * quantile) of each group. The last group always ends at the largest value.
+     *
+     * @param size number of data
+     * @param numberOfGroups number of groups
+     * @return index of the upper threshold of each group, in ascending order
+     */
+    public static int[] computeUpperIndices(int size, int numberOfGroups) {
+        int[] upperIndices = new int[numberOfGroups];
+        double increment = 1.0 / numberOfGroups;
+        double percent = increment;
+        for (int i = 0; i < numberOfGroups; i++) {
+            int intUpperIndex = (int) (percent * size);
+            upperIndices[i] = (intUpperIndex < size && i < numberOfGroups - 1)
+                    ? intUpperIndex
+                    : size - 1;
+
+            percent += increment;
+        }
+
+        return upperIndices;
+    }
+
+    /**
+     * Binary search for the first threshold that is greater than or equal to
+     * the predicted value.
+     *
+     * @param predictedValue
+     * @param thresholds upper thresholds of the groups, in ascending order
+     * @return group index
+     */
+    private static int findGroupIndex(double predictedValue, double[] thresholds) {
+        int low = 0;
+        int high = thresholds.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (predictedValue <= thresholds[middle]) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+
+        return low;
+    }
+
+    private static int[] distinct(int[] sortedValues) {
+        int count = 0;
+        int[] values = new int[sortedValues.length];
+        for (int value : sortedValues) {
+            if (count == 0 || values[count - 1] != value) {
+                values[count++] = value;
+            }
+        }
+
+        return (count == values.length) ? values : Arrays.copyOf(values, count);
+    }
+
+}
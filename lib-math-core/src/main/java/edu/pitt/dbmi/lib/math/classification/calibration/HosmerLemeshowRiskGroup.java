@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration;
+
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import java.util.List;
+import java.util.function.DoubleToIntFunction;
+
+/**
+ * Hosmer-Lemeshow calibration chart binning by risk-factor.
+ *
+ * Mar 30, 2012 1:35:07 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class HosmerLemeshowRiskGroup extends AbstractHosmerLemeshow {
+
+    public HosmerLemeshowRiskGroup(List<ObservedPredictedValue> observedPredictedValues) {
+        this(observedPredictedValues, NUM_OF_INTERVAL);
+    }
+
+    public HosmerLemeshowRiskGroup(List<ObservedPredictedValue> observedPredictedValues, int numberOfGroups) {
+        super(observedPredictedValues, numberOfGroups, (predictedValues, observedValues, groups) -> createGroupIndexer(groups));
+    }
+
+    /**
+     * Create the risk-group indexer for the given number of groups. The
+     * probabilities are split into intervals of equal width. A predicted value
+     * belongs to the first group whose threshold is greater than it. The last
+     * group takes all of the remaining values, including 1.0. The group is
+     * found by bucketing, without sorting the data.
+     *
+     * @param numberOfGroups number of intervals of equal width
+     * @return function returning the group index of a predicted value
+     */
+    static DoubleToIntFunction createGroupIndexer(int numberOfGroups) {
+        double[] thresholds = computeThresholds(numberOfGroups);
+
+        return predictedValue -> findGroupIndex(predictedValue, thresholds);
+    }
+
+    /**
+     * Compute the upper threshold (exclusive) of all but the last group.
+     *
+     * @param numberOfGroups number of intervals of equal width
+     * @return upper thresholds, in ascending order
+     */
+    public static double[] computeThresholds(int numberOfGroups) {
+        double[] thresholds = new double[numberOfGroups - 1];
+        double increment = 1.0 / numberOfGroups;
+        double threshold = increment;
+        for (int i = 0; i < thresholds.length; i++) {
+            thresholds[i] = threshold;
+            threshold += increment;
+        }
+
+        return thresholds;
+    }
+
+    /**
+     * Find the group of the predicted value with floor(p * g), then adjust for
+     * the rounding in the thresholds so that values right at a threshold land
+     * in the same group as before.
+     *
+     * @param predictedValue
+     * @param thresholds upper thresholds of the groups, in ascending order
+     * @return group index
+     */
+    private static int findGroupIndex(double predictedValue, double[] thresholds) {
+        int lastGroupIndex = thresholds.length;
+
+        int groupIndex = (int) (predictedValue * (lastGroupIndex + 1));
+        if (groupIndex < 0) {
+            groupIndex = 0;
+        } else if (groupIndex > lastGroupIndex) {
+            groupIndex = lastGroupIndex;
+        }
+
+        while (groupIndex > 0 && predictedValue < thresholds[groupIndex - 1]) {
+            groupIndex--;
+        }
+        while (groupIndex < lastGroupIndex && !(predictedValue < thresholds[groupIndex])) {
+            groupIndex++;
+        }
+
+        return groupIndex;
+    }
+
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration;
+
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.utils.CompensatedSum;
+import edu.pitt.dbmi.lib.math.classification.utils.PairedArrays;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Isotonic calibration curve fitted with the pool-adjacent-violators (PAV)
+ * algorithm. The curve is a non-decreasing step function of the predicted
+ * value. Each step (block) covers a range of predicted values and its value is
+ * the observed proportion of positive outcomes in that range.
+ *
+ * The fit takes O(n) on predictions that are already sorted, and recalibrating
+ * a new score takes O(log k) for k blocks.
+ *
+ * Oct 19, 2026 12:34:21 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class IsotonicCalibration {
+
+    /**
+     * Smallest predicted value in each block.
+     */
+    private double[] lowerBounds;
+
+    /**
+     * Largest predicted value in each block.
+     */
+    private double[] upperBounds;
+
+    /**
+     * Calibrated probability (observed proportion) of each block.
+     */
+    private double[] calibratedValues;
+
+    /**
+     * Number of data in each block.
+     */
+    private int[] numberOfDataPerBlock;
+
+    /**
+     * Number of positive outcomes in each block.
+     */
+    private int[] positiveObservedSumPerBlock;
+
+    /**
+     * Sum of the predicted values in each block.
+     */
+    private double[] predictedSumPerBlock;
+
+    private volatile HosmerLemeshow hosmerLemeshow;
+
+    /**
+     * Fit the curve on the sorted predictions of Hosmer-Lemeshow statistics.
+     *
+     * @param hosmerLemeshow statistics computed from the data
+     */
+    public IsotonicCalibration(HosmerLemeshow hosmerLemeshow) {
+        this(hosmerLemeshow.getObservedValues(), hosmerLemeshow.getPredictedValues());
+    }
+
+    public IsotonicCalibration(List<ObservedPredictedValue> observedPredictedValues) {
+        if (observedPredictedValues == null || observedPredictedValues.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "A list of data containing both observed value and predicted value is required.");
+        }
+
+        int size = observedPredictedValues.size();
+        int[] observedValues = new int[size];
+        double[] predictedValues = new double[size];
+        int index = 0;
+        for (ObservedPredictedValue obsPredVal : observedPredictedValues) {
+            observedValues[index] = obsPredVal.getObservedValue();
+            predictedValues[index] = obsPredVal.getPredictedValue();
+            index++;
+        }
+
+        PairedArrays.sort(predictedValues, observedValues);
+
+        fit(observedValues, predictedValues);
+    }
+
+    /**
+     * Fit the curve.
+     *
+     * @param observedValues observed values, in ascending order of the
+     * predicted values
+     * @param predictedValues predicted values, in ascending order
+     */
+    public IsotonicCalibration(int[] observedValues, double[] predictedValues) {
+        if (observedValues == null || predictedValues == null || predictedValues.length == 0) {
+            throw new IllegalArgumentException("Sorted observed values and predicted values are required.");
+        }
+        if (observedValues.length != predictedValues.length) {
+            throw new IllegalArgumentException("Observed values and predicted values must have the same length.");
+        }
+
+        fit(observedValues, predictedValues);
+    }
+
+    private void fit(int[] observedValues, double[] predictedValues) {
+        int size = predictedValues.length;
+        double[] lowers = new double[size];
+        double[] uppers = new double[size];
+        int[] dataCounts = new int[size];
+        int[] positiveCounts = new int[size];
+        double[] predictedSums = new double[size];
+        double[] compensations = new double[size];
+
+        // the blocks are kept on a stack, tied predictions always start in the same block
+        int numOfBlocks = 0;
+        for (int i = 0; i < size; i++) {
+            double predictedValue = predictedValues[i];
+            if (i > 0 && predictedValue < predictedValues[i - 1]) {
+                throw new IllegalArgumentException("Predicted values must be sorted in ascending order.");
+            }
+
+            if (numOfBlocks > 0 && uppers[numOfBlocks - 1] == predictedValue) {
+                int top = numOfBlocks - 1;
+                dataCounts[top]++;
+                positiveCounts[top] += observedValues[i];
+                CompensatedSum.add(predictedSums, compensations, top, predictedValue);
+            } else {
+                lowers[numOfBlocks] = predictedValue;
+                uppers[numOfBlocks] = predictedValue;
+                dataCounts[numOfBlocks] = 1;
+                positiveCounts[numOfBlocks] = observedValues[i];
+                predictedSums[numOfBlocks] = predictedValue;
+                compensations[numOfBlocks] = 0;
+                numOfBlocks++;
+            }
+
+            // pool adjacent violators: merge while the previous block is not below the top block
+            while (numOfBlocks > 1) {
+                int top = numOfBlocks - 1;
+                int prev = top - 1;
+                if ((long) positiveCounts[prev] * dataCounts[top] < (long) positiveCounts[top] * dataCounts[prev]) {
+                    break;
+                }
+
+                uppers[prev] = uppers[top];
+                dataCounts[prev] += dataCounts[top];
+                positiveCounts[prev] += positiveCounts[top];
+                CompensatedSum.add(predictedSums, compensations, prev, predictedSums[top]);
+                compensations[prev] += compensations[top];
+                numOfBlocks--;
+            }
+        }
+
+        lowerBounds = Arrays.copyOf(lowers, numOfBlocks);
+        upperBounds = Arrays.copyOf(uppers, numOfBlocks);
+        numberOfDataPerBlock = Arrays.copyOf(dataCounts, numOfBlocks);
+        positiveObservedSumPerBlock = Arrays.copyOf(positiveCounts, numOfBlocks);
+        predictedSumPerBlock = new double[numOfBlocks];
+        for (int i = 0; i < numOfBlocks; i++) {
+            predictedSumPerBlock[i] = predictedSums[i] + compensations[i];
+        }
+        calibratedValues = new double[numOfBlocks];
+        for (int i = 0; i < numOfBlocks; i++) {
+            calibratedValues[i] = ((double) positiveObservedSumPerBlock[i]) / numberOfDataPerBlock[i];
+        }
+    }
+
+    /**
+     * Map a score to its calibrated probability. Scores between two blocks
+     * take the value of the lower block; scores outside the fitted range take
+     * the value of the nearest block.
+     *
+     * @param score predicted value to recalibrate
+     * @return calibrated probability
+     */
+    public double recalibrate(double score) {
+        // find the last block whose lower bound is at or below the score
+        int low = 0;
+        int high = lowerBounds.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (lowerBounds[middle] <= score) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return calibratedValues[low];
+    }
+
+    /**
+     * Map scores to their calibrated probabilities.
+     *
+     * @param scores predicted values to recalibrate
+     * @return calibrated probabilities
+     */
+    public double[] recalibrate(double[] scores) {
+        double[] probabilities = new double[scores.length];
+        for (int i = 0; i < scores.length; i++) {
+            probabilities[i] = recalibrate(scores[i]);
+        }
+
+        return probabilities;
+    }
+
+    /**
+     * Get the blocks of the curve as Hosmer-Lemeshow groups so that the curve
+     * can be drawn with the Hosmer-Lemeshow plot. Since the groups are chosen
+     * from the data, the p-value is only indicative.
+     *
+     * @return Hosmer-Lemeshow statistics with one group per block
+     */
+    public HosmerLemeshow getHosmerLemeshow() {
+        HosmerLemeshow hl = hosmerLemeshow;
+        if (hl == null) {
+            synchronized (this) {
+                hl = hosmerLemeshow;
+                if (hl == null) {
+                    hl = new TalliedHosmerLemeshow(numberOfDataPerBlock, positiveObservedSumPerBlock, predictedSumPerBlock);
+                    hosmerLemeshow = hl;
+                }
+            }
+        }
+
+        return hl;
+    }
+
+    public int getNumberOfBlocks() {
+        return calibratedValues.length;
+    }
+
+    public double[] getLowerBounds() {
+        return lowerBounds;
+    }
+
+    public double[] getUpperBounds() {
+        return upperBounds;
+    }
+
+    public double[] getCalibratedValues() {
+        return calibratedValues;
+    }
+
+    public int[] getNumberOfDataPerBlock() {
+        return numberOfDataPerBlock;
+    }
+
+    public int[] getPositiveObservedSumPerBlock() {
+        return positiveObservedSumPerBlock;
+    }
+
+    public double[] getPredictedSumPerBlock() {
+        return predictedSumPerBlock;
+    }
+
+}
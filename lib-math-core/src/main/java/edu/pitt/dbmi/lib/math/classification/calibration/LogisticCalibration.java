@@ -0,0 +1,465 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration;
+
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import org.apache.commons.math3.distribution.ChiSquaredDistribution;
+
+/**
+ * Logistic recalibration of the predicted values: the outcome is regressed on
+ * the logit of the predicted value, logit(P(y = 1)) = a + b * logit(p).
+ *
+ * Three models are fitted with Newton-Raphson (IRLS):
+ * <ul>
+ * <li>intercept and slope together, giving the calibration slope and the
+ * Platt recalibration map,</li>
+ * <li>the intercept alone with the slope fixed at 1, giving the
+ * calibration-in-the-large intercept,</li>
+ * <li>the slope alone with no intercept, giving the temperature (1 / b).</li>
+ * </ul>
+ * The likelihood-ratio test compares the full model with perfect calibration
+ * (a = 0, b = 1).
+ *
+ * The gradient and Hessian are reduced in parallel over fixed-size chunks of
+ * primitive arrays. The partial sums are stored in an array allocated once
+ * and added in chunk order, so the results do not depend on the number of
+ * threads. The chunk tasks are also created once per fit and reused by every
+ * Newton iteration.
+ *
+ * Oct 19, 2026 2:20:16 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class LogisticCalibration {
+
+    /**
+     * Critical value used to compute 95% CI.
+     */
+    public static final double CRITICAL_VALUE = 1.96;
+
+    /**
+     * Predicted values are clipped to [EPSILON, 1 - EPSILON] before taking the
+     * logit.
+     */
+    public static final double EPSILON = 1e-15;
+
+    public static final int MAX_ITERATIONS = 100;
+
+    public static final double TOLERANCE = 1e-10;
+
+    /**
+     * Number of data reduced by each task.
+     */
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    // offsets of the partial sums of each chunk
+    private static final int GRADIENT_A = 0;
+    private static final int GRADIENT_B = 1;
+    private static final int HESSIAN_AA = 2;
+    private static final int HESSIAN_AB = 3;
+    private static final int HESSIAN_BB = 4;
+    private static final int LOG_LIKELIHOOD = 5;
+    private static final int NUM_OF_SUMS = 6;
+
+    private String summary;
+
+    private int numberOfPredictions;
+
+    private int[] observedValues;
+
+    /**
+     * Logit of the (clipped) predicted values.
+     */
+    private double[] logits;
+
+    private double[] partialSums;
+
+    private ChunkTask[] chunkTasks;
+
+    private double intercept;
+
+    private double interceptStandardError;
+
+    private double slope;
+
+    private double slopeStandardError;
+
+    private double calibrationInTheLargeIntercept;
+
+    private double calibrationInTheLargeStandardError;
+
+    private double temperature;
+
+    private boolean converged;
+
+    private double logLikelihood;
+
+    /**
+     * Log-likelihood of the predicted values as they are (a = 0, b = 1).
+     */
+    private double nullLogLikelihood;
+
+    private double likelihoodRatio;
+
+    private double pValue;
+
+    public LogisticCalibration(HosmerLemeshow hosmerLemeshow) {
+        this(hosmerLemeshow.getObservedValues(), hosmerLemeshow.getPredictedValues());
+    }
+
+    public LogisticCalibration(List<ObservedPredictedValue> observedPredictedValues) {
+        if (observedPredictedValues == null || observedPredictedValues.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "A list of data containing both observed value and predicted value is required.");
+        }
+
+        int size = observedPredictedValues.size();
+        int[] observed = new int[size];
+        double[] predicted = new double[size];
+        int index = 0;
+        for (ObservedPredictedValue obsPredVal : observedPredictedValues) {
+            observed[index] = obsPredVal.getObservedValue();
+            predicted[index] = obsPredVal.getPredictedValue();
+            index++;
+        }
+
+        fit(observed, predicted);
+    }
+
+    public LogisticCalibration(int[] observedValues, double[] predictedValues) {
+        if (observedValues == null || predictedValues == null || predictedValues.length == 0) {
+            throw new IllegalArgumentException("Observed values and predicted values are required.");
+        }
+        if (observedValues.length != predictedValues.length) {
+            throw new IllegalArgumentException("Observed values and predicted values must have the same length.");
+        }
+
+        fit(observedValues, predictedValues);
+    }
+
+    private void fit(int[] observed, double[] predicted) {
+        numberOfPredictions = predicted.length;
+        observedValues = observed;
+        logits = new double[numberOfPredictions];
+        for (int i = 0; i < numberOfPredictions; i++) {
+            logits[i] = logit(predicted[i]);
+        }
+        int numOfChunks = (numberOfPredictions + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        partialSums = new double[numOfChunks * NUM_OF_SUMS];
+        chunkTasks = new ChunkTask[numOfChunks];
+        for (int chunk = 0; chunk < numOfChunks; chunk++) {
+            chunkTasks[chunk] = new ChunkTask(chunk);
+        }
+
+        double[] sums = new double[NUM_OF_SUMS];
+
+        // perfect calibration
+        reduce(0, 1, sums);
+        nullLogLikelihood = sums[LOG_LIKELIHOOD];
+
+        // calibration-in-the-large: slope fixed at 1
+        double[] estimate = {0, 1};
+        boolean cilConverged = newton(estimate, true, false, sums);
+        calibrationInTheLargeIntercept = estimate[0];
+        calibrationInTheLargeStandardError = Math.sqrt(1 / sums[HESSIAN_AA]);
+
+        // temperature scaling: no intercept
+        estimate[0] = 0;
+        estimate[1] = 1;
+        boolean temperatureConverged = newton(estimate, false, true, sums);
+        temperature = 1 / estimate[1];
+
+        // intercept and slope
+        estimate[0] = 0;
+        estimate[1] = 1;
+        converged = newton(estimate, true, true, sums) && cilConverged && temperatureConverged;
+        intercept = estimate[0];
+        slope = estimate[1];
+        logLikelihood = sums[LOG_LIKELIHOOD];
+
+        double determinant = sums[HESSIAN_AA] * sums[HESSIAN_BB] - sums[HESSIAN_AB] * sums[HESSIAN_AB];
+        interceptStandardError = Math.sqrt(sums[HESSIAN_BB] / determinant);
+        slopeStandardError = Math.sqrt(sums[HESSIAN_AA] / determinant);
+
+        likelihoodRatio = 2 * (logLikelihood - nullLogLikelihood);
+        pValue = 1.0 - new ChiSquaredDistribution(2).cumulativeProbability(Math.max(0, likelihoodRatio));
+
+        // the data is no longer needed
+        observedValues = null;
+        logits = null;
+        partialSums = null;
+        chunkTasks = null;
+    }
+
+    /**
+     * Newton-Raphson on the free parameters. On return, the sums hold the
+     * gradient, Hessian and log-likelihood at the final estimate.
+     *
+     * @return true if the estimate converged
+     */
+    private boolean newton(double[] estimate, boolean fitIntercept, boolean fitSlope, double[] sums) {
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            reduce(estimate[0], estimate[1], sums);
+
+            double stepA = 0;
+            double stepB = 0;
+            if (fitIntercept && fitSlope) {
+                double determinant = sums[HESSIAN_AA] * sums[HESSIAN_BB] - sums[HESSIAN_AB] * sums[HESSIAN_AB];
+                if (!(determinant > 0)) {
+                    return false;
+                }
+                stepA = (sums[HESSIAN_BB] * sums[GRADIENT_A] - sums[HESSIAN_AB] * sums[GRADIENT_B]) / determinant;
+                stepB = (sums[HESSIAN_AA] * sums[GRADIENT_B] - sums[HESSIAN_AB] * sums[GRADIENT_A]) / determinant;
+            } else if (fitIntercept) {
+                stepA = sums[GRADIENT_A] / sums[HESSIAN_AA];
+            } else {
+                stepB = sums[GRADIENT_B] / sums[HESSIAN_BB];
+            }
+
+            if (!Double.isFinite(stepA) || !Double.isFinite(stepB)) {
+                return false;
+            }
+
+            estimate[0] += stepA;
+            estimate[1] += stepB;
+
+            if (Math.max(Math.abs(stepA), Math.abs(stepB)) < TOLERANCE) {
+                reduce(estimate[0], estimate[1], sums);
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Compute the gradient, the (negated) Hessian and the log-likelihood of
+     * the model with the given intercept and slope.
+     */
+    private void reduce(double a, double b, double[] sums) {
+        int numOfChunks = chunkTasks.length;
+        if (numOfChunks == 1) {
+            reduceChunk(0, a, b);
+        } else {
+            for (ChunkTask task : chunkTasks) {
+                task.reinitialize();
+                task.a = a;
+                task.b = b;
+            }
+            ForkJoinTask.invokeAll(chunkTasks);
+        }
+
+        for (int i = 0; i < NUM_OF_SUMS; i++) {
+            sums[i] = 0;
+        }
+        for (int chunk = 0; chunk < numOfChunks; chunk++) {
+            int offset = chunk * NUM_OF_SUMS;
+            for (int i = 0; i < NUM_OF_SUMS; i++) {
+                sums[i] += partialSums[offset + i];
+            }
+        }
+    }
+
+    private void reduceChunk(int chunk, double a, double b) {
+        int from = chunk * CHUNK_SIZE;
+        int to = Math.min(from + CHUNK_SIZE, numberOfPredictions);
+
+        double gradientA = 0;
+        double gradientB = 0;
+        double hessianAA = 0;
+        double hessianAB = 0;
+        double hessianBB = 0;
+        double logLik = 0;
+        for (int i = from; i < to; i++) {
+            double x = logits[i];
+            int y = observedValues[i];
+            double eta = a + b * x;
+            double mu = sigmoid(eta);
+            double weight = mu * (1 - mu);
+            double residual = y - mu;
+
+            gradientA += residual;
+            gradientB += residual * x;
+            hessianAA += weight;
+            hessianAB += weight * x;
+            hessianBB += weight * x * x;
+
+            // y * eta - log(1 + exp(eta)), computed without overflow
+            logLik += y * eta - (Math.max(eta, 0) + Math.log1p(Math.exp(-Math.abs(eta))));
+        }
+
+        int offset = chunk * NUM_OF_SUMS;
+        partialSums[offset + GRADIENT_A] = gradientA;
+        partialSums[offset + GRADIENT_B] = gradientB;
+        partialSums[offset + HESSIAN_AA] = hessianAA;
+        partialSums[offset + HESSIAN_AB] = hessianAB;
+        partialSums[offset + HESSIAN_BB] = hessianBB;
+        partialSums[offset + LOG_LIKELIHOOD] = logLik;
+    }
+
+    private static double logit(double predictedValue) {
+        double p = Math.min(Math.max(predictedValue, EPSILON), 1 - EPSILON);
+
+        return Math.log(p / (1 - p));
+    }
+
+    private static double sigmoid(double eta) {
+        if (eta >= 0) {
+            return 1 / (1 + Math.exp(-eta));
+        } else {
+            double z = Math.exp(eta);
+
+            return z / (1 + z);
+        }
+    }
+
+    /**
+     * Platt recalibration: map a predicted value through the fitted intercept
+     * and slope.
+     *
+     * @param predictedValue value predicted by classifier
+     * @return recalibrated probability
+     */
+    public double recalibrate(double predictedValue) {
+        return sigmoid(intercept + slope * logit(predictedValue));
+    }
+
+    /**
+     * Temperature scaling: divide the logit of the predicted value by the
+     * fitted temperature.
+     *
+     * @param predictedValue value predicted by classifier
+     * @return recalibrated probability
+     */
+    public double recalibrateWithTemperature(double predictedValue) {
+        return sigmoid(logit(predictedValue) / temperature);
+    }
+
+    public String getSummary() {
+        if (summary == null) {
+            StringBuilder dataBuilder = new StringBuilder("========================================================================\n");
+            dataBuilder.append(String.format("%-26s %-12s %-12s 95%s CI\n", "Parameter", "Estimate", "Std. Err.", "%"));
+            dataBuilder.append("========================================================================\n");
+            dataBuilder.append(String.format("%-26s %-12.4f %-12.4f (%1.4f, %1.4f)\n",
+                    "Calibration Slope", slope, slopeStandardError,
+                    slope - CRITICAL_VALUE * slopeStandardError, slope + CRITICAL_VALUE * slopeStandardError));
+            dataBuilder.append(String.format("%-26s %-12.4f %-12.4f (%1.4f, %1.4f)\n",
+                    "Intercept", intercept, interceptStandardError,
+                    intercept - CRITICAL_VALUE * interceptStandardError, intercept + CRITICAL_VALUE * interceptStandardError));
+            dataBuilder.append(String.format("%-26s %-12.4f %-12.4f (%1.4f, %1.4f)\n",
+                    "Calibration-in-the-Large", calibrationInTheLargeIntercept, calibrationInTheLargeStandardError,
+                    calibrationInTheLargeIntercept - CRITICAL_VALUE * calibrationInTheLargeStandardError,
+                    calibrationInTheLargeIntercept + CRITICAL_VALUE * calibrationInTheLargeStandardError));
+            dataBuilder.append("------------------------------------------------------------------------\n");
+            dataBuilder.append(String.format("Temperature: %f\n", temperature));
+            dataBuilder.append(String.format("Likelihood Ratio Chi2(2): %1.2f\n", likelihoodRatio));
+            dataBuilder.append(String.format("P-Value: %f\n", pValue));
+            dataBuilder.append(String.format("Converged: %s\n", converged));
+            dataBuilder.append("========================================================================");
+
+            summary = dataBuilder.toString();
+        }
+
+        return summary;
+    }
+
+    @Override
+    public String toString() {
+        return getSummary();
+    }
+
+    public int getNumberOfPredictions() {
+        return numberOfPredictions;
+    }
+
+    public double getIntercept() {
+        return intercept;
+    }
+
+    public double getInterceptStandardError() {
+        return interceptStandardError;
+    }
+
+    public double getSlope() {
+        return slope;
+    }
+
+    public double getSlopeStandardError() {
+        return slopeStandardError;
+    }
+
+    public double getCalibrationInTheLargeIntercept() {
+        return calibrationInTheLargeIntercept;
+    }
+
+    public double getCalibrationInTheLargeStandardError() {
+        return calibrationInTheLargeStandardError;
+    }
+
+    public double getTemperature() {
+        return temperature;
+    }
+
+    public boolean isConverged() {
+        return converged;
+    }
+
+    public double getLogLikelihood() {
+        return logLikelihood;
+    }
+
+    public double getNullLogLikelihood() {
+        return nullLogLikelihood;
+    }
+
+    public double getLikelihoodRatio() {
+        return likelihoodRatio;
+    }
+
+    public double getPValue() {
+        return pValue;
+    }
+
+    /**
+     * Reduce one chunk with the intercept and slope set before it is forked.
+     */
+    private final class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int chunk;
+        private double a;
+        private double b;
+
+        private ChunkTask(int chunk) {
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            reduceChunk(chunk, a, b);
+        }
+
+    }
+
+}
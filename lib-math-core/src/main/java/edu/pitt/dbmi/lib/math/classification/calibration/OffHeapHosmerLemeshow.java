@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration;
+
+import edu.pitt.dbmi.lib.math.classification.data.OffHeapDataset;
+import edu.pitt.dbmi.lib.math.classification.utils.CompensatedSum;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.DoubleToIntFunction;
+
+/**
+ * Hosmer-Lemeshow statistics of an off-heap dataset. The rows are tallied
+ * into groups directly from the off-heap memory by parallel tasks, and the
+ * partial tallies are merged pairwise, so the statistics do not depend on the
+ * number of threads. The data is never copied to the heap, so the observed
+ * values and predicted values of the result are empty.
+ *
+ * Oct 20, 2026 1:27:36 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public final class OffHeapHosmerLemeshow {
+
+    /**
+     * Number of rows tallied by a single task.
+     */
+    private static final long LEAF_SIZE = 1 << 16;
+
+    private OffHeapHosmerLemeshow() {
+    }
+
+    /**
+     * Same statistics as {@link HosmerLemeshowDecileGroup}. The dataset is
+     * sorted in place if it is not sorted yet.
+     *
+     * @param dataset observed values and predicted values
+     * @param numberOfGroups number of quantile groups
+     * @return Hosmer-Lemeshow statistics
+     */
+    public static TalliedHosmerLemeshow decileGroups(OffHeapDataset dataset, int numberOfGroups) {
+        validate(dataset, numberOfGroups);
+
+        dataset.sort();
+
+        long[] upperIndices = computeUpperIndices(dataset.size(), numberOfGroups);
+        double[] thresholds = new double[numberOfGroups];
+        for (int i = 0; i < numberOfGroups; i++) {
+            thresholds[i] = dataset.getPredictedValue(upperIndices[i]);
+        }
+
+        return tally(dataset, numberOfGroups, HosmerLemeshowDecileGroup.createGroupIndexer(thresholds));
+    }
+
+    /**
+     * Same statistics as {@link HosmerLemeshowRiskGroup}. The dataset does not
+     * need to be sorted.
+     *
+     * @param dataset observed values and predicted values
+     * @param numberOfGroups number of intervals of equal width
+     * @return Hosmer-Lemeshow statistics
+     */
+    public static TalliedHosmerLemeshow riskGroups(OffHeapDataset dataset, int numberOfGroups) {
+        validate(dataset, numberOfGroups);
+
+        return tally(dataset, numberOfGroups, HosmerLemeshowRiskGroup.createGroupIndexer(numberOfGroups));
+    }
+
+    private static void validate(OffHeapDataset dataset, int numberOfGroups) {
+        if (dataset == null || dataset.size() == 0) {
+            throw new IllegalArgumentException("A dataset containing both observed value and predicted value is required.");
+        }
+        if (numberOfGroups < 1) {
+            throw new IllegalArgumentException("Number of groups must be at least 1.");
+        }
+    }
+
+    /**
+     * Same as {@link HosmerLemeshowDecileGroup#computeUpperIndices(int, int)}
+     * for datasets with more than 2^31 rows.
+     */
+    private static long[] computeUpperIndices(long size, int numberOfGroups) {
+        long[] upperIndices = new long[numberOfGroups];
+        double increment = 1.0 / numberOfGroups;
+        double percent = increment;
+        for (int i = 0; i < numberOfGroups; i++) {
+            long longUpperIndex = (long) (percent * size);
+            upperIndices[i] = (longUpperIndex < size && i < numberOfGroups - 1)
+                    ? longUpperIndex
+                    : size - 1;
+
+            percent += increment;
+        }
+
+        return upperIndices;
+    }
+
+    private static TalliedHosmerLemeshow tally(OffHeapDataset dataset, int numberOfGroups, DoubleToIntFunction groupIndexer) {
+        Tally tally = ForkJoinPool.commonPool().invoke(new TallyTask(dataset, numberOfGroups, groupIndexer, 0, dataset.size()));
+
+        int[] dataCounts = new int[numberOfGroups];
+        int[] positiveCounts = new int[numberOfGroups];
+        double[] predictedSums = new double[numberOfGroups];
+        for (int i = 0; i < numberOfGroups; i++) {
+            if (tally.dataCounts[i] > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("A group holds at most " + Integer.MAX_VALUE + " data.");
+            }
+            dataCounts[i] = (int) tally.dataCounts[i];
+            positiveCounts[i] = (int) tally.positiveCounts[i];
+            predictedSums[i] = tally.predictedSums[i] + tally.predictedCompensations[i];
+        }
+
+        return new TalliedHosmerLemeshow(dataCounts, positiveCounts, predictedSums);
+    }
+
+    private static final class Tally {
+
+        private final long[] dataCounts;
+        private final long[] positiveCounts;
+        private final double[] predictedSums;
+        private final double[] predictedCompensations;
+
+        private Tally(int numberOfGroups) {
+            this.dataCounts = new long[numberOfGroups];
+            this.positiveCounts = new long[numberOfGroups];
+            this.predictedSums = new double[numberOfGroups];
+            this.predictedCompensations = new double[numberOfGroups];
+        }
+
+        private Tally merge(Tally other) {
+            for (int i = 0; i < dataCounts.length; i++) {
+                dataCounts[i] += other.dataCounts[i];
+                positiveCounts[i] += other.positiveCounts[i];
+                CompensatedSum.add(predictedSums, predictedCompensations, other.predictedSums, other.predictedCompensations, i);
+            }
+
+            return this;
+        }
+
+    }
+
+    /**
+     * Split the rows in halves down to the leaf size, so that the shape of the
+     * merge tree only depends on the number of rows.
+     */
+    private static final class TallyTask extends RecursiveTask<Tally> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final OffHeapDataset dataset;
+        private final int numberOfGroups;
+        private final DoubleToIntFunction groupIndexer;
+        private final long from;
+        private final long to;
+
+        private TallyTask(OffHeapDataset dataset, int numberOfGroups, DoubleToIntFunction groupIndexer, long from, long to) {
+            this.dataset = dataset;
+            this.numberOfGroups = numberOfGroups;
+            this.groupIndexer = groupIndexer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= LEAF_SIZE) {
+                Tally tally = new Tally(numberOfGroups);
+                for (long i = from; i < to; i++) {
+                    double predictedValue = dataset.getPredictedValue(i);
+                    int groupIndex = groupIndexer.applyAsInt(predictedValue);
+                    tally.dataCounts[groupIndex]++;
+                    tally.positiveCounts[groupIndex] += dataset.getObservedValue(i);
+                    CompensatedSum.add(tally.predictedSums, tally.predictedCompensations, groupIndex, predictedValue);
+                }
+
+                return tally;
+            }
+
+            long middle = from + ((to - from) >>> 1);
+            TallyTask right = new TallyTask(dataset, numberOfGroups, groupIndexer, middle, to);
+            right.fork();
+            Tally left = new TallyTask(dataset, numberOfGroups, groupIndexer, from, middle).compute();
+
+            return left.merge(right.join());
+        }
+
+    }
+
+}
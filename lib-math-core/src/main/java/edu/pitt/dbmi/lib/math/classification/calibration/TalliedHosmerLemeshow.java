@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration;
+
+/**
+ * Hosmer-Lemeshow statistics computed from per-group tallies (number of data,
+ * number of positive outcomes and sum of predictions) rather than from the
+ * data itself. The observed values and predicted values are empty unless the
+ * sorted data is given along with the tallies.
+ *
+ * Oct 19, 2026 10:41:17 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class TalliedHosmerLemeshow extends AbstractHosmerLemeshow {
+
+    public TalliedHosmerLemeshow(int[] dataCounts, int[] positiveCounts, double[] predictedSums) {
+        super(dataCounts, positiveCounts, predictedSums);
+    }
+
+    public TalliedHosmerLemeshow(int[] dataCounts, int[] positiveCounts, double[] predictedSums, int[] sortedObservedValues, double[] sortedPredictedValues) {
+        super(dataCounts, positiveCounts, predictedSums, sortedObservedValues, sortedPredictedValues);
+    }
+
+}
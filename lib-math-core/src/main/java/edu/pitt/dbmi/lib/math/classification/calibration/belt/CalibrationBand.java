@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration.belt;
+
+/**
+ * Calibration belt at one confidence level, evaluated on a grid of predicted
+ * values.
+ *
+ * Oct 19, 2026 3:10:27 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class CalibrationBand {
+
+    private final double confidenceLevel;
+
+    private final double[] predictedValues;
+
+    private final double[] fittedValues;
+
+    private final double[] lowerBounds;
+
+    private final double[] upperBounds;
+
+    public CalibrationBand(double confidenceLevel, double[] predictedValues, double[] fittedValues, double[] lowerBounds, double[] upperBounds) {
+        this.confidenceLevel = confidenceLevel;
+        this.predictedValues = predictedValues;
+        this.fittedValues = fittedValues;
+        this.lowerBounds = lowerBounds;
+        this.upperBounds = upperBounds;
+    }
+
+    /**
+     * Count the grid points where the bisector lies outside of the belt, that
+     * is where the predictions are significantly miscalibrated.
+     *
+     * @return number of grid points
+     */
+    public int getNumberOfPointsOffBisector() {
+        int count = 0;
+        for (int i = 0; i < predictedValues.length; i++) {
+            if (predictedValues[i] < lowerBounds[i] || predictedValues[i] > upperBounds[i]) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    public double getConfidenceLevel() {
+        return confidenceLevel;
+    }
+
+    public double[] getPredictedValues() {
+        return predictedValues;
+    }
+
+    public double[] getFittedValues() {
+        return fittedValues;
+    }
+
+    public double[] getLowerBounds() {
+        return lowerBounds;
+    }
+
+    public double[] getUpperBounds() {
+        return upperBounds;
+    }
+
+}
@@ -0,0 +1,566 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration.belt;
+
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshow;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.utils.PairedArrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.apache.commons.math3.distribution.ChiSquaredDistribution;
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.ArrayRealVector;
+import org.apache.commons.math3.linear.CholeskyDecomposition;
+import org.apache.commons.math3.linear.DecompositionSolver;
+import org.apache.commons.math3.linear.NonPositiveDefiniteMatrixException;
+import org.apache.commons.math3.linear.NonSquareMatrixException;
+import org.apache.commons.math3.linear.NonSymmetricMatrixException;
+
+/**
+ * GiViTI calibration belt. The outcome is regressed on a polynomial of the
+ * logit of the predicted value,
+ * logit(P(y = 1)) = b0 + b1 * x + ... + bm * x^m, where x = logit(p).
+ *
+ * Polynomials of degree 1 up to the maximum degree are fitted in parallel and
+ * the degree is chosen by forward selection: the degree is increased as long
+ * as the likelihood-ratio test of the next degree is significant at the
+ * selection level. The belt is the confidence band of the fitted curve,
+ * obtained by projecting the confidence ellipsoid of the coefficients.
+ *
+ * The data is sorted once and tied predictions are collapsed, so each Newton
+ * iteration runs over the distinct predicted values only.
+ *
+ * Oct 19, 2026 3:08:52 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class CalibrationBelt {
+
+    public static final int DEFAULT_MAX_DEGREE = 4;
+
+    /**
+     * Level of the likelihood-ratio test used to increase the degree.
+     */
+    public static final double SELECTION_LEVEL = 0.95;
+
+    /**
+     * Predicted values are clipped to [EPSILON, 1 - EPSILON] before taking the
+     * logit.
+     */
+    public static final double EPSILON = 1e-15;
+
+    public static final int MAX_ITERATIONS = 100;
+
+    public static final double TOLERANCE = 1e-10;
+
+    private String summary;
+
+    private int numberOfPredictions;
+
+    /**
+     * Distinct predicted values, in ascending order.
+     */
+    private double[] distinctPredictedValues;
+
+    /**
+     * Logit of the distinct predicted values divided by the scale.
+     */
+    private double[] scaledLogits;
+
+    private int[] dataCounts;
+
+    private int[] positiveCounts;
+
+    /**
+     * The polynomials are fitted on logit(p) / scale to keep the powers of the
+     * logit in a reasonable range.
+     */
+    private double scale;
+
+    private int degree;
+
+    /**
+     * Coefficients of the selected polynomial of logit(p), lowest degree
+     * first.
+     */
+    private double[] coefficients;
+
+    /**
+     * Coefficients and their covariance on the scaled logit.
+     */
+    private double[] scaledCoefficients;
+
+    private double[][] scaledCovariance;
+
+    /**
+     * Log-likelihood of each degree, at index degree - 1.
+     */
+    private double[] logLikelihoods;
+
+    /**
+     * Log-likelihood of the predicted values as they are (the bisector).
+     */
+    private double nullLogLikelihood;
+
+    private double likelihoodRatio;
+
+    private double pValue;
+
+    public CalibrationBelt(HosmerLemeshow hosmerLemeshow) {
+        this(hosmerLemeshow.getObservedValues(), hosmerLemeshow.getPredictedValues(), DEFAULT_MAX_DEGREE);
+    }
+
+    public CalibrationBelt(List<ObservedPredictedValue> observedPredictedValues) {
+        this(observedPredictedValues, DEFAULT_MAX_DEGREE);
+    }
+
+    public CalibrationBelt(List<ObservedPredictedValue> observedPredictedValues, int maxDegree) {
+        if (observedPredictedValues == null || observedPredictedValues.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "A list of data containing both observed value and predicted value is required.");
+        }
+
+        int size = observedPredictedValues.size();
+        int[] observedValues = new int[size];
+        double[] predictedValues = new double[size];
+        int index = 0;
+        for (ObservedPredictedValue obsPredVal : observedPredictedValues) {
+            observedValues[index] = obsPredVal.getObservedValue();
+            predictedValues[index] = obsPredVal.getPredictedValue();
+            index++;
+        }
+
+        PairedArrays.sort(predictedValues, observedValues);
+
+        fit(observedValues, predictedValues, maxDegree);
+    }
+
+    /**
+     * Fit the belt.
+     *
+     * @param observedValues observed values, in ascending order of the
+     * predicted values
+     * @param predictedValues predicted values, in ascending order
+     * @param maxDegree highest degree of the polynomial
+     */
+    public CalibrationBelt(int[] observedValues, double[] predictedValues, int maxDegree) {
+        if (observedValues == null || predictedValues == null || predictedValues.length == 0) {
+            throw new IllegalArgumentException("Sorted observed values and predicted values are required.");
+        }
+        if (observedValues.length != predictedValues.length) {
+            throw new IllegalArgumentException("Observed values and predicted values must have the same length.");
+        }
+
+        fit(observedValues, predictedValues, maxDegree);
+    }
+
+    private void fit(int[] observedValues, double[] predictedValues, int maxDegree) {
+        if (maxDegree < 1) {
+            throw new IllegalArgumentException("Maximum degree must be at least 1.");
+        }
+
+        collapseTies(observedValues, predictedValues);
+
+        int numOfDistinct = distinctPredictedValues.length;
+        if (numOfDistinct < 2) {
+            throw new IllegalArgumentException("At least two distinct predicted values are required.");
+        }
+        maxDegree = Math.min(maxDegree, numOfDistinct - 1);
+
+        // the bisector
+        nullLogLikelihood = 0;
+        for (int i = 0; i < numOfDistinct; i++) {
+            double p = clip(distinctPredictedValues[i]);
+            nullLogLikelihood += positiveCounts[i] * Math.log(p) + (dataCounts[i] - positiveCounts[i]) * Math.log(1 - p);
+        }
+
+        PolynomialFit[] fits = IntStream.rangeClosed(1, maxDegree)
+                .parallel()
+                .mapToObj(this::fitPolynomial)
+                .toArray(PolynomialFit[]::new);
+
+        logLikelihoods = new double[maxDegree];
+        for (int i = 0; i < maxDegree; i++) {
+            logLikelihoods[i] = fits[i].logLikelihood;
+        }
+
+        // forward selection
+        ChiSquaredDistribution oneDegree = new ChiSquaredDistribution(1);
+        int selected = 0;
+        while (selected + 1 < maxDegree && fits[selected + 1].converged) {
+            double ratio = 2 * (fits[selected + 1].logLikelihood - fits[selected].logLikelihood);
+            if (1.0 - oneDegree.cumulativeProbability(Math.max(0, ratio)) >= 1 - SELECTION_LEVEL) {
+                break;
+            }
+            selected++;
+        }
+
+        PolynomialFit fit = fits[selected];
+        if (!fit.converged) {
+            throw new IllegalArgumentException("Unable to fit the calibration curve to the data.");
+        }
+
+        degree = selected + 1;
+        scaledCoefficients = fit.coefficients;
+        scaledCovariance = fit.covariance;
+        coefficients = new double[degree + 1];
+        for (int i = 0; i <= degree; i++) {
+            coefficients[i] = scaledCoefficients[i] / Math.pow(scale, i);
+        }
+
+        likelihoodRatio = 2 * (fit.logLikelihood - nullLogLikelihood);
+        pValue = 1.0 - new ChiSquaredDistribution(degree + 1).cumulativeProbability(Math.max(0, likelihoodRatio));
+    }
+
+    /**
+     * Collapse tied predictions into one point with the number of data and
+     * the number of positive outcomes.
+     */
+    private void collapseTies(int[] observedValues, double[] predictedValues) {
+        numberOfPredictions = predictedValues.length;
+
+        int numOfDistinct = 1;
+        for (int i = 1; i < numberOfPredictions; i++) {
+            if (predictedValues[i] < predictedValues[i - 1]) {
+                throw new IllegalArgumentException("Predicted values must be sorted in ascending order.");
+            }
+            if (predictedValues[i] != predictedValues[i - 1]) {
+                numOfDistinct++;
+            }
+        }
+
+        distinctPredictedValues = new double[numOfDistinct];
+        scaledLogits = new double[numOfDistinct];
+        dataCounts = new int[numOfDistinct];
+        positiveCounts = new int[numOfDistinct];
+        int index = -1;
+        for (int i = 0; i < numberOfPredictions; i++) {
+            if (i == 0 || predictedValues[i] != predictedValues[i - 1]) {
+                index++;
+                distinctPredictedValues[index] = predictedValues[i];
+            }
+            dataCounts[index]++;
+            positiveCounts[index] += observedValues[i];
+        }
+
+        scale = 1;
+        for (int i = 0; i < numOfDistinct; i++) {
+            scaledLogits[i] = logit(distinctPredictedValues[i]);
+            scale = Math.max(scale, Math.abs(scaledLogits[i]));
+        }
+        for (int i = 0; i < numOfDistinct; i++) {
+            scaledLogits[i] /= scale;
+        }
+    }
+
+    /**
+     * Fit a polynomial with Newton-Raphson, halving the step whenever it
+     * decreases the log-likelihood. The fit does not converge when no halved
+     * step improves it.
+     */
+    private PolynomialFit fitPolynomial(int polynomialDegree) {
+        int numOfCoefs = polynomialDegree + 1;
+        double[] beta = new double[numOfCoefs];
+        double[] candidate = new double[numOfCoefs];
+        double[] gradient = new double[numOfCoefs];
+        double[][] hessian = new double[numOfCoefs][numOfCoefs];
+        double[] powers = new double[numOfCoefs];
+
+        // start from the bisector
+        beta[1] = scale;
+
+        PolynomialFit fit = new PolynomialFit();
+        double logLik = reduce(beta, gradient, hessian, powers);
+        for (int iteration = 0; iteration < MAX_ITERATIONS && !fit.converged; iteration++) {
+            double[] step;
+            try {
+                step = new CholeskyDecomposition(new Array2DRowRealMatrix(hessian, false))
+                        .getSolver()
+                        .solve(new ArrayRealVector(gradient, false))
+                        .toArray();
+            } catch (NonPositiveDefiniteMatrixException | NonSquareMatrixException | NonSymmetricMatrixException exception) {
+                break;
+            }
+
+            double stepSize = 1;
+            double candidateLogLik = Double.NEGATIVE_INFINITY;
+            boolean improved = false;
+            for (int halving = 0; halving < 30 && !improved; halving++) {
+                for (int i = 0; i < numOfCoefs; i++) {
+                    candidate[i] = beta[i] + stepSize * step[i];
+                }
+                candidateLogLik = reduce(candidate, gradient, hessian, powers);
+                improved = candidateLogLik >= logLik - 1e-12 * Math.abs(logLik);
+                stepSize /= 2;
+            }
+            if (!improved) {
+                // no step along the Newton direction improves the fit, keep the last one
+                break;
+            }
+
+            double maxChange = 0;
+            for (int i = 0; i < numOfCoefs; i++) {
+                maxChange = Math.max(maxChange, Math.abs(candidate[i] - beta[i]));
+                beta[i] = candidate[i];
+            }
+            logLik = candidateLogLik;
+
+            fit.converged = maxChange < TOLERANCE;
+        }
+
+        fit.coefficients = beta;
+        fit.logLikelihood = logLik;
+        if (fit.converged) {
+            try {
+                DecompositionSolver solver = new CholeskyDecomposition(new Array2DRowRealMatrix(hessian, false)).getSolver();
+                fit.covariance = solver.getInverse().getData();
+            } catch (NonPositiveDefiniteMatrixException | NonSquareMatrixException | NonSymmetricMatrixException exception) {
+                fit.converged = false;
+            }
+        }
+
+        return fit;
+    }
+
+    /**
+     * Compute the gradient, the (negated) Hessian and the log-likelihood of
+     * the polynomial with the given coefficients.
+     */
+    private double reduce(double[] beta, double[] gradient, double[][] hessian, double[] powers) {
+        int numOfCoefs = beta.length;
+        for (int i = 0; i < numOfCoefs; i++) {
+            gradient[i] = 0;
+            for (int j = 0; j < numOfCoefs; j++) {
+                hessian[i][j] = 0;
+            }
+        }
+
+        double logLik = 0;
+        for (int k = 0; k < scaledLogits.length; k++) {
+            double z = scaledLogits[k];
+            double eta = 0;
+            double power = 1;
+            for (int i = 0; i < numOfCoefs; i++) {
+                powers[i] = power;
+                eta += beta[i] * power;
+                power *= z;
+            }
+
+            int n = dataCounts[k];
+            int positives = positiveCounts[k];
+            double mu = sigmoid(eta);
+            double residual = positives - n * mu;
+            double weight = n * mu * (1 - mu);
+            for (int i = 0; i < numOfCoefs; i++) {
+                gradient[i] += residual * powers[i];
+                for (int j = 0; j <= i; j++) {
+                    hessian[i][j] += weight * powers[i] * powers[j];
+                }
+            }
+
+            // positives * eta - n * log(1 + exp(eta)), computed without overflow
+            logLik += positives * eta - n * (Math.max(eta, 0) + Math.log1p(Math.exp(-Math.abs(eta))));
+        }
+
+        for (int i = 0; i < numOfCoefs; i++) {
+            for (int j = i + 1; j < numOfCoefs; j++) {
+                hessian[i][j] = hessian[j][i];
+            }
+        }
+
+        return logLik;
+    }
+
+    /**
+     * Get the calibrated probability of a predicted value on the fitted
+     * curve.
+     *
+     * @param predictedValue value predicted by classifier
+     * @return fitted probability
+     */
+    public double getFittedValue(double predictedValue) {
+        double z = logit(predictedValue) / scale;
+        double eta = 0;
+        double power = 1;
+        for (double coefficient : scaledCoefficients) {
+            eta += coefficient * power;
+            power *= z;
+        }
+
+        return sigmoid(eta);
+    }
+
+    /**
+     * Compute the belt over the range of the predicted values, on a grid of
+     * evenly spaced predicted values.
+     *
+     * @param confidenceLevel confidence level of the belt, for example 0.95
+     * @param numberOfPoints number of points on the grid
+     * @return the band
+     */
+    public CalibrationBand computeBand(double confidenceLevel, int numberOfPoints) {
+        if (numberOfPoints < 2) {
+            throw new IllegalArgumentException("Number of points must be at least 2.");
+        }
+
+        double lowest = distinctPredictedValues[0];
+        double highest = distinctPredictedValues[distinctPredictedValues.length - 1];
+        double[] grid = new double[numberOfPoints];
+        double width = (highest - lowest) / (numberOfPoints - 1);
+        for (int i = 0; i < numberOfPoints; i++) {
+            grid[i] = lowest + i * width;
+        }
+        grid[numberOfPoints - 1] = highest;
+
+        return computeBand(confidenceLevel, grid);
+    }
+
+    /**
+     * Compute the belt at the given predicted values.
+     *
+     * @param confidenceLevel confidence level of the belt, for example 0.95
+     * @param grid predicted values at which the belt is evaluated
+     * @return the band
+     */
+    public CalibrationBand computeBand(double confidenceLevel, double[] grid) {
+        if (!(confidenceLevel > 0 && confidenceLevel < 1)) {
+            throw new IllegalArgumentException("Confidence level must be between 0 and 1.");
+        }
+
+        // half-width of the projection of the confidence ellipsoid of the coefficients
+        double criticalValue = Math.sqrt(new ChiSquaredDistribution(degree + 1).inverseCumulativeProbability(confidenceLevel));
+
+        int numOfCoefs = scaledCoefficients.length;
+        int numOfPoints = grid.length;
+        double[] fittedValues = new double[numOfPoints];
+        double[] lowerBounds = new double[numOfPoints];
+        double[] upperBounds = new double[numOfPoints];
+        IntStream.range(0, numOfPoints)
+                .parallel()
+                .forEach(k -> {
+                    double z = logit(grid[k]) / scale;
+                    double[] powers = new double[numOfCoefs];
+                    double power = 1;
+                    double eta = 0;
+                    for (int i = 0; i < numOfCoefs; i++) {
+                        powers[i] = power;
+                        eta += scaledCoefficients[i] * power;
+                        power *= z;
+                    }
+
+                    double variance = 0;
+                    for (int i = 0; i < numOfCoefs; i++) {
+                        for (int j = 0; j < numOfCoefs; j++) {
+                            variance += powers[i] * scaledCovariance[i][j] * powers[j];
+                        }
+                    }
+                    double halfWidth = criticalValue * Math.sqrt(Math.max(0, variance));
+
+                    fittedValues[k] = sigmoid(eta);
+                    lowerBounds[k] = sigmoid(eta - halfWidth);
+                    upperBounds[k] = sigmoid(eta + halfWidth);
+                });
+
+        return new CalibrationBand(confidenceLevel, grid.clone(), fittedValues, lowerBounds, upperBounds);
+    }
+
+    private static double clip(double predictedValue) {
+        return Math.min(Math.max(predictedValue, EPSILON), 1 - EPSILON);
+    }
+
+    private static double logit(double predictedValue) {
+        double p = clip(predictedValue);
+
+        return Math.log(p / (1 - p));
+    }
+
+    private static double sigmoid(double eta) {
+        if (eta >= 0) {
+            return 1 / (1 + Math.exp(-eta));
+        } else {
+            double z = Math.exp(eta);
+
+            return z / (1 + z);
+        }
+    }
+
+    public String getSummary() {
+        if (summary == null) {
+            StringBuilder dataBuilder = new StringBuilder("========================================================================\n");
+            dataBuilder.append(String.format("Number of Predictions: %d\n", numberOfPredictions));
+            dataBuilder.append(String.format("Polynomial Degree: %d\n", degree));
+            for (int i = 0; i < coefficients.length; i++) {
+                dataBuilder.append(String.format("    b%d: %f\n", i, coefficients[i]));
+            }
+            dataBuilder.append(String.format("Likelihood Ratio Chi2(%d): %1.2f\n", degree + 1, likelihoodRatio));
+            dataBuilder.append(String.format("P-Value: %f\n", pValue));
+            dataBuilder.append("========================================================================");
+
+            summary = dataBuilder.toString();
+        }
+
+        return summary;
+    }
+
+    @Override
+    public String toString() {
+        return getSummary();
+    }
+
+    public int getNumberOfPredictions() {
+        return numberOfPredictions;
+    }
+
+    public int getDegree() {
+        return degree;
+    }
+
+    public double[] getCoefficients() {
+        return coefficients;
+    }
+
+    public double[] getLogLikelihoods() {
+        return logLikelihoods;
+    }
+
+    public double getNullLogLikelihood() {
+        return nullLogLikelihood;
+    }
+
+    public double getLikelihoodRatio() {
+        return likelihoodRatio;
+    }
+
+    public double getPValue() {
+        return pValue;
+    }
+
+    /**
+     * Result of fitting one degree.
+     */
+    private static final class PolynomialFit {
+
+        private double[] coefficients;
+        private double[][] covariance;
+        private double logLikelihood;
+        private boolean converged;
+
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration.plot;
+
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshow;
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshowBootstrap;
+import edu.pitt.dbmi.lib.math.classification.plot.AbstractSvgPlot;
+import edu.pitt.dbmi.lib.math.classification.plot.SvgStroke;
+import edu.pitt.dbmi.lib.math.classification.plot.SvgWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hosmer-Lemeshow plot written as SVG, styled as HosmerLemeshowPlot.
+ *
+ * Oct 19, 2026 9:18:27 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class HosmerLemeshowSvgPlot extends AbstractSvgPlot {
+
+    private static final SvgStroke ERROR_BAR_LINE = SvgStroke.createSolidLine(1.0f);
+
+    private final List<double[]> xPointsPerSeries;
+    private final List<double[]> yPointsPerSeries;
+    private final List<double[]> yLowPointsPerSeries;
+    private final List<double[]> yHighPointsPerSeries;
+    private final List<String> colors;
+    private final List<String> shapes;
+
+    public HosmerLemeshowSvgPlot() {
+        this("");
+    }
+
+    public HosmerLemeshowSvgPlot(String title) {
+        this(title, "Predicted (proportion)", "Observed (proportion)");
+    }
+
+    public HosmerLemeshowSvgPlot(String title, String xAxisLabel, String yAxisLabel) {
+        super(title, xAxisLabel, yAxisLabel);
+
+        xPointsPerSeries = new ArrayList<>();
+        yPointsPerSeries = new ArrayList<>();
+        yLowPointsPerSeries = new ArrayList<>();
+        yHighPointsPerSeries = new ArrayList<>();
+        colors = new ArrayList<>();
+        shapes = new ArrayList<>();
+    }
+
+    /**
+     * Add the Hosmer-Lemeshow groups.
+     *
+     * @param hl Hosmer-Lemeshow statistics
+     * @param name name of the series
+     * @param color color of the series
+     * @param shape name of one of the SvgShapes shapes
+     * @param errorBars draw the margins of error as error bars
+     */
+    public void addDataSeries(HosmerLemeshow hl, String name, String color, String shape, boolean errorBars) {
+        double[] yLowValues = null;
+        double[] yHighValues = null;
+        if (errorBars) {
+            double[] observedValues = hl.getHlObservedValues();
+            double[] marginOfErrorPerGroup = hl.getMarginOfErrorPerGroup();
+            yLowValues = new double[observedValues.length];
+            yHighValues = new double[observedValues.length];
+            for (int i = 0; i < observedValues.length; i++) {
+                double yValue = observedValues[i];
+                yLowValues[i] = (marginOfErrorPerGroup[i] == 0)
+                        ? marginOfErrorPerGroup[i] - yValue
+                        : yValue - marginOfErrorPerGroup[i];
+                yHighValues[i] = yValue + marginOfErrorPerGroup[i];
+            }
+        }
+
+        addDataSeries(hl, yLowValues, yHighValues, name, color, shape);
+    }
+
+    /**
+     * Add the Hosmer-Lemeshow groups with the bootstrap confidence intervals
+     * of the observed proportions.
+     *
+     * @param bootstrap bootstrap of the Hosmer-Lemeshow statistics
+     * @param name name of the series
+     * @param color color of the series
+     * @param shape name of one of the SvgShapes shapes
+     * @param errorBars draw the confidence intervals as error bars
+     */
+    public void addDataSeries(HosmerLemeshowBootstrap bootstrap, String name, String color, String shape, boolean errorBars) {
+        addDataSeries(bootstrap.getHosmerLemeshow(),
+                errorBars ? bootstrap.getHlObservedLowerBounds() : null,
+                errorBars ? bootstrap.getHlObservedUpperBounds() : null,
+                name, color, shape);
+    }
+
+    private void addDataSeries(HosmerLemeshow hl, double[] yLowValues, double[] yHighValues, String name, String color, String shape) {
+        double pvalue = hl.getPValue();
+        String label = (pvalue < 0.0001f)
+                ? String.format("%s (p-value < 0.0001)", name)
+                : String.format("%s (p-value = %1.4f)", name, pvalue);
+
+        xPointsPerSeries.add(hl.getHlExpectedValues());
+        yPointsPerSeries.add(hl.getHlObservedValues());
+        yLowPointsPerSeries.add(yLowValues);
+        yHighPointsPerSeries.add(yHighValues);
+        colors.add(color);
+        shapes.add(shape);
+        addLegendItem(label, color, shape, null);
+    }
+
+    @Override
+    public void clearDataSeries() {
+        super.clearDataSeries();
+
+        xPointsPerSeries.clear();
+        yPointsPerSeries.clear();
+        yLowPointsPerSeries.clear();
+        yHighPointsPerSeries.clear();
+        colors.clear();
+        shapes.clear();
+    }
+
+    @Override
+    protected void writeDataSeries(SvgWriter svg) throws IOException {
+        // the first series on top, as in JFreeChart
+        for (int series = xPointsPerSeries.size() - 1; series >= 0; series--) {
+            double[] expectedValues = xPointsPerSeries.get(series);
+            double[] observedValues = yPointsPerSeries.get(series);
+            double[] yLowValues = yLowPointsPerSeries.get(series);
+            double[] yHighValues = yHighPointsPerSeries.get(series);
+            String color = colors.get(series);
+            String shape = shapes.get(series);
+            for (int i = 0; i < expectedValues.length; i++) {
+                double xValue = expectedValues[i];
+                double yValue = observedValues[i];
+                if ((xValue >= 0.0 && xValue <= 1.0) || (yValue >= 0.0 && yValue <= 1.0)) {
+                    if (yLowValues != null) {
+                        svg.errorBar(xValue, yLowValues[i], yHighValues[i], color, ERROR_BAR_LINE);
+                    }
+                    svg.marker(xValue, yValue, shape, color);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.data;
+
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.regex.Pattern;
+
+/**
+ * Observed values and predicted values stored column by column in direct
+ * (off-heap) buffers, so that datasets larger than the Java heap, and with
+ * more than 2^31 rows, can be evaluated without boxing or copying the data
+ * back to the heap.
+ *
+ * Each column is split into segments of 2^segmentShift rows, addressed by a
+ * long index. Predicted values are kept in native byte order and observed
+ * values in one byte each, 9 bytes per row in total. A segment starts small
+ * and doubles in size as rows are added, up to the segment size. The data can
+ * be sorted in place by predicted value with a parallel quicksort.
+ *
+ * The off-heap memory is released when the dataset is garbage collected.
+ *
+ * Oct 20, 2026 1:05:42 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class OffHeapDataset {
+
+    /**
+     * Rows per segment by default, 2^24, which is 144 MB per segment.
+     */
+    public static final int DEFAULT_SEGMENT_SHIFT = 24;
+
+    private static final int INITIAL_SEGMENT_CAPACITY = 1024;
+
+    /**
+     * Ranges up to this size are sorted by insertion.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /**
+     * Ranges larger than this are split into parallel tasks.
+     */
+    private static final long PARALLEL_SORT_THRESHOLD = 1 << 16;
+
+    private final int segmentShift;
+    private final int segmentMask;
+
+    private DoubleBuffer[] predictedSegments;
+    private ByteBuffer[] observedSegments;
+    private int numOfSegments;
+
+    private long size;
+    private long numberOfPositives;
+    private boolean sorted = true;
+
+    public OffHeapDataset() {
+        this(DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * @param segmentShift number of rows per segment, as a power of two, from
+     * 4 to 27
+     */
+    public OffHeapDataset(int segmentShift) {
+        if (segmentShift < 4 || segmentShift > 27) {
+            throw new IllegalArgumentException("Segment shift must be between 4 and 27.");
+        }
+
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1 << segmentShift) - 1;
+        this.predictedSegments = new DoubleBuffer[8];
+        this.observedSegments = new ByteBuffer[8];
+    }
+
+    /**
+     * Read observed values and predicted values from a file, one line at a
+     * time, with the same rules as ResourcesLoader.
+     *
+     * @param file containing a column of observed values and a column of
+     * predicted values
+     * @param delimiter a character that is used to separate data
+     * @param observedColumn the number of the column containing observed values
+     * @param predictedColumn the number of the column containing predicted
+     * values
+     * @param hasHeader true if the first line of the file is the header
+     * @return off-heap dataset
+     * @throws IOException
+     */
+    public static OffHeapDataset load(Path file, Pattern delimiter, int observedColumn, int predictedColumn, boolean hasHeader) throws IOException {
+        OffHeapDataset dataset = new OffHeapDataset();
+        int observedIndex = observedColumn - 1;
+        int predictedIndex = predictedColumn - 1;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            ResourcesLoader.forEachRow(reader, delimiter, Integer.max(observedColumn, predictedColumn), hasHeader,
+                    fields -> dataset.add(Integer.parseInt(fields[observedIndex]), Double.parseDouble(fields[predictedIndex])));
+        }
+
+        return dataset;
+    }
+
+    /**
+     * Read rows written in the binary format of
+     * {@link SyntheticDataGenerator#writeBinary(Path, long)}: the predicted
+     * value as a big-endian double followed by the observed value as a byte.
+     *
+     * @param file binary file
+     * @return off-heap dataset
+     * @throws IOException
+     */
+    public static OffHeapDataset loadBinary(Path file) throws IOException {
+        OffHeapDataset dataset = new OffHeapDataset();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() % SyntheticDataGenerator.BINARY_RECORD_SIZE != 0) {
+                throw new IOException("The size of " + file + " is not a multiple of the record size.");
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(SyntheticDataGenerator.BINARY_RECORD_SIZE * 8192);
+            while (channel.read(buffer) >= 0 || buffer.position() > 0) {
+                buffer.flip();
+                while (buffer.remaining() >= SyntheticDataGenerator.BINARY_RECORD_SIZE) {
+                    double predictedValue = buffer.getDouble();
+                    dataset.add(buffer.get(), predictedValue);
+                }
+                buffer.compact();
+            }
+        }
+
+        return dataset;
+    }
+
+    /**
+     * Add a row.
+     *
+     * @param observedValue actual outcome, 0 or 1
+     * @param predictedValue value predicted by classifier
+     */
+    public void add(int observedValue, double predictedValue) {
+        if (observedValue != 0 && observedValue != 1) {
+            throw new IllegalArgumentException("Observed value must be 0 or 1.");
+        }
+        if (Double.isNaN(predictedValue)) {
+            throw new IllegalArgumentException("Predicted value must be a number.");
+        }
+
+        int segment = (int) (size >>> segmentShift);
+        int offset = (int) (size & segmentMask);
+        if (segment == numOfSegments) {
+            addSegment();
+        } else if (offset == predictedSegments[segment].capacity()) {
+            growSegment(segment);
+        }
+
+        if (sorted && size > 0 && predictedValue < getPredictedValue(size - 1)) {
+            sorted = false;
+        }
+
+        predictedSegments[segment].put(offset, predictedValue);
+        observedSegments[segment].put(offset, (byte) observedValue);
+        size++;
+        numberOfPositives += observedValue;
+    }
+
+    private void addSegment() {
+        if (numOfSegments == predictedSegments.length) {
+            predictedSegments = Arrays.copyOf(predictedSegments, numOfSegments * 2);
+            observedSegments = Arrays.copyOf(observedSegments, numOfSegments * 2);
+        }
+
+        int capacity = Math.min(INITIAL_SEGMENT_CAPACITY, segmentMask + 1);
+        predictedSegments[numOfSegments] = ByteBuffer.allocateDirect(capacity * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        observedSegments[numOfSegments] = ByteBuffer.allocateDirect(capacity);
+        numOfSegments++;
+    }
+
+    private void growSegment(int segment) {
+        int capacity = Math.min(predictedSegments[segment].capacity() * 2, segmentMask + 1);
+
+        DoubleBuffer predictedSegment = ByteBuffer.allocateDirect(capacity * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        predictedSegment.put(predictedSegments[segment].clear());
+        predictedSegments[segment] = predictedSegment;
+
+        ByteBuffer observedSegment = ByteBuffer.allocateDirect(capacity);
+        observedSegment.put(observedSegments[segment].clear());
+        observedSegments[segment] = observedSegment;
+    }
+
+    /**
+     * Sort the rows in place by predicted value, in ascending order. Nothing
+     * is done if the rows are already sorted.
+     */
+    public void sort() {
+        if (sorted) {
+            return;
+        }
+
+        int depthLimit = 2 * (64 - Long.numberOfLeadingZeros(size));
+        ForkJoinPool.commonPool().invoke(new SortTask(0, size, depthLimit));
+        sorted = true;
+    }
+
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long getNumberOfPositives() {
+        return numberOfPositives;
+    }
+
+    public long getNumberOfNegatives() {
+        return size - numberOfPositives;
+    }
+
+    public double getPredictedValue(long index) {
+        return predictedSegments[(int) (index >>> segmentShift)].get((int) (index & segmentMask));
+    }
+
+    public int getObservedValue(long index) {
+        return observedSegments[(int) (index >>> segmentShift)].get((int) (index & segmentMask));
+    }
+
+    private void swap(long i, long j) {
+        DoubleBuffer predictedI = predictedSegments[(int) (i >>> segmentShift)];
+        DoubleBuffer predictedJ = predictedSegments[(int) (j >>> segmentShift)];
+        ByteBuffer observedI = observedSegments[(int) (i >>> segmentShift)];
+        ByteBuffer observedJ = observedSegments[(int) (j >>> segmentShift)];
+        int offsetI = (int) (i & segmentMask);
+        int offsetJ = (int) (j & segmentMask);
+
+        double predictedValue = predictedI.get(offsetI);
+        predictedI.put(offsetI, predictedJ.get(offsetJ));
+        predictedJ.put(offsetJ, predictedValue);
+
+        byte observedValue = observedI.get(offsetI);
+        observedI.put(offsetI, observedJ.get(offsetJ));
+        observedJ.put(offsetJ, observedValue);
+    }
+
+    /**
+     * Quicksort with a three-way partition, so that tied predicted values do
+     * not degrade it, falling back to heapsort past the depth limit.
+     */
+    private final class SortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long from;
+        private final long to;
+        private final int depthLimit;
+
+        private SortTask(long from, long to, int depthLimit) {
+            this.from = from;
+            this.to = to;
+            this.depthLimit = depthLimit;
+        }
+
+        @Override
+        protected void compute() {
+            sort(from, to, depthLimit);
+        }
+
+        private void sort(long from, long to, int depthLimit) {
+            while (to - from > INSERTION_SORT_THRESHOLD) {
+                if (depthLimit == 0) {
+                    heapSort(from, to);
+                    return;
+                }
+                depthLimit--;
+
+                double pivot = medianOfThree(from, from + ((to - from) >>> 1), to - 1);
+
+                // [from, lower) < pivot, [lower, upper] == pivot, (upper, to) > pivot
+                long lower = from;
+                long upper = to - 1;
+                long i = from;
+                while (i <= upper) {
+                    double value = getPredictedValue(i);
+                    if (value < pivot) {
+                        swap(lower++, i++);
+                    } else if (value > pivot) {
+                        swap(i, upper--);
+                    } else {
+                        i++;
+                    }
+                }
+
+                if (to - from > PARALLEL_SORT_THRESHOLD) {
+                    invokeAll(new SortTask(from, lower, depthLimit), new SortTask(upper + 1, to, depthLimit));
+                    return;
+                }
+
+                // recurse into the smaller side to bound the stack depth
+                if (lower - from < to - upper - 1) {
+                    sort(from, lower, depthLimit);
+                    from = upper + 1;
+                } else {
+                    sort(upper + 1, to, depthLimit);
+                    to = lower;
+                }
+            }
+
+            insertionSort(from, to);
+        }
+
+        private double medianOfThree(long a, long b, long c) {
+            double x = getPredictedValue(a);
+            double y = getPredictedValue(b);
+            double z = getPredictedValue(c);
+
+            if (x < y) {
+                return (y < z) ? y : Math.max(x, z);
+            } else {
+                return (x < z) ? x : Math.max(y, z);
+            }
+        }
+
+        private void insertionSort(long from, long to) {
+            for (long i = from + 1; i < to; i++) {
+                for (long j = i; j > from && getPredictedValue(j) < getPredictedValue(j - 1); j--) {
+                    swap(j, j - 1);
+                }
+            }
+        }
+
+        private void heapSort(long from, long to) {
+            long length = to - from;
+            for (long i = (length >>> 1) - 1; i >= 0; i--) {
+                siftDown(from, i, length);
+            }
+            for (long end = length - 1; end > 0; end--) {
+                swap(from, from + end);
+                siftDown(from, 0, end);
+            }
+        }
+
+        private void siftDown(long base, long root, long length) {
+            for (long child = 2 * root + 1; child < length; child = 2 * root + 1) {
+                if (child + 1 < length && getPredictedValue(base + child) < getPredictedValue(base + child + 1)) {
+                    child++;
+                }
+                if (getPredictedValue(base + root) >= getPredictedValue(base + child)) {
+                    return;
+                }
+                swap(base + root, base + child);
+                root = child;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.data;
+
+/**
+ * Observed value and predicted value with the slice (subgroup) the data
+ * belongs to, for example a hospital, an age band or a sex.
+ *
+ * Oct 19, 2026 4:52:19 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class SlicedObservedPredictedValue extends ObservedPredictedValue {
+
+    private final String slice;
+
+    public SlicedObservedPredictedValue(int observedValue, double predictedValue, String slice) {
+        super(observedValue, predictedValue);
+        this.slice = slice;
+    }
+
+    @Override
+    public String toString() {
+        return getPredictedValue() > 0
+                ? String.format("(%d, %f, %s)", getObservedValue(), getPredictedValue(), slice)
+                : String.format("(%d, 0, %s)", getObservedValue(), slice);
+    }
+
+    public String getSlice() {
+        return slice;
+    }
+
+}
@@ -0,0 +1,424 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.apache.commons.math3.special.Erf;
+
+/**
+ * Generator of synthetic scored data (observed outcome and predicted
+ * probability) of any size, for testing at scale.
+ *
+ * The outcomes are drawn with the given prevalence, and a latent score is
+ * drawn from N(0, 1) for the negatives and N(d, 1) for the positives, where
+ * d = sqrt(2) * invPhi(AUC) so that the scores have the target area under the
+ * ROC curve. The predicted probability is the calibrated risk of the binormal
+ * model, logit(p) = logit(prevalence) + d * score - d^2 / 2, to which a
+ * miscalibration (calibration intercept and slope) can be applied. The
+ * probabilities can be quantized to a number of levels to create ties, and
+ * the data can be split into subgroups whose calibration intercepts are
+ * shifted from each other.
+ *
+ * The data is generated in blocks of rows, each with its own random stream
+ * derived from the seed and the block index, so the blocks are generated in
+ * parallel and the data only depends on the seed and the settings, never on
+ * the number of threads or the output.
+ *
+ * Oct 20, 2026 3:06:51 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class SyntheticDataGenerator {
+
+    /**
+     * Number of bytes of a row of the binary format: the predicted value as a
+     * big-endian double followed by the observed value as a byte, as in the
+     * runs of the external ROC evaluator.
+     */
+    public static final int BINARY_RECORD_SIZE = Double.BYTES + 1;
+
+    private static final int BLOCK_SIZE = 1 << 16;
+
+    private final long seed;
+    private final double prevalence;
+    private final double areaUnderRocCurve;
+
+    private final double baseLogit;
+    private final double separation;
+
+    private double calibrationIntercept;
+    private double calibrationSlope = 1.0;
+    private int quantizationLevels;
+    private int numberOfSubgroups = 1;
+    private double subgroupCalibrationShift;
+
+    /**
+     * @param seed seed of the random streams
+     * @param prevalence fraction of positive outcomes, between 0 and 1
+     * (exclusive)
+     * @param areaUnderRocCurve target area under the ROC curve of the
+     * predictions, between 0 and 1 (exclusive)
+     */
+    public SyntheticDataGenerator(long seed, double prevalence, double areaUnderRocCurve) {
+        if (!(prevalence > 0 && prevalence < 1)) {
+            throw new IllegalArgumentException("Prevalence must be between 0 and 1 (exclusive).");
+        }
+        if (!(areaUnderRocCurve > 0 && areaUnderRocCurve < 1)) {
+            throw new IllegalArgumentException("Area under ROC curve must be between 0 and 1 (exclusive).");
+        }
+
+        this.seed = seed;
+        this.prevalence = prevalence;
+        this.areaUnderRocCurve = areaUnderRocCurve;
+        this.baseLogit = Math.log(prevalence / (1 - prevalence));
+        this.separation = 2 * Erf.erfInv(2 * areaUnderRocCurve - 1);
+    }
+
+    /**
+     * Miscalibrate the predictions: logit(p') = intercept + slope * logit(p).
+     * The predictions are calibrated with an intercept of 0 and a slope of 1.
+     *
+     * @param intercept calibration intercept (calibration-in-the-large)
+     * @param slope calibration slope, greater than zero
+     */
+    public void setMiscalibration(double intercept, double slope) {
+        if (!Double.isFinite(intercept)) {
+            throw new IllegalArgumentException("Calibration intercept must be a finite number.");
+        }
+        if (!(slope > 0) || Double.isInfinite(slope)) {
+            throw new IllegalArgumentException("Calibration slope must be greater than zero.");
+        }
+
+        this.calibrationIntercept = intercept;
+        this.calibrationSlope = slope;
+    }
+
+    /**
+     * Round the predictions to the nearest multiple of 1 / levels, so that
+     * there are at most levels + 1 distinct predicted values.
+     *
+     * @param levels number of levels, or 0 not to quantize
+     */
+    public void setQuantizationLevels(int levels) {
+        if (levels < 0) {
+            throw new IllegalArgumentException("Number of quantization levels cannot be negative.");
+        }
+
+        this.quantizationLevels = levels;
+    }
+
+    /**
+     * Split the data evenly into subgroups at random. The calibration
+     * intercept of the kth subgroup (starting from 0) is shifted by k times
+     * the calibration shift.
+     *
+     * @param numberOfSubgroups number of subgroups, 1 for no subgroups
+     * @param calibrationShift shift of the calibration intercept from one
+     * subgroup to the next
+     */
+    public void setSubgroups(int numberOfSubgroups, double calibrationShift) {
+        if (numberOfSubgroups < 1) {
+            throw new IllegalArgumentException("Number of subgroups must be at least 1.");
+        }
+        if (!Double.isFinite(calibrationShift)) {
+            throw new IllegalArgumentException("Calibration shift must be a finite number.");
+        }
+
+        this.numberOfSubgroups = numberOfSubgroups;
+        this.subgroupCalibrationShift = calibrationShift;
+    }
+
+    /**
+     * Name of a subgroup, as written in the subgroup column.
+     *
+     * @param subgroup index of the subgroup, starting from 0
+     * @return subgroup name
+     */
+    public static String getSubgroupName(int subgroup) {
+        return "subgroup-" + (subgroup + 1);
+    }
+
+    /**
+     * Generate the data in memory.
+     *
+     * @param size number of rows
+     * @return observed values and predicted values
+     */
+    public List<ObservedPredictedValue> generate(int size) {
+        List<ObservedPredictedValue> data = new ArrayList<>(size);
+        for (Block block : generateBlocks(size)) {
+            for (int i = 0; i < block.size; i++) {
+                data.add(new ObservedPredictedValue(block.observedValues[i], block.predictedValues[i]));
+            }
+        }
+
+        return Collections.unmodifiableList(data);
+    }
+
+    /**
+     * Generate the data in memory with the subgroup of each row as its slice.
+     *
+     * @param size number of rows
+     * @return observed values, predicted values and subgroups
+     */
+    public List<SlicedObservedPredictedValue> generateSliced(int size) {
+        String[] names = new String[numberOfSubgroups];
+        for (int i = 0; i < numberOfSubgroups; i++) {
+            names[i] = getSubgroupName(i);
+        }
+
+        List<SlicedObservedPredictedValue> data = new ArrayList<>(size);
+        for (Block block : generateBlocks(size)) {
+            for (int i = 0; i < block.size; i++) {
+                data.add(new SlicedObservedPredictedValue(block.observedValues[i], block.predictedValues[i], names[block.subgroups[i]]));
+            }
+        }
+
+        return Collections.unmodifiableList(data);
+    }
+
+    /**
+     * Generate the data into off-heap memory.
+     *
+     * @param size number of rows
+     * @return off-heap dataset
+     */
+    public OffHeapDataset generateOffHeap(long size) {
+        OffHeapDataset dataset = new OffHeapDataset();
+        stream(size, Function.identity(), block -> {
+            for (int i = 0; i < block.size; i++) {
+                dataset.add(block.observedValues[i], block.predictedValues[i]);
+            }
+        });
+
+        return dataset;
+    }
+
+    /**
+     * Write the data to a comma-separated file with a header: the observed
+     * value, the predicted value and, when there are subgroups, the subgroup.
+     * The file can be read with ResourcesLoader.
+     *
+     * @param file file to write to
+     * @param size number of rows
+     * @throws IOException
+     */
+    public void writeCsv(Path file, long size) throws IOException {
+        boolean hasSubgroups = numberOfSubgroups > 1;
+        String[] names = new String[numberOfSubgroups];
+        for (int i = 0; i < numberOfSubgroups; i++) {
+            names[i] = "," + getSubgroupName(i);
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            String header = hasSubgroups ? "observed,predicted,subgroup\n" : "observed,predicted\n";
+            writeFully(channel, ByteBuffer.wrap(header.getBytes(StandardCharsets.US_ASCII)));
+
+            stream(size, block -> {
+                StringBuilder builder = new StringBuilder(block.size * 24);
+                for (int i = 0; i < block.size; i++) {
+                    builder.append(block.observedValues[i]).append(',').append(block.predictedValues[i]);
+                    if (hasSubgroups) {
+                        builder.append(names[block.subgroups[i]]);
+                    }
+                    builder.append('\n');
+                }
+
+                return ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.US_ASCII));
+            }, buffer -> writeFully(channel, buffer));
+        }
+    }
+
+    /**
+     * Write the data in the binary format, {@link #BINARY_RECORD_SIZE} bytes
+     * per row without a header. Subgroups are not written. The file can be
+     * read with {@link OffHeapDataset#loadBinary(Path)}.
+     *
+     * @param file file to write to
+     * @param size number of rows
+     * @throws IOException
+     */
+    public void writeBinary(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            stream(size, block -> {
+                ByteBuffer buffer = ByteBuffer.allocate(block.size * BINARY_RECORD_SIZE);
+                for (int i = 0; i < block.size; i++) {
+                    buffer.putDouble(block.predictedValues[i]);
+                    buffer.put((byte) block.observedValues[i]);
+                }
+
+                return buffer.flip();
+            }, buffer -> writeFully(channel, buffer));
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private Block[] generateBlocks(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative.");
+        }
+
+        int numOfBlocks = (int) ((size + (long) BLOCK_SIZE - 1) / BLOCK_SIZE);
+        Block[] blocks = new Block[numOfBlocks];
+        IntStream.range(0, numOfBlocks).parallel()
+                .forEach(i -> blocks[i] = generateBlock(i, Math.min(BLOCK_SIZE, size - i * BLOCK_SIZE)));
+
+        return blocks;
+    }
+
+    /**
+     * Generate and transform the blocks in parallel, and hand them to the
+     * consumer in order. Only a few blocks per thread are in flight at a time,
+     * so any size can be streamed in bounded memory.
+     */
+    private <T, E extends Exception> void stream(long size, Function<Block, T> transform, BlockConsumer<T, E> consumer) throws E {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative.");
+        }
+
+        long numOfBlocks = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        int window = 2 * Runtime.getRuntime().availableProcessors();
+        Deque<CompletableFuture<T>> inFlight = new ArrayDeque<>(window);
+        long next = 0;
+        while (next < numOfBlocks || !inFlight.isEmpty()) {
+            while (next < numOfBlocks && inFlight.size() < window) {
+                long block = next++;
+                int blockSize = (int) Math.min(BLOCK_SIZE, size - block * BLOCK_SIZE);
+                inFlight.add(CompletableFuture.supplyAsync(() -> transform.apply(generateBlock(block, blockSize))));
+            }
+
+            T result;
+            try {
+                result = inFlight.poll().join();
+            } catch (CompletionException exception) {
+                inFlight.forEach(future -> future.cancel(false));
+                throw exception;
+            }
+            consumer.accept(result);
+        }
+    }
+
+    private Block generateBlock(long blockIndex, int size) {
+        SplittableRandom random = new SplittableRandom(mix(seed + blockIndex * 0x9E3779B97F4A7C15L));
+        double squaredSeparation = separation * separation / 2;
+
+        Block block = new Block(size);
+        for (int i = 0; i < size; i++) {
+            int observedValue = (random.nextDouble() < prevalence) ? 1 : 0;
+            int subgroup = (numberOfSubgroups > 1) ? random.nextInt(numberOfSubgroups) : 0;
+            double score = nextGaussian(random) + separation * observedValue;
+
+            double logit = baseLogit + separation * score - squaredSeparation;
+            logit = calibrationIntercept + subgroup * subgroupCalibrationShift + calibrationSlope * logit;
+            double predictedValue = 1.0 / (1.0 + Math.exp(-logit));
+            if (quantizationLevels > 0) {
+                predictedValue = Math.round(predictedValue * quantizationLevels) / (double) quantizationLevels;
+            }
+
+            block.observedValues[i] = observedValue;
+            block.predictedValues[i] = predictedValue;
+            block.subgroups[i] = subgroup;
+        }
+
+        return block;
+    }
+
+    /**
+     * Standard normal variate by the polar method.
+     */
+    private static double nextGaussian(SplittableRandom random) {
+        double x;
+        double y;
+        double s;
+        do {
+            x = 2 * random.nextDouble() - 1;
+            y = 2 * random.nextDouble() - 1;
+            s = x * x + y * y;
+        } while (s >= 1 || s == 0);
+
+        return x * Math.sqrt(-2 * Math.log(s) / s);
+    }
+
+    /**
+     * SplitMix64 finalizer, so that the seeds of neighboring blocks are not
+     * correlated.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+
+        return value ^ (value >>> 31);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public double getPrevalence() {
+        return prevalence;
+    }
+
+    public double getAreaUnderRocCurve() {
+        return areaUnderRocCurve;
+    }
+
+    @FunctionalInterface
+    private interface BlockConsumer<T, E extends Exception> {
+
+        void accept(T value) throws E;
+
+    }
+
+    private static final class Block {
+
+        private final int size;
+        private final int[] observedValues;
+        private final double[] predictedValues;
+        private final int[] subgroups;
+
+        private Block(int size) {
+            this.size = size;
+            this.observedValues = new int[size];
+            this.predictedValues = new double[size];
+            this.subgroups = new int[size];
+        }
+
+    }
+
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.evaluation;
+
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshow;
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshowDecileGroup;
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshowRiskGroup;
+import edu.pitt.dbmi.lib.math.classification.calibration.TalliedHosmerLemeshow;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.roc.ConfusionMatrix;
+import edu.pitt.dbmi.lib.math.classification.roc.ROC;
+import edu.pitt.dbmi.lib.math.classification.roc.ROCCurve;
+import edu.pitt.dbmi.lib.math.classification.utils.CompensatedSum;
+import edu.pitt.dbmi.lib.math.classification.utils.PairedArrays;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Evaluation of a classifier's predictions that sorts the data once and then,
+ * in a single sweep from the highest prediction to the lowest, computes the
+ * empirical ROC curve, the Hosmer-Lemeshow decile and risk groups, the Brier
+ * score with its Murphy decomposition, the log-loss and the
+ * calibration-in-the-large.
+ *
+ * The ROC curve and the Hosmer-Lemeshow groups are the same as those of
+ * {@link ROCCurve}, {@link HosmerLemeshowDecileGroup} and
+ * {@link HosmerLemeshowRiskGroup}.
+ *
+ * Oct 19, 2026 1:32:08 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class ModelEvaluation {
+
+    /**
+     * Predictions are clipped to [EPSILON, 1 - EPSILON] when computing the
+     * log-loss.
+     */
+    public static final double EPSILON = 1e-15;
+
+    private String summary;
+
+    private int numberOfPredictions;
+
+    private int numberOfPositives;
+
+    private ROC roc;
+
+    private HosmerLemeshow decileGroups;
+
+    private HosmerLemeshow riskGroups;
+
+    /**
+     * Mean squared difference between the predicted value and the outcome.
+     */
+    private double brierScore;
+
+    /**
+     * Murphy decomposition of the Brier score over the distinct predicted
+     * values: brier = reliability - resolution + uncertainty.
+     */
+    private double reliability;
+
+    private double resolution;
+
+    private double uncertainty;
+
+    /**
+     * Mean negative log-likelihood of the outcomes.
+     */
+    private double logLoss;
+
+    private double meanPredictedValue;
+
+    /**
+     * Observed prevalence minus the mean predicted value.
+     */
+    private double calibrationInTheLarge;
+
+    public ModelEvaluation(List<ObservedPredictedValue> observedPredictedValues) {
+        this(observedPredictedValues, HosmerLemeshow.NUM_OF_INTERVAL);
+    }
+
+    public ModelEvaluation(List<ObservedPredictedValue> observedPredictedValues, int numberOfGroups) {
+        if (observedPredictedValues == null || observedPredictedValues.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "A list of data containing both observed value and predicted value is required.");
+        }
+        if (numberOfGroups < 1) {
+            throw new IllegalArgumentException("Number of groups must be at least 1.");
+        }
+
+        numberOfPredictions = observedPredictedValues.size();
+
+        // copy data to primitive arrays
+        int[] observedValues = new int[numberOfPredictions];
+        double[] predictedValues = new double[numberOfPredictions];
+        int index = 0;
+        for (ObservedPredictedValue obsPredVal : observedPredictedValues) {
+            observedValues[index] = checkObservedValue(obsPredVal.getObservedValue());
+            predictedValues[index] = obsPredVal.getPredictedValue();
+            numberOfPositives += observedValues[index];
+            index++;
+        }
+
+        // sort once in ascending order
+        PairedArrays.sort(predictedValues, observedValues);
+
+        evaluate(observedValues, predictedValues, numberOfGroups);
+    }
+
+    /**
+     * Evaluate predictions that are already sorted. The arrays are kept by
+     * the Hosmer-Lemeshow results.
+     *
+     * @param observedValues observed values, in ascending order of the
+     * predicted values
+     * @param predictedValues predicted values, in ascending order
+     * @param numberOfGroups number of Hosmer-Lemeshow groups
+     */
+    public ModelEvaluation(int[] observedValues, double[] predictedValues, int numberOfGroups) {
+        if (observedValues == null || predictedValues == null || predictedValues.length == 0) {
+            throw new IllegalArgumentException("Sorted observed values and predicted values are required.");
+        }
+        if (observedValues.length != predictedValues.length) {
+            throw new IllegalArgumentException("Observed values and predicted values must have the same length.");
+        }
+        if (numberOfGroups < 1) {
+            throw new IllegalArgumentException("Number of groups must be at least 1.");
+        }
+
+        numberOfPredictions = predictedValues.length;
+        for (int i = 0; i < numberOfPredictions; i++) {
+            if (i > 0 && predictedValues[i] < predictedValues[i - 1]) {
+                throw new IllegalArgumentException("Predicted values must be sorted in ascending order.");
+            }
+            numberOfPositives += checkObservedValue(observedValues[i]);
+        }
+
+        evaluate(observedValues, predictedValues, numberOfGroups);
+    }
+
+    /**
+     * The positives and negatives are counted from the observed values, so
+     * any value other than 0 or 1 would miscount them.
+     */
+    private static int checkObservedValue(int observedValue) {
+        if (observedValue != 0 && observedValue != 1) {
+            throw new IllegalArgumentException("Observed value must be 0 or 1.");
+        }
+
+        return observedValue;
+    }
+
+    private void evaluate(int[] observedValues, double[] predictedValues, int numberOfGroups) {
+        int size = numberOfPredictions;
+        int numberOfNegatives = size - numberOfPositives;
+        double prevalence = ((double) numberOfPositives) / size;
+
+        // ROC curve
+        List<ConfusionMatrix> confusionMatrixList = new ArrayList<>();
+        double[] positivePredictedValues = new double[numberOfPositives];
+        double[] negativePredictedValues = new double[numberOfNegatives];
+        int falsePositive = 0;
+        int truePositive = 0;
+        int trueNegative = numberOfNegatives;
+        int falseNegative = numberOfPositives;
+        double threshold = -1.0;
+
+        // decile groups: upper threshold (inclusive) of each group
+        double[] decileThresholds = new double[numberOfGroups];
+        int[] upperIndices = HosmerLemeshowDecileGroup.computeUpperIndices(size, numberOfGroups);
+        for (int i = 0; i < numberOfGroups; i++) {
+            decileThresholds[i] = predictedValues[upperIndices[i]];
+        }
+        int[] decileDataCounts = new int[numberOfGroups];
+        int[] decilePositiveCounts = new int[numberOfGroups];
+        double[] decilePredictedSums = new double[numberOfGroups];
+        double[] decilePredictedCompensations = new double[numberOfGroups];
+        int decileIndex = numberOfGroups - 1;
+
+        // risk groups: lower threshold (inclusive) of all but the first group
+        double[] riskThresholds = HosmerLemeshowRiskGroup.computeThresholds(numberOfGroups);
+        int[] riskDataCounts = new int[numberOfGroups];
+        int[] riskPositiveCounts = new int[numberOfGroups];
+        double[] riskPredictedSums = new double[numberOfGroups];
+        double[] riskPredictedCompensations = new double[numberOfGroups];
+        int riskIndex = numberOfGroups - 1;
+
+        // Brier score and its decomposition over runs of equal predictions
+        CompensatedSum brierSum = new CompensatedSum();
+        CompensatedSum reliabilitySum = new CompensatedSum();
+        CompensatedSum resolutionSum = new CompensatedSum();
+        int runDataCount = 0;
+        int runPositiveCount = 0;
+
+        CompensatedSum logLossSum = new CompensatedSum();
+        CompensatedSum predictedSum = new CompensatedSum();
+
+        for (int i = size - 1; i >= 0; i--) {
+            double predictedValue = predictedValues[i];
+            int observedValue = observedValues[i];
+
+            if (predictedValue != threshold) {
+                confusionMatrixList.add(
+                        new ConfusionMatrix(truePositive, trueNegative, falsePositive, falseNegative, threshold));
+
+                if (runDataCount > 0) {
+                    double observedRate = ((double) runPositiveCount) / runDataCount;
+                    reliabilitySum.add(runDataCount * Math.pow(threshold - observedRate, 2));
+                    resolutionSum.add(runDataCount * Math.pow(observedRate - prevalence, 2));
+                }
+                runDataCount = 0;
+                runPositiveCount = 0;
+
+                threshold = predictedValue;
+            }
+
+            if (observedValue == 1) {
+                truePositive++;
+                falseNegative--;
+                positivePredictedValues[truePositive - 1] = predictedValue;
+            } else {
+                falsePositive++;
+                trueNegative--;
+                negativePredictedValues[falsePositive - 1] = predictedValue;
+            }
+
+            while (decileIndex > 0 && predictedValue <= decileThresholds[decileIndex - 1]) {
+                decileIndex--;
+            }
+            decileDataCounts[decileIndex]++;
+            decilePositiveCounts[decileIndex] += observedValue;
+            CompensatedSum.add(decilePredictedSums, decilePredictedCompensations, decileIndex, predictedValue);
+
+            while (riskIndex > 0 && predictedValue < riskThresholds[riskIndex - 1]) {
+                riskIndex--;
+            }
+            riskDataCounts[riskIndex]++;
+            riskPositiveCounts[riskIndex] += observedValue;
+            CompensatedSum.add(riskPredictedSums, riskPredictedCompensations, riskIndex, predictedValue);
+
+            runDataCount++;
+            runPositiveCount += observedValue;
+
+            brierSum.add(Math.pow(predictedValue - observedValue, 2));
+
+            double clippedValue = Math.min(Math.max(predictedValue, EPSILON), 1 - EPSILON);
+            logLossSum.add((observedValue == 1) ? -Math.log(clippedValue) : -Math.log(1 - clippedValue));
+
+            predictedSum.add(predictedValue);
+        }
+        confusionMatrixList.add(
+                new ConfusionMatrix(truePositive, trueNegative, falsePositive, falseNegative, threshold));
+
+        double observedRate = ((double) runPositiveCount) / runDataCount;
+        reliabilitySum.add(runDataCount * Math.pow(threshold - observedRate, 2));
+        resolutionSum.add(runDataCount * Math.pow(observedRate - prevalence, 2));
+
+        for (int i = 0; i < numberOfGroups; i++) {
+            decilePredictedSums[i] += decilePredictedCompensations[i];
+            riskPredictedSums[i] += riskPredictedCompensations[i];
+        }
+
+        roc = new ROCCurve(
+                confusionMatrixList.toArray(ConfusionMatrix[]::new),
+                positivePredictedValues, negativePredictedValues);
+        decileGroups = new TalliedHosmerLemeshow(decileDataCounts, decilePositiveCounts, decilePredictedSums, observedValues, predictedValues);
+        riskGroups = new TalliedHosmerLemeshow(riskDataCounts, riskPositiveCounts, riskPredictedSums, observedValues, predictedValues);
+
+        brierScore = brierSum.getSum() / size;
+        reliability = reliabilitySum.getSum() / size;
+        resolution = resolutionSum.getSum() / size;
+        uncertainty = prevalence * (1 - prevalence);
+        logLoss = logLossSum.getSum() / size;
+        meanPredictedValue = predictedSum.getSum() / size;
+        calibrationInTheLarge = prevalence - meanPredictedValue;
+    }
+
+    public String getSummary() {
+        if (summary == null) {
+            StringBuilder dataBuilder = new StringBuilder("========================================================================\n");
+            dataBuilder.append(String.format("Number of Predictions: %d\n", numberOfPredictions));
+            dataBuilder.append(String.format("Number of Positives: %d\n", numberOfPositives));
+            dataBuilder.append(String.format("Area Under ROC Curve: %f\n", roc.getAreaUnderRocCurve()));
+            dataBuilder.append(String.format("Hosmer-Lemeshow P-Value (Decile Groups): %f\n", decileGroups.getPValue()));
+            dataBuilder.append(String.format("Hosmer-Lemeshow P-Value (Risk Groups): %f\n", riskGroups.getPValue()));
+            dataBuilder.append("\n");
+            dataBuilder.append(String.format("Brier Score: %f\n", brierScore));
+            dataBuilder.append(String.format("    Reliability: %f\n", reliability));
+            dataBuilder.append(String.format("    Resolution: %f\n", resolution));
+            dataBuilder.append(String.format("    Uncertainty: %f\n", uncertainty));
+            dataBuilder.append(String.format("Log-Loss: %f\n", logLoss));
+            dataBuilder.append(String.format("Mean Predicted Value: %f\n", meanPredictedValue));
+            dataBuilder.append(String.format("Prevalence: %f\n", getPrevalence()));
+            dataBuilder.append(String.format("Calibration-in-the-Large: %f\n", calibrationInTheLarge));
+            dataBuilder.append("========================================================================");
+
+            summary = dataBuilder.toString();
+        }
+
+        return summary;
+    }
+
+    @Override
+    public String toString() {
+        return getSummary();
+    }
+
+    public int getNumberOfPredictions() {
+        return numberOfPredictions;
+    }
+
+    public int getNumberOfPositives() {
+        return numberOfPositives;
+    }
+
+    public double getPrevalence() {
+        return ((double) numberOfPositives) / numberOfPredictions;
+    }
+
+    public ROC getROC() {
+        return roc;
+    }
+
+    public HosmerLemeshow getDecileGroups() {
+        return decileGroups;
+    }
+
+    public HosmerLemeshow getRiskGroups() {
+        return riskGroups;
+    }
+
+    public double getBrierScore() {
+        return brierScore;
+    }
+
+    public double getReliability() {
+        return reliability;
+    }
+
+    public double getResolution() {
+        return resolution;
+    }
+
+    public double getUncertainty() {
+        return uncertainty;
+    }
+
+    public double getLogLoss() {
+        return logLoss;
+    }
+
+    public double getMeanPredictedValue() {
+        return meanPredictedValue;
+    }
+
+    public double getCalibrationInTheLarge() {
+        return calibrationInTheLarge;
+    }
+
+}
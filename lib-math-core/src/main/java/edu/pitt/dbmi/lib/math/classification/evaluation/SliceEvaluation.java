@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.evaluation;
+
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshow;
+import edu.pitt.dbmi.lib.math.classification.data.SlicedObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.roc.stat.ConfidenceInterval;
+import edu.pitt.dbmi.lib.math.classification.roc.stat.HanleyConfidenceInterval;
+import edu.pitt.dbmi.lib.math.classification.utils.PairedArrays;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+import org.apache.commons.math3.distribution.ChiSquaredDistribution;
+
+/**
+ * Evaluation of a classifier's predictions within each slice (subgroup) of the
+ * data, such as a hospital, an age band or a sex, and over all of the data.
+ *
+ * The data is sorted once. The sorted rows are then scattered, in order, into
+ * one block per slice, so every slice is already sorted, and the slices are
+ * evaluated in parallel with {@link ModelEvaluation}. The whole evaluation
+ * takes O(n log n + n).
+ *
+ * The slices are compared with a chi-square test of homogeneity of the areas
+ * under the ROC curve, using the Hanley-McNeil standard errors.
+ *
+ * Oct 19, 2026 5:04:46 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class SliceEvaluation {
+
+    private String summary;
+
+    /**
+     * Slice names, in ascending order.
+     */
+    private final String[] slices;
+
+    private final ModelEvaluation[] sliceEvaluations;
+
+    private final ModelEvaluation overallEvaluation;
+
+    private double aucHeterogeneity;
+
+    private int aucHeterogeneityDegreesOfFreedom;
+
+    private double aucHeterogeneityPValue;
+
+    public SliceEvaluation(List<SlicedObservedPredictedValue> slicedObservedPredictedValues) {
+        this(slicedObservedPredictedValues, HosmerLemeshow.NUM_OF_INTERVAL);
+    }
+
+    public SliceEvaluation(List<SlicedObservedPredictedValue> slicedObservedPredictedValues, int numberOfGroups) {
+        if (slicedObservedPredictedValues == null || slicedObservedPredictedValues.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "A list of data containing observed value, predicted value and slice is required.");
+        }
+        if (numberOfGroups < 1) {
+            throw new IllegalArgumentException("Number of groups must be at least 1.");
+        }
+
+        // number the slices in the order of their names
+        Map<String, Integer> sliceIndices = new TreeMap<>();
+        for (SlicedObservedPredictedValue obsPredVal : slicedObservedPredictedValues) {
+            sliceIndices.putIfAbsent(obsPredVal.getSlice(), 0);
+        }
+        slices = sliceIndices.keySet().toArray(String[]::new);
+        for (int i = 0; i < slices.length; i++) {
+            sliceIndices.put(slices[i], i);
+        }
+
+        // the observed value and the slice are sorted together, packed in one int
+        int size = slicedObservedPredictedValues.size();
+        int[] packedValues = new int[size];
+        double[] predictedValues = new double[size];
+        int index = 0;
+        for (SlicedObservedPredictedValue obsPredVal : slicedObservedPredictedValues) {
+            int observedValue = obsPredVal.getObservedValue();
+            if (observedValue != 0 && observedValue != 1) {
+                throw new IllegalArgumentException("Observed value must be 0 or 1.");
+            }
+
+            packedValues[index] = (sliceIndices.get(obsPredVal.getSlice()) << 1) | observedValue;
+            predictedValues[index] = obsPredVal.getPredictedValue();
+            index++;
+        }
+
+        // one global sort
+        PairedArrays.sort(predictedValues, packedValues);
+
+        // scatter the sorted rows into one block per slice
+        int numOfSlices = slices.length;
+        int[] sliceSizes = new int[numOfSlices];
+        for (int packedValue : packedValues) {
+            sliceSizes[packedValue >>> 1]++;
+        }
+        int[][] sliceObservedValues = new int[numOfSlices][];
+        double[][] slicePredictedValues = new double[numOfSlices][];
+        for (int i = 0; i < numOfSlices; i++) {
+            sliceObservedValues[i] = new int[sliceSizes[i]];
+            slicePredictedValues[i] = new double[sliceSizes[i]];
+        }
+        int[] sliceCounts = new int[numOfSlices];
+        int[] observedValues = new int[size];
+        for (int i = 0; i < size; i++) {
+            int slice = packedValues[i] >>> 1;
+            int observedValue = packedValues[i] & 1;
+            observedValues[i] = observedValue;
+
+            int position = sliceCounts[slice]++;
+            sliceObservedValues[slice][position] = observedValue;
+            slicePredictedValues[slice][position] = predictedValues[i];
+        }
+
+        // the overall evaluation is computed along with the slices
+        ModelEvaluation[] evaluations = IntStream.rangeClosed(0, numOfSlices)
+                .parallel()
+                .mapToObj(i -> (i == numOfSlices)
+                ? new ModelEvaluation(observedValues, predictedValues, numberOfGroups)
+                : new ModelEvaluation(sliceObservedValues[i], slicePredictedValues[i], numberOfGroups))
+                .toArray(ModelEvaluation[]::new);
+        overallEvaluation = evaluations[numOfSlices];
+        sliceEvaluations = new ModelEvaluation[numOfSlices];
+        System.arraycopy(evaluations, 0, sliceEvaluations, 0, numOfSlices);
+
+        compareAreaUnderRocCurves();
+    }
+
+    /**
+     * Cochran's Q test of the areas under the ROC curve of the slices. Slices
+     * without both positive and negative outcomes are left out.
+     */
+    private void compareAreaUnderRocCurves() {
+        int numOfSlices = slices.length;
+        double[] areas = new double[numOfSlices];
+        double[] weights = new double[numOfSlices];
+        double weightSum = 0;
+        double weightedAreaSum = 0;
+        int numOfComparable = 0;
+        for (int i = 0; i < numOfSlices; i++) {
+            ModelEvaluation evaluation = sliceEvaluations[i];
+            if (evaluation.getNumberOfPositives() == 0 || evaluation.getNumberOfPositives() == evaluation.getNumberOfPredictions()) {
+                continue;
+            }
+
+            double standardError = new HanleyConfidenceInterval(evaluation.getROC()).getStandardError();
+            if (standardError > 0) {
+                areas[i] = evaluation.getROC().getAreaUnderRocCurve();
+                weights[i] = 1 / (standardError * standardError);
+                weightSum += weights[i];
+                weightedAreaSum += weights[i] * areas[i];
+                numOfComparable++;
+            }
+        }
+
+        aucHeterogeneityDegreesOfFreedom = numOfComparable - 1;
+        if (aucHeterogeneityDegreesOfFreedom > 0) {
+            double pooledArea = weightedAreaSum / weightSum;
+            aucHeterogeneity = 0;
+            for (int i = 0; i < numOfSlices; i++) {
+                aucHeterogeneity += weights[i] * Math.pow(areas[i] - pooledArea, 2);
+            }
+            aucHeterogeneityPValue = 1.0 - new ChiSquaredDistribution(aucHeterogeneityDegreesOfFreedom).cumulativeProbability(aucHeterogeneity);
+        } else {
+            aucHeterogeneity = 0;
+            aucHeterogeneityPValue = -1.0;
+        }
+    }
+
+    public String getSummary() {
+        if (summary == null) {
+            StringBuilder dataBuilder = new StringBuilder("============================================================================================\n");
+            dataBuilder.append(String.format("%-16s %-8s %-8s %-8s %-24s %-8s %-8s %-8s\n",
+                    "Slice", "N", "Pos", "Prev", "AUC (95% CI)", "HL p", "ECE", "Brier"));
+            dataBuilder.append("============================================================================================\n");
+            for (int i = 0; i < slices.length; i++) {
+                appendRow(dataBuilder, slices[i], sliceEvaluations[i]);
+            }
+            dataBuilder.append("--------------------------------------------------------------------------------------------\n");
+            appendRow(dataBuilder, "Overall", overallEvaluation);
+            dataBuilder.append("\n");
+            if (aucHeterogeneityDegreesOfFreedom > 0) {
+                dataBuilder.append(String.format("AUC Heterogeneity Chi2(%d): %1.2f\n", aucHeterogeneityDegreesOfFreedom, aucHeterogeneity));
+                dataBuilder.append(String.format("P-Value: %f\n", aucHeterogeneityPValue));
+            } else {
+                dataBuilder.append("AUC Heterogeneity: fewer than two comparable slices\n");
+            }
+            dataBuilder.append("============================================================================================");
+
+            summary = dataBuilder.toString();
+        }
+
+        return summary;
+    }
+
+    private static void appendRow(StringBuilder dataBuilder, String name, ModelEvaluation evaluation) {
+        double auc = evaluation.getROC().getAreaUnderRocCurve();
+        String aucText = String.format("%1.4f", auc);
+        if (evaluation.getNumberOfPositives() > 0 && evaluation.getNumberOfPositives() < evaluation.getNumberOfPredictions()) {
+            ConfidenceInterval ci = new HanleyConfidenceInterval(evaluation.getROC());
+            aucText = String.format("%1.4f (%1.4f, %1.4f)", auc, ci.getLowerConfidenceInterval(), ci.getUpperConfidenceInterval());
+        }
+
+        dataBuilder.append(String.format("%-16s %-8d %-8d %-8.4f %-24s %-8.4f %-8.4f %-8.4f\n",
+                name,
+                evaluation.getNumberOfPredictions(),
+                evaluation.getNumberOfPositives(),
+                evaluation.getPrevalence(),
+                aucText,
+                evaluation.getDecileGroups().getPValue(),
+                evaluation.getDecileGroups().getExpectedCalibrationError(),
+                evaluation.getBrierScore()));
+    }
+
+    @Override
+    public String toString() {
+        return getSummary();
+    }
+
+    /**
+     * Get the names of the slices, in ascending order.
+     *
+     * @return slice names
+     */
+    public String[] getSlices() {
+        return slices;
+    }
+
+    /**
+     * Get the evaluation of a slice.
+     *
+     * @param slice name of the slice
+     * @return evaluation of the slice, or null if there is no such slice
+     */
+    public ModelEvaluation getSliceEvaluation(String slice) {
+        int index = Arrays.binarySearch(slices, slice);
+
+        return (index < 0) ? null : sliceEvaluations[index];
+    }
+
+    /**
+     * Get the evaluation of each slice, in the same order as the slice names.
+     *
+     * @return evaluations of the slices
+     */
+    public ModelEvaluation[] getSliceEvaluations() {
+        return sliceEvaluations;
+    }
+
+    public ModelEvaluation getOverallEvaluation() {
+        return overallEvaluation;
+    }
+
+    public double getAucHeterogeneity() {
+        return aucHeterogeneity;
+    }
+
+    public int getAucHeterogeneityDegreesOfFreedom() {
+        return aucHeterogeneityDegreesOfFreedom;
+    }
+
+    public double getAucHeterogeneityPValue() {
+        return aucHeterogeneityPValue;
+    }
+
+}
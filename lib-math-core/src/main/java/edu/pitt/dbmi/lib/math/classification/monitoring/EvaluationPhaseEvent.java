@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of one phase of an evaluation, for example the sort or
+ * the threshold sweep of a ROC curve.
+ *
+ * Oct 20, 2026 3:54:40 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+@Name("edu.pitt.dbmi.lib.math.EvaluationPhase")
+@Label("Evaluation Phase")
+@Category({"lib-math", "Evaluation"})
+@Description("One phase of computing a ROC curve, a confidence interval or Hosmer-Lemeshow statistics")
+public class EvaluationPhaseEvent extends Event {
+
+    @Label("Component")
+    public String component;
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Rows")
+    public long rows;
+
+}
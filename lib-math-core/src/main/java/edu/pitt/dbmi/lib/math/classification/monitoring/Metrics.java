@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.monitoring;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of the counters and histograms recorded by the library. Recording
+ * is off by default, so the instrumented code only reads a flag; turn it on
+ * with {@link #setEnabled(boolean)} and read the values with
+ * {@link #snapshot()}.
+ *
+ * Each instrumented phase records a histogram of its duration in nanoseconds,
+ * named [component].[phase].time, and counters of the rows and bytes it
+ * processed, named [component].[phase].rows and [component].[phase].bytes.
+ *
+ * Oct 20, 2026 4:13:48 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public final class Metrics {
+
+    private static final ConcurrentMap<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<String, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled;
+
+    private Metrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        Metrics.enabled = enabled;
+    }
+
+    /**
+     * Get the counter with the given name, creating it if needed.
+     *
+     * @param name name of the counter
+     * @return counter
+     */
+    public static Counter counter(String name) {
+        return COUNTERS.computeIfAbsent(name, key -> new Counter());
+    }
+
+    /**
+     * Get the histogram with the given name, creating it if needed.
+     *
+     * @param name name of the histogram
+     * @return histogram
+     */
+    public static Histogram histogram(String name) {
+        return HISTOGRAMS.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    /**
+     * Record a phase: its duration, and the rows and bytes it processed. Zero
+     * rows or bytes are not counted.
+     *
+     * @param name component and phase, e.g. ROCCurve.sort
+     * @param durationNanos duration of the phase, in nanoseconds
+     * @param rows number of rows processed
+     * @param bytes number of bytes processed
+     */
+    public static void recordPhase(String name, long durationNanos, long rows, long bytes) {
+        histogram(name + ".time").record(durationNanos);
+        if (rows > 0) {
+            counter(name + ".rows").add(rows);
+        }
+        if (bytes > 0) {
+            counter(name + ".bytes").add(bytes);
+        }
+    }
+
+    /**
+     * Take a snapshot of all the counters and histograms.
+     *
+     * @return snapshot, sorted by name
+     */
+    public static MetricsSnapshot snapshot() {
+        Map<String, Long> counters = new TreeMap<>();
+        COUNTERS.forEach((name, counter) -> counters.put(name, counter.getCount()));
+
+        Map<String, HistogramSnapshot> histograms = new TreeMap<>();
+        HISTOGRAMS.forEach((name, histogram) -> histograms.put(name, histogram.snapshot()));
+
+        return new MetricsSnapshot(counters, histograms);
+    }
+
+    /**
+     * Reset all the counters and histograms to zero.
+     */
+    public static void reset() {
+        COUNTERS.values().forEach(Counter::reset);
+        HISTOGRAMS.values().forEach(Histogram::reset);
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.monitoring;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Values of all the counters and histograms at one point in time.
+ *
+ * Oct 20, 2026 4:18:30 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public final class MetricsSnapshot {
+
+    private final Map<String, Long> counters;
+
+    private final Map<String, HistogramSnapshot> histograms;
+
+    MetricsSnapshot(Map<String, Long> counters, Map<String, HistogramSnapshot> histograms) {
+        this.counters = Collections.unmodifiableMap(counters);
+        this.histograms = Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * Get the value of a counter.
+     *
+     * @param name name of the counter
+     * @return value of the counter, or 0 if there is no such counter
+     */
+    public long getCounter(String name) {
+        return counters.getOrDefault(name, 0L);
+    }
+
+    /**
+     * Get a histogram.
+     *
+     * @param name name of the histogram
+     * @return histogram, or null if there is no such histogram
+     */
+    public HistogramSnapshot getHistogram(String name) {
+        return histograms.get(name);
+    }
+
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        counters.forEach((name, value) -> summary.append(String.format("%s: %d%n", name, value)));
+        histograms.forEach((name, histogram) -> summary.append(String.format(
+                "%s: count=%d, mean=%.0f, p50=%d, p99=%d, max=%d%n",
+                name, histogram.getCount(), histogram.getMean(),
+                histogram.getPercentile(50), histogram.getPercentile(99), histogram.getMax())));
+
+        return summary.toString();
+    }
+
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+
+    public Map<String, HistogramSnapshot> getHistograms() {
+        return histograms;
+    }
+
+}
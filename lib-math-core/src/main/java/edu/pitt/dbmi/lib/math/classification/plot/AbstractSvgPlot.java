@@ -0,0 +1,336 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.plot;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SVG counterpart of AbstractXYStatPlot, without JFreeChart or AWT.
+ * The layout and styling follow the JFreeChart plots: both axes range over
+ * [-0.02, 1.02] with ticks every 0.1, a gray dashed 45 degree line, light
+ * gray grid lines and the legend at the bottom.
+ *
+ * Text widths are estimated from the number of characters since no font
+ * metrics are available without AWT.
+ *
+ * Oct 19, 2026 8:52:06 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public abstract class AbstractSvgPlot {
+
+    protected static final int FONT_SIZE = 18;
+    protected static final double CHAR_WIDTH = 0.6 * FONT_SIZE;
+    protected static final int PADDING = 20;
+
+    protected static final String GRAY = "#808080";
+    protected static final String LIGHT_GRAY = "#C0C0C0";
+
+    protected static final SvgStroke FOURTY_FIVE_DEGREE_LINE = new SvgStroke(1.0f, new float[]{6.0f, 6.0f});
+    protected static final SvgStroke THIN_LINE = SvgStroke.createSolidLine(1.0f);
+    protected static final SvgStroke GRID_LINE = new SvgStroke(0.5f, new float[]{2.0f, 2.0f});
+
+    private static final double TICK_UNIT = 0.1;
+    private static final int MINOR_TICK_COUNT = 5;
+
+    private String title;
+    private String xAxisLabel;
+    private String yAxisLabel;
+
+    private double xLower = -0.02;
+    private double xUpper = 1.02;
+    private double yLower = -0.02;
+    private double yUpper = 1.02;
+
+    private boolean gridLineVisible = true;
+    private boolean fourtyFiveDegreeLineVisible = true;
+
+    private final List<String> legendLabels;
+    private final List<String> legendColors;
+    private final List<String> legendShapes;
+    private final List<SvgStroke> legendStrokes;
+
+    public AbstractSvgPlot(String title, String xAxisLabel, String yAxisLabel) {
+        this.title = title;
+        this.xAxisLabel = xAxisLabel;
+        this.yAxisLabel = yAxisLabel;
+
+        legendLabels = new ArrayList<>();
+        legendColors = new ArrayList<>();
+        legendShapes = new ArrayList<>();
+        legendStrokes = new ArrayList<>();
+    }
+
+    /**
+     * Write the data series inside the plot area.
+     *
+     * @param svg writer with the plot area set
+     * @throws IOException
+     */
+    protected abstract void writeDataSeries(SvgWriter svg) throws IOException;
+
+    /**
+     * Add an item to the legend.
+     *
+     * @param label text of the item
+     * @param color color of the series
+     * @param shape name of the marker shape, or null for no marker
+     * @param stroke line style, or null for no line
+     */
+    protected void addLegendItem(String label, String color, String shape, SvgStroke stroke) {
+        legendLabels.add(label);
+        legendColors.add(color);
+        legendShapes.add(shape);
+        legendStrokes.add(stroke);
+    }
+
+    /**
+     * Remove all the data series so that the plot can be reused for other
+     * data.
+     */
+    public void clearDataSeries() {
+        legendLabels.clear();
+        legendColors.clear();
+        legendShapes.clear();
+        legendStrokes.clear();
+    }
+
+    /**
+     * Write the plot as an SVG document. The stream is flushed but not closed.
+     *
+     * @param out stream to write to
+     * @param width width of the image, in pixels
+     * @param height height of the image, in pixels
+     * @throws IOException
+     */
+    public void write(OutputStream out, int width, int height) throws IOException {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Width and height must be greater than zero.");
+        }
+
+        SvgWriter svg = new SvgWriter(out);
+        svg.startDocument(width, height);
+        svg.rect(0, 0, width, height, "#FFFFFF", null, null);
+
+        double top = PADDING;
+        if (title != null && !title.isEmpty()) {
+            svg.text(width / 2.0, top + FONT_SIZE, title, FONT_SIZE, true, "middle", 0);
+            top += FONT_SIZE + 10;
+        }
+
+        double bottom = height - PADDING;
+        bottom -= writeLegend(svg, width, bottom);
+
+        // room for the tick labels and axis labels
+        double plotLeft = PADDING + (FONT_SIZE + 8) + (3 * CHAR_WIDTH + 6);
+        double plotRight = width - PADDING - 2 * CHAR_WIDTH;
+        double plotTop = top + FONT_SIZE / 2.0;
+        double plotBottom = bottom - (FONT_SIZE + 8) - (FONT_SIZE + 6);
+        double plotWidth = Math.max(1, plotRight - plotLeft);
+        double plotHeight = Math.max(1, plotBottom - plotTop);
+        svg.setPlotArea(plotLeft, plotTop, plotWidth, plotHeight, xLower, xUpper, yLower, yUpper);
+
+        writeAxes(svg, plotLeft, plotTop, plotWidth, plotHeight);
+
+        svg.startClippedGroup("plot-area");
+        if (fourtyFiveDegreeLineVisible) {
+            svg.line(svg.toX(-0.02), svg.toY(-0.02), svg.toX(1.02), svg.toY(1.02), GRAY, FOURTY_FIVE_DEGREE_LINE);
+        }
+        writeDataSeries(svg);
+        svg.endGroup();
+
+        svg.rect(plotLeft, plotTop, plotWidth, plotHeight, null, GRAY, THIN_LINE);
+
+        svg.endDocument();
+    }
+
+    private void writeAxes(SvgWriter svg, double plotLeft, double plotTop, double plotWidth, double plotHeight) throws IOException {
+        double plotBottom = plotTop + plotHeight;
+
+        // ticks, labels and grid lines on the multiples of the tick unit
+        double minorUnit = TICK_UNIT / MINOR_TICK_COUNT;
+        for (long i = (long) Math.ceil(xLower / minorUnit); i * minorUnit <= xUpper; i++) {
+            double x = svg.toX(i * minorUnit);
+            if (i % MINOR_TICK_COUNT == 0) {
+                if (gridLineVisible) {
+                    svg.line(x, plotTop, x, plotBottom, LIGHT_GRAY, GRID_LINE);
+                }
+                svg.line(x, plotBottom, x, plotBottom + 4, GRAY, THIN_LINE);
+                svg.text(x, plotBottom + 6 + FONT_SIZE, tickLabel(i / MINOR_TICK_COUNT), FONT_SIZE, true, "middle", 0);
+            } else {
+                svg.line(x, plotBottom, x, plotBottom + 2, GRAY, THIN_LINE);
+            }
+        }
+        for (long i = (long) Math.ceil(yLower / minorUnit); i * minorUnit <= yUpper; i++) {
+            double y = svg.toY(i * minorUnit);
+            if (i % MINOR_TICK_COUNT == 0) {
+                if (gridLineVisible) {
+                    svg.line(plotLeft, y, plotLeft + plotWidth, y, LIGHT_GRAY, GRID_LINE);
+                }
+                svg.line(plotLeft - 4, y, plotLeft, y, GRAY, THIN_LINE);
+                svg.text(plotLeft - 6, y + FONT_SIZE / 3.0, tickLabel(i / MINOR_TICK_COUNT), FONT_SIZE, true, "end", 0);
+            } else {
+                svg.line(plotLeft - 2, y, plotLeft, y, GRAY, THIN_LINE);
+            }
+        }
+
+        if (xAxisLabel != null && !xAxisLabel.isEmpty()) {
+            svg.text(plotLeft + plotWidth / 2, plotBottom + 2 * FONT_SIZE + 16, xAxisLabel, FONT_SIZE, true, "middle", 0);
+        }
+        if (yAxisLabel != null && !yAxisLabel.isEmpty()) {
+            double x = PADDING + FONT_SIZE;
+            double y = plotTop + plotHeight / 2;
+            svg.text(x, y, yAxisLabel, FONT_SIZE, true, "middle", -90);
+        }
+    }
+
+    /**
+     * Format a multiple of the tick unit with one decimal, as the JFreeChart
+     * axis does.
+     */
+    private static String tickLabel(long tenths) {
+        String sign = (tenths < 0) ? "-" : "";
+        tenths = Math.abs(tenths);
+
+        return sign + (tenths / 10) + "." + (tenths % 10);
+    }
+
+    /**
+     * Write the legend in a bordered box above the bottom edge, wrapping the
+     * items into rows.
+     *
+     * @return height taken by the legend
+     */
+    private double writeLegend(SvgWriter svg, int width, double bottom) throws IOException {
+        int numOfItems = legendLabels.size();
+        if (numOfItems == 0) {
+            return 0;
+        }
+
+        double rowHeight = FONT_SIZE + 8;
+        double maxRowWidth = width - 2 * PADDING - 40;
+        double[] itemWidths = new double[numOfItems];
+        int[] rows = new int[numOfItems];
+        int numOfRows = 1;
+        double rowWidth = 0;
+        for (int i = 0; i < numOfItems; i++) {
+            itemWidths[i] = 30 + legendLabels.get(i).length() * CHAR_WIDTH + 20;
+            if (rowWidth > 0 && rowWidth + itemWidths[i] > maxRowWidth) {
+                numOfRows++;
+                rowWidth = 0;
+            }
+            rows[i] = numOfRows - 1;
+            rowWidth += itemWidths[i];
+        }
+
+        double legendHeight = numOfRows * rowHeight + 20;
+        double legendTop = bottom - legendHeight;
+
+        // widest row sets the box width
+        double[] rowWidths = new double[numOfRows];
+        for (int i = 0; i < numOfItems; i++) {
+            rowWidths[rows[i]] += itemWidths[i];
+        }
+        double boxWidth = 0;
+        for (double w : rowWidths) {
+            boxWidth = Math.max(boxWidth, w);
+        }
+        boxWidth += 40;
+        svg.rect((width - boxWidth) / 2, legendTop, boxWidth, legendHeight, null, "#000000", THIN_LINE);
+
+        double x = 0;
+        int row = -1;
+        for (int i = 0; i < numOfItems; i++) {
+            if (rows[i] != row) {
+                row = rows[i];
+                x = (width - rowWidths[row]) / 2;
+            }
+            double y = legendTop + 10 + row * rowHeight + rowHeight / 2;
+
+            String color = legendColors.get(i);
+            SvgStroke stroke = legendStrokes.get(i);
+            if (stroke != null) {
+                svg.line(x, y, x + 24, y, color, stroke);
+            }
+            String shape = legendShapes.get(i);
+            if (shape != null) {
+                svg.markerAt(x + 12, y, shape, color);
+            }
+            svg.text(x + 30, y + FONT_SIZE / 3.0, legendLabels.get(i), FONT_SIZE, true, "start", 0);
+
+            x += itemWidths[i];
+        }
+
+        return legendHeight + 10;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getXAxisLabel() {
+        return xAxisLabel;
+    }
+
+    public void setXAxisLabel(String xAxisLabel) {
+        this.xAxisLabel = xAxisLabel;
+    }
+
+    public String getYAxisLabel() {
+        return yAxisLabel;
+    }
+
+    public void setYAxisLabel(String yAxisLabel) {
+        this.yAxisLabel = yAxisLabel;
+    }
+
+    public void setXAxisRange(double lower, double upper) {
+        xLower = lower;
+        xUpper = upper;
+    }
+
+    public void setYAxisRange(double lower, double upper) {
+        yLower = lower;
+        yUpper = upper;
+    }
+
+    public boolean isGridLineVisible() {
+        return gridLineVisible;
+    }
+
+    public void setGridLineVisible(boolean gridLineVisible) {
+        this.gridLineVisible = gridLineVisible;
+    }
+
+    public boolean isFourtyFiveDegreeLineVisible() {
+        return fourtyFiveDegreeLineVisible;
+    }
+
+    public void setFourtyFiveDegreeLineVisible(boolean visible) {
+        this.fourtyFiveDegreeLineVisible = visible;
+    }
+
+}
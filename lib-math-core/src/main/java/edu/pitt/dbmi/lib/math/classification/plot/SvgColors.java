@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.plot;
+
+/**
+ * The PlotColors palette as SVG color values, so that SVG plots can
+ * be styled without loading AWT.
+ *
+ * Oct 19, 2026 8:21:40 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public final class SvgColors {
+
+    public static final String RED = "#FF0000";
+    public static final String BLUE = "#0000FF";
+    public static final String MAGENTA = "#FF00FF";
+    public static final String DARK_VIOLET = "#9400D3";
+    public static final String DARK_ORANGE = "#FF8C00";
+    public static final String GREEN = "#00FF00";
+    public static final String FOREST_GREEN = "#228B22";
+    public static final String BLACK = "#000000";
+    public static final String PINK = "#FFAFAF";
+    public static final String DEEP_SKY_BLUE = "#00BFFF";
+
+    private SvgColors() {
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.plot;
+
+/**
+ * The names of the PlotShapeFactory shapes, so that SVG plots can pick a
+ * shape without loading AWT.
+ *
+ * Oct 20, 2026 9:12:45 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public final class SvgShapes {
+
+    public static final String SQUARE_SHAPE = "square";
+    public static final String CIRCLE_SHAPE = "circle";
+    public static final String HORIZONTAL_RECTANGLE_SHAPE = "horizontal rectangle";
+    public static final String HORIZONTAL_ELLIPSE_SHAPE = "horizontal ellipse";
+    public static final String VERTICAL_RECTANGLE_SHAPE = "vertical rectangle";
+    public static final String UP_POINTING_TRIANGLE_SHAPE = "up-pointing triangle";
+    public static final String DIAMOND_SHAPE = "diamond";
+    public static final String DOWN_POINTING_TRIANGLE_SHAPE = "down-pointing triangle";
+    public static final String RIGHT_POINTING_TRIANGLE_SHAPE = "right-pointing triangle";
+    public static final String LEFT_POINTING_TRIANGLE_SHAPE = "left-pointing triangle";
+
+    private SvgShapes() {
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.plot;
+
+/**
+ * Line style of an SVG plot, matching PlotLines.
+ *
+ * Oct 19, 2026 8:24:12 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class SvgStroke {
+
+    public static final SvgStroke DOTTED_LINE = createDottedLine(3.0f);
+    public static final SvgStroke SOLID_LINE = createSolidLine(3.0f);
+
+    private final float width;
+
+    /**
+     * Lengths of the dashes and gaps, or null for a solid line.
+     */
+    private final float[] dashArray;
+
+    public SvgStroke(float width, float[] dashArray) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("Line width must be greater than zero.");
+        }
+
+        this.width = width;
+        this.dashArray = (dashArray == null) ? null : dashArray.clone();
+    }
+
+    public static SvgStroke createSolidLine(float width) {
+        return new SvgStroke(width, null);
+    }
+
+    public static SvgStroke createDottedLine(float width) {
+        return new SvgStroke(width, new float[]{6.0f, 6.0f});
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public float[] getDashArray() {
+        return (dashArray == null) ? null : dashArray.clone();
+    }
+
+}
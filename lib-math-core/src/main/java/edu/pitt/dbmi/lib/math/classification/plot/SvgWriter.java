@@ -0,0 +1,393 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.plot;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Write SVG elements straight to a stream. Data coordinates are mapped to
+ * pixels through the plot area, and coordinates are written with two
+ * decimals without going through {@link String#format}.
+ *
+ * Only plain Java classes are used, so no AWT class is loaded.
+ *
+ * Oct 19, 2026 8:30:55 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class SvgWriter {
+
+    public static final String FONT_FAMILY = "sans-serif";
+
+    private final Writer writer;
+
+    private double plotLeft;
+    private double plotTop;
+    private double plotWidth;
+    private double plotHeight;
+    private double xLower;
+    private double xLength;
+    private double yLower;
+    private double yLength;
+
+    public SvgWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    public void startDocument(int width, int height) throws IOException {
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        writer.write("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"");
+        writer.write(Integer.toString(width));
+        writer.write("\" height=\"");
+        writer.write(Integer.toString(height));
+        writer.write("\" viewBox=\"0 0 ");
+        writer.write(Integer.toString(width));
+        writer.write(' ');
+        writer.write(Integer.toString(height));
+        writer.write("\" font-family=\"");
+        writer.write(FONT_FAMILY);
+        writer.write("\">\n");
+    }
+
+    /**
+     * Close the document and flush it to the stream. The stream is left open.
+     */
+    public void endDocument() throws IOException {
+        writer.write("</svg>\n");
+        writer.flush();
+    }
+
+    /**
+     * Set the area, in pixels, that the data ranges are mapped to.
+     */
+    public void setPlotArea(double left, double top, double width, double height,
+            double xLowerBound, double xUpperBound, double yLowerBound, double yUpperBound) {
+        plotLeft = left;
+        plotTop = top;
+        plotWidth = width;
+        plotHeight = height;
+        xLower = xLowerBound;
+        xLength = xUpperBound - xLowerBound;
+        yLower = yLowerBound;
+        yLength = yUpperBound - yLowerBound;
+    }
+
+    public double toX(double x) {
+        return plotLeft + (x - xLower) / xLength * plotWidth;
+    }
+
+    public double toY(double y) {
+        return plotTop + plotHeight - (y - yLower) / yLength * plotHeight;
+    }
+
+    /**
+     * Get the data distance covered by one pixel along the x-axis.
+     */
+    public double getXUnitsPerPixel() {
+        return xLength / plotWidth;
+    }
+
+    /**
+     * Get the data distance covered by one pixel along the y-axis.
+     */
+    public double getYUnitsPerPixel() {
+        return yLength / plotHeight;
+    }
+
+    /**
+     * Draw a line between two points given in pixels.
+     */
+    public void line(double x1, double y1, double x2, double y2, String color, SvgStroke stroke) throws IOException {
+        writer.write("<line x1=\"");
+        number(x1);
+        writer.write("\" y1=\"");
+        number(y1);
+        writer.write("\" x2=\"");
+        number(x2);
+        writer.write("\" y2=\"");
+        number(y2);
+        writer.write('"');
+        stroke(color, stroke);
+        writer.write("/>\n");
+    }
+
+    /**
+     * Draw a rectangle given in pixels.
+     */
+    public void rect(double x, double y, double width, double height, String fill, String color, SvgStroke stroke) throws IOException {
+        writer.write("<rect x=\"");
+        number(x);
+        writer.write("\" y=\"");
+        number(y);
+        writer.write("\" width=\"");
+        number(width);
+        writer.write("\" height=\"");
+        number(height);
+        writer.write("\" fill=\"");
+        writer.write((fill == null) ? "none" : fill);
+        writer.write('"');
+        if (color != null) {
+            stroke(color, stroke);
+        }
+        writer.write("/>\n");
+    }
+
+    /**
+     * Draw a line through points given in data coordinates.
+     */
+    public void polyline(double[] xPoints, double[] yPoints, String color, SvgStroke stroke) throws IOException {
+        if (xPoints.length == 0) {
+            return;
+        }
+
+        writer.write("<polyline fill=\"none\" stroke-linejoin=\"round\"");
+        stroke(color, stroke);
+        writer.write(" points=\"");
+        for (int i = 0; i < xPoints.length; i++) {
+            if (i > 0) {
+                writer.write(' ');
+            }
+            number(toX(xPoints[i]));
+            writer.write(',');
+            number(toY(yPoints[i]));
+        }
+        writer.write("\"/>\n");
+    }
+
+    /**
+     * Draw a marker centered on a point given in data coordinates.
+     *
+     * @param shape name of one of the {@link SvgShapes} shapes
+     */
+    public void marker(double x, double y, String shape, String color) throws IOException {
+        markerAt(toX(x), toY(y), shape, color);
+    }
+
+    /**
+     * Draw a marker centered on a point given in pixels, with the size of the
+     * PlotShapeFactory.STANDARD_SHAPES.
+     *
+     * @param shape name of one of the {@link SvgShapes} shapes
+     */
+    public void markerAt(double x, double y, String shape, String color) throws IOException {
+        double delta = 6.0;
+        switch (shape) {
+            case SvgShapes.CIRCLE_SHAPE:
+                ellipse(x, y, delta, delta, color);
+                break;
+            case SvgShapes.HORIZONTAL_ELLIPSE_SHAPE:
+                ellipse(x, y, delta, delta / 2, color);
+                break;
+            case SvgShapes.SQUARE_SHAPE:
+                rect(x - delta, y - delta, 2 * delta, 2 * delta, color, null, null);
+                break;
+            case SvgShapes.HORIZONTAL_RECTANGLE_SHAPE:
+                rect(x - delta, y - delta / 2, 2 * delta, delta, color, null, null);
+                break;
+            case SvgShapes.VERTICAL_RECTANGLE_SHAPE:
+                rect(x - delta / 2, y - delta, delta, 2 * delta, color, null, null);
+                break;
+            case SvgShapes.UP_POINTING_TRIANGLE_SHAPE:
+                polygon(x, y, new double[]{0, delta, -delta}, new double[]{-delta, delta, delta}, color);
+                break;
+            case SvgShapes.DIAMOND_SHAPE:
+                polygon(x, y, new double[]{0, delta, 0, -delta}, new double[]{-delta, 0, delta, 0}, color);
+                break;
+            case SvgShapes.DOWN_POINTING_TRIANGLE_SHAPE:
+                polygon(x, y, new double[]{-delta, delta, 0}, new double[]{-delta, -delta, delta}, color);
+                break;
+            case SvgShapes.RIGHT_POINTING_TRIANGLE_SHAPE:
+                polygon(x, y, new double[]{-delta, delta, -delta}, new double[]{-delta, 0, delta}, color);
+                break;
+            case SvgShapes.LEFT_POINTING_TRIANGLE_SHAPE:
+                polygon(x, y, new double[]{-delta, delta, delta}, new double[]{0, -delta, delta}, color);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown shape: " + shape);
+        }
+    }
+
+    private void ellipse(double x, double y, double xRadius, double yRadius, String color) throws IOException {
+        writer.write("<ellipse cx=\"");
+        number(x);
+        writer.write("\" cy=\"");
+        number(y);
+        writer.write("\" rx=\"");
+        number(xRadius);
+        writer.write("\" ry=\"");
+        number(yRadius);
+        writer.write("\" fill=\"");
+        writer.write(color);
+        writer.write("\"/>\n");
+    }
+
+    private void polygon(double x, double y, double[] xOffsets, double[] yOffsets, String color) throws IOException {
+        writer.write("<polygon fill=\"");
+        writer.write(color);
+        writer.write("\" points=\"");
+        for (int i = 0; i < xOffsets.length; i++) {
+            if (i > 0) {
+                writer.write(' ');
+            }
+            number(x + xOffsets[i]);
+            writer.write(',');
+            number(y + yOffsets[i]);
+        }
+        writer.write("\"/>\n");
+    }
+
+    /**
+     * Draw a vertical error bar with caps, given in data coordinates.
+     */
+    public void errorBar(double x, double yLow, double yHigh, String color, SvgStroke stroke) throws IOException {
+        double capLength = 2.0;  // half of the cap length of XYErrorRenderer
+        double xPixel = toX(x);
+        double yLowPixel = toY(yLow);
+        double yHighPixel = toY(yHigh);
+        line(xPixel, yLowPixel, xPixel, yHighPixel, color, stroke);
+        line(xPixel - capLength, yLowPixel, xPixel + capLength, yLowPixel, color, stroke);
+        line(xPixel - capLength, yHighPixel, xPixel + capLength, yHighPixel, color, stroke);
+    }
+
+    /**
+     * Write text at a point given in pixels.
+     *
+     * @param anchor start, middle or end
+     * @param rotation degrees of rotation around the point
+     */
+    public void text(double x, double y, String text, int fontSize, boolean bold, String anchor, int rotation) throws IOException {
+        writer.write("<text x=\"");
+        number(x);
+        writer.write("\" y=\"");
+        number(y);
+        writer.write("\" font-size=\"");
+        writer.write(Integer.toString(fontSize));
+        writer.write('"');
+        if (bold) {
+            writer.write(" font-weight=\"bold\"");
+        }
+        writer.write(" text-anchor=\"");
+        writer.write(anchor);
+        writer.write('"');
+        if (rotation != 0) {
+            writer.write(" transform=\"rotate(");
+            writer.write(Integer.toString(rotation));
+            writer.write(' ');
+            number(x);
+            writer.write(' ');
+            number(y);
+            writer.write(")\"");
+        }
+        writer.write('>');
+        escape(text);
+        writer.write("</text>\n");
+    }
+
+    /**
+     * Start a group whose content is clipped to the plot area.
+     */
+    public void startClippedGroup(String id) throws IOException {
+        writer.write("<clipPath id=\"");
+        writer.write(id);
+        writer.write("\"><rect x=\"");
+        number(plotLeft);
+        writer.write("\" y=\"");
+        number(plotTop);
+        writer.write("\" width=\"");
+        number(plotWidth);
+        writer.write("\" height=\"");
+        number(plotHeight);
+        writer.write("\"/></clipPath>\n<g clip-path=\"url(#");
+        writer.write(id);
+        writer.write(")\">\n");
+    }
+
+    public void endGroup() throws IOException {
+        writer.write("</g>\n");
+    }
+
+    private void stroke(String color, SvgStroke stroke) throws IOException {
+        writer.write(" stroke=\"");
+        writer.write(color);
+        writer.write("\" stroke-width=\"");
+        number(stroke.getWidth());
+        writer.write('"');
+
+        float[] dashArray = stroke.getDashArray();
+        if (dashArray != null) {
+            writer.write(" stroke-dasharray=\"");
+            for (int i = 0; i < dashArray.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                number(dashArray[i]);
+            }
+            writer.write('"');
+        }
+    }
+
+    /**
+     * Write a number rounded to two decimals, without trailing zeros.
+     */
+    private void number(double value) throws IOException {
+        long hundredths = Math.round(value * 100);
+        if (hundredths < 0) {
+            writer.write('-');
+            hundredths = -hundredths;
+        }
+
+        writer.write(Long.toString(hundredths / 100));
+        int fraction = (int) (hundredths % 100);
+        if (fraction != 0) {
+            writer.write('.');
+            writer.write((char) ('0' + fraction / 10));
+            if (fraction % 10 != 0) {
+                writer.write((char) ('0' + fraction % 10));
+            }
+        }
+    }
+
+    private void escape(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<':
+                    writer.write("&lt;");
+                    break;
+                case '>':
+                    writer.write("&gt;");
+                    break;
+                case '&':
+                    writer.write("&amp;");
+                    break;
+                case '"':
+                    writer.write("&quot;");
+                    break;
+                default:
+                    writer.write(c);
+            }
+        }
+    }
+
+}
@@ -19,6 +19,8 @@
 package edu.pitt.dbmi.lib.math.classification.roc;
 
 import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.monitoring.PhaseTimer;
+import edu.pitt.dbmi.lib.math.classification.utils.CompensatedSum;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -61,12 +63,17 @@ public class DeLongROCCurve implements ROC {
                     "A list of data containing both observed value and predicted value is required.");
         }
 
+        PhaseTimer timer = PhaseTimer.start("DeLongROCCurve", "sort");
+
         // copy data to an array
         ObservedPredictedValue[] data = observedPredictedValues.toArray(ObservedPredictedValue[]::new);
 
         // sort in descending order
         Arrays.sort(data, Collections.reverseOrder());
 
+        timer.stop(data.length);
+        timer = PhaseTimer.start("DeLongROCCurve", "sweep");
+
         numberOfPositives = (int) Arrays.stream(data)
                 .filter(obsPredVal -> obsPredVal.getObservedValue() == 1)
                 .count();
@@ -94,6 +101,8 @@ public class DeLongROCCurve implements ROC {
                 positivePredictedValues, negativePredictedValues);
 
         areaUnderRocCurve = computeAreaUnderRocCurve(truePositiveRates, falsePositiveRates);
+
+        timer.stop(data.length);
     }
 
     private ConfusionMatrix[] computeConfusionMatrices(
@@ -125,7 +134,7 @@ public class DeLongROCCurve implements ROC {
     }
 
     private double computeAreaUnderRocCurve(double[] truePositiveRates, double[] falsePositiveRates) {
-        double areaUnderCurve = 0;
+        CompensatedSum areaUnderCurve = new CompensatedSum();
 
         double x1, x2, y1, y2;
         x1 = y1 = 0;
@@ -136,13 +145,13 @@ public class DeLongROCCurve implements ROC {
             // compute the area using trapezoid method
             double base = Math.abs(x1 - x2);
             double height = (y1 + y2) / 2;
-            areaUnderCurve += base * height;
+            areaUnderCurve.add(base * height);
 
             x1 = x2;
             y1 = y2;
         }
 
-        return areaUnderCurve;
+        return areaUnderCurve.getSum();
     }
 
     private final double spec(double z, double[] negativePredictedValues) {
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.roc;
+
+/**
+ * ROC curve computed out of core by {@link ExternalROCEvaluator}, from
+ * spilled runs or from an off-heap dataset. The area
+ * under the curve and the numbers of positives and negatives are exact; the
+ * confusion matrices and rates are those of the decimated curve, which is
+ * enough to plot it. The predicted values are not kept.
+ *
+ * Oct 19, 2026 11:58:10 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class ExternalROCCurve implements ROC {
+
+    private final ConfusionMatrix[] confusionMatrices;
+
+    private final double[] truePositiveRates;
+
+    private final double[] falsePositiveRates;
+
+    private final int numberOfPositives;
+
+    private final int numberOfNegatives;
+
+    private final long numberOfThresholds;
+
+    private final double areaUnderRocCurve;
+
+    public ExternalROCCurve(ConfusionMatrix[] confusionMatrices, int numberOfPositives, int numberOfNegatives, long numberOfThresholds, double areaUnderRocCurve) {
+        this.confusionMatrices = confusionMatrices;
+        this.numberOfPositives = numberOfPositives;
+        this.numberOfNegatives = numberOfNegatives;
+        this.numberOfThresholds = numberOfThresholds;
+        this.areaUnderRocCurve = areaUnderRocCurve;
+
+        truePositiveRates = new double[confusionMatrices.length];
+        falsePositiveRates = new double[confusionMatrices.length];
+        for (int i = 0; i < confusionMatrices.length; i++) {
+            truePositiveRates[i] = confusionMatrices[i].getTruePositiveRate();
+            falsePositiveRates[i] = confusionMatrices[i].getFalsePositiveRate();
+        }
+    }
+
+    /**
+     * Get the number of confusion matrices of the full curve, one per distinct
+     * predicted value plus the starting point.
+     *
+     * @return number of points before decimation
+     */
+    public long getNumberOfThresholds() {
+        return numberOfThresholds;
+    }
+
+    @Override
+    public double[] getTruePositiveRates() {
+        return truePositiveRates;
+    }
+
+    @Override
+    public double[] getFalsePositiveRates() {
+        return falsePositiveRates;
+    }
+
+    /**
+     * The predicted values are not kept.
+     *
+     * @return empty array
+     */
+    @Override
+    public double[] getPositivePredictedValues() {
+        return new double[0];
+    }
+
+    /**
+     * The predicted values are not kept.
+     *
+     * @return empty array
+     */
+    @Override
+    public double[] getNegativePredictedValues() {
+        return new double[0];
+    }
+
+    @Override
+    public ConfusionMatrix[] getConfusionMatrices() {
+        return confusionMatrices;
+    }
+
+    @Override
+    public int getNumberOfPositives() {
+        return numberOfPositives;
+    }
+
+    @Override
+    public int getNumberOfNegatives() {
+        return numberOfNegatives;
+    }
+
+    @Override
+    public double getAreaUnderRocCurve() {
+        return areaUnderRocCurve;
+    }
+
+}
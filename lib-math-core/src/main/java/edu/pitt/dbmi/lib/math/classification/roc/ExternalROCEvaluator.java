@@ -0,0 +1,417 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.roc;
+
+import edu.pitt.dbmi.lib.math.classification.data.OffHeapDataset;
+import edu.pitt.dbmi.lib.math.classification.utils.PairedArrays;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.regex.Pattern;
+
+/**
+ * Compute an ROC curve from more data than fits in memory.
+ *
+ * The data is buffered up to half of the memory budget, sorted in place and
+ * written to a temporary file as a run in descending order of the predicted
+ * values. To evaluate, the buffer is released and the runs are merged with a
+ * k-way merge through buffered file channels that share the memory budget; when there are more runs than
+ * buffers fit, groups of runs are merged into longer runs first. The merge
+ * sweeps the thresholds from the highest to the lowest, as
+ * {@link ROCCurve} does, computing the area under the curve exactly from the
+ * counts. The full curve can be written to a CSV file, and a decimated curve
+ * is kept in memory for plotting.
+ *
+ * Each run record takes 9 bytes: the predicted value and the observed value.
+ *
+ * Oct 20, 2026 12:06:42 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class ExternalROCEvaluator implements AutoCloseable {
+
+    public static final long DEFAULT_MEMORY_BUDGET = 64L << 20;
+
+    /**
+     * Smallest read buffer per run during the merge.
+     */
+    private static final int MIN_BUFFER_SIZE = 64 * 1024;
+
+    private static final int RECORD_SIZE = Double.BYTES + 1;
+
+    /**
+     * Bytes of heap per buffered data: a double and an int.
+     */
+    private static final int BUFFERED_DATA_SIZE = Double.BYTES + Integer.BYTES;
+
+    private final long memoryBudget;
+    private final Path tempDirectory;
+
+    private final int capacity;
+
+    /**
+     * Buffered data, allocated on the first add and released before the
+     * merge.
+     */
+    private double[] predictedValues;
+    private int[] observedValues;
+    private int numOfBuffered;
+
+    private final List<Path> runs;
+
+    private long numberOfPositives;
+    private long numberOfNegatives;
+
+    public ExternalROCEvaluator(Path tempDirectory) {
+        this(DEFAULT_MEMORY_BUDGET, tempDirectory);
+    }
+
+    /**
+     * @param memoryBudget bytes of memory to use for buffering and merging
+     * @param tempDirectory directory for the sorted runs
+     */
+    public ExternalROCEvaluator(long memoryBudget, Path tempDirectory) {
+        if (memoryBudget < 4L * MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("The memory budget must be at least " + (4 * MIN_BUFFER_SIZE) + " bytes.");
+        }
+        if (tempDirectory == null) {
+            throw new IllegalArgumentException("A directory for temporary files is required.");
+        }
+
+        this.memoryBudget = memoryBudget;
+        this.tempDirectory = tempDirectory;
+
+        this.capacity = (int) Math.min(Integer.MAX_VALUE - 8, (memoryBudget / 2) / BUFFERED_DATA_SIZE);
+        this.runs = new ArrayList<>();
+    }
+
+    public void add(int observedValue, double predictedValue) throws IOException {
+        if (observedValue != 0 && observedValue != 1) {
+            throw new IllegalArgumentException("Observed value must be 0 or 1.");
+        }
+        if (Double.isNaN(predictedValue)) {
+            throw new IllegalArgumentException("Predicted value must be a number.");
+        }
+
+        if (predictedValues == null) {
+            predictedValues = new double[capacity];
+            observedValues = new int[capacity];
+        } else if (numOfBuffered == capacity) {
+            spill();
+        }
+
+        predictedValues[numOfBuffered] = predictedValue;
+        observedValues[numOfBuffered] = observedValue;
+        numOfBuffered++;
+        if (observedValue == 1) {
+            numberOfPositives++;
+        } else {
+            numberOfNegatives++;
+        }
+    }
+
+    /**
+     * Read observed values and predicted values from a file, one line at a
+     * time, with the same rules as ResourcesLoader.
+     *
+     * @param file containing a column of observed values and a column of
+     * predicted values
+     * @param delimiter a character that is used to separate data
+     * @param observedColumn the number of the column containing observed values
+     * @param predictedColumn the number of the column containing predicted
+     * values
+     * @param hasHeader true if the first line of the file is the header
+     * @throws IOException
+     */
+    public void addAll(Path file, Pattern delimiter, int observedColumn, int predictedColumn, boolean hasHeader) throws IOException {
+        int observedIndex = observedColumn - 1;
+        int predictedIndex = predictedColumn - 1;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            ResourcesLoader.forEachRow(reader, delimiter, Integer.max(observedColumn, predictedColumn), hasHeader,
+                    fields -> add(Integer.parseInt(fields[observedIndex]), Double.parseDouble(fields[predictedIndex])));
+        }
+    }
+
+    /**
+     * Sort the buffered data and write it as a run in descending order.
+     */
+    private void spill() throws IOException {
+        if (numOfBuffered == 0) {
+            return;
+        }
+
+        PairedArrays.sort(predictedValues, observedValues, 0, numOfBuffered);
+
+        Path run = Files.createTempFile(tempDirectory, "roc-run-", ".bin");
+        runs.add(run);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(alignedBufferSize(MIN_BUFFER_SIZE * 4));
+        try (FileChannel channel = FileChannel.open(run, StandardOpenOption.WRITE)) {
+            for (int i = numOfBuffered - 1; i >= 0; i--) {
+                if (buffer.remaining() < RECORD_SIZE) {
+                    writeFully(channel, buffer);
+                }
+                buffer.putDouble(predictedValues[i]);
+                buffer.put((byte) observedValues[i]);
+            }
+            writeFully(channel, buffer);
+        }
+
+        numOfBuffered = 0;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static int alignedBufferSize(long size) {
+        long records = Math.max(1, Math.min(size, Integer.MAX_VALUE - 8) / RECORD_SIZE);
+
+        return (int) (records * RECORD_SIZE);
+    }
+
+    /**
+     * Compute the ROC curve, keeping a curve decimated to 0.001 on both axes.
+     *
+     * @return ROC curve
+     * @throws IOException
+     */
+    public ExternalROCCurve evaluate() throws IOException {
+        return evaluate(0.001, 0.001, null);
+    }
+
+    /**
+     * Compute the ROC curve.
+     *
+     * @param xTolerance largest distance along the false positive rate that
+     * the decimated curve may skip
+     * @param yTolerance largest distance along the true positive rate that the
+     * decimated curve may skip
+     * @param curveFile CSV file to write every point of the curve to, or null
+     * @return ROC curve with the exact area and the decimated points
+     * @throws IOException
+     */
+    public ExternalROCCurve evaluate(double xTolerance, double yTolerance, Path curveFile) throws IOException {
+        if (!(xTolerance > 0) || !(yTolerance > 0)) {
+            throw new IllegalArgumentException("Tolerance must be greater than zero.");
+        }
+        if (numberOfPositives + numberOfNegatives == 0) {
+            throw new IllegalArgumentException("There is no data to evaluate.");
+        }
+        if (numberOfPositives > Integer.MAX_VALUE || numberOfNegatives > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Confusion matrices hold at most " + Integer.MAX_VALUE + " cases per class.");
+        }
+
+        spill();
+
+        // the buffer takes half of the budget; free it for the merge buffers
+        predictedValues = null;
+        observedValues = null;
+
+        reduceRuns();
+
+        try (ROCSweep sweep = new ROCSweep((int) numberOfPositives, (int) numberOfNegatives, xTolerance, yTolerance, curveFile)) {
+            int bufferSize = alignedBufferSize(memoryBudget / 2 / Math.max(1, runs.size()));
+            merge(runs, bufferSize, sweep::accept);
+
+            return sweep.finish();
+        }
+    }
+
+    /**
+     * Compute the ROC curve of an off-heap dataset. The dataset is sorted in
+     * place if it is not sorted yet, and the thresholds are swept directly
+     * over the off-heap memory.
+     *
+     * @param dataset observed values and predicted values
+     * @param xTolerance largest distance along the false positive rate that
+     * the decimated curve may skip
+     * @param yTolerance largest distance along the true positive rate that the
+     * decimated curve may skip
+     * @param curveFile CSV file to write every point of the curve to, or null
+     * @return ROC curve with the exact area and the decimated points
+     * @throws IOException
+     */
+    public static ExternalROCCurve evaluate(OffHeapDataset dataset, double xTolerance, double yTolerance, Path curveFile) throws IOException {
+        if (!(xTolerance > 0) || !(yTolerance > 0)) {
+            throw new IllegalArgumentException("Tolerance must be greater than zero.");
+        }
+
+        long size = dataset.size();
+        long numOfPositives = dataset.getNumberOfPositives();
+        long numOfNegatives = size - numOfPositives;
+        if (size == 0) {
+            throw new IllegalArgumentException("There is no data to evaluate.");
+        }
+        if (numOfPositives > Integer.MAX_VALUE || numOfNegatives > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Confusion matrices hold at most " + Integer.MAX_VALUE + " cases per class.");
+        }
+
+        dataset.sort();
+
+        try (ROCSweep sweep = new ROCSweep((int) numOfPositives, (int) numOfNegatives, xTolerance, yTolerance, curveFile)) {
+            for (long i = size - 1; i >= 0; i--) {
+                sweep.accept(dataset.getPredictedValue(i), dataset.getObservedValue(i));
+            }
+
+            return sweep.finish();
+        }
+    }
+
+    /**
+     * Merge groups of runs into longer runs until every run gets a read
+     * buffer of at least the minimum size.
+     */
+    private void reduceRuns() throws IOException {
+        int maxFanIn = (int) Math.max(2, (memoryBudget / 2) / MIN_BUFFER_SIZE);
+        while (runs.size() > maxFanIn) {
+            List<Path> group = new ArrayList<>(runs.subList(0, maxFanIn));
+            runs.subList(0, maxFanIn).clear();
+
+            Path run = Files.createTempFile(tempDirectory, "roc-run-", ".bin");
+            ByteBuffer out = ByteBuffer.allocateDirect(alignedBufferSize(memoryBudget / 4));
+            try (FileChannel channel = FileChannel.open(run, StandardOpenOption.WRITE)) {
+                merge(group, alignedBufferSize(memoryBudget / 4 / group.size()), (predictedValue, observedValue) -> {
+                    if (out.remaining() < RECORD_SIZE) {
+                        writeFully(channel, out);
+                    }
+                    out.putDouble(predictedValue);
+                    out.put((byte) observedValue);
+                });
+                writeFully(channel, out);
+            }
+            for (Path path : group) {
+                Files.deleteIfExists(path);
+            }
+            runs.add(run);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RecordConsumer {
+
+        void accept(double predictedValue, int observedValue) throws IOException;
+
+    }
+
+    private static void merge(List<Path> runFiles, int bufferSize, RecordConsumer consumer) throws IOException {
+        PriorityQueue<RunCursor> queue = new PriorityQueue<>(Math.max(1, runFiles.size()),
+                (a, b) -> Double.compare(b.predictedValue, a.predictedValue));
+        List<RunCursor> cursors = new ArrayList<>(runFiles.size());
+        try {
+            for (Path runFile : runFiles) {
+                RunCursor cursor = new RunCursor(runFile, bufferSize);
+                cursors.add(cursor);
+                if (cursor.next()) {
+                    queue.add(cursor);
+                }
+            }
+
+            while (!queue.isEmpty()) {
+                RunCursor cursor = queue.poll();
+                consumer.accept(cursor.predictedValue, cursor.observedValue);
+                if (cursor.next()) {
+                    queue.add(cursor);
+                }
+            }
+        } finally {
+            for (RunCursor cursor : cursors) {
+                cursor.close();
+            }
+        }
+    }
+
+    private static final class RunCursor {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        private double predictedValue;
+        private int observedValue;
+
+        private RunCursor(Path file, int bufferSize) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+            buffer.flip();
+        }
+
+        private boolean next() throws IOException {
+            if (buffer.remaining() < RECORD_SIZE) {
+                buffer.compact();
+                while (buffer.position() < RECORD_SIZE && channel.read(buffer) > 0) {
+                    // fill at least one record
+                }
+                buffer.flip();
+                if (buffer.remaining() < RECORD_SIZE) {
+                    return false;
+                }
+            }
+
+            predictedValue = buffer.getDouble();
+            observedValue = buffer.get();
+
+            return true;
+        }
+
+        private void close() throws IOException {
+            channel.close();
+        }
+
+    }
+
+    public int getNumberOfRuns() {
+        return runs.size();
+    }
+
+    public long getNumberOfPositives() {
+        return numberOfPositives;
+    }
+
+    public long getNumberOfNegatives() {
+        return numberOfNegatives;
+    }
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Delete the temporary runs.
+     */
+    @Override
+    public void close() throws IOException {
+        for (Path run : runs) {
+            Files.deleteIfExists(run);
+        }
+        runs.clear();
+    }
+
+}
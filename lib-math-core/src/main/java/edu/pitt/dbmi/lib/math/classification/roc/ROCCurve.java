@@ -19,6 +19,9 @@
 package edu.pitt.dbmi.lib.math.classification.roc;
 
 import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.monitoring.PhaseTimer;
+import java.math.BigDecimal;
+import java.math.MathContext;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -33,6 +36,11 @@ import java.util.List;
  */
 public class ROCCurve implements ROC {
 
+    /**
+     * Largest long that converts to a double exactly.
+     */
+    private static final long MAX_EXACT_LONG = 1L << 53;
+
     /**
      * Sensitivity, the y-values on the ROC plot.
      */
@@ -61,12 +69,17 @@ public class ROCCurve implements ROC {
                     "A list of data containing both observed value and predicted value is required.");
         }
 
+        PhaseTimer timer = PhaseTimer.start("ROCCurve", "sort");
+
         // copy data to an array
         ObservedPredictedValue[] data = observedPredictedValues.toArray(ObservedPredictedValue[]::new);
 
         // sort in descending order
         Arrays.sort(data, Collections.reverseOrder());
 
+        timer.stop(data.length);
+        timer = PhaseTimer.start("ROCCurve", "sweep");
+
         this.numberOfPositives = (int) Arrays.stream(data)
                 .filter(obsPredVal -> obsPredVal.getObservedValue() == 1)
                 .count();
@@ -86,6 +99,58 @@ public class ROCCurve implements ROC {
 
         this.confusionMatrices = computeConfusionMatrices(data, numberOfPositives, numberOfNegatives);
 
+        computeRates();
+
+        timer.stop(data.length);
+    }
+
+    /**
+     * Create the ROC curve from confusion matrices that have already been
+     * computed.
+     *
+     * @param confusionMatrices confusion matrices, from the highest threshold
+     * to the lowest
+     * @param positivePredictedValues predicted values for positive cases
+     * @param negativePredictedValues predicted values for negative cases
+     */
+    public ROCCurve(ConfusionMatrix[] confusionMatrices, double[] positivePredictedValues, double[] negativePredictedValues) {
+        if (confusionMatrices == null || confusionMatrices.length == 0) {
+            throw new IllegalArgumentException("Confusion matrices are required.");
+        }
+
+        this.numberOfPositives = positivePredictedValues.length;
+        this.numberOfNegatives = negativePredictedValues.length;
+        this.positivePredictedValues = positivePredictedValues;
+        this.negativePredictedValues = negativePredictedValues;
+        this.confusionMatrices = confusionMatrices;
+
+        computeRates();
+    }
+
+    /**
+     * Create the ROC curve from confusion matrices alone, for example read
+     * back from a serialized curve. The numbers of positives and negatives are
+     * taken from the first matrix and the predicted values are empty.
+     *
+     * @param confusionMatrices confusion matrices, from the highest threshold
+     * to the lowest
+     */
+    public ROCCurve(ConfusionMatrix[] confusionMatrices) {
+        if (confusionMatrices == null || confusionMatrices.length == 0) {
+            throw new IllegalArgumentException("Confusion matrices are required.");
+        }
+
+        ConfusionMatrix first = confusionMatrices[0];
+        this.numberOfPositives = first.getTruePositives() + first.getFalseNegatives();
+        this.numberOfNegatives = first.getTrueNegatives() + first.getFalsePositives();
+        this.positivePredictedValues = new double[0];
+        this.negativePredictedValues = new double[0];
+        this.confusionMatrices = confusionMatrices;
+
+        computeRates();
+    }
+
+    private void computeRates() {
         this.areaUnderRocCurve = computeAreaUnderRocCurve(confusionMatrices);
 
         this.truePositiveRates = Arrays.stream(confusionMatrices)
@@ -96,25 +161,42 @@ public class ROCCurve implements ROC {
                 .toArray();
     }
 
+    /**
+     * Compute the area with the trapezoid method on the counts rather than on
+     * the rates. Twice the area times the number of positives times the number
+     * of negatives is an integer, so it is summed exactly and the area is
+     * rounded only once. The area is 0 when the data has a single class.
+     *
+     * @param confusionMatrices confusion matrices, from the highest threshold
+     * to the lowest
+     * @return area under the ROC curve
+     */
     private double computeAreaUnderRocCurve(ConfusionMatrix[] confusionMatrices) {
-        double areaUnderCurve = 0;
+        long twiceArea = 0;
 
-        double x1, x2, y1, y2;
+        long x1, x2, y1, y2;
         x1 = y1 = 0;
         for (ConfusionMatrix confusionMatrix : confusionMatrices) {
-            x2 = confusionMatrix.getFalsePositiveRate();
-            y2 = confusionMatrix.getTruePositiveRate();
+            x2 = confusionMatrix.getFalsePositives();
+            y2 = confusionMatrix.getTruePositives();
 
             // compute the area using trapezoid method
-            double base = Math.abs(x1 - x2);
-            double height = (y1 + y2) / 2;
-            areaUnderCurve += base * height;
+            twiceArea += Math.abs(x1 - x2) * (y1 + y2);
 
             x1 = x2;
             y1 = y2;
         }
 
-        return areaUnderCurve;
+        // with a single class one of the rates stays at 0, so the area is 0
+        long scale = 2L * numberOfPositives * numberOfNegatives;
+        if (scale == 0) {
+            return 0;
+        }
+        if (twiceArea <= MAX_EXACT_LONG && scale <= MAX_EXACT_LONG) {
+            return twiceArea / (double) scale;
+        } else {
+            return new BigDecimal(twiceArea).divide(new BigDecimal(scale), MathContext.DECIMAL128).doubleValue();
+        }
     }
 
     private ConfusionMatrix[] computeConfusionMatrices(ObservedPredictedValue[] observedPredictedValues, int numberOfPositives, int numberOfNegatives) {
@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.roc;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sweep of the thresholds from the highest predicted value to the lowest, as
+ * in {@link ROCCurve}. The area under the curve is summed exactly on the
+ * counts, every point can be written to a CSV file, and a decimated curve is
+ * kept: a point is kept once it is the tolerance away from the last kept
+ * point, and the middle points of vertical and horizontal runs are dropped.
+ *
+ * Oct 20, 2026 12:48:19 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+final class ROCSweep implements AutoCloseable {
+
+    private final int numOfPositives;
+    private final int numOfNegatives;
+    private final double xTolerance;
+    private final double yTolerance;
+
+    private final List<ConfusionMatrix> kept = new ArrayList<>();
+    private final BufferedWriter writer;
+
+    private long numOfThresholds;
+
+    private int truePositives;
+    private int falsePositives;
+    private double threshold = -1.0;
+
+    // twice the area times the number of positives times the number of negatives
+    private long twiceArea;
+    private BigInteger bigTwiceArea = BigInteger.ZERO;
+    private long previousTruePositives;
+    private long previousFalsePositives;
+
+    // last kept point of the decimated curve
+    private double lastX;
+    private double lastY;
+    private ConfusionMatrix pending;
+
+    /**
+     * @param numOfPositives number of positive cases
+     * @param numOfNegatives number of negative cases
+     * @param xTolerance largest distance along the false positive rate that
+     * the decimated curve may skip
+     * @param yTolerance largest distance along the true positive rate that the
+     * decimated curve may skip
+     * @param curveFile CSV file to write every point to, or null
+     * @throws IOException
+     */
+    ROCSweep(int numOfPositives, int numOfNegatives, double xTolerance, double yTolerance, Path curveFile) throws IOException {
+        this.numOfPositives = numOfPositives;
+        this.numOfNegatives = numOfNegatives;
+        this.xTolerance = xTolerance;
+        this.yTolerance = yTolerance;
+
+        if (curveFile == null) {
+            writer = null;
+        } else {
+            writer = Files.newBufferedWriter(curveFile, StandardCharsets.UTF_8);
+            writer.write("threshold,tp,tn,fp,fn");
+            writer.newLine();
+        }
+    }
+
+    /**
+     * Add the next data, in descending order of the predicted values.
+     */
+    void accept(double predictedValue, int observedValue) throws IOException {
+        if (predictedValue != threshold) {
+            emit();
+            threshold = predictedValue;
+        }
+
+        if (observedValue == 1) {
+            truePositives++;
+        } else {
+            falsePositives++;
+        }
+    }
+
+    /**
+     * Close the curve after the last data.
+     *
+     * @return ROC curve with the exact area and the decimated points
+     */
+    ExternalROCCurve finish() throws IOException {
+        emit();
+        if (pending != null) {
+            keep(pending);
+            pending = null;
+        }
+        if (writer != null) {
+            writer.flush();
+        }
+
+        return new ExternalROCCurve(
+                kept.toArray(ConfusionMatrix[]::new),
+                numOfPositives, numOfNegatives,
+                numOfThresholds, getAreaUnderRocCurve());
+    }
+
+    private void emit() throws IOException {
+        ConfusionMatrix confusionMatrix = new ConfusionMatrix(
+                truePositives, numOfNegatives - falsePositives,
+                falsePositives, numOfPositives - truePositives,
+                threshold);
+        numOfThresholds++;
+
+        // trapezoid on the counts, as in ROCCurve
+        long term;
+        try {
+            term = Math.multiplyExact(falsePositives - previousFalsePositives, previousTruePositives + truePositives);
+            twiceArea = Math.addExact(twiceArea, term);
+        } catch (ArithmeticException exception) {
+            bigTwiceArea = bigTwiceArea.add(BigInteger.valueOf(twiceArea))
+                    .add(BigInteger.valueOf(falsePositives - previousFalsePositives)
+                            .multiply(BigInteger.valueOf(previousTruePositives + truePositives)));
+            twiceArea = 0;
+        }
+        previousTruePositives = truePositives;
+        previousFalsePositives = falsePositives;
+
+        if (writer != null) {
+            writer.write(Double.toString(threshold));
+            writer.write(',');
+            writer.write(Integer.toString(confusionMatrix.getTruePositives()));
+            writer.write(',');
+            writer.write(Integer.toString(confusionMatrix.getTrueNegatives()));
+            writer.write(',');
+            writer.write(Integer.toString(confusionMatrix.getFalsePositives()));
+            writer.write(',');
+            writer.write(Integer.toString(confusionMatrix.getFalseNegatives()));
+            writer.newLine();
+        }
+
+        decimate(confusionMatrix);
+    }
+
+    /**
+     * Keep a point once it is the tolerance away from the last kept point,
+     * always keeping the first and last points. The latest skipped point
+     * is held so that the last point can be kept at the end.
+     */
+    private void decimate(ConfusionMatrix confusionMatrix) {
+        double x = confusionMatrix.getFalsePositiveRate();
+        double y = confusionMatrix.getTruePositiveRate();
+        if (kept.isEmpty()) {
+            keep(confusionMatrix);
+        } else if (Math.abs(x - lastX) >= xTolerance || Math.abs(y - lastY) >= yTolerance) {
+            pending = null;
+            keep(confusionMatrix);
+        } else {
+            pending = confusionMatrix;
+        }
+    }
+
+    private void keep(ConfusionMatrix confusionMatrix) {
+        double x = confusionMatrix.getFalsePositiveRate();
+        double y = confusionMatrix.getTruePositiveRate();
+
+        // drop the middle of a vertical or horizontal run
+        int size = kept.size();
+        if (size >= 2) {
+            ConfusionMatrix previous = kept.get(size - 2);
+            ConfusionMatrix last = kept.get(size - 1);
+            if ((previous.getFalsePositiveRate() == last.getFalsePositiveRate() && last.getFalsePositiveRate() == x)
+                    || (previous.getTruePositiveRate() == last.getTruePositiveRate() && last.getTruePositiveRate() == y)) {
+                kept.remove(size - 1);
+            }
+        }
+
+        kept.add(confusionMatrix);
+        lastX = x;
+        lastY = y;
+    }
+
+    private double getAreaUnderRocCurve() {
+        BigInteger total = bigTwiceArea.add(BigInteger.valueOf(twiceArea));
+        BigInteger scale = BigInteger.valueOf(2L * numOfPositives).multiply(BigInteger.valueOf(numOfNegatives));
+        if (scale.signum() == 0) {
+            return Double.NaN;
+        }
+
+        return new BigDecimal(total).divide(new BigDecimal(scale), MathContext.DECIMAL128).doubleValue();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+}
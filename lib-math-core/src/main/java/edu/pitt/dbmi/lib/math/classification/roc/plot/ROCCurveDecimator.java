@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.roc.plot;
+
+import java.util.Arrays;
+
+/**
+ * Reduce the points of an ROC curve to those needed to draw it at a given
+ * resolution.
+ *
+ * The points are scanned once. A point is kept when it is at least the
+ * tolerance away from the last kept point along either axis. Since the ROC
+ * curve never goes back along either axis, every skipped point lies within the
+ * tolerance box of the last kept point, so the drawn curve moves by less than
+ * the tolerance. Kept points in the middle of a vertical or horizontal run are
+ * then dropped, so the steps of the curve stay exactly as they are. The first
+ * and last points are always kept.
+ *
+ * Each kept point advances at least the tolerance, so the number of points
+ * kept is bounded by the resolution, not by the size of the curve.
+ *
+ * Oct 19, 2026 7:02:37 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public final class ROCCurveDecimator {
+
+    /**
+     * Largest distance, in pixels, that the drawn curve may move when the
+     * points are decimated.
+     */
+    public static final double PIXEL_TOLERANCE = 0.5;
+
+    private ROCCurveDecimator() {
+    }
+
+    /**
+     * Find the points to keep.
+     *
+     * @param xPoints x-values, in drawing order
+     * @param yPoints y-values, in drawing order
+     * @param xTolerance largest distance along the x-axis that can be skipped
+     * @param yTolerance largest distance along the y-axis that can be skipped
+     * @return indices of the points to keep, in ascending order
+     */
+    public static int[] decimate(double[] xPoints, double[] yPoints, double xTolerance, double yTolerance) {
+        if (xPoints.length != yPoints.length) {
+            throw new IllegalArgumentException("The x-values and y-values must have the same length.");
+        }
+        if (!(xTolerance > 0) || !(yTolerance > 0)) {
+            throw new IllegalArgumentException("Tolerance must be greater than zero.");
+        }
+
+        int size = xPoints.length;
+        if (size <= 2) {
+            int[] indices = new int[size];
+            for (int i = 0; i < size; i++) {
+                indices[i] = i;
+            }
+
+            return indices;
+        }
+
+        int[] kept = new int[size];
+        int numOfKept = 0;
+        kept[numOfKept++] = 0;
+        double lastX = xPoints[0];
+        double lastY = yPoints[0];
+        for (int i = 1; i < size; i++) {
+            double x = xPoints[i];
+            double y = yPoints[i];
+            if (i < size - 1 && Math.abs(x - lastX) < xTolerance && Math.abs(y - lastY) < yTolerance) {
+                continue;
+            }
+
+            // drop the middle of a vertical or horizontal run
+            if (numOfKept >= 2) {
+                int previous = kept[numOfKept - 2];
+                int last = kept[numOfKept - 1];
+                if ((xPoints[previous] == xPoints[last] && xPoints[last] == x)
+                        || (yPoints[previous] == yPoints[last] && yPoints[last] == y)) {
+                    numOfKept--;
+                }
+            }
+
+            kept[numOfKept++] = i;
+            lastX = x;
+            lastY = y;
+        }
+
+        return Arrays.copyOf(kept, numOfKept);
+    }
+
+    /**
+     * Select the values at the given indices.
+     *
+     * @param values values to select from
+     * @param indices indices of the values to select
+     * @return selected values
+     */
+    public static double[] select(double[] values, int[] indices) {
+        double[] selected = new double[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            selected[i] = values[indices[i]];
+        }
+
+        return selected;
+    }
+
+}
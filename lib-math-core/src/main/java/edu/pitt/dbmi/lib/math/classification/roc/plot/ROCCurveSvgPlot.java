@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.roc.plot;
+
+import edu.pitt.dbmi.lib.math.classification.plot.AbstractSvgPlot;
+import edu.pitt.dbmi.lib.math.classification.plot.SvgStroke;
+import edu.pitt.dbmi.lib.math.classification.plot.SvgWriter;
+import edu.pitt.dbmi.lib.math.classification.roc.ROC;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ROC curve plot written as SVG, styled as ROCCurvePlot. The curves
+ * are decimated to the resolution of the image before they are written.
+ *
+ * Oct 19, 2026 9:10:44 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class ROCCurveSvgPlot extends AbstractSvgPlot {
+
+    private final List<double[]> xPointsPerSeries;
+    private final List<double[]> yPointsPerSeries;
+    private final List<String> colors;
+    private final List<SvgStroke> strokes;
+
+    public ROCCurveSvgPlot(String title) {
+        super(title, "1-Specificity (FPR)", "Sensitivity (TPR)");
+
+        xPointsPerSeries = new ArrayList<>();
+        yPointsPerSeries = new ArrayList<>();
+        colors = new ArrayList<>();
+        strokes = new ArrayList<>();
+    }
+
+    public void add(ROC roc, String label, String color) {
+        label = String.format("%s (AUC %1.4f)", label, roc.getAreaUnderRocCurve());
+
+        addDataSeries(label, roc.getFalsePositiveRates(), roc.getTruePositiveRates(), color, SvgStroke.SOLID_LINE);
+    }
+
+    public void addDataSeries(String label, double[] xPoints, double[] yPoints, String color, SvgStroke stroke) {
+        if (xPoints.length != yPoints.length) {
+            throw new IllegalArgumentException("The x-values and y-values must have the same length.");
+        }
+
+        xPointsPerSeries.add(xPoints);
+        yPointsPerSeries.add(yPoints);
+        colors.add(color);
+        strokes.add(stroke);
+        addLegendItem(label, color, null, stroke);
+    }
+
+    @Override
+    public void clearDataSeries() {
+        super.clearDataSeries();
+
+        xPointsPerSeries.clear();
+        yPointsPerSeries.clear();
+        colors.clear();
+        strokes.clear();
+    }
+
+    @Override
+    protected void writeDataSeries(SvgWriter svg) throws IOException {
+        double xTolerance = ROCCurveDecimator.PIXEL_TOLERANCE * svg.getXUnitsPerPixel();
+        double yTolerance = ROCCurveDecimator.PIXEL_TOLERANCE * svg.getYUnitsPerPixel();
+
+        // the first series on top, as in JFreeChart
+        for (int series = xPointsPerSeries.size() - 1; series >= 0; series--) {
+            double[] xPoints = xPointsPerSeries.get(series);
+            double[] yPoints = yPointsPerSeries.get(series);
+            int[] indices = ROCCurveDecimator.decimate(xPoints, yPoints, xTolerance, yTolerance);
+            if (indices.length < xPoints.length) {
+                xPoints = ROCCurveDecimator.select(xPoints, indices);
+                yPoints = ROCCurveDecimator.select(yPoints, indices);
+            }
+
+            svg.polyline(xPoints, yPoints, colors.get(series), strokes.get(series));
+        }
+    }
+
+}
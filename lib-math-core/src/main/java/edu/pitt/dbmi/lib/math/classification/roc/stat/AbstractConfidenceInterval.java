@@ -18,6 +18,7 @@
  */
 package edu.pitt.dbmi.lib.math.classification.roc.stat;
 
+import edu.pitt.dbmi.lib.math.classification.monitoring.PhaseTimer;
 import edu.pitt.dbmi.lib.math.classification.roc.ROC;
 
 /**
@@ -53,7 +54,9 @@ public abstract class AbstractConfidenceInterval implements ConfidenceInterval {
             throw new IllegalArgumentException("Receiver Operating Characteristics (ROC) required.");
         }
 
+        PhaseTimer timer = PhaseTimer.start(getClass().getSimpleName(), "standardError");
         double stdError = computeStandardError(roc);
+        timer.stop((long) roc.getNumberOfPositives() + roc.getNumberOfNegatives());
 
         double marginOfError = CRITICAL_VALUE * stdError;
         double areaUnderCurve = roc.getAreaUnderRocCurve();
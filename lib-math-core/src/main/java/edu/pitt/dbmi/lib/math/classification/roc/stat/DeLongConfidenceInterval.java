@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.roc.stat;
+
+import edu.pitt.dbmi.lib.math.classification.roc.ROC;
+import edu.pitt.dbmi.lib.math.classification.utils.CompensatedSum;
+import java.util.Arrays;
+
+/**
+ * Confidence interval for AUROC curve using DeLong's method.
+ *
+ * Mar 28, 2012 10:51:42 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class DeLongConfidenceInterval extends AbstractConfidenceInterval {
+
+    public DeLongConfidenceInterval(ROC roc) {
+        super(roc);
+    }
+
+    @Override
+    protected double computeStandardError(ROC roc) {
+        double stdError = 0;
+
+        double[] abNormData = roc.getPositivePredictedValues();
+        double[] normData = roc.getNegativePredictedValues();
+
+        double auc = roc.getAreaUnderRocCurve();
+        stdError = Math.sqrt((sNorm(normData, abNormData, auc) / normData.length) + (sAbnorm(normData, abNormData, auc) / abNormData.length));
+
+        return stdError;
+    }
+
+    /**
+     * Placement value of a negative case: the fraction of the positive cases
+     * scored above it, counting ties as one half. The positive cases are
+     * sorted, so each value is found with two binary searches instead of a
+     * pass over all of them, which makes the interval O(n log n) rather than
+     * O(positives x negatives).
+     */
+    private static double vNorm(double Yj, double[] sortedAbNormData) {
+        int lower = lowerBound(sortedAbNormData, Yj);
+        int upper = upperBound(sortedAbNormData, Yj);
+        double result = (sortedAbNormData.length - upper) + 0.5 * (upper - lower);
+
+        return result / sortedAbNormData.length;
+    }
+
+    /**
+     * Placement value of a positive case: the fraction of the negative cases
+     * scored below it, counting ties as one half.
+     */
+    private static double vAbnorm(double Xi, double[] sortedNormData) {
+        int lower = lowerBound(sortedNormData, Xi);
+        int upper = upperBound(sortedNormData, Xi);
+        double result = lower + 0.5 * (upper - lower);
+
+        return result / sortedNormData.length;
+    }
+
+    private static double sNorm(double[] normData, double[] abNormData, double auc) {
+        double[] sortedAbNormData = sort(abNormData);
+        CompensatedSum result = new CompensatedSum();
+
+        for (double Yj : normData) {
+            result.add(Math.pow(vNorm(Yj, sortedAbNormData) - auc, 2));
+        }
+
+        return result.getSum() / (normData.length - 1);
+    }
+
+    private static double sAbnorm(double[] normData, double[] abNormData, double auc) {
+        double[] sortedNormData = sort(normData);
+        CompensatedSum result = new CompensatedSum();
+
+        for (double Xi : abNormData) {
+            result.add(Math.pow(vAbnorm(Xi, sortedNormData) - auc, 2));
+        }
+
+        return result.getSum() / (abNormData.length - 1);
+    }
+
+    private static double[] sort(double[] values) {
+        double[] sortedValues = values.clone();
+        Arrays.sort(sortedValues);
+
+        return sortedValues;
+    }
+
+    /**
+     * @return index of the first value that is not less than the key
+     */
+    private static int lowerBound(double[] sortedValues, double key) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedValues[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * @return index of the first value that is greater than the key
+     */
+    private static int upperBound(double[] sortedValues, double key) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedValues[middle] <= key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+}
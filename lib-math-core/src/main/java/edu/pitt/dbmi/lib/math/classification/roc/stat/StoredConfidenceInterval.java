@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.roc.stat;
+
+/**
+ * Confidence interval whose values have already been computed, for example
+ * read back from a serialized result.
+ *
+ * Oct 19, 2026 11:08:35 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class StoredConfidenceInterval implements ConfidenceInterval {
+
+    private final double standardError;
+
+    private final double lowerConfidenceInterval;
+
+    private final double upperConfidenceInterval;
+
+    public StoredConfidenceInterval(double standardError, double lowerConfidenceInterval, double upperConfidenceInterval) {
+        this.standardError = standardError;
+        this.lowerConfidenceInterval = lowerConfidenceInterval;
+        this.upperConfidenceInterval = upperConfidenceInterval;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "CI: [%f, %f]",
+                lowerConfidenceInterval, upperConfidenceInterval);
+    }
+
+    @Override
+    public double getStandardError() {
+        return standardError;
+    }
+
+    @Override
+    public double getLowerConfidenceInterval() {
+        return lowerConfidenceInterval;
+    }
+
+    @Override
+    public double getUpperConfidenceInterval() {
+        return upperConfidenceInterval;
+    }
+
+}
@@ -0,0 +1,629 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.serialization;
+
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshow;
+import edu.pitt.dbmi.lib.math.classification.calibration.TalliedHosmerLemeshow;
+import edu.pitt.dbmi.lib.math.classification.roc.ConfusionMatrix;
+import edu.pitt.dbmi.lib.math.classification.roc.ROC;
+import edu.pitt.dbmi.lib.math.classification.roc.ROCCurve;
+import edu.pitt.dbmi.lib.math.classification.roc.stat.ConfidenceInterval;
+import edu.pitt.dbmi.lib.math.classification.roc.stat.StoredConfidenceInterval;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Compact binary form of evaluation results, so that they can be computed on
+ * one machine and plotted on another.
+ *
+ * Each record starts with a tag byte and a version byte.
+ * <ul>
+ * <li>ROC: the numbers of positives and negatives, then for each confusion
+ * point the change in true and false positives as zigzag varints, then the
+ * thresholds as a block of doubles. True and false negatives are derived
+ * from the totals. The predicted values are optional.</li>
+ * <li>Hosmer-Lemeshow: for each group the number of data and of positive
+ * outcomes as varints, then the sums of predictions as a block of
+ * doubles.</li>
+ * <li>Confidence interval: the standard error and the bounds.</li>
+ * </ul>
+ * Since consecutive counts differ by a few units, a confusion matrix usually
+ * takes two bytes plus its threshold.
+ *
+ * A block of doubles starts with its encoding byte. When every value is a
+ * decimal with at most 15 places, such as predictions read from a CSV file,
+ * the values are scaled to integers and stored as zigzag varints of their
+ * differences, which takes two or three bytes per sorted threshold. Otherwise
+ * each value is XOR-ed with the previous one and only the bits between the
+ * leading and the trailing zeros are stored, as in the Gorilla time series
+ * compression. The previous window is reused when the bits fit in it and a
+ * new window, which takes 12 more bits to describe, would not be shorter. Either way
+ * the doubles read back are bit for bit the ones written, so the results are
+ * exact.
+ *
+ * Lengths are checked against the counts they must match, and arrays grow
+ * as their elements are read, so corrupt input fails with an IOException
+ * rather than allocating whatever length it claims.
+ *
+ * The readers consume exactly one record, so several records can be written
+ * to the same stream. Unbuffered streams should be wrapped in a buffered
+ * stream since the varints are read one byte at a time.
+ *
+ * Oct 19, 2026 11:14:52 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public final class EvaluationSerializer {
+
+    private static final int ROC_TAG = 'R';
+    private static final int HOSMER_LEMESHOW_TAG = 'H';
+    private static final int CONFIDENCE_INTERVAL_TAG = 'C';
+
+    private static final int VERSION = 1;
+
+    private static final int FLAG_PREDICTED_VALUES = 1;
+
+    /**
+     * Largest number of decimal places of a block of doubles stored as scaled
+     * integers.
+     */
+    private static final int MAX_DECIMAL_PLACES = 15;
+
+    /**
+     * Encoding byte of a block of doubles stored as XOR-ed bits.
+     */
+    private static final int XOR_ENCODING = 0xFF;
+
+    /**
+     * Largest magnitude of a scaled integer that a double holds exactly.
+     */
+    private static final long MAX_EXACT_LONG = 1L << 53;
+
+    /**
+     * Arrays read are allocated at most this long at first and grow as their
+     * elements arrive.
+     */
+    private static final int MAX_INITIAL_LENGTH = 1 << 16;
+
+    private static final double[] POWERS_OF_TEN = new double[MAX_DECIMAL_PLACES + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private EvaluationSerializer() {
+    }
+
+    /**
+     * Write the ROC curve without the predicted values, which is enough to
+     * plot it.
+     *
+     * @param roc ROC curve
+     * @param out stream to write to
+     * @throws IOException
+     */
+    public static void writeROC(ROC roc, OutputStream out) throws IOException {
+        writeROC(roc, false, out);
+    }
+
+    /**
+     * Write the ROC curve.
+     *
+     * @param roc ROC curve
+     * @param includePredictedValues also write the predicted values of the
+     * positive and negative cases
+     * @param out stream to write to
+     * @throws IOException
+     */
+    public static void writeROC(ROC roc, boolean includePredictedValues, OutputStream out) throws IOException {
+        ConfusionMatrix[] confusionMatrices = roc.getConfusionMatrices();
+        if (includePredictedValues
+                && (roc.getPositivePredictedValues().length != roc.getNumberOfPositives()
+                || roc.getNegativePredictedValues().length != roc.getNumberOfNegatives())) {
+            throw new IllegalArgumentException("The ROC curve does not have the predicted values of every case.");
+        }
+
+        out.write(ROC_TAG);
+        out.write(VERSION);
+        out.write(includePredictedValues ? FLAG_PREDICTED_VALUES : 0);
+        writeVarLong(out, confusionMatrices.length);
+        writeVarLong(out, roc.getNumberOfPositives());
+        writeVarLong(out, roc.getNumberOfNegatives());
+
+        // the counts are taken from the rates, which are what is plotted,
+        // since some curves truncate the counts in their confusion matrices
+        int numOfPositives = roc.getNumberOfPositives();
+        int numOfNegatives = roc.getNumberOfNegatives();
+        double[] truePositiveRates = roc.getTruePositiveRates();
+        double[] falsePositiveRates = roc.getFalsePositiveRates();
+        double[] thresholds = new double[confusionMatrices.length];
+        long truePositives = 0;
+        long falsePositives = 0;
+        for (int i = 0; i < confusionMatrices.length; i++) {
+            long tp = Math.round(truePositiveRates[i] * numOfPositives);
+            long fp = Math.round(falsePositiveRates[i] * numOfNegatives);
+            writeVarLong(out, zigzag(tp - truePositives));
+            writeVarLong(out, zigzag(fp - falsePositives));
+            truePositives = tp;
+            falsePositives = fp;
+            thresholds[i] = confusionMatrices[i].getThreshold();
+        }
+        writeDoubleBlock(out, thresholds);
+
+        if (includePredictedValues) {
+            writeDoubles(out, roc.getPositivePredictedValues());
+            writeDoubles(out, roc.getNegativePredictedValues());
+        }
+    }
+
+    /**
+     * Read an ROC curve. The curve has no predicted values unless they were
+     * written.
+     *
+     * @param in stream to read from
+     * @return ROC curve
+     * @throws IOException
+     */
+    public static ROC readROC(InputStream in) throws IOException {
+        int flags = readHeader(in, ROC_TAG);
+        int numOfMatrices = readLength(in);
+        int numOfPositives = readLength(in);
+        int numOfNegatives = readLength(in);
+        if (numOfMatrices == 0) {
+            throw new IOException("An ROC curve has at least one confusion matrix.");
+        }
+
+        int[] truePositives = new int[Math.min(numOfMatrices, MAX_INITIAL_LENGTH)];
+        int[] falsePositives = new int[truePositives.length];
+        long tp = 0;
+        long fp = 0;
+        for (int i = 0; i < numOfMatrices; i++) {
+            tp += unzigzag(readVarLong(in));
+            fp += unzigzag(readVarLong(in));
+            if (tp < 0 || tp > numOfPositives || fp < 0 || fp > numOfNegatives) {
+                throw new IOException("Invalid counts in confusion matrix " + i + ".");
+            }
+
+            truePositives = ensureCapacity(truePositives, i, numOfMatrices);
+            falsePositives = ensureCapacity(falsePositives, i, numOfMatrices);
+            truePositives[i] = (int) tp;
+            falsePositives[i] = (int) fp;
+        }
+        double[] thresholds = readDoubleBlock(in, numOfMatrices);
+
+        ConfusionMatrix[] confusionMatrices = new ConfusionMatrix[numOfMatrices];
+        for (int i = 0; i < numOfMatrices; i++) {
+            confusionMatrices[i] = new ConfusionMatrix(
+                    truePositives[i], numOfNegatives - falsePositives[i],
+                    falsePositives[i], numOfPositives - truePositives[i],
+                    thresholds[i]);
+        }
+
+        if ((flags & FLAG_PREDICTED_VALUES) != 0) {
+            double[] positivePredictedValues = readDoubles(in, numOfPositives);
+            double[] negativePredictedValues = readDoubles(in, numOfNegatives);
+
+            return new ROCCurve(confusionMatrices, positivePredictedValues, negativePredictedValues);
+        }
+
+        return new ROCCurve(confusionMatrices);
+    }
+
+    /**
+     * Write the groups of the Hosmer-Lemeshow statistics.
+     *
+     * @param hl Hosmer-Lemeshow statistics
+     * @param out stream to write to
+     * @throws IOException
+     */
+    public static void writeHosmerLemeshow(HosmerLemeshow hl, OutputStream out) throws IOException {
+        int[] dataCounts = hl.getNumberOfDataPerGroup();
+        int[] positiveCounts = hl.getPositiveObservedSumPerGroup();
+        double[] predictedSums = hl.getPredictedSumPerGroup();
+
+        out.write(HOSMER_LEMESHOW_TAG);
+        out.write(VERSION);
+        writeVarLong(out, dataCounts.length);
+
+        for (int i = 0; i < dataCounts.length; i++) {
+            writeVarLong(out, dataCounts[i]);
+            writeVarLong(out, positiveCounts[i]);
+        }
+        writeDoubleBlock(out, predictedSums);
+    }
+
+    /**
+     * Read Hosmer-Lemeshow statistics. The statistics are recomputed from the
+     * groups and have no observed or predicted values.
+     *
+     * @param in stream to read from
+     * @return Hosmer-Lemeshow statistics
+     * @throws IOException
+     */
+    public static HosmerLemeshow readHosmerLemeshow(InputStream in) throws IOException {
+        readHeader(in, HOSMER_LEMESHOW_TAG);
+        int numOfGroups = readLength(in);
+
+        int[] dataCounts = new int[Math.min(numOfGroups, MAX_INITIAL_LENGTH)];
+        int[] positiveCounts = new int[dataCounts.length];
+        for (int i = 0; i < numOfGroups; i++) {
+            dataCounts = ensureCapacity(dataCounts, i, numOfGroups);
+            positiveCounts = ensureCapacity(positiveCounts, i, numOfGroups);
+            dataCounts[i] = readLength(in);
+            positiveCounts[i] = readLength(in);
+            if (positiveCounts[i] > dataCounts[i]) {
+                throw new IOException("Group " + i + " has more positive outcomes than data.");
+            }
+        }
+        double[] predictedSums = readDoubleBlock(in, numOfGroups);
+
+        return new TalliedHosmerLemeshow(dataCounts, positiveCounts, predictedSums);
+    }
+
+    public static void writeConfidenceInterval(ConfidenceInterval confidenceInterval, OutputStream out) throws IOException {
+        out.write(CONFIDENCE_INTERVAL_TAG);
+        out.write(VERSION);
+        writeDouble(out, confidenceInterval.getStandardError());
+        writeDouble(out, confidenceInterval.getLowerConfidenceInterval());
+        writeDouble(out, confidenceInterval.getUpperConfidenceInterval());
+    }
+
+    public static ConfidenceInterval readConfidenceInterval(InputStream in) throws IOException {
+        readHeader(in, CONFIDENCE_INTERVAL_TAG);
+        double standardError = readDouble(in);
+        double lowerConfidenceInterval = readDouble(in);
+        double upperConfidenceInterval = readDouble(in);
+
+        return new StoredConfidenceInterval(standardError, lowerConfidenceInterval, upperConfidenceInterval);
+    }
+
+    public static byte[] toBytes(ROC roc) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeROC(roc, out);
+
+        return out.toByteArray();
+    }
+
+    public static ROC toROC(byte[] bytes) throws IOException {
+        return readROC(new ByteArrayInputStream(bytes));
+    }
+
+    public static byte[] toBytes(HosmerLemeshow hl) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeHosmerLemeshow(hl, out);
+
+        return out.toByteArray();
+    }
+
+    public static HosmerLemeshow toHosmerLemeshow(byte[] bytes) throws IOException {
+        return readHosmerLemeshow(new ByteArrayInputStream(bytes));
+    }
+
+    private static int readHeader(InputStream in, int tag) throws IOException {
+        int actualTag = readByte(in);
+        if (actualTag != tag) {
+            throw new IOException(String.format("Expected a record of type '%c' but found %d.", (char) tag, actualTag));
+        }
+
+        int version = readByte(in);
+        if (version != VERSION) {
+            throw new IOException("Unsupported version " + version + ".");
+        }
+
+        return (tag == ROC_TAG) ? readByte(in) : 0;
+    }
+
+    private static void writeDoubles(OutputStream out, double[] values) throws IOException {
+        writeVarLong(out, values.length);
+        writeDoubleBlock(out, values);
+    }
+
+    private static double[] readDoubles(InputStream in, int expectedLength) throws IOException {
+        int length = readLength(in);
+        if (length != expectedLength) {
+            throw new IOException("Expected " + expectedLength + " predicted values but found " + length + ".");
+        }
+
+        return readDoubleBlock(in, length);
+    }
+
+    private static void writeDoubleBlock(OutputStream out, double[] values) throws IOException {
+        int decimalPlaces = findDecimalPlaces(values);
+        out.write(decimalPlaces);
+        if (decimalPlaces == XOR_ENCODING) {
+            writeXorBlock(out, values);
+        } else {
+            double scale = POWERS_OF_TEN[decimalPlaces];
+            long previous = 0;
+            for (double value : values) {
+                long scaled = (long) Math.rint(value * scale);
+                writeVarLong(out, zigzag(scaled - previous));
+                previous = scaled;
+            }
+        }
+    }
+
+    private static double[] readDoubleBlock(InputStream in, int length) throws IOException {
+        int encoding = readByte(in);
+        if (encoding == XOR_ENCODING) {
+            return readXorBlock(in, length);
+        }
+        if (encoding > MAX_DECIMAL_PLACES) {
+            throw new IOException("Unknown encoding " + encoding + ".");
+        }
+
+        double scale = POWERS_OF_TEN[encoding];
+        double[] values = new double[Math.min(length, MAX_INITIAL_LENGTH)];
+        long scaled = 0;
+        for (int i = 0; i < length; i++) {
+            scaled += unzigzag(readVarLong(in));
+            values = ensureCapacity(values, i, length);
+            values[i] = scaled / scale;
+        }
+
+        return values;
+    }
+
+    /**
+     * Find the fewest decimal places that hold every value exactly.
+     *
+     * @return the number of decimal places, or XOR_ENCODING if the values are
+     * not all short decimals
+     */
+    private static int findDecimalPlaces(double[] values) {
+        for (int places = 0; places <= MAX_DECIMAL_PLACES; places++) {
+            if (isExactDecimal(values, POWERS_OF_TEN[places])) {
+                return places;
+            }
+        }
+
+        return XOR_ENCODING;
+    }
+
+    private static boolean isExactDecimal(double[] values, double scale) {
+        for (double value : values) {
+            double scaled = Math.rint(value * scale);
+            if (!(Math.abs(scaled) < MAX_EXACT_LONG)) {
+                return false;
+            }
+
+            // compare the bits so that -0.0 is not taken for 0.0
+            if (Double.doubleToRawLongBits(((long) scaled) / scale) != Double.doubleToRawLongBits(value)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static void writeXorBlock(OutputStream out, double[] values) throws IOException {
+        BitWriter writer = new BitWriter(out);
+        long previousBits = 0;
+        int leadingZeros = -1;
+        int trailingZeros = 0;
+        for (double value : values) {
+            long bits = Double.doubleToRawLongBits(value);
+            long xor = bits ^ previousBits;
+            previousBits = bits;
+
+            if (xor == 0) {
+                writer.write(0, 1);
+            } else {
+                int leading = Long.numberOfLeadingZeros(xor);
+                int trailing = Long.numberOfTrailingZeros(xor);
+                // reuse the previous window unless a new one takes fewer bits
+                boolean fitsWindow = leadingZeros >= 0 && leading >= leadingZeros && trailing >= trailingZeros;
+                if (fitsWindow && (leading - leadingZeros) + (trailing - trailingZeros) <= 12) {
+                    writer.write(0b10, 2);
+                } else {
+                    leadingZeros = leading;
+                    trailingZeros = trailing;
+                    writer.write(0b11, 2);
+                    writer.write(leadingZeros, 6);
+                    writer.write(Long.SIZE - leadingZeros - trailingZeros - 1, 6);
+                }
+                writer.write(xor >>> trailingZeros, Long.SIZE - leadingZeros - trailingZeros);
+            }
+        }
+        writer.flush();
+    }
+
+    private static double[] readXorBlock(InputStream in, int length) throws IOException {
+        BitReader reader = new BitReader(in);
+        double[] values = new double[Math.min(length, MAX_INITIAL_LENGTH)];
+        long bits = 0;
+        int leadingZeros = -1;
+        int trailingZeros = 0;
+        for (int i = 0; i < length; i++) {
+            if (reader.read(1) == 1) {
+                if (reader.read(1) == 1) {
+                    leadingZeros = (int) reader.read(6);
+                    trailingZeros = Long.SIZE - leadingZeros - (int) reader.read(6) - 1;
+                    if (trailingZeros < 0) {
+                        throw new IOException("Invalid bit window.");
+                    }
+                } else if (leadingZeros < 0) {
+                    throw new IOException("Missing bit window.");
+                }
+                bits ^= reader.read(Long.SIZE - leadingZeros - trailingZeros) << trailingZeros;
+            }
+
+            values = ensureCapacity(values, i, length);
+            values[i] = Double.longBitsToDouble(bits);
+        }
+
+        return values;
+    }
+
+    /**
+     * Make room for the element at the index, growing the array by doubling
+     * up to the length that the input claims.
+     */
+    private static double[] ensureCapacity(double[] values, int index, int length) {
+        return (index < values.length) ? values : Arrays.copyOf(values, (int) Math.min(length, 2L * values.length));
+    }
+
+    private static int[] ensureCapacity(int[] values, int index, int length) {
+        return (index < values.length) ? values : Arrays.copyOf(values, (int) Math.min(length, 2L * values.length));
+    }
+
+    private static void writeDouble(OutputStream out, double value) throws IOException {
+        long bits = Double.doubleToRawLongBits(value);
+        for (int shift = 0; shift < Long.SIZE; shift += 8) {
+            out.write((int) (bits >>> shift));
+        }
+    }
+
+    private static double readDouble(InputStream in) throws IOException {
+        long bits = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 8) {
+            bits |= ((long) readByte(in)) << shift;
+        }
+
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Write an unsigned LEB128 varint: seven bits per byte, low bits first.
+     */
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = readByte(in);
+            value |= ((long) (b & 0x7F)) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IOException("Malformed varint.");
+    }
+
+    private static int readLength(InputStream in) throws IOException {
+        long value = readVarLong(in);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("Invalid length " + value + ".");
+        }
+
+        return (int) value;
+    }
+
+    private static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Unexpected end of stream.");
+        }
+
+        return b;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Writes bits to a stream, most significant bit first. The last byte is
+     * padded with zeros.
+     */
+    private static final class BitWriter {
+
+        private final OutputStream out;
+
+        private int currentByte;
+        private int numOfBits;
+
+        private BitWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        /**
+         * Write the low bits of the value.
+         */
+        private void write(long value, int length) throws IOException {
+            for (int i = length - 1; i >= 0; i--) {
+                currentByte = (currentByte << 1) | (int) ((value >>> i) & 1);
+                if (++numOfBits == Byte.SIZE) {
+                    out.write(currentByte);
+                    currentByte = 0;
+                    numOfBits = 0;
+                }
+            }
+        }
+
+        private void flush() throws IOException {
+            if (numOfBits > 0) {
+                out.write(currentByte << (Byte.SIZE - numOfBits));
+                currentByte = 0;
+                numOfBits = 0;
+            }
+        }
+
+    }
+
+    /**
+     * Reads the bits written by a BitWriter.
+     */
+    private static final class BitReader {
+
+        private final InputStream in;
+
+        private int currentByte;
+        private int numOfBits;
+
+        private BitReader(InputStream in) {
+            this.in = in;
+        }
+
+        private long read(int length) throws IOException {
+            long value = 0;
+            for (int i = 0; i < length; i++) {
+                if (numOfBits == 0) {
+                    currentByte = readByte(in);
+                    numOfBits = Byte.SIZE;
+                }
+                numOfBits--;
+                value = (value << 1) | ((currentByte >>> numOfBits) & 1);
+            }
+
+            return value;
+        }
+
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.utils;
+
+/**
+ * Compensated (Neumaier) summation of doubles. The rounding error of each
+ * addition is carried in a separate compensation term, so the error of the
+ * sum does not grow with the number of values.
+ *
+ * Sums kept in parallel arrays (one sum and one compensation per slot) can be
+ * updated with the static methods, which avoids creating an object per sum in
+ * tight loops. Partial sums are combined with a pairwise reduction tree whose
+ * shape only depends on the number of partial sums, so the result does not
+ * depend on how many threads computed them.
+ *
+ * Oct 19, 2026 5:46:12 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public final class CompensatedSum {
+
+    /**
+     * Number of values summed directly at the leaves of the reduction tree.
+     */
+    private static final int LEAF_SIZE = 128;
+
+    private double sum;
+
+    private double compensation;
+
+    public CompensatedSum() {
+    }
+
+    /**
+     * Add a value to the sum.
+     *
+     * @param value value to add
+     * @return this sum
+     */
+    public CompensatedSum add(double value) {
+        double total = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - total) + value;
+        } else {
+            compensation += (value - total) + sum;
+        }
+        sum = total;
+
+        return this;
+    }
+
+    /**
+     * Add another compensated sum, keeping both compensation terms.
+     *
+     * @param other sum to add
+     * @return this sum
+     */
+    public CompensatedSum add(CompensatedSum other) {
+        add(other.sum);
+        compensation += other.compensation;
+
+        return this;
+    }
+
+    /**
+     * Get the compensated sum.
+     *
+     * @return the sum
+     */
+    public double getSum() {
+        return sum + compensation;
+    }
+
+    /**
+     * Add a value to the sum at the given index of parallel arrays of sums and
+     * compensations.
+     *
+     * @param sums sums
+     * @param compensations compensation term of each sum
+     * @param index index of the sum
+     * @param value value to add
+     */
+    public static void add(double[] sums, double[] compensations, int index, double value) {
+        double sum = sums[index];
+        double total = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensations[index] += (sum - total) + value;
+        } else {
+            compensations[index] += (value - total) + sum;
+        }
+        sums[index] = total;
+    }
+
+    /**
+     * Add one compensated sum into another, at the same index of parallel
+     * arrays of sums and compensations.
+     *
+     * @param sums sums to add to
+     * @param compensations compensation terms of the sums to add to
+     * @param otherSums sums to add
+     * @param otherCompensations compensation terms of the sums to add
+     * @param index index of the sum
+     */
+    public static void add(double[] sums, double[] compensations, double[] otherSums, double[] otherCompensations, int index) {
+        add(sums, compensations, index, otherSums[index]);
+        compensations[index] += otherCompensations[index];
+    }
+
+    /**
+     * Sum the values with a pairwise reduction tree that has compensated
+     * summation at its leaves.
+     *
+     * @param values values to sum
+     * @return the sum
+     */
+    public static double sum(double[] values) {
+        CompensatedSum total = new CompensatedSum();
+        sum(values, 0, values.length, total);
+
+        return total.getSum();
+    }
+
+    private static void sum(double[] values, int from, int to, CompensatedSum total) {
+        if (to - from <= LEAF_SIZE) {
+            for (int i = from; i < to; i++) {
+                total.add(values[i]);
+            }
+        } else {
+            int middle = (from + to) >>> 1;
+            CompensatedSum right = new CompensatedSum();
+            sum(values, from, middle, total);
+            sum(values, middle, to, right);
+            total.add(right);
+        }
+    }
+
+}
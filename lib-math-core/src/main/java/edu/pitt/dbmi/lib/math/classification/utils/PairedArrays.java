@@ -0,0 +1,258 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.utils;
+
+/**
+ * Sorting and selection over a pair of parallel arrays: the predicted values
+ * (the keys) and their observed values (moved along with the keys). Both
+ * operations work in place and never box the values.
+ *
+ * Oct 19, 2026 9:12:40 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public final class PairedArrays {
+
+    /**
+     * Ranges smaller than this are sorted with insertion sort.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private PairedArrays() {
+    }
+
+    /**
+     * Sort the predicted values in ascending order, moving the observed values
+     * along with them. The order of tied predicted values is unspecified.
+     *
+     * @param predictedValues the keys to sort by
+     * @param observedValues the values paired with the keys
+     */
+    public static void sort(double[] predictedValues, int[] observedValues) {
+        checkLengths(predictedValues, observedValues);
+
+        sort(predictedValues, observedValues, 0, predictedValues.length);
+    }
+
+    /**
+     * Sort the predicted values from fromIndex, inclusive, to toIndex,
+     * exclusive, in ascending order, moving the observed values along with
+     * them. Elements outside of the range are left untouched.
+     *
+     * @param predictedValues the keys to sort by
+     * @param observedValues the values paired with the keys
+     * @param fromIndex the index of the first element to sort
+     * @param toIndex the index after the last element to sort
+     */
+    public static void sort(double[] predictedValues, int[] observedValues, int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > predictedValues.length || toIndex > observedValues.length) {
+            throw new IllegalArgumentException("Invalid range [" + fromIndex + ", " + toIndex + ").");
+        }
+
+        int size = toIndex - fromIndex;
+        if (size > 1) {
+            int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(size));
+            introSort(predictedValues, observedValues, fromIndex, toIndex - 1, depthLimit);
+        }
+    }
+
+    /**
+     * Rearrange the arrays so that, for every rank r given, the predicted value
+     * at index r is the value that would be there if the arrays were fully
+     * sorted in ascending order. Everything before index r is less than or
+     * equal to it and everything after is greater than or equal to it.
+     *
+     * Runs in expected O(n log k) time for k distinct ranks.
+     *
+     * @param predictedValues the keys to select by
+     * @param observedValues the values paired with the keys
+     * @param ranks indices to select, in ascending order
+     */
+    public static void select(double[] predictedValues, int[] observedValues, int[] ranks) {
+        checkLengths(predictedValues, observedValues);
+
+        int size = predictedValues.length;
+        for (int i = 0; i < ranks.length; i++) {
+            if (ranks[i] < 0 || ranks[i] >= size) {
+                throw new IllegalArgumentException(String.format("Rank %d is out of bounds.", ranks[i]));
+            }
+            if (i > 0 && ranks[i] < ranks[i - 1]) {
+                throw new IllegalArgumentException("Ranks must be in ascending order.");
+            }
+        }
+
+        if (size > 1 && ranks.length > 0) {
+            multiSelect(predictedValues, observedValues, 0, size - 1, ranks, 0, ranks.length - 1);
+        }
+    }
+
+    private static void checkLengths(double[] predictedValues, int[] observedValues) {
+        if (predictedValues.length != observedValues.length) {
+            throw new IllegalArgumentException("Predicted values and observed values must have the same length.");
+        }
+    }
+
+    private static void multiSelect(double[] keys, int[] values, int low, int high, int[] ranks, int rankLow, int rankHigh) {
+        while (low < high && rankLow <= rankHigh) {
+            if (high - low < INSERTION_SORT_THRESHOLD) {
+                insertionSort(keys, values, low, high);
+                return;
+            }
+
+            long bounds = partition(keys, values, low, high);
+            int lessThan = (int) (bounds >>> 32);
+            int greaterThan = (int) bounds;
+
+            // ranks falling on the run of pivot values are already in place
+            int left = rankLow;
+            while (left <= rankHigh && ranks[left] < lessThan) {
+                left++;
+            }
+            int right = left;
+            while (right <= rankHigh && ranks[right] <= greaterThan) {
+                right++;
+            }
+
+            // recurse into the smaller side, loop on the other
+            if (left - rankLow < rankHigh - right + 1) {
+                multiSelect(keys, values, low, lessThan - 1, ranks, rankLow, left - 1);
+                low = greaterThan + 1;
+                rankLow = right;
+            } else {
+                multiSelect(keys, values, greaterThan + 1, high, ranks, right, rankHigh);
+                high = lessThan - 1;
+                rankHigh = left - 1;
+            }
+        }
+    }
+
+    private static void introSort(double[] keys, int[] values, int low, int high, int depthLimit) {
+        while (high - low >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(keys, values, low, high);
+                return;
+            }
+
+            long bounds = partition(keys, values, low, high);
+            int lessThan = (int) (bounds >>> 32);
+            int greaterThan = (int) bounds;
+
+            // recurse into the smaller side, loop on the other
+            if (lessThan - low < high - greaterThan) {
+                introSort(keys, values, low, lessThan - 1, depthLimit);
+                low = greaterThan + 1;
+            } else {
+                introSort(keys, values, greaterThan + 1, high, depthLimit);
+                high = lessThan - 1;
+            }
+        }
+
+        insertionSort(keys, values, low, high);
+    }
+
+    /**
+     * Three-way partition around the median of three elements.
+     *
+     * @return the first index of the pivot run in the upper 32 bits and the
+     * last index of the pivot run in the lower 32 bits
+     */
+    private static long partition(double[] keys, int[] values, int low, int high) {
+        int middle = (low + high) >>> 1;
+        if (keys[middle] < keys[low]) {
+            swap(keys, values, middle, low);
+        }
+        if (keys[high] < keys[low]) {
+            swap(keys, values, high, low);
+        }
+        if (keys[high] < keys[middle]) {
+            swap(keys, values, high, middle);
+        }
+        double pivot = keys[middle];
+
+        int lessThan = low;
+        int greaterThan = high;
+        int i = low;
+        while (i <= greaterThan) {
+            double key = keys[i];
+            if (key < pivot) {
+                swap(keys, values, lessThan++, i++);
+            } else if (key > pivot) {
+                swap(keys, values, i, greaterThan--);
+            } else {
+                i++;
+            }
+        }
+
+        return (((long) lessThan) << 32) | (greaterThan & 0xFFFFFFFFL);
+    }
+
+    private static void insertionSort(double[] keys, int[] values, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            double key = keys[i];
+            int value = values[i];
+            int j = i - 1;
+            while (j >= low && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            values[j + 1] = value;
+        }
+    }
+
+    private static void heapSort(double[] keys, int[] values, int low, int high) {
+        int size = high - low + 1;
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(keys, values, low, i, size);
+        }
+        for (int i = size - 1; i > 0; i--) {
+            swap(keys, values, low, low + i);
+            siftDown(keys, values, low, 0, i);
+        }
+    }
+
+    private static void siftDown(double[] keys, int[] values, int offset, int node, int size) {
+        while (true) {
+            int child = 2 * node + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && keys[offset + child + 1] > keys[offset + child]) {
+                child++;
+            }
+            if (!(keys[offset + child] > keys[offset + node])) {
+                return;
+            }
+            swap(keys, values, offset + node, offset + child);
+            node = child;
+        }
+    }
+
+    private static void swap(double[] keys, int[] values, int i, int j) {
+        double key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+
+        int value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
+}
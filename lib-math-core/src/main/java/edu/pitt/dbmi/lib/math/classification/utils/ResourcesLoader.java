@@ -0,0 +1,283 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.utils;
+
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.data.SlicedObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.data.SyntheticDataGenerator;
+import edu.pitt.dbmi.lib.math.classification.monitoring.LoadDataEvent;
+import edu.pitt.dbmi.lib.math.classification.monitoring.Metrics;
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ *
+ * Mar 6, 2023 1:39:09 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public final class ResourcesLoader {
+
+    private static final String STREAM_SOURCE = "<stream>";
+
+    private ResourcesLoader() {
+    }
+
+    /**
+     * Read in observed values and predicted values from a file.
+     *
+     * @param file containing a column of observed values and a column of
+     * predicted values
+     * @param delimiter a character that is used to separate data
+     * @param observedColumn the number of the column containing observed values
+     * @param predictedColumn the number of the column containing predicted
+     * values
+     * @param hasHeader true if the first line of the file is the header
+     * @return a list of observed values and their corresponding predicted
+     * values
+     * @throws IOException
+     */
+    public static List<ObservedPredictedValue> loadData(Path file, Pattern delimiter, int observedColumn, int predictedColumn, boolean hasHeader) throws IOException {
+        LoadDataEvent event = new LoadDataEvent();
+        event.begin();
+        long startTime = Metrics.isEnabled() ? System.nanoTime() : 0;
+
+        List<ObservedPredictedValue> data;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            data = readData(reader, delimiter, observedColumn, predictedColumn, hasHeader);
+        }
+
+        recordLoad(event, startTime, file, data.size());
+
+        return Collections.unmodifiableList(data);
+    }
+
+    /**
+     * Read in observed values and predicted values from a stream of UTF-8
+     * text. The stream is read line by line to the end and is not closed.
+     *
+     * @param inputStream containing a column of observed values and a column
+     * of predicted values
+     * @param delimiter a character that is used to separate data
+     * @param observedColumn the number of the column containing observed values
+     * @param predictedColumn the number of the column containing predicted
+     * values
+     * @param hasHeader true if the first line of the stream is the header
+     * @return a list of observed values and their corresponding predicted
+     * values
+     * @throws IOException
+     */
+    public static List<ObservedPredictedValue> loadData(InputStream inputStream, Pattern delimiter, int observedColumn, int predictedColumn, boolean hasHeader) throws IOException {
+        LoadDataEvent event = new LoadDataEvent();
+        event.begin();
+        long startTime = Metrics.isEnabled() ? System.nanoTime() : 0;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        List<ObservedPredictedValue> data = readData(reader, delimiter, observedColumn, predictedColumn, hasHeader);
+
+        recordLoad(event, startTime, STREAM_SOURCE, data.size(), 0);
+
+        return Collections.unmodifiableList(data);
+    }
+
+    /**
+     * Read in observed values and predicted values from a stream of binary
+     * records. Each record is a big-endian double for the predicted value
+     * followed by a byte for the observed value, the format written by
+     * {@link SyntheticDataGenerator#writeBinary(Path, long)}. The stream is
+     * read to the end and is not closed.
+     *
+     * @param inputStream binary records
+     * @return a list of observed values and their corresponding predicted
+     * values
+     * @throws IOException if the stream ends in the middle of a record
+     */
+    public static List<ObservedPredictedValue> loadBinaryData(InputStream inputStream) throws IOException {
+        LoadDataEvent event = new LoadDataEvent();
+        event.begin();
+        long startTime = Metrics.isEnabled() ? System.nanoTime() : 0;
+
+        List<ObservedPredictedValue> data = new LinkedList<>();
+
+        BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream);
+        byte[] record = new byte[SyntheticDataGenerator.BINARY_RECORD_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        for (int n = bufferedInputStream.readNBytes(record, 0, record.length); n > 0; n = bufferedInputStream.readNBytes(record, 0, record.length)) {
+            if (n < record.length) {
+                throw new IOException("The stream ended in the middle of a record.");
+            }
+            data.add(new ObservedPredictedValue(buffer.get(Double.BYTES), buffer.getDouble(0)));
+        }
+
+        recordLoad(event, startTime, STREAM_SOURCE, data.size(), (long) data.size() * SyntheticDataGenerator.BINARY_RECORD_SIZE);
+
+        return Collections.unmodifiableList(data);
+    }
+
+    private static List<ObservedPredictedValue> readData(BufferedReader reader, Pattern delimiter, int observedColumn, int predictedColumn, boolean hasHeader) throws IOException {
+        int observedIndex = observedColumn - 1;
+        int predictedIndex = predictedColumn - 1;
+
+        return readData(reader, delimiter, Integer.max(observedColumn, predictedColumn), hasHeader,
+                fields -> new ObservedPredictedValue(
+                        Integer.parseInt(fields[observedIndex]),
+                        Double.parseDouble(fields[predictedIndex])));
+    }
+
+    private static <T> List<T> readData(BufferedReader reader, Pattern delimiter, int maxColumn, boolean hasHeader, Function<String[], T> parser) throws IOException {
+        List<T> data = new LinkedList<>();
+        forEachRow(reader, delimiter, maxColumn, hasHeader, fields -> data.add(parser.apply(fields)));
+
+        return data;
+    }
+
+    /**
+     * Read delimited lines one at a time, skipping blank lines, the header and
+     * lines with fewer than maxColumn fields, and pass the fields of each
+     * line to the consumer without keeping them.
+     *
+     * @param reader lines to read
+     * @param delimiter a character that is used to separate data
+     * @param maxColumn the number of the last column that is needed
+     * @param hasHeader true if the first line is the header
+     * @param consumer receives the fields of each line
+     * @throws IOException
+     */
+    public static void forEachRow(BufferedReader reader, Pattern delimiter, int maxColumn, boolean hasHeader, RowConsumer consumer) throws IOException {
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            line = line.trim();
+
+            // skip blank lines
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            // skip header
+            if (hasHeader) {
+                hasHeader = false;
+                continue;
+            }
+
+            String[] fields = delimiter.split(line);
+            if (fields.length >= maxColumn) {
+                consumer.accept(fields);
+            }
+        }
+    }
+
+    /**
+     * Read in observed values, predicted values and the slice (subgroup) of
+     * each data from a file.
+     *
+     * @param file containing a column of observed values, a column of
+     * predicted values and a column of slice names
+     * @param delimiter a character that is used to separate data
+     * @param observedColumn the number of the column containing observed values
+     * @param predictedColumn the number of the column containing predicted
+     * values
+     * @param sliceColumn the number of the column containing the slice names
+     * @param hasHeader true if the first line of the file is the header
+     * @return a list of observed values and their corresponding predicted
+     * values and slices
+     * @throws IOException
+     */
+    public static List<SlicedObservedPredictedValue> loadData(Path file, Pattern delimiter, int observedColumn, int predictedColumn, int sliceColumn, boolean hasHeader) throws IOException {
+        LoadDataEvent event = new LoadDataEvent();
+        event.begin();
+        long startTime = Metrics.isEnabled() ? System.nanoTime() : 0;
+
+        int observedIndex = observedColumn - 1;
+        int predictedIndex = predictedColumn - 1;
+        int sliceIndex = sliceColumn - 1;
+        int maxColumn = Integer.max(Integer.max(observedColumn, predictedColumn), sliceColumn);
+
+        List<SlicedObservedPredictedValue> data;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            data = readData(reader, delimiter, maxColumn, hasHeader,
+                    fields -> new SlicedObservedPredictedValue(
+                            Integer.parseInt(fields[observedIndex]),
+                            Double.parseDouble(fields[predictedIndex]),
+                            fields[sliceIndex].trim()));
+        }
+
+        recordLoad(event, startTime, file, data.size());
+
+        return Collections.unmodifiableList(data);
+    }
+
+    private static void recordLoad(LoadDataEvent event, long startTime, Path file, long rows) {
+        event.end();
+        long endTime = System.nanoTime();
+        if (event.shouldCommit() || startTime != 0) {
+            commitLoad(event, startTime, endTime, file.toString(), rows, sizeOf(file));
+        }
+    }
+
+    private static void recordLoad(LoadDataEvent event, long startTime, String source, long rows, long bytes) {
+        event.end();
+        commitLoad(event, startTime, System.nanoTime(), source, rows, bytes);
+    }
+
+    private static void commitLoad(LoadDataEvent event, long startTime, long endTime, String source, long rows, long bytes) {
+        if (event.shouldCommit()) {
+            event.file = source;
+            event.rows = rows;
+            event.bytes = bytes;
+            event.commit();
+        }
+        if (startTime != 0) {
+            Metrics.recordPhase("ResourcesLoader.loadData", endTime - startTime, rows, bytes);
+        }
+    }
+
+    /**
+     * Get the size of a file that was just read. Monitoring must not fail a
+     * load that succeeded, so an unreadable size is recorded as -1.
+     */
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException exception) {
+            return -1;
+        }
+    }
+
+    /**
+     * Receives the fields of a row read by forEachRow.
+     */
+    @FunctionalInterface
+    public interface RowConsumer {
+
+        void accept(String[] fields) throws IOException;
+
+    }
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.cache;
+
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.roc.DeLongROCCurve;
+import edu.pitt.dbmi.lib.math.classification.roc.ROC;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Oct 19, 2026 10:41:03 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class EvaluationCacheTest {
+
+    private static Path file;
+    private static List<ObservedPredictedValue> observedPredictedValues;
+
+    @BeforeAll
+    public static void setUpClass() throws IOException {
+        file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        observedPredictedValues = ResourcesLoader.loadData(file, Delimiters.COMMA, 1, 2, false);
+    }
+
+    /**
+     * Test of of method, of class CacheKey.
+     */
+    @Test
+    public void testCacheKey() throws IOException {
+        int size = observedPredictedValues.size();
+        int[] observedValues = new int[size];
+        double[] predictedValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            observedValues[i] = observedPredictedValues.get(i).getObservedValue();
+            predictedValues[i] = observedPredictedValues.get(i).getPredictedValue();
+        }
+
+        CacheKey key = CacheKey.of(observedPredictedValues, "DeLongROCCurve");
+        Assertions.assertEquals(key, CacheKey.of(observedValues, predictedValues, "DeLongROCCurve"));
+        Assertions.assertEquals(key.hashCode(), CacheKey.of(observedValues, predictedValues, "DeLongROCCurve").hashCode());
+        Assertions.assertNotEquals(key, CacheKey.of(observedValues, predictedValues, "HosmerLemeshowDecileGroup"));
+        Assertions.assertNotEquals(key, key.withParameters(800, 600));
+
+        // a single changed prediction changes the hash
+        predictedValues[size / 2] = Math.nextUp(predictedValues[size / 2]);
+        Assertions.assertNotEquals(key, CacheKey.of(observedValues, predictedValues, "DeLongROCCurve"));
+
+        Assertions.assertEquals(CacheKey.of(file, "csv", 1, 2), CacheKey.of(file, "csv", 1, 2));
+        Assertions.assertNotEquals(CacheKey.of(file, "csv", 1, 2), CacheKey.of(file, "csv", 2, 1));
+
+        // "Aa" and "BB" have the same String.hashCode()
+        Assertions.assertEquals(key.toFileName(), CacheKey.of(observedPredictedValues, "DeLongROCCurve").toFileName());
+        Assertions.assertNotEquals(key.withParameters("Aa").toFileName(), key.withParameters("BB").toFileName());
+        Assertions.assertNotEquals(key.withParameters(500, 500).toFileName(), key.withParameters(800, 600).toFileName());
+    }
+
+    /**
+     * Test of get method, of class EvaluationCache.
+     */
+    @Test
+    public void testGet() {
+        EvaluationCache<ROC> cache = new EvaluationCache<>(10, EvictionPolicy.LRU);
+        CacheKey key = CacheKey.of(observedPredictedValues, "DeLongROCCurve");
+        AtomicInteger numOfLoads = new AtomicInteger();
+
+        ROC roc = cache.get(key, () -> {
+            numOfLoads.incrementAndGet();
+            return new DeLongROCCurve(observedPredictedValues);
+        });
+        Assertions.assertSame(roc, cache.get(key, () -> {
+            numOfLoads.incrementAndGet();
+            return new DeLongROCCurve(observedPredictedValues);
+        }));
+        Assertions.assertEquals(1, numOfLoads.get());
+
+        CacheStatistics statistics = cache.getStatistics();
+        Assertions.assertEquals(1, statistics.getHitCount());
+        Assertions.assertEquals(1, statistics.getMissCount());
+        Assertions.assertEquals(0.5, statistics.getHitRate());
+
+        // a failed load is not cached
+        CacheKey failingKey = key.withParameters("failing");
+        Assertions.assertThrows(IllegalStateException.class, () -> cache.get(failingKey, () -> {
+            throw new IllegalStateException();
+        }));
+        Assertions.assertNull(cache.getIfPresent(failingKey));
+    }
+
+    /**
+     * Test of get method, of class EvaluationCache, from many threads.
+     */
+    @Test
+    public void testGetConcurrently() throws Exception {
+        EvaluationCache<ROC> cache = new EvaluationCache<>(10, EvictionPolicy.LRU);
+        CacheKey key = CacheKey.of(observedPredictedValues, "DeLongROCCurve");
+        AtomicInteger numOfLoads = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[16];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> cache.get(key, () -> {
+                    numOfLoads.incrementAndGet();
+                    return new DeLongROCCurve(observedPredictedValues);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assertions.assertEquals(1, numOfLoads.get());
+        Assertions.assertEquals(15, cache.getStatistics().getHitCount());
+    }
+
+    /**
+     * Test of eviction, of class EvaluationCache.
+     */
+    @Test
+    public void testEviction() {
+        CacheKey a = CacheKey.of(new int[]{1}, new double[]{0.1});
+        CacheKey b = CacheKey.of(new int[]{1}, new double[]{0.2});
+        CacheKey c = CacheKey.of(new int[]{1}, new double[]{0.3});
+
+        // LRU: reading a makes b the oldest
+        EvaluationCache<String> lru = new EvaluationCache<>(2, EvictionPolicy.LRU);
+        lru.put(a, "a");
+        lru.put(b, "b");
+        lru.getIfPresent(a);
+        lru.put(c, "c");
+        Assertions.assertEquals("a", lru.getIfPresent(a));
+        Assertions.assertNull(lru.getIfPresent(b));
+        Assertions.assertEquals(1, lru.getStatistics().getEvictionCount());
+
+        // LFU: a is read twice, b once after c is added, so c goes first
+        EvaluationCache<String> lfu = new EvaluationCache<>(2, EvictionPolicy.LFU);
+        lfu.put(a, "a");
+        lfu.getIfPresent(a);
+        lfu.getIfPresent(a);
+        lfu.put(b, "b");
+        lfu.getIfPresent(b);
+        lfu.put(c, "c");
+        Assertions.assertNull(lfu.getIfPresent(b));
+        Assertions.assertEquals("c", lfu.getIfPresent(c));
+        Assertions.assertEquals("a", lfu.getIfPresent(a));
+
+        // weighted: one entry of weight 3 evicts both of weight 1 from a cache of 3
+        EvaluationCache<String> weighted = new EvaluationCache<>(3, EvictionPolicy.LRU, String::length);
+        weighted.put(a, "a");
+        weighted.put(b, "b");
+        weighted.put(c, "ccc");
+        Assertions.assertEquals(1, weighted.size());
+        Assertions.assertEquals(3, weighted.getStatistics().getWeight());
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration;
+
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Oct 19, 2026 12:10:38 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class CalibrationIndexTest {
+
+    private static final int[] NUMBER_OF_GROUPS = {1, 5, 10, 20, 50, 100};
+
+    private static List<ObservedPredictedValue> observedPredictedValues;
+
+    private static CalibrationIndex calibrationIndex;
+
+    @BeforeAll
+    public static void setUpClass() throws IOException {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/data4.csv").getFile());
+        Pattern delimiter = Delimiters.COMMA;
+        int observedColumn = 1;
+        int predictedColumn = 2;
+        boolean hasHeader = false;
+        observedPredictedValues = ResourcesLoader.loadData(file, delimiter, observedColumn, predictedColumn, hasHeader);
+
+        calibrationIndex = new CalibrationIndex(observedPredictedValues);
+    }
+
+    /**
+     * Test of getDecileGroups method, of class CalibrationIndex.
+     */
+    @Test
+    public void testGetDecileGroups() {
+        for (int numOfGroups : NUMBER_OF_GROUPS) {
+            assertSameStatistics(
+                    new HosmerLemeshowDecileGroup(observedPredictedValues, numOfGroups),
+                    calibrationIndex.getDecileGroups(numOfGroups));
+        }
+    }
+
+    /**
+     * Test of getRiskGroups method, of class CalibrationIndex.
+     */
+    @Test
+    public void testGetRiskGroups() {
+        for (int numOfGroups : NUMBER_OF_GROUPS) {
+            assertSameStatistics(
+                    new HosmerLemeshowRiskGroup(observedPredictedValues, numOfGroups),
+                    calibrationIndex.getRiskGroups(numOfGroups));
+        }
+    }
+
+    /**
+     * Test of getNumberOfPredictions method, of class CalibrationIndex.
+     */
+    @Test
+    public void testGetNumberOfPredictions() {
+        int expResult = 2744;
+        int result = calibrationIndex.getNumberOfPredictions();
+
+        Assertions.assertEquals(expResult, result);
+    }
+
+    private static void assertSameStatistics(HosmerLemeshow expected, HosmerLemeshow result) {
+        double delta = 1e-9;
+
+        Assertions.assertEquals(expected.getNumberOfPredictions(), result.getNumberOfPredictions());
+        Assertions.assertArrayEquals(expected.getGroups(), result.getGroups());
+        Assertions.assertArrayEquals(expected.getNumberOfDataPerGroup(), result.getNumberOfDataPerGroup());
+        Assertions.assertArrayEquals(expected.getPositiveObservedSumPerGroup(), result.getPositiveObservedSumPerGroup());
+        Assertions.assertArrayEquals(expected.getPredictedSumPerGroup(), result.getPredictedSumPerGroup(), delta);
+        Assertions.assertArrayEquals(expected.getHlChi2PerGroup(), result.getHlChi2PerGroup(), delta);
+        Assertions.assertEquals(expected.getDegreesOfFreedom(), result.getDegreesOfFreedom());
+        Assertions.assertEquals(expected.getPValue(), result.getPValue(), delta);
+        Assertions.assertEquals(expected.getExpectedCalibrationError(), result.getExpectedCalibrationError(), delta);
+        Assertions.assertEquals(expected.getMaxCalibrationError(), result.getMaxCalibrationError(), delta);
+        Assertions.assertEquals(expected.getAverageCalibrationError(), result.getAverageCalibrationError(), delta);
+    }
+
+}
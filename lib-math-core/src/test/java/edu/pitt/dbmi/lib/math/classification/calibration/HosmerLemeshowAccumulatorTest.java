@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration;
+
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Oct 19, 2026 11:20:05 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class HosmerLemeshowAccumulatorTest {
+
+    private static List<ObservedPredictedValue> observedPredictedValues;
+
+    private static HosmerLemeshow expected;
+
+    @BeforeAll
+    public static void setUpClass() throws IOException {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        Pattern delimiter = Delimiters.COMMA;
+        int observedColumn = 1;
+        int predictedColumn = 2;
+        boolean hasHeader = false;
+        observedPredictedValues = ResourcesLoader.loadData(file, delimiter, observedColumn, predictedColumn, hasHeader);
+
+        expected = new HosmerLemeshowRiskGroup(observedPredictedValues);
+    }
+
+    /**
+     * Test of snapshot method, of class HosmerLemeshowAccumulator.
+     */
+    @Test
+    public void testSnapshot() {
+        HosmerLemeshowAccumulator accumulator = new HosmerLemeshowAccumulator();
+        observedPredictedValues.forEach(accumulator::add);
+
+        assertSameStatistics(expected, accumulator.snapshot());
+    }
+
+    /**
+     * Test of add method from several threads, of class
+     * HosmerLemeshowAccumulator.
+     */
+    @Test
+    public void testConcurrentAdd() throws InterruptedException {
+        HosmerLemeshowAccumulator accumulator = new HosmerLemeshowAccumulator();
+
+        int numOfThreads = 4;
+        Thread[] threads = new Thread[numOfThreads];
+        for (int i = 0; i < numOfThreads; i++) {
+            int offset = i;
+            threads[i] = new Thread(() -> {
+                for (int j = offset; j < observedPredictedValues.size(); j += numOfThreads) {
+                    accumulator.add(observedPredictedValues.get(j));
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertEquals(1411, accumulator.getNumberOfPredictions());
+        assertSameStatistics(expected, accumulator.snapshot());
+    }
+
+    /**
+     * Test of merge method, of class HosmerLemeshowAccumulator.
+     */
+    @Test
+    public void testMerge() {
+        int half = observedPredictedValues.size() / 2;
+
+        HosmerLemeshowAccumulator shard1 = new HosmerLemeshowAccumulator();
+        shard1.addAll(observedPredictedValues.subList(0, half));
+
+        HosmerLemeshowAccumulator shard2 = new HosmerLemeshowAccumulator();
+        shard2.addAll(observedPredictedValues.subList(half, observedPredictedValues.size()));
+
+        shard1.merge(shard2);
+
+        assertSameStatistics(expected, shard1.snapshot());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> shard1.merge(new HosmerLemeshowAccumulator(20)));
+    }
+
+    /**
+     * Test of snapshot method when no data has been added, of class
+     * HosmerLemeshowAccumulator.
+     */
+    @Test
+    public void testSnapshotWithoutData() {
+        HosmerLemeshowAccumulator accumulator = new HosmerLemeshowAccumulator();
+
+        Assertions.assertThrows(IllegalStateException.class, accumulator::snapshot);
+    }
+
+    /**
+     * Test of add method with an observed value other than 0 or 1, of class
+     * HosmerLemeshowAccumulator.
+     */
+    @Test
+    public void testInvalidObservedValue() {
+        HosmerLemeshowAccumulator accumulator = new HosmerLemeshowAccumulator();
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> accumulator.add(2, 0.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> accumulator.addAll(List.of(new ObservedPredictedValue(1, 0.5), new ObservedPredictedValue(-1, 0.5))));
+        Assertions.assertThrows(IllegalStateException.class, accumulator::snapshot);
+    }
+
+    private static void assertSameStatistics(HosmerLemeshow expected, HosmerLemeshow result) {
+        double delta = 1e-9;
+
+        Assertions.assertEquals(expected.getNumberOfPredictions(), result.getNumberOfPredictions());
+        Assertions.assertArrayEquals(expected.getGroups(), result.getGroups());
+        Assertions.assertArrayEquals(expected.getNumberOfDataPerGroup(), result.getNumberOfDataPerGroup());
+        Assertions.assertArrayEquals(expected.getPositiveObservedSumPerGroup(), result.getPositiveObservedSumPerGroup());
+        Assertions.assertArrayEquals(expected.getPredictedSumPerGroup(), result.getPredictedSumPerGroup(), delta);
+        Assertions.assertArrayEquals(expected.getHlChi2PerGroup(), result.getHlChi2PerGroup(), delta);
+        Assertions.assertArrayEquals(expected.getHlExpectedValues(), result.getHlExpectedValues(), delta);
+        Assertions.assertArrayEquals(expected.getHlObservedValues(), result.getHlObservedValues(), delta);
+        Assertions.assertEquals(expected.getDegreesOfFreedom(), result.getDegreesOfFreedom());
+        Assertions.assertEquals(expected.getPValue(), result.getPValue(), delta);
+        Assertions.assertEquals(expected.getExpectedCalibrationError(), result.getExpectedCalibrationError(), delta);
+        Assertions.assertEquals(expected.getMaxCalibrationError(), result.getMaxCalibrationError(), delta);
+        Assertions.assertEquals(expected.getAverageCalibrationError(), result.getAverageCalibrationError(), delta);
+        Assertions.assertNotNull(result.getSummary());
+    }
+
+}
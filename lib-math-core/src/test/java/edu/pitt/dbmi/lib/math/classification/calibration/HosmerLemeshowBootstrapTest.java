@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration;
+
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Oct 19, 2026 4:38:02 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class HosmerLemeshowBootstrapTest {
+
+    private static HosmerLemeshow hl;
+
+    private static HosmerLemeshowBootstrap bootstrap;
+
+    @BeforeAll
+    public static void setUpClass() throws IOException {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        Pattern delimiter = Delimiters.COMMA;
+        int observedColumn = 1;
+        int predictedColumn = 2;
+        boolean hasHeader = false;
+        List<ObservedPredictedValue> observedPredictedValues = ResourcesLoader.loadData(file, delimiter, observedColumn, predictedColumn, hasHeader);
+
+        hl = new HosmerLemeshowDecileGroup(observedPredictedValues);
+        bootstrap = new HosmerLemeshowBootstrap(hl, 500, 34L);
+    }
+
+    /**
+     * Test of getExpectedCalibrationErrors method, of class
+     * HosmerLemeshowBootstrap.
+     */
+    @Test
+    public void testGetExpectedCalibrationErrors() {
+        // same seed, same replicates
+        HosmerLemeshowBootstrap other = new HosmerLemeshowBootstrap(hl, 500, 34L);
+        Assertions.assertArrayEquals(bootstrap.getExpectedCalibrationErrors(), other.getExpectedCalibrationErrors());
+        Assertions.assertArrayEquals(bootstrap.getMaxCalibrationErrors(), other.getMaxCalibrationErrors());
+        Assertions.assertArrayEquals(bootstrap.getAverageCalibrationErrors(), other.getAverageCalibrationErrors());
+        Assertions.assertArrayEquals(bootstrap.getHlObservedLowerBounds(), other.getHlObservedLowerBounds());
+        Assertions.assertArrayEquals(bootstrap.getHlObservedUpperBounds(), other.getHlObservedUpperBounds());
+
+        Assertions.assertEquals(500, bootstrap.getExpectedCalibrationErrors().length);
+        Assertions.assertTrue(bootstrap.getExpectedCalibrationErrorLowerBound() < bootstrap.getExpectedCalibrationErrorUpperBound());
+        Assertions.assertTrue(bootstrap.getMaxCalibrationErrorLowerBound() < bootstrap.getMaxCalibrationErrorUpperBound());
+        Assertions.assertTrue(bootstrap.getAverageCalibrationErrorLowerBound() < bootstrap.getAverageCalibrationErrorUpperBound());
+    }
+
+    /**
+     * Test of getHlObservedLowerBounds method, of class
+     * HosmerLemeshowBootstrap.
+     */
+    @Test
+    public void testGetHlObservedLowerBounds() {
+        double[] hlObservedValues = hl.getHlObservedValues();
+        double[] lowerBounds = bootstrap.getHlObservedLowerBounds();
+        double[] upperBounds = bootstrap.getHlObservedUpperBounds();
+        Assertions.assertEquals(hlObservedValues.length, lowerBounds.length);
+        for (int i = 0; i < hlObservedValues.length; i++) {
+            Assertions.assertTrue(lowerBounds[i] <= hlObservedValues[i]);
+            Assertions.assertTrue(hlObservedValues[i] <= upperBounds[i]);
+        }
+    }
+
+}
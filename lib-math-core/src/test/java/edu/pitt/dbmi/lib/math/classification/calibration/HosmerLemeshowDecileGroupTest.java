@@ -25,8 +25,10 @@ import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -39,6 +41,8 @@ import org.junit.jupiter.api.Test;
  */
 public class HosmerLemeshowDecileGroupTest {
 
+    private static List<ObservedPredictedValue> observedPredictedValues;
+
     private static HosmerLemeshow hlstat;
 
     @BeforeAll
@@ -48,7 +52,7 @@ public class HosmerLemeshowDecileGroupTest {
         int observedColumn = 1;
         int predictedColumn = 2;
         boolean hasHeader = false;
-        List<ObservedPredictedValue> observedPredictedValues = ResourcesLoader.loadData(file, delimiter, observedColumn, predictedColumn, hasHeader);
+        observedPredictedValues = ResourcesLoader.loadData(file, delimiter, observedColumn, predictedColumn, hasHeader);
 
         hlstat = new HosmerLemeshowDecileGroup(observedPredictedValues);
     }
@@ -80,6 +84,30 @@ public class HosmerLemeshowDecileGroupTest {
         Assertions.assertEquals(expResult, result);
     }
 
+    /**
+     * Test of getNumberOfGroups method, of class AbstractHosmerLemeshow.
+     */
+    @Test
+    public void testGetNumberOfGroups() {
+        int result = hlstat.getNumberOfGroups();
+        int expResult = HosmerLemeshow.NUM_OF_INTERVAL;
+
+        Assertions.assertEquals(expResult, result);
+    }
+
+    /**
+     * Test of splitting the data into a different number of groups.
+     */
+    @Test
+    public void testNumberOfGroups() {
+        HosmerLemeshow vigintiles = new HosmerLemeshowDecileGroup(observedPredictedValues, 20);
+
+        Assertions.assertEquals(20, vigintiles.getNumberOfGroups());
+        Assertions.assertEquals(20, vigintiles.getGroups().length);
+        Assertions.assertEquals(18, vigintiles.getDegreesOfFreedom());
+        Assertions.assertEquals(1411, Arrays.stream(vigintiles.getNumberOfDataPerGroup()).sum());
+    }
+
     /**
      * Test of getObservedValues method, of class AbstractHosmerLemeshow.
      */
@@ -96,10 +124,14 @@ public class HosmerLemeshowDecileGroupTest {
      */
     @Test
     public void testGetPredictedValues() {
-        int result = hlstat.getPredictedValues().length;
+        double[] predictedValues = hlstat.getPredictedValues();
+        int result = predictedValues.length;
         int expResult = 1411;
 
         Assertions.assertEquals(expResult, result);
+        for (int i = 1; i < predictedValues.length; i++) {
+            Assertions.assertTrue(predictedValues[i - 1] <= predictedValues[i]);
+        }
     }
 
     /**
@@ -213,4 +245,32 @@ public class HosmerLemeshowDecileGroupTest {
         Assertions.assertEquals(expResult, result);
     }
 
+    /**
+     * Test that getObservedValues and getPredictedValues of class
+     * AbstractHosmerLemeshow return the same sorted data to concurrent callers.
+     */
+    @Test
+    public void testGetSortedDataConcurrently() throws Exception {
+        HosmerLemeshow hl = new HosmerLemeshowDecileGroup(observedPredictedValues);
+
+        double[][] results = IntStream.range(0, 16)
+                .parallel()
+                .mapToObj(i -> hl.getPredictedValues())
+                .toArray(double[][]::new);
+        for (double[] result : results) {
+            Assertions.assertSame(results[0], result);
+        }
+
+        double[] predictedValues = hl.getPredictedValues();
+        int[] observedValues = hl.getObservedValues();
+        int numOfPositives = 0;
+        for (int i = 0; i < predictedValues.length; i++) {
+            if (i > 0) {
+                Assertions.assertTrue(predictedValues[i - 1] <= predictedValues[i]);
+            }
+            numOfPositives += observedValues[i];
+        }
+        Assertions.assertEquals(IntStream.of(hl.getPositiveObservedSumPerGroup()).sum(), numOfPositives);
+    }
+
 }
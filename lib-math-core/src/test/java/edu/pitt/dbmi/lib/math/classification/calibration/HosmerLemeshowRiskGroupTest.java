@@ -23,9 +23,14 @@ import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
 import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
 import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -213,4 +218,89 @@ public class HosmerLemeshowRiskGroupTest {
         Assertions.assertEquals(expResult, result);
     }
 
+    /**
+     * Test that predicted values falling right on the interval boundaries are
+     * grouped the same way the thresholds are accumulated.
+     */
+    @Test
+    public void testGroupBoundaries() {
+        List<ObservedPredictedValue> observedPredictedValues = new ArrayList<>();
+        for (double predictedValue : new double[]{0.0, 0.1, 0.3, 0.7, 0.8, 0.9, 1.0}) {
+            observedPredictedValues.add(new ObservedPredictedValue(1, predictedValue));
+        }
+
+        HosmerLemeshow hl = new HosmerLemeshowRiskGroup(observedPredictedValues);
+
+        int[] expResult = {1, 2, 3, 8, 9, 10};
+        int[] result = hl.getGroups();
+        Assertions.assertArrayEquals(expResult, result);
+        Assertions.assertArrayEquals(new int[]{1, 1, 1, 1, 1, 2}, hl.getNumberOfDataPerGroup());
+    }
+
+    /**
+     * Test that a dataset large enough to be tallied in parallel gives the same
+     * groups as tallying each prediction by hand.
+     */
+    @Test
+    public void testParallelTally() {
+        int numOfGroups = 20;
+        int size = 300_000;
+        int[] expResult = new int[numOfGroups];
+        int[] expPositives = new int[numOfGroups];
+
+        Random random = new Random(20231019);
+        List<ObservedPredictedValue> observedPredictedValues = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double predictedValue = random.nextDouble();
+            int observedValue = (random.nextDouble() < predictedValue) ? 1 : 0;
+            observedPredictedValues.add(new ObservedPredictedValue(observedValue, predictedValue));
+
+            int group = Math.min((int) (predictedValue * numOfGroups), numOfGroups - 1);
+            expResult[group]++;
+            expPositives[group] += observedValue;
+        }
+
+        HosmerLemeshow hl = new HosmerLemeshowRiskGroup(observedPredictedValues, numOfGroups);
+
+        Assertions.assertArrayEquals(expResult, hl.getNumberOfDataPerGroup());
+        Assertions.assertArrayEquals(expPositives, hl.getPositiveObservedSumPerGroup());
+    }
+
+    /**
+     * Test of tallyGroups method, of class HosmerLemeshowRiskGroup.
+     */
+    @Test
+    public void testCompensatedTally() throws Exception {
+        int numOfGroups = 10;
+        int size = 300_000;
+        BigDecimal[] expResult = new BigDecimal[numOfGroups];
+        Arrays.fill(expResult, BigDecimal.ZERO);
+
+        Random random = new Random(36);
+        List<ObservedPredictedValue> observedPredictedValues = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double predictedValue = random.nextDouble();
+            observedPredictedValues.add(new ObservedPredictedValue(0, predictedValue));
+
+            int group = Math.min((int) (predictedValue * numOfGroups), numOfGroups - 1);
+            expResult[group] = expResult[group].add(new BigDecimal(predictedValue));
+        }
+
+        HosmerLemeshow hl = new HosmerLemeshowRiskGroup(observedPredictedValues, numOfGroups);
+        double[] predictedSums = hl.getPredictedSumPerGroup();
+        for (int i = 0; i < numOfGroups; i++) {
+            Assertions.assertEquals(expResult[i].doubleValue(), predictedSums[i]);
+        }
+
+        // same bits on a single thread
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            HosmerLemeshow sequentialHl = pool.submit(() -> new HosmerLemeshowRiskGroup(observedPredictedValues, numOfGroups)).get();
+            Assertions.assertArrayEquals(predictedSums, sequentialHl.getPredictedSumPerGroup());
+            Assertions.assertEquals(hl.getPValue(), sequentialHl.getPValue());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
 }
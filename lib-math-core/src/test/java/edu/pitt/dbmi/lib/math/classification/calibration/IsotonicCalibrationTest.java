@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration;
+
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Oct 19, 2026 1:05:44 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class IsotonicCalibrationTest {
+
+    private static IsotonicCalibration calibration;
+
+    @BeforeAll
+    public static void setUpClass() throws IOException {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        Pattern delimiter = Delimiters.COMMA;
+        int observedColumn = 1;
+        int predictedColumn = 2;
+        boolean hasHeader = false;
+        List<ObservedPredictedValue> observedPredictedValues = ResourcesLoader.loadData(file, delimiter, observedColumn, predictedColumn, hasHeader);
+
+        calibration = new IsotonicCalibration(new HosmerLemeshowDecileGroup(observedPredictedValues));
+    }
+
+    /**
+     * Test of getCalibratedValues method, of class IsotonicCalibration.
+     */
+    @Test
+    public void testGetCalibratedValues() {
+        double[] calibratedValues = calibration.getCalibratedValues();
+        for (int i = 1; i < calibratedValues.length; i++) {
+            Assertions.assertTrue(calibratedValues[i - 1] < calibratedValues[i]);
+        }
+
+        int result = Arrays.stream(calibration.getNumberOfDataPerBlock()).sum();
+        int expResult = 1411;
+        Assertions.assertEquals(expResult, result);
+
+        result = Arrays.stream(calibration.getPositiveObservedSumPerBlock()).sum();
+        expResult = 861;
+        Assertions.assertEquals(expResult, result);
+    }
+
+    /**
+     * Test of recalibrate method, of class IsotonicCalibration.
+     */
+    @Test
+    public void testRecalibrate() {
+        int[] observedValues = {0, 1, 0, 0, 1, 1, 1};
+        double[] predictedValues = {0.1, 0.2, 0.3, 0.3, 0.6, 0.7, 0.9};
+        IsotonicCalibration isotonic = new IsotonicCalibration(observedValues, predictedValues);
+
+        Assertions.assertArrayEquals(new double[]{0.0, 1.0 / 3, 1.0}, isotonic.getCalibratedValues());
+        Assertions.assertArrayEquals(new double[]{0.1, 0.2, 0.6}, isotonic.getLowerBounds());
+        Assertions.assertArrayEquals(new double[]{0.1, 0.3, 0.9}, isotonic.getUpperBounds());
+
+        double[] scores = {0.0, 0.1, 0.15, 0.25, 0.3, 0.5, 0.6, 0.95};
+        double[] expResult = {0.0, 0.0, 0.0, 1.0 / 3, 1.0 / 3, 1.0 / 3, 1.0, 1.0};
+        Assertions.assertArrayEquals(expResult, isotonic.recalibrate(scores));
+    }
+
+    /**
+     * Test of getHosmerLemeshow method, of class IsotonicCalibration.
+     */
+    @Test
+    public void testGetHosmerLemeshow() {
+        HosmerLemeshow hl = calibration.getHosmerLemeshow();
+
+        Assertions.assertEquals(calibration.getNumberOfBlocks(), hl.getGroups().length);
+        Assertions.assertArrayEquals(calibration.getCalibratedValues(), hl.getHlObservedValues());
+    }
+
+    /**
+     * Test of getPredictedSumPerBlock method, of class IsotonicCalibration.
+     */
+    @Test
+    public void testGetPredictedSumPerBlock() {
+        // no positive outcomes, so every prediction pools into one block
+        Random random = new Random(36);
+        double[] predictedValues = new double[100_000];
+        for (int i = 0; i < predictedValues.length; i++) {
+            predictedValues[i] = random.nextDouble();
+        }
+        Arrays.sort(predictedValues);
+        BigDecimal expResult = BigDecimal.ZERO;
+        for (double predictedValue : predictedValues) {
+            expResult = expResult.add(new BigDecimal(predictedValue));
+        }
+
+        IsotonicCalibration isotonic = new IsotonicCalibration(new int[predictedValues.length], predictedValues);
+
+        Assertions.assertEquals(1, isotonic.getNumberOfBlocks());
+        Assertions.assertEquals(expResult.doubleValue(), isotonic.getPredictedSumPerBlock()[0]);
+    }
+
+}
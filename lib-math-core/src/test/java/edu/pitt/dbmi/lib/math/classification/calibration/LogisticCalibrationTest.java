@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration;
+
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Oct 19, 2026 2:41:37 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class LogisticCalibrationTest {
+
+    private static List<ObservedPredictedValue> observedPredictedValues;
+
+    @BeforeAll
+    public static void setUpClass() throws IOException {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        Pattern delimiter = Delimiters.COMMA;
+        int observedColumn = 1;
+        int predictedColumn = 2;
+        boolean hasHeader = false;
+        observedPredictedValues = ResourcesLoader.loadData(file, delimiter, observedColumn, predictedColumn, hasHeader);
+    }
+
+    /**
+     * Test of recalibrate method, of class LogisticCalibration.
+     */
+    @Test
+    public void testRecalibrate() {
+        LogisticCalibration calibration = new LogisticCalibration(new HosmerLemeshowDecileGroup(observedPredictedValues));
+        Assertions.assertTrue(calibration.isConverged());
+
+        // at the maximum likelihood, the mean recalibrated probability equals the prevalence
+        double observedSum = 0;
+        double recalibratedSum = 0;
+        for (ObservedPredictedValue obsPredVal : observedPredictedValues) {
+            observedSum += obsPredVal.getObservedValue();
+            recalibratedSum += calibration.recalibrate(obsPredVal.getPredictedValue());
+        }
+        Assertions.assertEquals(observedSum, recalibratedSum, 1e-6);
+
+        Assertions.assertTrue(calibration.getLogLikelihood() >= calibration.getNullLogLikelihood());
+        Assertions.assertTrue(calibration.getSlopeStandardError() > 0);
+        Assertions.assertTrue(calibration.getInterceptStandardError() > 0);
+    }
+
+    /**
+     * Test of getSlope method, of class LogisticCalibration.
+     */
+    @Test
+    public void testGetSlope() {
+        // outcomes drawn from p, reported as over-confident predictions: logit(q) = 2 * logit(p)
+        Random random = new Random(32);
+        int size = 200000;
+        int[] observedValues = new int[size];
+        double[] predictedValues = new double[size];
+        double[] overconfidentValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            double p = 0.05 + 0.9 * random.nextDouble();
+            observedValues[i] = (random.nextDouble() < p) ? 1 : 0;
+            predictedValues[i] = p;
+            double odds = p / (1 - p);
+            overconfidentValues[i] = odds * odds / (1 + odds * odds);
+        }
+
+        LogisticCalibration calibrated = new LogisticCalibration(observedValues, predictedValues);
+        Assertions.assertEquals(1.0, calibrated.getSlope(), 4 * calibrated.getSlopeStandardError());
+        Assertions.assertEquals(0.0, calibrated.getIntercept(), 4 * calibrated.getInterceptStandardError());
+        Assertions.assertTrue(calibrated.getPValue() > 0.0001);
+
+        LogisticCalibration overconfident = new LogisticCalibration(observedValues, overconfidentValues);
+        Assertions.assertEquals(0.5, overconfident.getSlope(), 4 * overconfident.getSlopeStandardError());
+        Assertions.assertEquals(2.0, overconfident.getTemperature(), 0.05);
+        Assertions.assertTrue(overconfident.getPValue() < 0.0001);
+    }
+
+}
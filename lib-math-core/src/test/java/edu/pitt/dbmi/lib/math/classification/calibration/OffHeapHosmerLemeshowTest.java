@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration;
+
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.data.OffHeapDataset;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Oct 20, 2026 1:52:44 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class OffHeapHosmerLemeshowTest {
+
+    private static List<ObservedPredictedValue> observedPredictedValues;
+
+    @BeforeAll
+    public static void setUpClass() throws IOException {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        observedPredictedValues = ResourcesLoader.loadData(file, Delimiters.COMMA, 1, 2, false);
+    }
+
+    /**
+     * Test of decileGroups method, of class OffHeapHosmerLemeshow.
+     */
+    @Test
+    public void testDecileGroups() {
+        assertSameStatistics(
+                new HosmerLemeshowDecileGroup(observedPredictedValues),
+                OffHeapHosmerLemeshow.decileGroups(createDataset(), 10));
+        assertSameStatistics(
+                new HosmerLemeshowDecileGroup(observedPredictedValues, 7),
+                OffHeapHosmerLemeshow.decileGroups(createDataset(), 7));
+    }
+
+    /**
+     * Test of riskGroups method, of class OffHeapHosmerLemeshow.
+     */
+    @Test
+    public void testRiskGroups() {
+        OffHeapDataset dataset = createDataset();
+        assertSameStatistics(
+                new HosmerLemeshowRiskGroup(observedPredictedValues),
+                OffHeapHosmerLemeshow.riskGroups(dataset, 10));
+
+        // the risk groups do not need sorted data
+        Assertions.assertFalse(dataset.isSorted());
+    }
+
+    private static OffHeapDataset createDataset() {
+        OffHeapDataset dataset = new OffHeapDataset(6);
+        for (ObservedPredictedValue obsPredVal : observedPredictedValues) {
+            dataset.add(obsPredVal.getObservedValue(), obsPredVal.getPredictedValue());
+        }
+
+        return dataset;
+    }
+
+    private static void assertSameStatistics(HosmerLemeshow expected, HosmerLemeshow result) {
+        double delta = 1e-9;
+
+        Assertions.assertEquals(expected.getNumberOfPredictions(), result.getNumberOfPredictions());
+        Assertions.assertArrayEquals(expected.getGroups(), result.getGroups());
+        Assertions.assertArrayEquals(expected.getNumberOfDataPerGroup(), result.getNumberOfDataPerGroup());
+        Assertions.assertArrayEquals(expected.getPositiveObservedSumPerGroup(), result.getPositiveObservedSumPerGroup());
+        Assertions.assertArrayEquals(expected.getPredictedSumPerGroup(), result.getPredictedSumPerGroup(), delta);
+        Assertions.assertArrayEquals(expected.getHlChi2PerGroup(), result.getHlChi2PerGroup(), delta);
+        Assertions.assertEquals(expected.getDegreesOfFreedom(), result.getDegreesOfFreedom());
+        Assertions.assertEquals(expected.getPValue(), result.getPValue(), delta);
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration.belt;
+
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshowRiskGroup;
+import edu.pitt.dbmi.lib.math.classification.calibration.LogisticCalibration;
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.utils.PairedArrays;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Oct 19, 2026 3:47:12 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class CalibrationBeltTest {
+
+    private static List<ObservedPredictedValue> observedPredictedValues;
+
+    @BeforeAll
+    public static void setUpClass() throws IOException {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        Pattern delimiter = Delimiters.COMMA;
+        int observedColumn = 1;
+        int predictedColumn = 2;
+        boolean hasHeader = false;
+        observedPredictedValues = ResourcesLoader.loadData(file, delimiter, observedColumn, predictedColumn, hasHeader);
+    }
+
+    /**
+     * Test of getCoefficients method, of class CalibrationBelt.
+     */
+    @Test
+    public void testGetCoefficients() {
+        // a first-degree belt is the logistic recalibration
+        CalibrationBelt belt = new CalibrationBelt(observedPredictedValues, 1);
+        LogisticCalibration calibration = new LogisticCalibration(observedPredictedValues);
+
+        double[] coefficients = belt.getCoefficients();
+        Assertions.assertEquals(1, belt.getDegree());
+        Assertions.assertEquals(calibration.getIntercept(), coefficients[0], 1e-6);
+        Assertions.assertEquals(calibration.getSlope(), coefficients[1], 1e-6);
+        Assertions.assertEquals(calibration.getLikelihoodRatio(), belt.getLikelihoodRatio(), 1e-6);
+
+        // the log-likelihood cannot decrease with the degree
+        belt = new CalibrationBelt(new HosmerLemeshowRiskGroup(observedPredictedValues));
+        double[] logLikelihoods = belt.getLogLikelihoods();
+        for (int i = 1; i < logLikelihoods.length; i++) {
+            Assertions.assertTrue(logLikelihoods[i] >= logLikelihoods[i - 1] - 1e-6);
+        }
+    }
+
+    /**
+     * Test of getDegree method, of class CalibrationBelt.
+     */
+    @Test
+    public void testGetDegree() {
+        // logit(P(y = 1)) = logit(p) + 0.3 * logit(p)^2
+        Random random = new Random(33);
+        int size = 100000;
+        int[] observedValues = new int[size];
+        double[] predictedValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            double p = 0.05 + 0.9 * random.nextDouble();
+            double x = Math.log(p / (1 - p));
+            double eta = x + 0.3 * x * x;
+            observedValues[i] = (random.nextDouble() < 1 / (1 + Math.exp(-eta))) ? 1 : 0;
+            predictedValues[i] = p;
+        }
+        PairedArrays.sort(predictedValues, observedValues);
+
+        CalibrationBelt belt = new CalibrationBelt(observedValues, predictedValues, CalibrationBelt.DEFAULT_MAX_DEGREE);
+        Assertions.assertTrue(belt.getDegree() >= 2);
+        Assertions.assertTrue(belt.getPValue() < 0.0001);
+        Assertions.assertEquals(0.3, belt.getCoefficients()[2], 0.05);
+
+        CalibrationBand band = belt.computeBand(0.95, 100);
+        Assertions.assertTrue(band.getNumberOfPointsOffBisector() > 0);
+    }
+
+    /**
+     * Test of computeBand method, of class CalibrationBelt.
+     */
+    @Test
+    public void testComputeBand() {
+        CalibrationBelt belt = new CalibrationBelt(observedPredictedValues);
+
+        CalibrationBand narrow = belt.computeBand(0.80, 50);
+        CalibrationBand wide = belt.computeBand(0.95, 50);
+        double[] predictedValues = wide.getPredictedValues();
+        Assertions.assertEquals(50, predictedValues.length);
+        for (int i = 0; i < predictedValues.length; i++) {
+            double fittedValue = belt.getFittedValue(predictedValues[i]);
+            Assertions.assertEquals(fittedValue, wide.getFittedValues()[i], 1e-12);
+            Assertions.assertTrue(wide.getLowerBounds()[i] <= narrow.getLowerBounds()[i]);
+            Assertions.assertTrue(narrow.getLowerBounds()[i] <= fittedValue);
+            Assertions.assertTrue(fittedValue <= narrow.getUpperBounds()[i]);
+            Assertions.assertTrue(narrow.getUpperBounds()[i] <= wide.getUpperBounds()[i]);
+        }
+    }
+
+    /**
+     * Test of fitting separable data, of class CalibrationBelt.
+     */
+    @Test
+    public void testSeparableData() {
+        int[] observedValues = {0, 0, 0, 1, 1, 1};
+        double[] predictedValues = {0.1, 0.2, 0.3, 0.7, 0.8, 0.9};
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CalibrationBelt(observedValues, predictedValues, 1));
+
+        // separable except for the lowest prediction, so only the higher degrees diverge
+        int size = 20;
+        int[] nearlySeparableObservedValues = new int[size];
+        double[] evenPredictedValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            nearlySeparableObservedValues[i] = (i == 0 || i >= size / 2) ? 1 : 0;
+            evenPredictedValues[i] = (i + 1.0) / (size + 1);
+        }
+        CalibrationBelt belt = new CalibrationBelt(nearlySeparableObservedValues, evenPredictedValues, CalibrationBelt.DEFAULT_MAX_DEGREE);
+        Assertions.assertEquals(1, belt.getDegree());
+        for (double logLikelihood : belt.getLogLikelihoods()) {
+            Assertions.assertTrue(logLikelihood >= belt.getNullLogLikelihood());
+        }
+    }
+
+}
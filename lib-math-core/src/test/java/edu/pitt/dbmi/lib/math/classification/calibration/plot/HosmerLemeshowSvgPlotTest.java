@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration.plot;
+
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshow;
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshowDecileGroup;
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.plot.SvgColors;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+
+/**
+ *
+ * Oct 19, 2026 9:36:48 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class HosmerLemeshowSvgPlotTest {
+
+    /**
+     * Test of write method, of class HosmerLemeshowSvgPlot.
+     */
+    @Test
+    public void testWrite() throws Exception {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        List<ObservedPredictedValue> observedPredictedValues = ResourcesLoader.loadData(file, Delimiters.COMMA, 1, 2, false);
+        HosmerLemeshow hl = new HosmerLemeshowDecileGroup(observedPredictedValues);
+
+        HosmerLemeshowSvgPlot svgPlot = new HosmerLemeshowSvgPlot("Test HL Plot");
+        svgPlot.addDataSeries(hl, "with error bars", SvgColors.BLUE, "circle", true);
+        svgPlot.addDataSeries(hl, "without error bars", SvgColors.FOREST_GREEN, "diamond", false);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        svgPlot.write(out, 800, 800);
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(out.toByteArray()));
+
+        // one marker per group and one in the legend
+        int numOfGroups = hl.getHlObservedValues().length;
+        Assertions.assertEquals(numOfGroups + 1, document.getElementsByTagName("ellipse").getLength());
+        Assertions.assertEquals(numOfGroups + 1, document.getElementsByTagName("polygon").getLength());
+
+        String content = document.getDocumentElement().getTextContent();
+        Assertions.assertTrue(content.contains("with error bars (p-value"));
+        Assertions.assertTrue(content.contains("Observed (proportion)"));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            HosmerLemeshowSvgPlot badPlot = new HosmerLemeshowSvgPlot();
+            badPlot.addDataSeries(hl, "bad", SvgColors.RED, "hexagon", false);
+            badPlot.write(new ByteArrayOutputStream(), 400, 400);
+        });
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.data;
+
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Oct 20, 2026 1:41:08 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class OffHeapDatasetTest {
+
+    /**
+     * Test of load method, of class OffHeapDataset.
+     */
+    @Test
+    public void testLoad() throws IOException {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        OffHeapDataset dataset = OffHeapDataset.load(file, Delimiters.COMMA, 1, 2, false);
+
+        long numOfPositives = 0;
+        for (long i = 0; i < dataset.size(); i++) {
+            numOfPositives += dataset.getObservedValue(i);
+        }
+        Assertions.assertTrue(dataset.size() > 0);
+        Assertions.assertEquals(numOfPositives, dataset.getNumberOfPositives());
+        Assertions.assertEquals(dataset.size() - numOfPositives, dataset.getNumberOfNegatives());
+    }
+
+    /**
+     * Test of sort method, of class OffHeapDataset.
+     */
+    @Test
+    public void testSort() {
+        int size = 200_000;
+        SplittableRandom random = new SplittableRandom(44);
+        double[] predictedValues = new double[size];
+        long positiveSum = 0;
+
+        // small segments so that the rows span many segments
+        OffHeapDataset dataset = new OffHeapDataset(10);
+        for (int i = 0; i < size; i++) {
+            int observedValue = (random.nextDouble() < 0.4) ? 1 : 0;
+            // rounded so that there are many ties
+            double predictedValue = Math.round(random.nextDouble() * 500) / 500.0;
+            predictedValues[i] = predictedValue;
+            dataset.add(observedValue, predictedValue);
+            positiveSum += observedValue * Math.round(predictedValue * 500);
+        }
+        Assertions.assertFalse(dataset.isSorted());
+
+        dataset.sort();
+        Assertions.assertTrue(dataset.isSorted());
+
+        // same values in ascending order, each still paired with its outcome
+        Arrays.sort(predictedValues);
+        long sortedPositiveSum = 0;
+        for (long i = 0; i < size; i++) {
+            Assertions.assertEquals(predictedValues[(int) i], dataset.getPredictedValue(i));
+            sortedPositiveSum += dataset.getObservedValue(i) * Math.round(dataset.getPredictedValue(i) * 500);
+        }
+        Assertions.assertEquals(positiveSum, sortedPositiveSum);
+    }
+
+    /**
+     * Test of add method, of class OffHeapDataset.
+     */
+    @Test
+    public void testAdd() {
+        OffHeapDataset dataset = new OffHeapDataset(4);
+        for (int i = 0; i < 100; i++) {
+            dataset.add(i % 2, i / 100.0);
+        }
+
+        Assertions.assertTrue(dataset.isSorted());
+        Assertions.assertEquals(100, dataset.size());
+        Assertions.assertEquals(50, dataset.getNumberOfPositives());
+        Assertions.assertEquals(0.37, dataset.getPredictedValue(37));
+        Assertions.assertEquals(1, dataset.getObservedValue(37));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> dataset.add(2, 0.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> dataset.add(0, Double.NaN));
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.data;
+
+import edu.pitt.dbmi.lib.math.classification.roc.ROCCurve;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ *
+ * Oct 20, 2026 3:31:27 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class SyntheticDataGeneratorTest {
+
+    @TempDir
+    public static Path tempDir;
+
+    /**
+     * Test of generate method, of class SyntheticDataGenerator.
+     */
+    @Test
+    public void testGenerate() {
+        int size = 200_000;
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(46, 0.2, 0.75);
+        List<ObservedPredictedValue> data = generator.generate(size);
+
+        Assertions.assertEquals(size, data.size());
+
+        double numOfPositives = data.stream().mapToInt(ObservedPredictedValue::getObservedValue).sum();
+        double meanPredictedValue = data.stream().mapToDouble(ObservedPredictedValue::getPredictedValue).average().getAsDouble();
+        Assertions.assertEquals(0.2, numOfPositives / size, 0.005);
+        Assertions.assertEquals(0.75, new ROCCurve(data).getAreaUnderRocCurve(), 0.005);
+
+        // calibrated: the mean prediction matches the observed rate
+        Assertions.assertEquals(numOfPositives / size, meanPredictedValue, 0.005);
+
+        // same seed, same data
+        List<ObservedPredictedValue> other = new SyntheticDataGenerator(46, 0.2, 0.75).generate(size);
+        for (int i = 0; i < size; i += 997) {
+            Assertions.assertEquals(data.get(i).getObservedValue(), other.get(i).getObservedValue());
+            Assertions.assertEquals(data.get(i).getPredictedValue(), other.get(i).getPredictedValue());
+        }
+    }
+
+    /**
+     * Test of setMiscalibration method, of class SyntheticDataGenerator.
+     */
+    @Test
+    public void testSetMiscalibration() {
+        int size = 100_000;
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(46, 0.2, 0.75);
+        generator.setMiscalibration(1.0, 1.0);
+        List<ObservedPredictedValue> data = generator.generate(size);
+
+        // overestimated risk, same discrimination
+        double observedRate = data.stream().mapToInt(ObservedPredictedValue::getObservedValue).average().getAsDouble();
+        double meanPredictedValue = data.stream().mapToDouble(ObservedPredictedValue::getPredictedValue).average().getAsDouble();
+        Assertions.assertTrue(meanPredictedValue > observedRate + 0.1);
+        Assertions.assertEquals(0.75, new ROCCurve(data).getAreaUnderRocCurve(), 0.01);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> generator.setMiscalibration(0.0, 0.0));
+    }
+
+    /**
+     * Test of setQuantizationLevels method, of class SyntheticDataGenerator.
+     */
+    @Test
+    public void testSetQuantizationLevels() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(46, 0.3, 0.8);
+        generator.setQuantizationLevels(20);
+        List<ObservedPredictedValue> data = generator.generate(50_000);
+
+        long numOfDistinctValues = data.stream().mapToDouble(ObservedPredictedValue::getPredictedValue).distinct().count();
+        Assertions.assertTrue(numOfDistinctValues <= 21);
+    }
+
+    /**
+     * Test of generateSliced method, of class SyntheticDataGenerator.
+     */
+    @Test
+    public void testGenerateSliced() {
+        int size = 90_000;
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(46, 0.3, 0.8);
+        generator.setSubgroups(3, 0.5);
+        List<SlicedObservedPredictedValue> data = generator.generateSliced(size);
+
+        Map<String, List<SlicedObservedPredictedValue>> subgroups = data.stream()
+                .collect(Collectors.groupingBy(SlicedObservedPredictedValue::getSlice));
+        Assertions.assertEquals(3, subgroups.size());
+
+        // the calibration intercept grows from one subgroup to the next
+        double previousMean = 0;
+        for (int i = 0; i < 3; i++) {
+            List<SlicedObservedPredictedValue> subgroup = subgroups.get(SyntheticDataGenerator.getSubgroupName(i));
+            Assertions.assertEquals(size / 3.0, subgroup.size(), size * 0.01);
+
+            double mean = subgroup.stream().mapToDouble(ObservedPredictedValue::getPredictedValue).average().getAsDouble();
+            Assertions.assertTrue(mean > previousMean);
+            previousMean = mean;
+        }
+    }
+
+    /**
+     * Test of writeCsv method, of class SyntheticDataGenerator.
+     */
+    @Test
+    public void testWriteCsv() throws IOException {
+        int size = 150_000;
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(46, 0.1, 0.9);
+        generator.setSubgroups(2, 0.0);
+        Path file = tempDir.resolve("synthetic.csv");
+        generator.writeCsv(file, size);
+
+        List<SlicedObservedPredictedValue> expected = generator.generateSliced(size);
+        List<SlicedObservedPredictedValue> result = ResourcesLoader.loadData(file, Delimiters.COMMA, 1, 2, 3, true);
+        Assertions.assertEquals(size, result.size());
+
+        // the loader returns a linked list, so walk both lists instead of indexing
+        Iterator<SlicedObservedPredictedValue> expectedIterator = expected.iterator();
+        for (SlicedObservedPredictedValue value : result) {
+            SlicedObservedPredictedValue expectedValue = expectedIterator.next();
+            Assertions.assertEquals(expectedValue.getObservedValue(), value.getObservedValue());
+            Assertions.assertEquals(expectedValue.getPredictedValue(), value.getPredictedValue());
+            Assertions.assertEquals(expectedValue.getSlice(), value.getSlice());
+        }
+    }
+
+    /**
+     * Test of writeBinary method, of class SyntheticDataGenerator.
+     */
+    @Test
+    public void testWriteBinary() throws IOException {
+        int size = 150_000;
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(46, 0.1, 0.9);
+        Path file = tempDir.resolve("synthetic.bin");
+        generator.writeBinary(file, size);
+
+        List<ObservedPredictedValue> expected = generator.generate(size);
+        OffHeapDataset result = OffHeapDataset.loadBinary(file);
+        OffHeapDataset offHeap = generator.generateOffHeap(size);
+        Assertions.assertEquals(size, result.size());
+        Assertions.assertEquals(size, offHeap.size());
+        for (int i = 0; i < size; i++) {
+            Assertions.assertEquals(expected.get(i).getObservedValue(), result.getObservedValue(i));
+            Assertions.assertEquals(expected.get(i).getPredictedValue(), result.getPredictedValue(i));
+            Assertions.assertEquals(expected.get(i).getPredictedValue(), offHeap.getPredictedValue(i));
+        }
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.evaluation;
+
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshow;
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshowDecileGroup;
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshowRiskGroup;
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.roc.ROC;
+import edu.pitt.dbmi.lib.math.classification.roc.ROCCurve;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Oct 19, 2026 2:02:51 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class ModelEvaluationTest {
+
+    private static List<ObservedPredictedValue> observedPredictedValues;
+
+    private static ModelEvaluation evaluation;
+
+    @BeforeAll
+    public static void setUpClass() throws IOException {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        Pattern delimiter = Delimiters.COMMA;
+        int observedColumn = 1;
+        int predictedColumn = 2;
+        boolean hasHeader = false;
+        observedPredictedValues = ResourcesLoader.loadData(file, delimiter, observedColumn, predictedColumn, hasHeader);
+
+        evaluation = new ModelEvaluation(observedPredictedValues);
+    }
+
+    /**
+     * Test of getROC method, of class ModelEvaluation.
+     */
+    @Test
+    public void testGetROC() {
+        ROC expResult = new ROCCurve(observedPredictedValues);
+        ROC result = evaluation.getROC();
+
+        Assertions.assertEquals(expResult.getAreaUnderRocCurve(), result.getAreaUnderRocCurve());
+        Assertions.assertEquals(expResult.getNumberOfPositives(), result.getNumberOfPositives());
+        Assertions.assertEquals(expResult.getNumberOfNegatives(), result.getNumberOfNegatives());
+        Assertions.assertArrayEquals(expResult.getTruePositiveRates(), result.getTruePositiveRates());
+        Assertions.assertArrayEquals(expResult.getFalsePositiveRates(), result.getFalsePositiveRates());
+        Assertions.assertArrayEquals(expResult.getPositivePredictedValues(), result.getPositivePredictedValues());
+        Assertions.assertArrayEquals(expResult.getNegativePredictedValues(), result.getNegativePredictedValues());
+    }
+
+    /**
+     * Test of getDecileGroups method, of class ModelEvaluation.
+     */
+    @Test
+    public void testGetDecileGroups() {
+        assertSameStatistics(new HosmerLemeshowDecileGroup(observedPredictedValues), evaluation.getDecileGroups());
+    }
+
+    /**
+     * Test of getRiskGroups method, of class ModelEvaluation.
+     */
+    @Test
+    public void testGetRiskGroups() {
+        assertSameStatistics(new HosmerLemeshowRiskGroup(observedPredictedValues), evaluation.getRiskGroups());
+    }
+
+    /**
+     * Test of getBrierScore method and its decomposition, of class
+     * ModelEvaluation.
+     */
+    @Test
+    public void testGetBrierScore() {
+        double brierSum = 0;
+        double logLossSum = 0;
+        for (ObservedPredictedValue obsPredVal : observedPredictedValues) {
+            double p = obsPredVal.getPredictedValue();
+            int y = obsPredVal.getObservedValue();
+            brierSum += (p - y) * (p - y);
+            logLossSum -= (y == 1) ? Math.log(Math.max(p, ModelEvaluation.EPSILON)) : Math.log(Math.max(1 - p, ModelEvaluation.EPSILON));
+        }
+        double expResult = brierSum / observedPredictedValues.size();
+
+        Assertions.assertEquals(expResult, evaluation.getBrierScore(), 1e-12);
+        Assertions.assertEquals(
+                evaluation.getBrierScore(),
+                evaluation.getReliability() - evaluation.getResolution() + evaluation.getUncertainty(),
+                1e-12);
+        Assertions.assertEquals(logLossSum / observedPredictedValues.size(), evaluation.getLogLoss(), 1e-12);
+    }
+
+    /**
+     * Test of getCalibrationInTheLarge method, of class ModelEvaluation.
+     */
+    @Test
+    public void testGetCalibrationInTheLarge() {
+        double expResult = evaluation.getPrevalence() - evaluation.getMeanPredictedValue();
+        double result = evaluation.getCalibrationInTheLarge();
+
+        Assertions.assertEquals(expResult, result);
+        Assertions.assertEquals(861.0 / 1411, evaluation.getPrevalence());
+        Assertions.assertNotNull(evaluation.getSummary());
+    }
+
+    /**
+     * Test of ModelEvaluation constructors with observed values that are not 0
+     * or 1, of class ModelEvaluation.
+     */
+    @Test
+    public void testInvalidObservedValue() {
+        List<ObservedPredictedValue> data = List.of(
+                new ObservedPredictedValue(0, 0.2),
+                new ObservedPredictedValue(2, 0.8));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ModelEvaluation(data));
+
+        double[] predictedValues = {0.2, 0.5, 0.8};
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ModelEvaluation(new int[]{0, -1, 1}, predictedValues, 10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ModelEvaluation(new int[]{0, 2, 1}, predictedValues, 10));
+    }
+
+    private static void assertSameStatistics(HosmerLemeshow expected, HosmerLemeshow result) {
+        double delta = 1e-9;
+
+        Assertions.assertEquals(expected.getNumberOfPredictions(), result.getNumberOfPredictions());
+        Assertions.assertArrayEquals(expected.getGroups(), result.getGroups());
+        Assertions.assertArrayEquals(expected.getNumberOfDataPerGroup(), result.getNumberOfDataPerGroup());
+        Assertions.assertArrayEquals(expected.getPositiveObservedSumPerGroup(), result.getPositiveObservedSumPerGroup());
+        Assertions.assertArrayEquals(expected.getPredictedSumPerGroup(), result.getPredictedSumPerGroup(), delta);
+        Assertions.assertArrayEquals(expected.getPredictedValues(), result.getPredictedValues());
+        Assertions.assertEquals(expected.getPValue(), result.getPValue(), delta);
+        Assertions.assertEquals(expected.getExpectedCalibrationError(), result.getExpectedCalibrationError(), delta);
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.evaluation;
+
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshow;
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshowDecileGroup;
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.data.SlicedObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.roc.ROCCurve;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Oct 19, 2026 5:21:33 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class SliceEvaluationTest {
+
+    private static List<SlicedObservedPredictedValue> slicedObservedPredictedValues;
+
+    private static SliceEvaluation evaluation;
+
+    @BeforeAll
+    public static void setUpClass() throws IOException {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/sliced_obs_pred_vals.csv").getFile());
+        Pattern delimiter = Delimiters.COMMA;
+        int observedColumn = 1;
+        int predictedColumn = 2;
+        int sliceColumn = 3;
+        boolean hasHeader = false;
+        slicedObservedPredictedValues = ResourcesLoader.loadData(file, delimiter, observedColumn, predictedColumn, sliceColumn, hasHeader);
+
+        evaluation = new SliceEvaluation(slicedObservedPredictedValues);
+    }
+
+    /**
+     * Test of getSliceEvaluation method, of class SliceEvaluation.
+     */
+    @Test
+    public void testGetSliceEvaluation() {
+        Assertions.assertArrayEquals(new String[]{"site-a", "site-b", "site-c"}, evaluation.getSlices());
+
+        int total = 0;
+        for (String slice : evaluation.getSlices()) {
+            List<ObservedPredictedValue> observedPredictedValues = slicedObservedPredictedValues.stream()
+                    .filter(obsPredVal -> obsPredVal.getSlice().equals(slice))
+                    .collect(Collectors.toList());
+            ModelEvaluation sliceEvaluation = evaluation.getSliceEvaluation(slice);
+            total += sliceEvaluation.getNumberOfPredictions();
+
+            Assertions.assertEquals(observedPredictedValues.size(), sliceEvaluation.getNumberOfPredictions());
+            Assertions.assertEquals(
+                    new ROCCurve(observedPredictedValues).getAreaUnderRocCurve(),
+                    sliceEvaluation.getROC().getAreaUnderRocCurve(), 1e-12);
+
+            HosmerLemeshow hl = new HosmerLemeshowDecileGroup(observedPredictedValues);
+            Assertions.assertArrayEquals(hl.getNumberOfDataPerGroup(), sliceEvaluation.getDecileGroups().getNumberOfDataPerGroup());
+            Assertions.assertEquals(hl.getPValue(), sliceEvaluation.getDecileGroups().getPValue(), 1e-9);
+        }
+        Assertions.assertEquals(1411, total);
+        Assertions.assertEquals(1411, evaluation.getOverallEvaluation().getNumberOfPredictions());
+        Assertions.assertNull(evaluation.getSliceEvaluation("site-d"));
+    }
+
+    /**
+     * Test of getAucHeterogeneityPValue method, of class SliceEvaluation.
+     */
+    @Test
+    public void testGetAucHeterogeneityPValue() {
+        Assertions.assertEquals(2, evaluation.getAucHeterogeneityDegreesOfFreedom());
+        Assertions.assertTrue(evaluation.getAucHeterogeneity() >= 0);
+        Assertions.assertTrue(evaluation.getAucHeterogeneityPValue() >= 0 && evaluation.getAucHeterogeneityPValue() <= 1);
+    }
+
+    /**
+     * Test of SliceEvaluation constructor with an observed value that is not
+     * 0 or 1, of class SliceEvaluation.
+     */
+    @Test
+    public void testInvalidObservedValue() {
+        List<SlicedObservedPredictedValue> data = List.of(
+                new SlicedObservedPredictedValue(0, 0.2, "site-a"),
+                new SlicedObservedPredictedValue(2, 0.8, "site-a"),
+                new SlicedObservedPredictedValue(1, 0.6, "site-b"));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SliceEvaluation(data));
+    }
+
+}
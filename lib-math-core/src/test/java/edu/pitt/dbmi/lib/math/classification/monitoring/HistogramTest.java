@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.monitoring;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Oct 20, 2026 4:31:50 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class HistogramTest {
+
+    /**
+     * Test of snapshot method, of class Histogram.
+     */
+    @Test
+    public void testSnapshot() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+        histogram.record(-5);
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        Assertions.assertEquals(1001, snapshot.getCount());
+        Assertions.assertEquals(500500, snapshot.getSum());
+        Assertions.assertEquals(1000, snapshot.getMax());
+        Assertions.assertEquals(500500 / 1001.0, snapshot.getMean());
+
+        // within a factor of two of the exact percentiles
+        long median = snapshot.getPercentile(50);
+        Assertions.assertTrue(median >= 500 && median < 1000, "median " + median);
+        Assertions.assertEquals(1000, snapshot.getPercentile(99));
+        Assertions.assertEquals(0, snapshot.getPercentile(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> snapshot.getPercentile(101));
+
+        histogram.reset();
+        Assertions.assertEquals(0, histogram.snapshot().getCount());
+        Assertions.assertEquals(0, histogram.snapshot().getPercentile(50));
+    }
+
+}
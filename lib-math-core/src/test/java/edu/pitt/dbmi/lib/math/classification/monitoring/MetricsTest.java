@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.monitoring;
+
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshowDecileGroup;
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.roc.ROCCurve;
+import edu.pitt.dbmi.lib.math.classification.roc.stat.DeLongConfidenceInterval;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Oct 20, 2026 4:36:12 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class MetricsTest {
+
+    /**
+     * Test of snapshot method, of class Metrics.
+     */
+    @Test
+    public void testSnapshot() throws IOException {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+
+        Metrics.reset();
+        Metrics.setEnabled(true);
+        List<ObservedPredictedValue> data;
+        try {
+            data = ResourcesLoader.loadData(file, Delimiters.COMMA, 1, 2, false);
+            new DeLongConfidenceInterval(new ROCCurve(data));
+            new HosmerLemeshowDecileGroup(data);
+        } finally {
+            Metrics.setEnabled(false);
+        }
+
+        MetricsSnapshot snapshot = Metrics.snapshot();
+        Assertions.assertEquals(data.size(), snapshot.getCounter("ResourcesLoader.loadData.rows"));
+        Assertions.assertEquals(Files.size(file), snapshot.getCounter("ResourcesLoader.loadData.bytes"));
+        Assertions.assertEquals(1, snapshot.getHistogram("ResourcesLoader.loadData.time").getCount());
+        Assertions.assertEquals(data.size(), snapshot.getCounter("ROCCurve.sort.rows"));
+        Assertions.assertEquals(data.size(), snapshot.getCounter("ROCCurve.sweep.rows"));
+        Assertions.assertEquals(1, snapshot.getHistogram("ROCCurve.sweep.time").getCount());
+        Assertions.assertEquals(data.size(), snapshot.getCounter("DeLongConfidenceInterval.standardError.rows"));
+        Assertions.assertEquals(data.size(), snapshot.getCounter("HosmerLemeshowDecileGroup.group.rows"));
+        Assertions.assertNotNull(snapshot.getHistogram("HosmerLemeshowDecileGroup.statistics.time"));
+        Assertions.assertTrue(snapshot.getSummary().contains("ROCCurve.sort.time"));
+
+        // nothing is recorded while the metrics are disabled
+        new ROCCurve(data);
+        Assertions.assertEquals(1, Metrics.snapshot().getHistogram("ROCCurve.sort.time").getCount());
+
+        Metrics.reset();
+        Assertions.assertEquals(0, Metrics.snapshot().getCounter("ROCCurve.sort.rows"));
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.monitoring;
+
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.roc.ROCCurve;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ *
+ * Oct 20, 2026 4:41:27 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class PhaseTimerTest {
+
+    @TempDir
+    public static Path tempDir;
+
+    /**
+     * Test of stop method, of class PhaseTimer, with a Flight Recorder
+     * recording.
+     */
+    @Test
+    public void testStop() throws IOException {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        Path recordingFile = tempDir.resolve("recording.jfr");
+
+        List<ObservedPredictedValue> data;
+        try (Recording recording = new Recording()) {
+            recording.enable(LoadDataEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(EvaluationPhaseEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            data = ResourcesLoader.loadData(file, Delimiters.COMMA, 1, 2, false);
+            new ROCCurve(data);
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        RecordedEvent load = events.stream()
+                .filter(event -> event.getEventType().getName().equals("edu.pitt.dbmi.lib.math.LoadData"))
+                .findFirst().orElseThrow();
+        Assertions.assertEquals(data.size(), load.getLong("rows"));
+        Assertions.assertTrue(load.getLong("bytes") > 0);
+        Assertions.assertEquals(Thread.currentThread().getName(), load.getThread().getJavaName());
+
+        long numOfPhases = events.stream()
+                .filter(event -> event.getEventType().getName().equals("edu.pitt.dbmi.lib.math.EvaluationPhase"))
+                .filter(event -> "ROCCurve".equals(event.getString("component")))
+                .filter(event -> event.getLong("rows") == data.size())
+                .count();
+        Assertions.assertEquals(2, numOfPhases);
+    }
+
+}
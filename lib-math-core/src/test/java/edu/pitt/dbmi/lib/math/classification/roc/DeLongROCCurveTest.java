@@ -113,7 +113,7 @@ public class DeLongROCCurveTest {
      */
     @Test
     public void testGetAreaUnderRocCurve() {
-        double expResult = 0.7227832330271358;
+        double expResult = 0.7227832330271354;
         double result = roc.getAreaUnderRocCurve();
 
         Assertions.assertEquals(expResult, result);
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.roc;
+
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.data.OffHeapDataset;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ *
+ * Oct 20, 2026 12:31:55 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class ExternalROCEvaluatorTest {
+
+    @TempDir
+    public static Path tempDir;
+
+    /**
+     * Test of addAll method, of class ExternalROCEvaluator.
+     */
+    @Test
+    public void testAddAll() throws IOException {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        List<ObservedPredictedValue> observedPredictedValues = ResourcesLoader.loadData(file, Delimiters.COMMA, 1, 2, false);
+        ROC roc = new ROCCurve(observedPredictedValues);
+
+        try (ExternalROCEvaluator evaluator = new ExternalROCEvaluator(tempDir)) {
+            evaluator.addAll(file, Delimiters.COMMA, 1, 2, false);
+            ExternalROCCurve result = evaluator.evaluate();
+
+            Assertions.assertEquals(roc.getAreaUnderRocCurve(), result.getAreaUnderRocCurve());
+            Assertions.assertEquals(roc.getNumberOfPositives(), result.getNumberOfPositives());
+            Assertions.assertEquals(roc.getNumberOfNegatives(), result.getNumberOfNegatives());
+            Assertions.assertEquals(roc.getConfusionMatrices().length, result.getNumberOfThresholds());
+        }
+    }
+
+    /**
+     * Test of evaluate method, of class ExternalROCEvaluator, with many runs.
+     */
+    @Test
+    public void testEvaluate() throws IOException {
+        int size = 300_000;
+        SplittableRandom random = new SplittableRandom(43);
+        List<ObservedPredictedValue> observedPredictedValues = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int observedValue = (random.nextDouble() < 0.3) ? 1 : 0;
+            // rounded so that there are ties within and across runs
+            double predictedValue = Math.round((random.nextDouble() + 0.4 * observedValue) * 10_000) / 10_000.0;
+            observedPredictedValues.add(new ObservedPredictedValue(observedValue, predictedValue));
+        }
+        ROC roc = new ROCCurve(observedPredictedValues);
+
+        // the smallest budget: many runs merged two at a time
+        Path curveFile = tempDir.resolve("curve.csv");
+        try (ExternalROCEvaluator evaluator = new ExternalROCEvaluator(256 * 1024, tempDir)) {
+            for (ObservedPredictedValue obsPredVal : observedPredictedValues) {
+                evaluator.add(obsPredVal.getObservedValue(), obsPredVal.getPredictedValue());
+            }
+            ExternalROCCurve result = evaluator.evaluate(0.01, 0.01, curveFile);
+
+            Assertions.assertEquals(roc.getAreaUnderRocCurve(), result.getAreaUnderRocCurve());
+            Assertions.assertTrue(result.getConfusionMatrices().length < 300);
+
+            // the decimated curve keeps both ends
+            ConfusionMatrix[] confusionMatrices = roc.getConfusionMatrices();
+            ConfusionMatrix[] kept = result.getConfusionMatrices();
+            Assertions.assertEquals(0.0, kept[0].getTruePositiveRate());
+            Assertions.assertEquals(confusionMatrices[confusionMatrices.length - 1].getThreshold(), kept[kept.length - 1].getThreshold());
+            Assertions.assertEquals(1.0, result.getTruePositiveRates()[kept.length - 1]);
+            Assertions.assertEquals(1.0, result.getFalsePositiveRates()[kept.length - 1]);
+
+            // the file has every point
+            List<String> lines = Files.readAllLines(curveFile);
+            Assertions.assertEquals(confusionMatrices.length + 1, lines.size());
+            ConfusionMatrix middle = confusionMatrices[confusionMatrices.length / 2];
+            String expResult = String.format("%s,%d,%d,%d,%d", Double.toString(middle.getThreshold()),
+                    middle.getTruePositives(), middle.getTrueNegatives(), middle.getFalsePositives(), middle.getFalseNegatives());
+            Assertions.assertEquals(expResult, lines.get(confusionMatrices.length / 2 + 1));
+        }
+
+        // temporary runs are deleted on close
+        try (var files = Files.list(tempDir)) {
+            Assertions.assertEquals(0, files.filter(path -> path.getFileName().toString().startsWith("roc-run-")).count());
+        }
+    }
+
+    /**
+     * Test of evaluate method, of class ExternalROCEvaluator, with an off-heap
+     * dataset.
+     */
+    @Test
+    public void testEvaluateOffHeapDataset() throws IOException {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        List<ObservedPredictedValue> observedPredictedValues = ResourcesLoader.loadData(file, Delimiters.COMMA, 1, 2, false);
+        ROC roc = new ROCCurve(observedPredictedValues);
+
+        // small segments so that the sort and the sweep cross segments
+        OffHeapDataset dataset = new OffHeapDataset(6);
+        for (ObservedPredictedValue obsPredVal : observedPredictedValues) {
+            dataset.add(obsPredVal.getObservedValue(), obsPredVal.getPredictedValue());
+        }
+
+        Path curveFile = tempDir.resolve("off-heap-curve.csv");
+        ExternalROCCurve result = ExternalROCEvaluator.evaluate(dataset, 0.001, 0.001, curveFile);
+
+        Assertions.assertTrue(dataset.isSorted());
+        Assertions.assertEquals(roc.getAreaUnderRocCurve(), result.getAreaUnderRocCurve());
+        Assertions.assertEquals(roc.getNumberOfPositives(), result.getNumberOfPositives());
+        Assertions.assertEquals(roc.getNumberOfNegatives(), result.getNumberOfNegatives());
+        Assertions.assertEquals(roc.getConfusionMatrices().length, result.getNumberOfThresholds());
+        Assertions.assertEquals(roc.getConfusionMatrices().length + 1, Files.readAllLines(curveFile).size());
+    }
+
+}
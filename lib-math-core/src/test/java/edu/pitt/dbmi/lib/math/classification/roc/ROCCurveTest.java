@@ -23,9 +23,13 @@ import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
 import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
 import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.regex.Pattern;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -113,10 +117,66 @@ public class ROCCurveTest {
      */
     @Test
     public void testGetAreaUnderRocCurve() {
-        double expResult = 0.7227832330271359;
+        double expResult = 0.7227832330271354;
         double result = roc.getAreaUnderRocCurve();
 
         Assertions.assertEquals(expResult, result);
     }
 
+    /**
+     * Test of getAreaUnderRocCurve method, of class ROCCurve, against the
+     * Mann-Whitney statistic computed exactly.
+     */
+    @Test
+    public void testExactAreaUnderRocCurve() {
+        Random random = new Random(36);
+        int size = 200_000;
+        List<ObservedPredictedValue> observedPredictedValues = new ArrayList<>(size);
+        int[] positivesPerScore = new int[1001];
+        int[] negativesPerScore = new int[1001];
+        for (int i = 0; i < size; i++) {
+            int score = random.nextInt(1001);  // many ties
+            int observedValue = (random.nextInt(1001) < score) ? 1 : 0;
+            observedPredictedValues.add(new ObservedPredictedValue(observedValue, score / 1000.0));
+            if (observedValue == 1) {
+                positivesPerScore[score]++;
+            } else {
+                negativesPerScore[score]++;
+            }
+        }
+
+        // P(score of positive > score of negative) + P(tie) / 2
+        BigDecimal wins = BigDecimal.ZERO;
+        long numOfPositives = 0;
+        long numOfNegatives = 0;
+        long negativesBelow = 0;
+        for (int score = 0; score <= 1000; score++) {
+            wins = wins.add(BigDecimal.valueOf(positivesPerScore[score]).multiply(
+                    BigDecimal.valueOf(negativesBelow).add(BigDecimal.valueOf(negativesPerScore[score]).divide(BigDecimal.valueOf(2)))));
+            negativesBelow += negativesPerScore[score];
+            numOfPositives += positivesPerScore[score];
+            numOfNegatives += negativesPerScore[score];
+        }
+        double expResult = wins.divide(BigDecimal.valueOf(numOfPositives * numOfNegatives), MathContext.DECIMAL128).doubleValue();
+
+        Assertions.assertEquals(expResult, new ROCCurve(observedPredictedValues).getAreaUnderRocCurve());
+    }
+
+    /**
+     * Test of getAreaUnderRocCurve method, of class ROCCurve, with a single
+     * class.
+     */
+    @Test
+    public void testAreaUnderRocCurveOfSingleClass() {
+        List<ObservedPredictedValue> positives = List.of(
+                new ObservedPredictedValue(1, 0.2),
+                new ObservedPredictedValue(1, 0.7));
+        List<ObservedPredictedValue> negatives = List.of(
+                new ObservedPredictedValue(0, 0.2),
+                new ObservedPredictedValue(0, 0.7));
+
+        Assertions.assertEquals(0.0, new ROCCurve(positives).getAreaUnderRocCurve());
+        Assertions.assertEquals(0.0, new ROCCurve(negatives).getAreaUnderRocCurve());
+    }
+
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.roc.plot;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Oct 19, 2026 7:24:10 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class ROCCurveDecimatorTest {
+
+    /**
+     * Test of decimate method, of class ROCCurveDecimator.
+     */
+    @Test
+    public void testDecimate() {
+        // a staircase: up, up, right, right, up
+        double[] xPoints = {0.0, 0.0, 0.0, 0.5, 1.0, 1.0};
+        double[] yPoints = {0.0, 0.5, 1.0, 1.0, 1.0, 1.0};
+        int[] result = ROCCurveDecimator.decimate(xPoints, yPoints, 0.01, 0.01);
+        int[] expResult = {0, 2, 5};
+        Assertions.assertArrayEquals(expResult, result);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ROCCurveDecimator.decimate(xPoints, yPoints, 0.0, 0.01));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ROCCurveDecimator.decimate(xPoints, new double[1], 0.01, 0.01));
+    }
+
+    /**
+     * Test of decimate method, of class ROCCurveDecimator, on a large curve.
+     */
+    @Test
+    public void testDecimateLargeCurve() {
+        int size = 200_000;
+        double[] xPoints = new double[size];
+        double[] yPoints = new double[size];
+        SplittableRandom random = new SplittableRandom(19);
+        int numOfNegatives = 0;
+        int numOfPositives = 0;
+        for (int i = 1; i < size; i++) {
+            if (random.nextDouble() < 0.5) {
+                numOfNegatives++;
+            } else {
+                numOfPositives++;
+            }
+            xPoints[i] = numOfNegatives;
+            yPoints[i] = numOfPositives;
+        }
+        for (int i = 0; i < size; i++) {
+            xPoints[i] /= numOfNegatives;
+            yPoints[i] /= numOfPositives;
+        }
+
+        double xTolerance = 0.5 / 800;
+        double yTolerance = 0.5 / 600;
+        int[] indices = ROCCurveDecimator.decimate(xPoints, yPoints, xTolerance, yTolerance);
+
+        Assertions.assertTrue(indices.length < 2 * (800 + 600) * 2);
+        Assertions.assertEquals(0, indices[0]);
+        Assertions.assertEquals(size - 1, indices[indices.length - 1]);
+
+        // every point lies within the tolerance of the decimated curve
+        for (int k = 1; k < indices.length; k++) {
+            int from = indices[k - 1];
+            int to = indices[k];
+            Assertions.assertTrue(from < to);
+            for (int i = from; i <= to; i++) {
+                double distance = distanceToSegment(
+                        xPoints[i] / xTolerance, yPoints[i] / yTolerance,
+                        xPoints[from] / xTolerance, yPoints[from] / yTolerance,
+                        xPoints[to] / xTolerance, yPoints[to] / yTolerance);
+                Assertions.assertTrue(distance <= Math.sqrt(2.0) + 1e-9);
+            }
+        }
+    }
+
+    private static double distanceToSegment(double x, double y, double x1, double y1, double x2, double y2) {
+        double dx = x2 - x1;
+        double dy = y2 - y1;
+        double lengthSquared = dx * dx + dy * dy;
+        double t = (lengthSquared == 0) ? 0 : Math.max(0, Math.min(1, ((x - x1) * dx + (y - y1) * dy) / lengthSquared));
+
+        return Math.hypot(x - (x1 + t * dx), y - (y1 + t * dy));
+    }
+
+}
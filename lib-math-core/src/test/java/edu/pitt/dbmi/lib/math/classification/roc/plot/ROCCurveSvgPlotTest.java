@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.roc.plot;
+
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.plot.SvgColors;
+import edu.pitt.dbmi.lib.math.classification.roc.DeLongROCCurve;
+import edu.pitt.dbmi.lib.math.classification.roc.ROC;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+
+/**
+ *
+ * Oct 19, 2026 9:31:12 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class ROCCurveSvgPlotTest {
+
+    /**
+     * Test of write method, of class ROCCurveSvgPlot.
+     */
+    @Test
+    public void testWrite() throws Exception {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        List<ObservedPredictedValue> observedPredictedValues = ResourcesLoader.loadData(file, Delimiters.COMMA, 1, 2, false);
+        ROC roc = new DeLongROCCurve(observedPredictedValues);
+
+        ROCCurveSvgPlot svgPlot = new ROCCurveSvgPlot("Test ROC <Curve>");
+        svgPlot.add(roc, "data", SvgColors.BLUE);
+        svgPlot.add(roc, "copy", SvgColors.DARK_ORANGE);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        svgPlot.write(out, 800, 600);
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(out.toByteArray()));
+
+        // one curve per series, decimated below the number of thresholds
+        NodeList polylines = document.getElementsByTagName("polyline");
+        Assertions.assertEquals(2, polylines.getLength());
+        int numOfPoints = polylines.item(0).getAttributes().getNamedItem("points").getNodeValue().split(" ").length;
+        Assertions.assertTrue(numOfPoints > 2 && numOfPoints <= roc.getFalsePositiveRates().length);
+
+        String content = document.getDocumentElement().getTextContent();
+        Assertions.assertTrue(content.contains("Test ROC <Curve>"));
+        Assertions.assertTrue(content.contains(String.format("data (AUC %1.4f)", roc.getAreaUnderRocCurve())));
+        Assertions.assertTrue(content.contains("Sensitivity (TPR)"));
+
+        svgPlot.clearDataSeries();
+        out.reset();
+        svgPlot.write(out, 800, 600);
+        document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(out.toByteArray()));
+        Assertions.assertEquals(0, document.getElementsByTagName("polyline").getLength());
+    }
+
+}
@@ -61,7 +61,7 @@ public class DeLongConfidenceIntervalTest {
      */
     @Test
     public void testGetStandardError() {
-        double expResult = 0.013540389479730809;
+        double expResult = 0.013540389479730812;
         double result = confidenceInterval.getStandardError();
 
         Assertions.assertEquals(expResult, result);
@@ -72,7 +72,7 @@ public class DeLongConfidenceIntervalTest {
      */
     @Test
     public void testGetLowerConfidenceInterval() {
-        double expResult = 0.6962440696468634;
+        double expResult = 0.696244069646863;
         double result = confidenceInterval.getLowerConfidenceInterval();
 
         Assertions.assertEquals(expResult, result);
@@ -83,7 +83,7 @@ public class DeLongConfidenceIntervalTest {
      */
     @Test
     public void testGetUpperConfidenceInterval() {
-        double expResult = 0.7493223964074082;
+        double expResult = 0.7493223964074078;
         double result = confidenceInterval.getUpperConfidenceInterval();
 
         Assertions.assertEquals(expResult, result);
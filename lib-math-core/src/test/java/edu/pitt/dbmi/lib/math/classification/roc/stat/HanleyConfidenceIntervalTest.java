@@ -61,7 +61,7 @@ public class HanleyConfidenceIntervalTest {
      */
     @Test
     public void testGetStandardError() {
-        double expResult = 0.013298849428474424;
+        double expResult = 0.013298849428474431;
         double result = confidenceInterval.getStandardError();
 
         Assertions.assertEquals(expResult, result);
@@ -72,7 +72,7 @@ public class HanleyConfidenceIntervalTest {
      */
     @Test
     public void testGetLowerConfidenceInterval() {
-        double expResult = 0.6967174881473259;
+        double expResult = 0.6967174881473256;
         double result = confidenceInterval.getLowerConfidenceInterval();
 
         Assertions.assertEquals(expResult, result);
@@ -83,7 +83,7 @@ public class HanleyConfidenceIntervalTest {
      */
     @Test
     public void testGetUpperConfidenceInterval() {
-        double expResult = 0.7488489779069456;
+        double expResult = 0.7488489779069453;
         double result = confidenceInterval.getUpperConfidenceInterval();
 
         Assertions.assertEquals(expResult, result);
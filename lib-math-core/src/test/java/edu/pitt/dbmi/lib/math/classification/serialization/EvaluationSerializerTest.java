@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.serialization;
+
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshow;
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshowDecileGroup;
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.roc.ConfusionMatrix;
+import edu.pitt.dbmi.lib.math.classification.roc.DeLongROCCurve;
+import edu.pitt.dbmi.lib.math.classification.roc.ROC;
+import edu.pitt.dbmi.lib.math.classification.roc.ROCCurve;
+import edu.pitt.dbmi.lib.math.classification.roc.stat.ConfidenceInterval;
+import edu.pitt.dbmi.lib.math.classification.roc.stat.DeLongConfidenceInterval;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Oct 19, 2026 11:36:20 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class EvaluationSerializerTest {
+
+    private static List<ObservedPredictedValue> observedPredictedValues;
+
+    @BeforeAll
+    public static void setUpClass() throws IOException {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        observedPredictedValues = ResourcesLoader.loadData(file, Delimiters.COMMA, 1, 2, false);
+    }
+
+    /**
+     * Test of writeROC method, of class EvaluationSerializer.
+     */
+    @Test
+    public void testWriteROC() throws IOException {
+        ROC roc = new ROCCurve(observedPredictedValues);
+        byte[] bytes = EvaluationSerializer.toBytes(roc);
+        ROC result = EvaluationSerializer.toROC(bytes);
+
+        Assertions.assertEquals(roc.getAreaUnderRocCurve(), result.getAreaUnderRocCurve());
+        Assertions.assertArrayEquals(roc.getTruePositiveRates(), result.getTruePositiveRates());
+        Assertions.assertArrayEquals(roc.getFalsePositiveRates(), result.getFalsePositiveRates());
+        Assertions.assertEquals(roc.getNumberOfPositives(), result.getNumberOfPositives());
+        Assertions.assertEquals(roc.getNumberOfNegatives(), result.getNumberOfNegatives());
+        int last = roc.getConfusionMatrices().length - 1;
+        Assertions.assertEquals(roc.getConfusionMatrices()[last].getThreshold(), result.getConfusionMatrices()[last].getThreshold());
+        Assertions.assertEquals(roc.getConfusionMatrices()[last].getTrueNegatives(), result.getConfusionMatrices()[last].getTrueNegatives());
+        for (int i = 0; i <= last; i++) {
+            Assertions.assertEquals(roc.getConfusionMatrices()[i].getThreshold(), result.getConfusionMatrices()[i].getThreshold());
+        }
+
+        // the thresholds have six decimal places and are stored as scaled
+        // integers; rates and thresholds as raw doubles take 24 bytes each
+        int rawSize = roc.getConfusionMatrices().length * 3 * Double.BYTES;
+        Assertions.assertTrue(bytes.length * 5 < rawSize, bytes.length + " vs " + rawSize);
+
+        // with the predicted values, the confidence interval can be recomputed
+        ROC deLongROC = new DeLongROCCurve(observedPredictedValues);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EvaluationSerializer.writeROC(deLongROC, true, out);
+        result = EvaluationSerializer.readROC(new ByteArrayInputStream(out.toByteArray()));
+        Assertions.assertArrayEquals(deLongROC.getPositivePredictedValues(), result.getPositivePredictedValues());
+        Assertions.assertArrayEquals(deLongROC.getNegativePredictedValues(), result.getNegativePredictedValues());
+        Assertions.assertEquals(deLongROC.getAreaUnderRocCurve(), result.getAreaUnderRocCurve(), 1e-12);
+    }
+
+    /**
+     * Test of writeROC method with thresholds that are not short decimals, of
+     * class EvaluationSerializer.
+     */
+    @Test
+    public void testWriteROCWithFullPrecisionThresholds() throws IOException {
+        Random random = new Random(20261020);
+        List<ObservedPredictedValue> data = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int observedValue = random.nextInt(2);
+            data.add(new ObservedPredictedValue(observedValue, random.nextDouble() * 0.5 + observedValue * 0.25));
+        }
+        data.add(new ObservedPredictedValue(0, -0.0));
+        data.add(new ObservedPredictedValue(1, Double.MIN_VALUE));
+
+        ROC roc = new ROCCurve(data);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EvaluationSerializer.writeROC(roc, true, out);
+        ROC result = EvaluationSerializer.readROC(new ByteArrayInputStream(out.toByteArray()));
+
+        ConfusionMatrix[] confusionMatrices = roc.getConfusionMatrices();
+        for (int i = 0; i < confusionMatrices.length; i++) {
+            Assertions.assertEquals(
+                    Double.doubleToRawLongBits(confusionMatrices[i].getThreshold()),
+                    Double.doubleToRawLongBits(result.getConfusionMatrices()[i].getThreshold()));
+        }
+        Assertions.assertArrayEquals(roc.getPositivePredictedValues(), result.getPositivePredictedValues());
+        Assertions.assertArrayEquals(roc.getNegativePredictedValues(), result.getNegativePredictedValues());
+    }
+
+    /**
+     * Test of readROC method with corrupt input, of class
+     * EvaluationSerializer.
+     */
+    @Test
+    public void testReadCorruptROC() throws IOException {
+        byte[] bytes = EvaluationSerializer.toBytes(new ROCCurve(observedPredictedValues));
+
+        // claim about two billion confusion matrices
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(bytes, 0, 3);
+        out.write(new byte[]{(byte) 0xFE, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07});
+        out.write(bytes, 5, bytes.length - 5);
+        Assertions.assertThrows(IOException.class, () -> EvaluationSerializer.toROC(out.toByteArray()));
+
+        // truncated
+        Assertions.assertThrows(IOException.class, () -> EvaluationSerializer.toROC(Arrays.copyOf(bytes, bytes.length / 2)));
+    }
+
+    /**
+     * Test of writeHosmerLemeshow method, of class EvaluationSerializer.
+     */
+    @Test
+    public void testWriteHosmerLemeshow() throws IOException {
+        HosmerLemeshow hl = new HosmerLemeshowDecileGroup(observedPredictedValues);
+        HosmerLemeshow result = EvaluationSerializer.toHosmerLemeshow(EvaluationSerializer.toBytes(hl));
+
+        Assertions.assertEquals(hl.getPValue(), result.getPValue());
+        Assertions.assertArrayEquals(hl.getHlObservedValues(), result.getHlObservedValues());
+        Assertions.assertArrayEquals(hl.getHlExpectedValues(), result.getHlExpectedValues());
+        Assertions.assertArrayEquals(hl.getMarginOfErrorPerGroup(), result.getMarginOfErrorPerGroup());
+    }
+
+    /**
+     * Test of writeConfidenceInterval method, of class EvaluationSerializer.
+     */
+    @Test
+    public void testWriteConfidenceInterval() throws IOException {
+        ROC roc = new DeLongROCCurve(observedPredictedValues);
+        ConfidenceInterval ci = new DeLongConfidenceInterval(roc);
+
+        // several records in one stream
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EvaluationSerializer.writeROC(roc, out);
+        EvaluationSerializer.writeConfidenceInterval(ci, out);
+
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        EvaluationSerializer.readROC(in);
+        ConfidenceInterval result = EvaluationSerializer.readConfidenceInterval(in);
+        Assertions.assertEquals(ci.getStandardError(), result.getStandardError());
+        Assertions.assertEquals(ci.getLowerConfidenceInterval(), result.getLowerConfidenceInterval());
+        Assertions.assertEquals(ci.getUpperConfidenceInterval(), result.getUpperConfidenceInterval());
+        Assertions.assertEquals(-1, in.read());
+
+        Assertions.assertThrows(IOException.class, () -> EvaluationSerializer.readHosmerLemeshow(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.utils;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Oct 19, 2026 6:05:27 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class CompensatedSumTest {
+
+    /**
+     * Test of sum method, of class CompensatedSum.
+     */
+    @Test
+    public void testSum() {
+        Random random = new Random(36);
+        for (int size : new int[]{0, 1, 100, 1000, 1_000_000}) {
+            double[] values = new double[size];
+            BigDecimal expResult = BigDecimal.ZERO;
+            for (int i = 0; i < size; i++) {
+                values[i] = random.nextDouble();
+                expResult = expResult.add(new BigDecimal(values[i]));
+            }
+
+            Assertions.assertEquals(expResult.doubleValue(), CompensatedSum.sum(values));
+        }
+
+        // cancellation that a plain sum loses entirely
+        double[] values = {1e16, 1.0, -1e16, 1.0, 1e-3};
+        Assertions.assertEquals(2.001, CompensatedSum.sum(values));
+    }
+
+    /**
+     * Test of add method, of class CompensatedSum.
+     */
+    @Test
+    public void testAdd() {
+        Random random = new Random(36);
+        int size = 1_000_000;
+        CompensatedSum first = new CompensatedSum();
+        CompensatedSum second = new CompensatedSum();
+        double[] sums = new double[1];
+        double[] compensations = new double[1];
+        BigDecimal expResult = BigDecimal.ZERO;
+        for (int i = 0; i < size; i++) {
+            double value = random.nextDouble() * ((i % 2 == 0) ? 1e8 : 1e-8);
+            expResult = expResult.add(new BigDecimal(value));
+            if (i < size / 2) {
+                first.add(value);
+            } else {
+                second.add(value);
+            }
+            CompensatedSum.add(sums, compensations, 0, value);
+        }
+
+        Assertions.assertEquals(expResult.doubleValue(), first.add(second).getSum());
+        Assertions.assertEquals(expResult.doubleValue(), sums[0] + compensations[0]);
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.utils;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Oct 19, 2026 9:48:02 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class PairedArraysTest {
+
+    /**
+     * Test of sort method, of class PairedArrays.
+     */
+    @Test
+    public void testSort() {
+        Random random = new Random(20231019);
+        for (int size : new int[]{0, 1, 2, 31, 32, 1000, 10000}) {
+            double[] predictedValues = new double[size];
+            int[] observedValues = new int[size];
+            for (int i = 0; i < size; i++) {
+                predictedValues[i] = Math.floor(random.nextDouble() * 50) / 50;
+                observedValues[i] = (int) (predictedValues[i] * 50);
+            }
+            double[] expResult = predictedValues.clone();
+            Arrays.sort(expResult);
+
+            PairedArrays.sort(predictedValues, observedValues);
+
+            Assertions.assertArrayEquals(expResult, predictedValues);
+            for (int i = 0; i < size; i++) {
+                Assertions.assertEquals((int) (predictedValues[i] * 50), observedValues[i]);
+            }
+        }
+    }
+
+    /**
+     * Test of sort method over a range, of class PairedArrays.
+     */
+    @Test
+    public void testSortRange() {
+        Random random = new Random(20231019);
+        double[] predictedValues = new double[1000];
+        int[] observedValues = new int[1000];
+        for (int i = 0; i < predictedValues.length; i++) {
+            predictedValues[i] = Math.floor(random.nextDouble() * 50) / 50;
+            observedValues[i] = (int) (predictedValues[i] * 50);
+        }
+        double[] expResult = predictedValues.clone();
+        Arrays.sort(expResult, 100, 600);
+
+        PairedArrays.sort(predictedValues, observedValues, 100, 600);
+
+        Assertions.assertArrayEquals(expResult, predictedValues);
+        for (int i = 0; i < predictedValues.length; i++) {
+            Assertions.assertEquals((int) (predictedValues[i] * 50), observedValues[i]);
+        }
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PairedArrays.sort(predictedValues, observedValues, 600, 100));
+    }
+
+    /**
+     * Test of select method, of class PairedArrays.
+     */
+    @Test
+    public void testSelect() {
+        Random random = new Random(20231019);
+        int size = 5000;
+        double[] predictedValues = new double[size];
+        int[] observedValues = new int[size];
+        for (int i = 0; i < size; i++) {
+            predictedValues[i] = Math.floor(random.nextDouble() * 100) / 100;
+            observedValues[i] = (int) (predictedValues[i] * 100);
+        }
+        double[] sortedValues = predictedValues.clone();
+        Arrays.sort(sortedValues);
+
+        int[] ranks = {0, 1, 499, 500, 2500, 4998, 4999};
+        PairedArrays.select(predictedValues, observedValues, ranks);
+
+        for (int rank : ranks) {
+            Assertions.assertEquals(sortedValues[rank], predictedValues[rank]);
+            for (int i = 0; i < rank; i++) {
+                Assertions.assertTrue(predictedValues[i] <= predictedValues[rank]);
+            }
+            for (int i = rank + 1; i < size; i++) {
+                Assertions.assertTrue(predictedValues[i] >= predictedValues[rank]);
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            Assertions.assertEquals((int) (predictedValues[i] * 100), observedValues[i]);
+        }
+    }
+
+}
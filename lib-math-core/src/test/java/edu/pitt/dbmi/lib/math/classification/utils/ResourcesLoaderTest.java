@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.utils;
+
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.data.SlicedObservedPredictedValue;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Mar 6, 2023 1:51:41 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class ResourcesLoaderTest {
+
+    /**
+     * Test of loadObservedPredictedValues method, of class ResourcesLoader.
+     */
+    @Test
+    public void testLoadObservedPredictedValues() throws Exception {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        Pattern delimiter = Delimiters.COMMA;
+        int observedColumn = 1;
+        int predictedColumn = 2;
+        boolean hasHeader = false;
+        List<ObservedPredictedValue> observedPredictedValues = ResourcesLoader.loadData(file, delimiter, observedColumn, predictedColumn, hasHeader);
+
+        int result = observedPredictedValues.size();
+        int expResult = 1411;
+        Assertions.assertEquals(expResult, result);
+    }
+
+    /**
+     * Test of loadData method, of class ResourcesLoader.
+     */
+    @Test
+    public void testLoadSlicedData() throws Exception {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/sliced_obs_pred_vals.csv").getFile());
+        Pattern delimiter = Delimiters.COMMA;
+        int observedColumn = 1;
+        int predictedColumn = 2;
+        int sliceColumn = 3;
+        boolean hasHeader = false;
+        List<SlicedObservedPredictedValue> slicedObservedPredictedValues = ResourcesLoader.loadData(file, delimiter, observedColumn, predictedColumn, sliceColumn, hasHeader);
+
+        int result = slicedObservedPredictedValues.size();
+        int expResult = 1411;
+        Assertions.assertEquals(expResult, result);
+        Assertions.assertEquals("site-b", slicedObservedPredictedValues.get(0).getSlice());
+    }
+
+    /**
+     * Test of loadData method reading from a stream, of class ResourcesLoader.
+     */
+    @Test
+    public void testLoadDataFromStream() throws Exception {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        List<ObservedPredictedValue> expResult = ResourcesLoader.loadData(file, Delimiters.COMMA, 1, 2, false);
+
+        List<ObservedPredictedValue> result;
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            result = ResourcesLoader.loadData(inputStream, Delimiters.COMMA, 1, 2, false);
+        }
+
+        Assertions.assertEquals(expResult.size(), result.size());
+        for (int i = 0; i < expResult.size(); i++) {
+            Assertions.assertEquals(expResult.get(i).getObservedValue(), result.get(i).getObservedValue());
+            Assertions.assertEquals(expResult.get(i).getPredictedValue(), result.get(i).getPredictedValue());
+        }
+    }
+
+    /**
+     * Test of loadBinaryData method, of class ResourcesLoader.
+     */
+    @Test
+    public void testLoadBinaryData() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeDouble(0.75);
+            out.writeByte(1);
+            out.writeDouble(0.25);
+            out.writeByte(0);
+        }
+
+        List<ObservedPredictedValue> result = ResourcesLoader.loadBinaryData(new ByteArrayInputStream(bytes.toByteArray()));
+        Assertions.assertEquals(2, result.size());
+        Assertions.assertEquals(1, result.get(0).getObservedValue());
+        Assertions.assertEquals(0.75, result.get(0).getPredictedValue());
+        Assertions.assertEquals(0, result.get(1).getObservedValue());
+        Assertions.assertEquals(0.25, result.get(1).getPredictedValue());
+
+        // a truncated record is an error
+        byte[] truncated = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 1);
+        Assertions.assertThrows(IOException.class, () -> ResourcesLoader.loadBinaryData(new ByteArrayInputStream(truncated)));
+    }
+
+    /**
+     * Test of forEachRow method, of class ResourcesLoader.
+     */
+    @Test
+    public void testForEachRow() throws Exception {
+        String text = "observed,predicted\n1,0.9\n\n0,0.2\n1\n  0,0.4  \n";
+        List<String> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new StringReader(text))) {
+            ResourcesLoader.forEachRow(reader, Delimiters.COMMA, 2, true, fields -> rows.add(String.join(";", fields)));
+        }
+
+        Assertions.assertEquals(Arrays.asList("1;0.9", "0;0.2", "0;0.4"), rows);
+    }
+
+}
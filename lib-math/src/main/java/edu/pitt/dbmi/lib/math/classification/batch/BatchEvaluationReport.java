@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.batch;
+
+/**
+ * Outcome of a batch of evaluated files.
+ *
+ * Oct 20, 2026 1:18:54 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class BatchEvaluationReport {
+
+    private final int numberOfFiles;
+    private final int numberOfFailures;
+    private final int numberOfThreads;
+    private final long elapsedNanos;
+
+    public BatchEvaluationReport(int numberOfFiles, int numberOfFailures, int numberOfThreads, long elapsedNanos) {
+        this.numberOfFiles = numberOfFiles;
+        this.numberOfFailures = numberOfFailures;
+        this.numberOfThreads = numberOfThreads;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Get the number of files evaluated per second of wall-clock time.
+     *
+     * @return files per second
+     */
+    public double getThroughput() {
+        return (elapsedNanos == 0) ? 0 : numberOfFiles * 1.0e9 / elapsedNanos;
+    }
+
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(String.format("Files:      %d%n", numberOfFiles));
+        sb.append(String.format("Failures:   %d%n", numberOfFailures));
+        sb.append(String.format("Threads:    %d%n", numberOfThreads));
+        sb.append(String.format("Time:       %1.3f sec%n", elapsedNanos / 1.0e9));
+        sb.append(String.format("Throughput: %1.2f files/sec", getThroughput()));
+
+        return sb.toString();
+    }
+
+    public int getNumberOfFiles() {
+        return numberOfFiles;
+    }
+
+    public int getNumberOfFailures() {
+        return numberOfFailures;
+    }
+
+    public int getNumberOfThreads() {
+        return numberOfThreads;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+}
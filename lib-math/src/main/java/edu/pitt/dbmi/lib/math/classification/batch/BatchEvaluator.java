@@ -0,0 +1,490 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.batch;
+
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshow;
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshowDecileGroup;
+import edu.pitt.dbmi.lib.math.classification.calibration.plot.HosmerLemeshowPlot;
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.plot.PlotColors;
+import edu.pitt.dbmi.lib.math.classification.plot.PlotShapeFactory;
+import edu.pitt.dbmi.lib.math.classification.roc.ROC;
+import edu.pitt.dbmi.lib.math.classification.roc.ROCCurve;
+import edu.pitt.dbmi.lib.math.classification.roc.plot.ROCCurvePlot;
+import edu.pitt.dbmi.lib.math.classification.roc.stat.ConfidenceInterval;
+import edu.pitt.dbmi.lib.math.classification.roc.stat.DeLongConfidenceInterval;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Evaluate every prediction file in a directory on a fixed number of threads
+ * and write one summary row per file (CSV and/or JSON), with optional ROC and
+ * calibration plots.
+ *
+ * Each file gets an ROC curve, which takes O(n log n), with its DeLong
+ * confidence interval and a Hosmer-Lemeshow decile-group test. The directory is walked lazily and each
+ * thread pulls the next file when it is done with the previous one, so at
+ * most one data set per thread is in memory and the summary rows are written
+ * as the files finish. A file that cannot be loaded or evaluated is reported
+ * in the summary and does not stop the batch.
+ *
+ * Oct 20, 2026 1:04:27 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class BatchEvaluator implements AutoCloseable {
+
+    public static final String DEFAULT_GLOB = "*.csv";
+
+    public static final int DEFAULT_PLOT_SIZE = 500;
+
+    private final Pattern delimiter;
+    private final int observedColumn;
+    private final int predictedColumn;
+    private final boolean hasHeader;
+    private final int numberOfThreads;
+    private final ExecutorService executor;
+
+    private int numberOfGroups = HosmerLemeshow.NUM_OF_INTERVAL;
+    private boolean recursive;
+    private Path plotDirectory;
+    private PrintStream progress;
+
+    /**
+     * @param delimiter a character that is used to separate data
+     * @param observedColumn the number of the column containing observed values
+     * @param predictedColumn the number of the column containing predicted
+     * values
+     * @param hasHeader true if the first line of each file is the header
+     * @param numberOfThreads number of files evaluated at the same time
+     */
+    public BatchEvaluator(Pattern delimiter, int observedColumn, int predictedColumn, boolean hasHeader, int numberOfThreads) {
+        if (delimiter == null) {
+            throw new IllegalArgumentException("A delimiter is required.");
+        }
+        if (observedColumn < 1 || predictedColumn < 1) {
+            throw new IllegalArgumentException("Column numbers must be at least one.");
+        }
+        if (numberOfThreads < 1) {
+            throw new IllegalArgumentException("Number of threads must be at least one.");
+        }
+
+        this.delimiter = delimiter;
+        this.observedColumn = observedColumn;
+        this.predictedColumn = predictedColumn;
+        this.hasHeader = hasHeader;
+        this.numberOfThreads = numberOfThreads;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+            Thread thread = new Thread(runnable, "batch-evaluator-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    /**
+     * Evaluate the files in a directory whose names match a glob.
+     *
+     * @param directory directory of prediction files
+     * @param glob file name pattern, for example {@code *.csv}
+     * @param csvFile CSV summary to write, or null for none
+     * @param jsonFile JSON summary to write, or null for none
+     * @return number of files, failures and the elapsed time
+     * @throws IOException if the directory cannot be read or the summary
+     * cannot be written
+     */
+    public BatchEvaluationReport evaluate(Path directory, String glob, Path csvFile, Path jsonFile) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            throw new IllegalArgumentException(directory + " is not a directory.");
+        }
+        if (csvFile == null && jsonFile == null && progress == null) {
+            throw new IllegalArgumentException("A summary file or a progress stream is required.");
+        }
+
+        long start = System.nanoTime();
+
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+        List<Path> outputs = new ArrayList<>(2);
+        if (csvFile != null) {
+            outputs.add(csvFile.toAbsolutePath().normalize());
+        }
+        if (jsonFile != null) {
+            outputs.add(jsonFile.toAbsolutePath().normalize());
+        }
+
+        // count first so that the progress can show the total; only the count is kept
+        int numOfFiles;
+        try (Stream<Path> files = listFiles(directory, matcher, outputs)) {
+            numOfFiles = (int) files.count();
+        }
+
+        if (plotDirectory != null) {
+            Files.createDirectories(plotDirectory);
+        }
+
+        AtomicInteger numOfDone = new AtomicInteger();
+        AtomicInteger numOfFailures = new AtomicInteger();
+        int numOfTasks = Math.max(1, Math.min(numberOfThreads, numOfFiles));
+        try (Stream<Path> files = listFiles(directory, matcher, outputs);
+                SummaryWriter summaryWriter = new SummaryWriter(csvFile, jsonFile)) {
+            Iterator<Path> iterator = files.iterator();
+
+            // one task per thread, each pulling the next file, so at most one file per thread is in memory
+            List<Future<Void>> futures = new ArrayList<>(numOfTasks);
+            for (int i = 0; i < numOfTasks; i++) {
+                futures.add(executor.submit(() -> {
+                    for (Path file = next(iterator); file != null; file = next(iterator)) {
+                        FileEvaluation evaluation = evaluate(file, directory);
+                        summaryWriter.write(evaluation);
+                        if (evaluation.isFailed()) {
+                            numOfFailures.incrementAndGet();
+                        }
+                        reportProgress(evaluation, numOfDone.incrementAndGet(), numOfFiles);
+                    }
+
+                    return null;
+                }));
+            }
+
+            try {
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException exception) {
+                futures.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while evaluating files.", exception);
+            } catch (ExecutionException exception) {
+                futures.forEach(future -> future.cancel(true));
+                Throwable cause = exception.getCause();
+                if (cause instanceof UncheckedIOException) {
+                    cause = cause.getCause();
+                }
+                throw new IOException("Unable to evaluate files.", cause);
+            }
+        }
+
+        return new BatchEvaluationReport(numOfDone.get(), numOfFailures.get(), numOfTasks, System.nanoTime() - start);
+    }
+
+    private Stream<Path> listFiles(Path directory, PathMatcher matcher, List<Path> excludedFiles) throws IOException {
+        return Files.walk(directory, recursive ? Integer.MAX_VALUE : 1)
+                .filter(Files::isRegularFile)
+                .filter(file -> matcher.matches(file.getFileName()))
+                .filter(file -> !excludedFiles.contains(file.toAbsolutePath().normalize()));
+    }
+
+    private static Path next(Iterator<Path> iterator) {
+        synchronized (iterator) {
+            return iterator.hasNext() ? iterator.next() : null;
+        }
+    }
+
+    private FileEvaluation evaluate(Path file, Path directory) {
+        FileEvaluation evaluation = new FileEvaluation(directory.relativize(file));
+        try {
+            long start = System.nanoTime();
+            List<ObservedPredictedValue> data = ResourcesLoader.loadData(file, delimiter, observedColumn, predictedColumn, hasHeader);
+            evaluation.setLoadNanos(System.nanoTime() - start);
+
+            start = System.nanoTime();
+            ROC roc = new ROCCurve(data);
+            ConfidenceInterval confidenceInterval = new DeLongConfidenceInterval(roc);
+            HosmerLemeshow hl = new HosmerLemeshowDecileGroup(data, numberOfGroups);
+            evaluation.setResults(roc, confidenceInterval, hl);
+            evaluation.setEvaluateNanos(System.nanoTime() - start);
+
+            if (plotDirectory != null) {
+                start = System.nanoTime();
+                writePlots(evaluation.getFile(), roc, hl);
+                evaluation.setPlotNanos(System.nanoTime() - start);
+            }
+        } catch (IOException | RuntimeException exception) {
+            evaluation.setError(String.valueOf(exception.getMessage()));
+        }
+
+        return evaluation;
+    }
+
+    /**
+     * Write the plots of a file under the same relative directory as the file,
+     * so that files in different subdirectories never share a plot name.
+     *
+     * @param file path of the data file, relative to the evaluated directory
+     */
+    private void writePlots(Path file, ROC roc, HosmerLemeshow hl) throws IOException {
+        String name = removeExtension(file.getFileName().toString());
+        String title = name;
+        Path directory = plotDirectory;
+        if (file.getParent() != null) {
+            title = file.getParent().resolve(name).toString();
+            directory = Files.createDirectories(plotDirectory.resolve(file.getParent()));
+        }
+
+        ROCCurvePlot rocPlot = new ROCCurvePlot(title);
+        rocPlot.add(roc, "roc", "Model", PlotColors.BLUE);
+        rocPlot.saveImageAsPNG(directory.resolve(name + "_roc.png").toFile(), DEFAULT_PLOT_SIZE, DEFAULT_PLOT_SIZE);
+
+        HosmerLemeshowPlot hlPlot = new HosmerLemeshowPlot(title);
+        hlPlot.addDataSeries(hl, "hl", "Model", PlotColors.RED, PlotShapeFactory.STANDARD_SHAPES.get(PlotShapeFactory.CIRCLE_SHAPE), true);
+        hlPlot.saveImageAsPNG(directory.resolve(name + "_calibration.png").toFile(), DEFAULT_PLOT_SIZE, DEFAULT_PLOT_SIZE);
+    }
+
+    private static String removeExtension(String fileName) {
+        int index = fileName.lastIndexOf('.');
+
+        return (index > 0) ? fileName.substring(0, index) : fileName;
+    }
+
+    private void reportProgress(FileEvaluation evaluation, int done, int total) {
+        if (progress == null) {
+            return;
+        }
+
+        String message = evaluation.isFailed()
+                ? "FAILED: " + evaluation.getError()
+                : String.format(Locale.US, "%d rows, AUC %1.4f",
+                        evaluation.getNumberOfPositives() + evaluation.getNumberOfNegatives(),
+                        evaluation.getAreaUnderRocCurve());
+        progress.printf(Locale.US, "[%d/%d] %s: %s, %1.1f ms%n",
+                done, total, evaluation.getFile(), message, evaluation.getTotalNanos() / 1.0e6);
+    }
+
+    public int getNumberOfThreads() {
+        return numberOfThreads;
+    }
+
+    public int getNumberOfGroups() {
+        return numberOfGroups;
+    }
+
+    public void setNumberOfGroups(int numberOfGroups) {
+        if (numberOfGroups < 1) {
+            throw new IllegalArgumentException("Number of groups must be at least 1.");
+        }
+        this.numberOfGroups = numberOfGroups;
+    }
+
+    public boolean isRecursive() {
+        return recursive;
+    }
+
+    /**
+     * @param recursive true to include the files in subdirectories
+     */
+    public void setRecursive(boolean recursive) {
+        this.recursive = recursive;
+    }
+
+    public Path getPlotDirectory() {
+        return plotDirectory;
+    }
+
+    /**
+     * @param plotDirectory directory for the ROC and calibration plots of each
+     * file, or null for no plots; the plots of files in subdirectories go to
+     * the same subdirectories of it
+     */
+    public void setPlotDirectory(Path plotDirectory) {
+        this.plotDirectory = plotDirectory;
+    }
+
+    public PrintStream getProgress() {
+        return progress;
+    }
+
+    /**
+     * @param progress stream for one line per finished file, or null for none
+     */
+    public void setProgress(PrintStream progress) {
+        this.progress = progress;
+    }
+
+    /**
+     * Stop the evaluation threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Command-line entry point.
+     *
+     * <pre>
+     * BatchEvaluator [options] directory
+     *   --glob PATTERN        file names to evaluate (default *.csv)
+     *   --recursive           include subdirectories
+     *   --delimiter NAME      comma, tab or space (default comma)
+     *   --observed N          column of observed values (default 1)
+     *   --predicted N         column of predicted values (default 2)
+     *   --header              the first line of each file is a header
+     *   --groups N            Hosmer-Lemeshow groups (default 10)
+     *   --threads N           files evaluated at once (default: processors)
+     *   --csv FILE            CSV summary (default evaluation-summary.csv)
+     *   --json FILE           JSON summary
+     *   --plots DIRECTORY     write ROC and calibration plots
+     * </pre>
+     *
+     * The exit status is 0 when every file is evaluated, 1 when any fails and
+     * 2 for bad arguments.
+     *
+     * @param args command-line arguments
+     */
+    public static void main(String[] args) {
+        // the plots are drawn into images; no display is needed
+        if (System.getProperty("java.awt.headless") == null) {
+            System.setProperty("java.awt.headless", "true");
+        }
+
+        String glob = DEFAULT_GLOB;
+        boolean recursive = false;
+        Pattern delimiter = Delimiters.COMMA;
+        int observedColumn = 1;
+        int predictedColumn = 2;
+        boolean hasHeader = false;
+        int numberOfGroups = HosmerLemeshow.NUM_OF_INTERVAL;
+        int numberOfThreads = Runtime.getRuntime().availableProcessors();
+        Path csvFile = null;
+        Path jsonFile = null;
+        Path plotDirectory = null;
+        Path directory = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--glob":
+                        glob = value(args, ++i);
+                        break;
+                    case "--recursive":
+                        recursive = true;
+                        break;
+                    case "--delimiter":
+                        delimiter = toDelimiter(value(args, ++i));
+                        break;
+                    case "--observed":
+                        observedColumn = Integer.parseInt(value(args, ++i));
+                        break;
+                    case "--predicted":
+                        predictedColumn = Integer.parseInt(value(args, ++i));
+                        break;
+                    case "--header":
+                        hasHeader = true;
+                        break;
+                    case "--groups":
+                        numberOfGroups = Integer.parseInt(value(args, ++i));
+                        break;
+                    case "--threads":
+                        numberOfThreads = Integer.parseInt(value(args, ++i));
+                        break;
+                    case "--csv":
+                        csvFile = Paths.get(value(args, ++i));
+                        break;
+                    case "--json":
+                        jsonFile = Paths.get(value(args, ++i));
+                        break;
+                    case "--plots":
+                        plotDirectory = Paths.get(value(args, ++i));
+                        break;
+                    default:
+                        if (args[i].startsWith("--") || directory != null) {
+                            throw new IllegalArgumentException("Unknown argument: " + args[i]);
+                        }
+                        directory = Paths.get(args[i]);
+                }
+            }
+            if (directory == null) {
+                throw new IllegalArgumentException("A directory is required.");
+            }
+        } catch (IllegalArgumentException exception) {
+            System.err.println(exception.getMessage());
+            System.err.println("Usage: BatchEvaluator [--glob PATTERN] [--recursive] [--delimiter comma|tab|space]"
+                    + " [--observed N] [--predicted N] [--header] [--groups N] [--threads N]"
+                    + " [--csv FILE] [--json FILE] [--plots DIRECTORY] directory");
+            System.exit(2);
+
+            return;
+        }
+
+        if (csvFile == null && jsonFile == null) {
+            csvFile = Paths.get("evaluation-summary.csv");
+        }
+
+        try (BatchEvaluator evaluator = new BatchEvaluator(delimiter, observedColumn, predictedColumn, hasHeader, numberOfThreads)) {
+            evaluator.setNumberOfGroups(numberOfGroups);
+            evaluator.setRecursive(recursive);
+            evaluator.setPlotDirectory(plotDirectory);
+            evaluator.setProgress(System.err);
+
+            BatchEvaluationReport report = evaluator.evaluate(directory, glob, csvFile, jsonFile);
+            System.out.println(report.getSummary());
+
+            System.exit((report.getNumberOfFailures() == 0) ? 0 : 1);
+        } catch (IllegalArgumentException exception) {
+            System.err.println(exception.getMessage());
+            System.exit(2);
+        } catch (IOException exception) {
+            System.err.println(exception.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index - 1]);
+        }
+
+        return args[index];
+    }
+
+    private static Pattern toDelimiter(String name) {
+        switch (name.toLowerCase(Locale.US)) {
+            case "comma":
+                return Delimiters.COMMA;
+            case "tab":
+                return Delimiters.TAB;
+            case "space":
+                return Delimiters.SPACES;
+            default:
+                throw new IllegalArgumentException("Unknown delimiter: " + name);
+        }
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.batch;
+
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshow;
+import edu.pitt.dbmi.lib.math.classification.roc.ROC;
+import edu.pitt.dbmi.lib.math.classification.roc.stat.ConfidenceInterval;
+import java.nio.file.Path;
+
+/**
+ * Summary of the evaluation of one file: only the statistics and the timing
+ * are kept, never the data, so the summary of a batch stays small.
+ *
+ * Oct 20, 2026 1:22:36 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+final class FileEvaluation {
+
+    private final Path file;
+
+    private int numberOfPositives;
+    private int numberOfNegatives;
+    private double areaUnderRocCurve = Double.NaN;
+    private double standardError = Double.NaN;
+    private double lowerConfidenceInterval = Double.NaN;
+    private double upperConfidenceInterval = Double.NaN;
+    private double hlChi2 = Double.NaN;
+    private int degreesOfFreedom;
+    private double hlPValue = Double.NaN;
+    private double expectedCalibrationError = Double.NaN;
+
+    private long loadNanos;
+    private long evaluateNanos;
+    private long plotNanos;
+
+    private String error;
+
+    FileEvaluation(Path file) {
+        this.file = file;
+    }
+
+    void setResults(ROC roc, ConfidenceInterval confidenceInterval, HosmerLemeshow hl) {
+        this.numberOfPositives = roc.getNumberOfPositives();
+        this.numberOfNegatives = roc.getNumberOfNegatives();
+        this.areaUnderRocCurve = roc.getAreaUnderRocCurve();
+        this.standardError = confidenceInterval.getStandardError();
+        this.lowerConfidenceInterval = confidenceInterval.getLowerConfidenceInterval();
+        this.upperConfidenceInterval = confidenceInterval.getUpperConfidenceInterval();
+
+        double chi2 = 0;
+        for (double groupChi2 : hl.getHlChi2PerGroup()) {
+            chi2 += groupChi2;
+        }
+        this.hlChi2 = chi2;
+        this.degreesOfFreedom = hl.getDegreesOfFreedom();
+        this.hlPValue = hl.getPValue();
+        this.expectedCalibrationError = hl.getExpectedCalibrationError();
+    }
+
+    boolean isFailed() {
+        return error != null;
+    }
+
+    long getTotalNanos() {
+        return loadNanos + evaluateNanos + plotNanos;
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    int getNumberOfPositives() {
+        return numberOfPositives;
+    }
+
+    int getNumberOfNegatives() {
+        return numberOfNegatives;
+    }
+
+    double getAreaUnderRocCurve() {
+        return areaUnderRocCurve;
+    }
+
+    double getStandardError() {
+        return standardError;
+    }
+
+    double getLowerConfidenceInterval() {
+        return lowerConfidenceInterval;
+    }
+
+    double getUpperConfidenceInterval() {
+        return upperConfidenceInterval;
+    }
+
+    double getHlChi2() {
+        return hlChi2;
+    }
+
+    int getDegreesOfFreedom() {
+        return degreesOfFreedom;
+    }
+
+    double getHlPValue() {
+        return hlPValue;
+    }
+
+    double getExpectedCalibrationError() {
+        return expectedCalibrationError;
+    }
+
+    long getLoadNanos() {
+        return loadNanos;
+    }
+
+    void setLoadNanos(long loadNanos) {
+        this.loadNanos = loadNanos;
+    }
+
+    long getEvaluateNanos() {
+        return evaluateNanos;
+    }
+
+    void setEvaluateNanos(long evaluateNanos) {
+        this.evaluateNanos = evaluateNanos;
+    }
+
+    long getPlotNanos() {
+        return plotNanos;
+    }
+
+    void setPlotNanos(long plotNanos) {
+        this.plotNanos = plotNanos;
+    }
+
+    String getError() {
+        return error;
+    }
+
+    void setError(String error) {
+        this.error = error;
+    }
+
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.batch;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Write the summary of a batch as CSV and/or JSON, one file at a time as the
+ * evaluations finish, so nothing is held in memory between files.
+ *
+ * Oct 20, 2026 1:35:02 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+final class SummaryWriter implements AutoCloseable {
+
+    private static final String[] COLUMNS = {
+        "file", "status", "positives", "negatives", "auc", "se", "ci_lower", "ci_upper",
+        "hl_chi2", "hl_df", "hl_p_value", "ece",
+        "load_ms", "evaluate_ms", "plot_ms", "total_ms", "error"
+    };
+
+    private final BufferedWriter csvWriter;
+    private final BufferedWriter jsonWriter;
+    private boolean firstJsonRecord = true;
+
+    /**
+     * @param csvFile CSV summary, or null for none
+     * @param jsonFile JSON summary, or null for none
+     * @throws IOException
+     */
+    SummaryWriter(Path csvFile, Path jsonFile) throws IOException {
+        this.csvWriter = (csvFile == null) ? null : Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8);
+        try {
+            this.jsonWriter = (jsonFile == null) ? null : Files.newBufferedWriter(jsonFile, StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            if (csvWriter != null) {
+                csvWriter.close();
+            }
+            throw exception;
+        }
+
+        if (csvWriter != null) {
+            csvWriter.write(String.join(",", COLUMNS));
+            csvWriter.newLine();
+        }
+        if (jsonWriter != null) {
+            jsonWriter.write("[");
+        }
+    }
+
+    synchronized void write(FileEvaluation evaluation) throws IOException {
+        Object[] values = {
+            evaluation.getFile().toString(),
+            evaluation.isFailed() ? "error" : "ok",
+            evaluation.getNumberOfPositives(),
+            evaluation.getNumberOfNegatives(),
+            evaluation.getAreaUnderRocCurve(),
+            evaluation.getStandardError(),
+            evaluation.getLowerConfidenceInterval(),
+            evaluation.getUpperConfidenceInterval(),
+            evaluation.getHlChi2(),
+            evaluation.getDegreesOfFreedom(),
+            evaluation.getHlPValue(),
+            evaluation.getExpectedCalibrationError(),
+            toMillis(evaluation.getLoadNanos()),
+            toMillis(evaluation.getEvaluateNanos()),
+            toMillis(evaluation.getPlotNanos()),
+            toMillis(evaluation.getTotalNanos()),
+            evaluation.getError()
+        };
+
+        if (csvWriter != null) {
+            writeCsv(values);
+        }
+        if (jsonWriter != null) {
+            writeJson(values);
+        }
+    }
+
+    private void writeCsv(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                csvWriter.write(',');
+            }
+            csvWriter.write(toCsv(values[i]));
+        }
+        csvWriter.newLine();
+    }
+
+    private void writeJson(Object[] values) throws IOException {
+        jsonWriter.write(firstJsonRecord ? "\n  {" : ",\n  {");
+        firstJsonRecord = false;
+
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                jsonWriter.write(',');
+            }
+            jsonWriter.write(toJsonString(COLUMNS[i]));
+            jsonWriter.write(':');
+            jsonWriter.write(toJson(values[i]));
+        }
+        jsonWriter.write('}');
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            if (jsonWriter != null) {
+                jsonWriter.write(firstJsonRecord ? "]\n" : "\n]\n");
+                jsonWriter.close();
+            }
+        } finally {
+            if (csvWriter != null) {
+                csvWriter.close();
+            }
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1.0e3) / 1.0e3;
+    }
+
+    private static String toCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Double && ((Double) value).isNaN()) {
+            return "";
+        }
+
+        String text = String.valueOf(value);
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+
+        return text;
+    }
+
+    private static String toJson(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof Double) {
+            double number = (Double) value;
+
+            return (Double.isNaN(number) || Double.isInfinite(number)) ? "null" : Double.toString(number);
+        }
+        if (value instanceof Number) {
+            return value.toString();
+        }
+
+        return toJsonString(value.toString());
+    }
+
+    private static String toJsonString(String text) {
+        StringBuilder sb = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format(Locale.US, "\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+
+        return sb.append('"').toString();
+    }
+
+}
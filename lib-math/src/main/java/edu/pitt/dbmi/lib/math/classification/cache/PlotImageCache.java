@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.cache;
+
+import edu.pitt.dbmi.lib.math.classification.plot.AbstractXYStatPlot;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.jfree.chart.ChartUtils;
+
+/**
+ * Cache of rendered PNG images, bounded by the number of bytes held in memory.
+ * When a spill directory is given, evicted images are written to it and read
+ * back on the next request instead of being rendered again.
+ *
+ * Oct 19, 2026 10:26:19 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class PlotImageCache extends EvaluationCache<byte[]> {
+
+    private final Path spillDirectory;
+
+    private final AtomicLong spillCount = new AtomicLong();
+    private final AtomicLong diskHitCount = new AtomicLong();
+    private final AtomicLong spillFailureCount = new AtomicLong();
+
+    public PlotImageCache(long maximumBytes, EvictionPolicy evictionPolicy) {
+        this(maximumBytes, evictionPolicy, null);
+    }
+
+    /**
+     * @param maximumBytes maximum number of bytes of images held in memory
+     * @param evictionPolicy which images to evict from memory
+     * @param spillDirectory directory to write evicted images to, or null to
+     * drop them
+     */
+    public PlotImageCache(long maximumBytes, EvictionPolicy evictionPolicy, Path spillDirectory) {
+        super(maximumBytes, evictionPolicy, image -> image.length);
+
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Get the PNG image of a plot, rendering it if it is neither in memory nor
+     * on disk. The size of the image is added to the key.
+     *
+     * @param key key of the data and evaluation plotted
+     * @param width width of the image, in pixels
+     * @param height height of the image, in pixels
+     * @param plotFactory creates the plot when the image has to be rendered
+     * @return PNG bytes
+     */
+    public byte[] getImage(CacheKey key, int width, int height, Supplier<? extends AbstractXYStatPlot> plotFactory) {
+        return get(key.withParameters(width, height), () -> {
+            try {
+                return ChartUtils.encodeAsPNG(plotFactory.get().createPlotImage(width, height));
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+    }
+
+    @Override
+    public byte[] get(CacheKey key, Supplier<? extends byte[]> loader) {
+        if (spillDirectory == null) {
+            return super.get(key, loader);
+        }
+
+        return super.get(key, () -> {
+            byte[] image = readSpilled(key);
+            if (image != null) {
+                diskHitCount.incrementAndGet();
+
+                return image;
+            }
+
+            return loader.get();
+        });
+    }
+
+    private byte[] readSpilled(CacheKey key) {
+        try {
+            return Files.readAllBytes(spillDirectory.resolve(key.toFileName() + ".png"));
+        } catch (NoSuchFileException exception) {
+            return null;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    protected void onEviction(CacheKey key, byte[] image) {
+        if (spillDirectory == null) {
+            return;
+        }
+
+        Path file = spillDirectory.resolve(key.toFileName() + ".png");
+        if (Files.exists(file)) {
+            return;
+        }
+
+        // write to a temporary file first so that readers never see a partial image,
+        // spilling is best effort: the image can always be rendered again
+        try {
+            Files.createDirectories(spillDirectory);
+            Path tempFile = Files.createTempFile(spillDirectory, key.toFileName(), ".tmp");
+            Files.write(tempFile, image);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            spillCount.incrementAndGet();
+        } catch (IOException exception) {
+            spillFailureCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Get the number of images written to the spill directory.
+     *
+     * @return number of images spilled
+     */
+    public long getSpillCount() {
+        return spillCount.get();
+    }
+
+    /**
+     * Get the number of evicted images that could not be written.
+     *
+     * @return number of failed spills
+     */
+    public long getSpillFailureCount() {
+        return spillFailureCount.get();
+    }
+
+    /**
+     * Get the number of misses in memory served from the spill directory.
+     *
+     * @return number of images read back from disk
+     */
+    public long getDiskHitCount() {
+        return diskHitCount.get();
+    }
+
+    public Path getSpillDirectory() {
+        return spillDirectory;
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.calibration.plot;
+
+import edu.pitt.dbmi.lib.math.classification.calibration.belt.CalibrationBand;
+import edu.pitt.dbmi.lib.math.classification.calibration.belt.CalibrationBelt;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.util.Arrays;
+import org.jfree.chart.renderer.xy.DeviationRenderer;
+import org.jfree.data.xy.YIntervalSeries;
+import org.jfree.data.xy.YIntervalSeriesCollection;
+
+/**
+ * Hosmer-Lemeshow plot that can also draw calibration belts. Each belt is
+ * drawn as nested shaded bands, the widest (highest confidence level) in the
+ * lightest shade, under the Hosmer-Lemeshow points.
+ *
+ * Oct 19, 2026 3:31:05 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class CalibrationBeltPlot extends HosmerLemeshowPlot {
+
+    /**
+     * Confidence levels drawn by default, as in the GiViTI calibration belt.
+     */
+    public static final double[] DEFAULT_CONFIDENCE_LEVELS = {0.80, 0.95};
+
+    public static final int DEFAULT_NUMBER_OF_POINTS = 200;
+
+    private final YIntervalSeriesCollection beltDataset;
+
+    private DeviationRenderer beltRenderer;
+
+    public CalibrationBeltPlot() {
+        this("");
+    }
+
+    public CalibrationBeltPlot(String title) {
+        this(title, "Predicted (proportion)", "Observed (proportion)");
+    }
+
+    public CalibrationBeltPlot(String title, String xAxisLabel, String yAxisLabel) {
+        super(title, xAxisLabel, yAxisLabel);
+
+        beltDataset = new YIntervalSeriesCollection();
+        plot.setDataset(2, beltDataset);
+        setBeltRenderer();
+    }
+
+    private void setBeltRenderer() {
+        beltRenderer = new DeviationRenderer(true, false);
+        beltRenderer.setAlpha(1.0f);
+        plot.setRenderer(2, beltRenderer);
+    }
+
+    /**
+     * Remove all the data series and calibration belts.
+     */
+    @Override
+    public void clearDataSeries() {
+        beltDataset.removeAllSeries();
+        setBeltRenderer();
+
+        super.clearDataSeries();
+    }
+
+    public void addCalibrationBelt(CalibrationBelt belt, String name, Color color) {
+        addCalibrationBelt(belt, name, color, DEFAULT_CONFIDENCE_LEVELS, DEFAULT_NUMBER_OF_POINTS);
+    }
+
+    public void addCalibrationBelt(CalibrationBelt belt, String name, Color color, double[] confidenceLevels, int numberOfPoints) {
+        double pvalue = belt.getPValue();
+        String label = (pvalue < 0.0001f)
+                ? String.format("%s (p-value < 0.0001)", name)
+                : String.format("%s (p-value = %1.4f)", name, pvalue);
+
+        // widest band first so that the narrower ones are drawn on top
+        double[] levels = confidenceLevels.clone();
+        Arrays.sort(levels);
+        for (int i = levels.length - 1; i >= 0; i--) {
+            CalibrationBand band = belt.computeBand(levels[i], numberOfPoints);
+            String key = String.format("%s %d%%", label, Math.round(levels[i] * 100));
+
+            YIntervalSeries series = new YIntervalSeries(key);
+            double[] predictedValues = band.getPredictedValues();
+            double[] fittedValues = band.getFittedValues();
+            double[] lowerBounds = band.getLowerBounds();
+            double[] upperBounds = band.getUpperBounds();
+            for (int j = 0; j < predictedValues.length; j++) {
+                series.add(predictedValues[j], fittedValues[j], lowerBounds[j], upperBounds[j]);
+            }
+            beltDataset.addSeries(series);
+
+            // lighter shades for the wider bands
+            float tint = 0.4f + 0.4f * i / Math.max(1, levels.length - 1);
+            if (levels.length == 1) {
+                tint = 0.6f;
+            }
+            int index = beltDataset.indexOf(series.getKey());
+            beltRenderer.setSeriesPaint(index, color);
+            beltRenderer.setSeriesFillPaint(index, tint(color, tint));
+            beltRenderer.setSeriesStroke(index, new BasicStroke(2.0f));
+            beltRenderer.setSeriesVisibleInLegend(index, i == 0);
+        }
+
+        chart.fireChartChanged();
+    }
+
+    /**
+     * Mix the color with white.
+     */
+    private static Color tint(Color color, float amount) {
+        int red = Math.round(color.getRed() + (255 - color.getRed()) * amount);
+        int green = Math.round(color.getGreen() + (255 - color.getGreen()) * amount);
+        int blue = Math.round(color.getBlue() + (255 - color.getBlue()) * amount);
+
+        return new Color(red, green, blue);
+    }
+
+}
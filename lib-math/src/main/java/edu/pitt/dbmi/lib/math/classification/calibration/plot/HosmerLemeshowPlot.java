@@ -19,6 +19,7 @@
 package edu.pitt.dbmi.lib.math.classification.calibration.plot;
 
 import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshow;
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshowBootstrap;
 import edu.pitt.dbmi.lib.math.classification.plot.AbstractXYStatPlot;
 import java.awt.Color;
 import java.awt.Shape;
@@ -39,8 +40,8 @@ public class HosmerLemeshowPlot extends AbstractXYStatPlot {
     private final XYIntervalSeriesCollection pointDataset;
     private final XYIntervalSeriesCollection errorBarDataset;
 
-    private final XYErrorRenderer dataSeriesRenderer;
-    private final XYErrorRenderer dataSeriesErrorBarRenderer;
+    private XYErrorRenderer dataSeriesRenderer;
+    private XYErrorRenderer dataSeriesErrorBarRenderer;
 
     private final Map<String, XYIntervalSeries> dataSeriesMap;
     private final Map<String, XYIntervalSeries> dataSeriesErrorBarMap;
@@ -67,6 +68,37 @@ public class HosmerLemeshowPlot extends AbstractXYStatPlot {
     }
 
     public void addDataSeries(HosmerLemeshow hl, String key, String name, Color color, Shape shape, boolean errorBars) {
+        double[] observedValues = hl.getHlObservedValues();
+        double[] marginOfErrorPerGroup = hl.getMarginOfErrorPerGroup();
+        double[] yLowValues = new double[observedValues.length];
+        double[] yHighValues = new double[observedValues.length];
+        for (int i = 0; i < observedValues.length; i++) {
+            double yValue = observedValues[i];
+            yLowValues[i] = (marginOfErrorPerGroup[i] == 0)
+                    ? marginOfErrorPerGroup[i] - yValue
+                    : yValue - marginOfErrorPerGroup[i];
+            yHighValues[i] = yValue + marginOfErrorPerGroup[i];
+        }
+
+        addDataSeries(hl, yLowValues, yHighValues, key, name, color, shape, errorBars);
+    }
+
+    /**
+     * Add the Hosmer-Lemeshow groups with the bootstrap confidence intervals
+     * of the observed proportions as error bars.
+     *
+     * @param bootstrap bootstrap of the Hosmer-Lemeshow statistics
+     * @param key
+     * @param name
+     * @param color
+     * @param shape
+     * @param errorBars
+     */
+    public void addDataSeries(HosmerLemeshowBootstrap bootstrap, String key, String name, Color color, Shape shape, boolean errorBars) {
+        addDataSeries(bootstrap.getHosmerLemeshow(), bootstrap.getHlObservedLowerBounds(), bootstrap.getHlObservedUpperBounds(), key, name, color, shape, errorBars);
+    }
+
+    private void addDataSeries(HosmerLemeshow hl, double[] yLowValues, double[] yHighValues, String key, String name, Color color, Shape shape, boolean errorBars) {
         double pvalue = hl.getPValue();
         String label = (pvalue < 0.0001f)
                 ? String.format("%s (p-value < 0.0001)", name)
@@ -77,7 +109,6 @@ public class HosmerLemeshowPlot extends AbstractXYStatPlot {
 
         double[] expectedValues = hl.getHlExpectedValues();
         double[] observedValues = hl.getHlObservedValues();
-        double[] marginOfErrorPerGroup = hl.getMarginOfErrorPerGroup();
         for (int i = 0; i < expectedValues.length; i++) {
             double xValue = expectedValues[i];
             double yValue = observedValues[i];
@@ -86,13 +117,9 @@ public class HosmerLemeshowPlot extends AbstractXYStatPlot {
                 dataSeries.add(xValue, xValue, xValue, yValue, yValue, yValue);
 
                 // has error bars
-                double yLowValue = (marginOfErrorPerGroup[i] == 0)
-                        ? marginOfErrorPerGroup[i] - yValue
-                        : yValue - marginOfErrorPerGroup[i];
-                double yHighValue = yValue + marginOfErrorPerGroup[i];
                 dataErrorBarSeries.add(
                         xValue, xValue, xValue,
-                        yValue, yLowValue, yHighValue);
+                        yValue, yLowValues[i], yHighValues[i]);
             }
         }
 
@@ -112,6 +139,22 @@ public class HosmerLemeshowPlot extends AbstractXYStatPlot {
         setToErrorBars(errorBars);
     }
 
+    /**
+     * Remove all the data series so that the plot can be reused for other
+     * data.
+     */
+    @Override
+    public void clearDataSeries() {
+        pointDataset.removeAllSeries();
+        errorBarDataset.removeAllSeries();
+        dataSeriesRenderer = new XYErrorRenderer();
+        dataSeriesErrorBarRenderer = new XYErrorRenderer();
+        dataSeriesMap.clear();
+        dataSeriesErrorBarMap.clear();
+
+        setToErrorBars(false);
+    }
+
     private void setToErrorBars(boolean errorBars) {
         if (errorBars) {
             plot.setDataset(1, errorBarDataset);
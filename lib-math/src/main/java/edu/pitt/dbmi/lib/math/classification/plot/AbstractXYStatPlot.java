@@ -18,9 +18,13 @@
  */
 package edu.pitt.dbmi.lib.math.classification.plot;
 
+import edu.pitt.dbmi.lib.math.classification.monitoring.Metrics;
+import edu.pitt.dbmi.lib.math.classification.monitoring.RenderEvent;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
@@ -208,11 +212,87 @@ public abstract class AbstractXYStatPlot implements XYStatPlot {
     }
 
     public BufferedImage createPlotImage(int width, int height) {
-        return chart.createBufferedImage(width, height);
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        long startTime = Metrics.isEnabled() ? System.nanoTime() : 0;
+
+        prepareImage(width, height);
+        BufferedImage image = chart.createBufferedImage(width, height);
+
+        recordRender(event, startTime, width, height, 0);
+
+        return image;
     }
 
     public void saveImageAsPNG(File file, int width, int height) throws IOException {
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        long startTime = Metrics.isEnabled() ? System.nanoTime() : 0;
+
+        prepareImage(width, height);
         ChartUtils.saveChartAsPNG(file, chart, width, height);
+
+        recordRender(event, startTime, width, height, file.length());
+    }
+
+    /**
+     * Remove all the data series so that the plot can be reused for other
+     * data. The plot itself (title, axes, 45 degree line) is kept.
+     */
+    public void clearDataSeries() {
+    }
+
+    /**
+     * Draw the chart into an existing image, covering the whole image. Reusing
+     * the image avoids allocating a new raster for every chart.
+     *
+     * @param image image to draw into
+     */
+    public void drawImage(BufferedImage image) {
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        long startTime = Metrics.isEnabled() ? System.nanoTime() : 0;
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        prepareImage(width, height);
+
+        Graphics2D g2 = image.createGraphics();
+        try {
+            chart.draw(g2, new Rectangle2D.Double(0, 0, width, height), null, null);
+        } finally {
+            g2.dispose();
+        }
+
+        recordRender(event, startTime, width, height, 0);
+    }
+
+    /**
+     * Commit the Flight Recorder event and record the metrics of rendering
+     * the plot, when they are enabled.
+     */
+    private void recordRender(RenderEvent event, long startTime, int width, int height, long bytes) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.plot = getClass().getSimpleName();
+            event.width = width;
+            event.height = height;
+            event.bytes = bytes;
+            event.commit();
+        }
+        if (startTime != 0) {
+            Metrics.recordPhase(getClass().getSimpleName() + ".render", System.nanoTime() - startTime, 0, bytes);
+        }
+    }
+
+    /**
+     * Called before the chart is drawn into an image of the given size, so
+     * that subclasses can adapt the data to the resolution.
+     *
+     * @param width width of the image, in pixels
+     * @param height height of the image, in pixels
+     */
+    protected void prepareImage(int width, int height) {
     }
 
     @Override
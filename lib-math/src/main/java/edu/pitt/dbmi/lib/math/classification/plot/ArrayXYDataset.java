@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.plot;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.xy.AbstractXYDataset;
+
+/**
+ * XY dataset backed directly by arrays of x-values and y-values. The arrays
+ * are not copied, sorted or checked for duplicates, so adding a series takes
+ * O(n) and fires a single change event. The arrays must not be modified after
+ * they are added.
+ *
+ * Oct 19, 2026 6:31:50 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class ArrayXYDataset extends AbstractXYDataset implements DomainInfo, RangeInfo {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<Comparable<?>> seriesKeys;
+    private final List<double[]> xValues;
+    private final List<double[]> yValues;
+    private final List<Range> xRanges;
+    private final List<Range> yRanges;
+
+    public ArrayXYDataset() {
+        seriesKeys = new ArrayList<>();
+        xValues = new ArrayList<>();
+        yValues = new ArrayList<>();
+        xRanges = new ArrayList<>();
+        yRanges = new ArrayList<>();
+    }
+
+    /**
+     * Add a series.
+     *
+     * @param seriesKey unique key of the series
+     * @param xPoints x-values of the series
+     * @param yPoints y-values of the series
+     * @return index of the series
+     */
+    public int addSeries(Comparable<?> seriesKey, double[] xPoints, double[] yPoints) {
+        if (seriesKey == null) {
+            throw new IllegalArgumentException("Series key is required.");
+        }
+        if (xPoints == null || yPoints == null || xPoints.length != yPoints.length) {
+            throw new IllegalArgumentException("The x-values and y-values must have the same length.");
+        }
+        if (seriesKeys.contains(seriesKey)) {
+            throw new IllegalArgumentException("This dataset already contains a series with the key " + seriesKey);
+        }
+
+        seriesKeys.add(seriesKey);
+        xValues.add(xPoints);
+        yValues.add(yPoints);
+        xRanges.add(findRange(xPoints));
+        yRanges.add(findRange(yPoints));
+
+        fireDatasetChanged();
+
+        return seriesKeys.size() - 1;
+    }
+
+    /**
+     * Replace the points of a series.
+     *
+     * @param series index of the series
+     * @param xPoints x-values of the series
+     * @param yPoints y-values of the series
+     */
+    public void setSeriesData(int series, double[] xPoints, double[] yPoints) {
+        if (xPoints == null || yPoints == null || xPoints.length != yPoints.length) {
+            throw new IllegalArgumentException("The x-values and y-values must have the same length.");
+        }
+
+        xValues.set(series, xPoints);
+        yValues.set(series, yPoints);
+        xRanges.set(series, findRange(xPoints));
+        yRanges.set(series, findRange(yPoints));
+
+        fireDatasetChanged();
+    }
+
+    /**
+     * Remove all the series.
+     */
+    public void removeAllSeries() {
+        seriesKeys.clear();
+        xValues.clear();
+        yValues.clear();
+        xRanges.clear();
+        yRanges.clear();
+
+        fireDatasetChanged();
+    }
+
+    /**
+     * Rename a series.
+     *
+     * @param series index of the series
+     * @param seriesKey new unique key of the series
+     */
+    public void setSeriesKey(int series, Comparable<?> seriesKey) {
+        int index = seriesKeys.indexOf(seriesKey);
+        if (index >= 0 && index != series) {
+            throw new IllegalArgumentException("This dataset already contains a series with the key " + seriesKey);
+        }
+
+        seriesKeys.set(series, seriesKey);
+
+        fireDatasetChanged();
+    }
+
+    private static Range findRange(double[] values) {
+        double lower = Double.NaN;
+        double upper = Double.NaN;
+        for (double value : values) {
+            if (!Double.isNaN(value)) {
+                if (Double.isNaN(lower) || value < lower) {
+                    lower = value;
+                }
+                if (Double.isNaN(upper) || value > upper) {
+                    upper = value;
+                }
+            }
+        }
+
+        return Double.isNaN(lower) ? null : new Range(lower, upper);
+    }
+
+    private static Range combine(List<Range> ranges) {
+        Range combined = null;
+        for (Range range : ranges) {
+            combined = Range.combine(combined, range);
+        }
+
+        return combined;
+    }
+
+    @Override
+    public int getSeriesCount() {
+        return seriesKeys.size();
+    }
+
+    @Override
+    public Comparable<?> getSeriesKey(int series) {
+        return seriesKeys.get(series);
+    }
+
+    @Override
+    public int getItemCount(int series) {
+        return xValues.get(series).length;
+    }
+
+    @Override
+    public Number getX(int series, int item) {
+        return xValues.get(series)[item];
+    }
+
+    @Override
+    public double getXValue(int series, int item) {
+        return xValues.get(series)[item];
+    }
+
+    @Override
+    public Number getY(int series, int item) {
+        return yValues.get(series)[item];
+    }
+
+    @Override
+    public double getYValue(int series, int item) {
+        return yValues.get(series)[item];
+    }
+
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range range = getDomainBounds(includeInterval);
+
+        return (range == null) ? Double.NaN : range.getLowerBound();
+    }
+
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range range = getDomainBounds(includeInterval);
+
+        return (range == null) ? Double.NaN : range.getUpperBound();
+    }
+
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        return combine(xRanges);
+    }
+
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range range = getRangeBounds(includeInterval);
+
+        return (range == null) ? Double.NaN : range.getLowerBound();
+    }
+
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range range = getRangeBounds(includeInterval);
+
+        return (range == null) ? Double.NaN : range.getUpperBound();
+    }
+
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        return combine(yRanges);
+    }
+
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.plot;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.jfree.chart.ChartUtils;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.data.Range;
+
+/**
+ * Render many charts to PNG files concurrently.
+ *
+ * The charts are rendered on a fixed number of threads. Each thread builds one
+ * plot from the template factory and one image per size, and reuses them for
+ * every chart it renders. Before each chart the data series are cleared and
+ * the settings of {@link XYStatPlot} (title, axis labels, axis ranges, grid
+ * lines and outline) are restored to those of the template, so a chart does
+ * not depend on which job ran before it on the same thread. Jobs should not
+ * change anything else through {@link AbstractXYStatPlot#getChart()} or
+ * {@link AbstractXYStatPlot#getPlot()}.
+ *
+ * No display is needed to draw into images, but on a server without one the
+ * JVM should run with {@code -Djava.awt.headless=true}. That is left to the
+ * application, since it is a JVM-wide setting.
+ *
+ * Oct 19, 2026 7:48:31 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ * @param <P> type of plot
+ */
+public class BatchChartRenderer<P extends AbstractXYStatPlot> implements AutoCloseable {
+
+    private final Supplier<P> templateFactory;
+    private final int numberOfThreads;
+    private final ExecutorService executor;
+
+    private final ThreadLocal<P> templates;
+    private final ThreadLocal<TemplateSettings> templateSettings;
+    private final ThreadLocal<BufferedImage> images;
+
+    public BatchChartRenderer(Supplier<P> templateFactory) {
+        this(templateFactory, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param templateFactory creates an empty plot for each thread
+     * @param numberOfThreads number of charts rendered at the same time
+     */
+    public BatchChartRenderer(Supplier<P> templateFactory, int numberOfThreads) {
+        if (templateFactory == null) {
+            throw new IllegalArgumentException("A template factory is required.");
+        }
+        if (numberOfThreads < 1) {
+            throw new IllegalArgumentException("Number of threads must be at least one.");
+        }
+
+        this.templateFactory = templateFactory;
+        this.numberOfThreads = numberOfThreads;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+            Thread thread = new Thread(runnable, "chart-renderer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.templates = new ThreadLocal<>();
+        this.templateSettings = new ThreadLocal<>();
+        this.images = new ThreadLocal<>();
+    }
+
+    /**
+     * Render the charts. Every job is attempted; if any fail, an exception is
+     * thrown after all the others are done.
+     *
+     * @param jobs charts to render
+     * @return throughput of the batch
+     * @throws IOException if a chart cannot be rendered or written
+     */
+    public BatchRenderReport render(List<ChartJob<P>> jobs) throws IOException {
+        long start = System.nanoTime();
+
+        // one task per thread, each pulling the next job, so at most one job per thread is in flight
+        AtomicInteger nextJob = new AtomicInteger();
+        int numOfTasks = Math.min(numberOfThreads, jobs.size());
+        List<Future<List<Exception>>> futures = new ArrayList<>(numOfTasks);
+        for (int i = 0; i < numOfTasks; i++) {
+            futures.add(executor.submit(() -> {
+                List<Exception> failures = new ArrayList<>();
+                for (int index = nextJob.getAndIncrement(); index < jobs.size(); index = nextJob.getAndIncrement()) {
+                    ChartJob<P> job = jobs.get(index);
+                    try {
+                        render(job);
+                    } catch (IOException | RuntimeException exception) {
+                        failures.add(new IOException("Unable to render " + job.getFile(), exception));
+                    }
+                }
+
+                return failures;
+            }));
+        }
+
+        List<Exception> failures = new ArrayList<>();
+        try {
+            for (Future<List<Exception>> future : futures) {
+                failures.addAll(future.get());
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while rendering charts.", exception);
+        } catch (ExecutionException exception) {
+            throw new IOException("Unable to render charts.", exception.getCause());
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+
+        if (!failures.isEmpty()) {
+            IOException exception = new IOException(
+                    String.format("Unable to render %d of %d charts.", failures.size(), jobs.size()),
+                    failures.get(0));
+            for (int i = 1; i < failures.size(); i++) {
+                exception.addSuppressed(failures.get(i));
+            }
+
+            throw exception;
+        }
+
+        return new BatchRenderReport(jobs.size(), numOfTasks, elapsedNanos);
+    }
+
+    private void render(ChartJob<P> job) throws IOException {
+        P plot = templates.get();
+        if (plot == null) {
+            plot = templateFactory.get();
+            templates.set(plot);
+            templateSettings.set(new TemplateSettings(plot));
+        } else {
+            plot.clearDataSeries();
+            templateSettings.get().restore(plot);
+        }
+        job.getContent().accept(plot);
+
+        BufferedImage image = images.get();
+        if (image == null || image.getWidth() != job.getWidth() || image.getHeight() != job.getHeight()) {
+            image = new BufferedImage(job.getWidth(), job.getHeight(), BufferedImage.TYPE_INT_RGB);
+            images.set(image);
+        }
+        plot.drawImage(image);
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(job.getFile().toPath()))) {
+            ChartUtils.writeBufferedImageAsPNG(out, image);
+        }
+    }
+
+    public int getNumberOfThreads() {
+        return numberOfThreads;
+    }
+
+    /**
+     * Stop the rendering threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * The settings of a freshly created template, restored before each chart.
+     */
+    private static final class TemplateSettings {
+
+        private final String title;
+        private final String xAxisLabel;
+        private final String yAxisLabel;
+        private final boolean xAxisAutoRange;
+        private final Range xAxisRange;
+        private final boolean yAxisAutoRange;
+        private final Range yAxisRange;
+        private final boolean gridLineVisible;
+        private final boolean plotOutlineVisible;
+
+        private TemplateSettings(AbstractXYStatPlot plot) {
+            title = plot.getTitle();
+            xAxisLabel = plot.getXAxisLabel();
+            yAxisLabel = plot.getYAxisLabel();
+            xAxisAutoRange = plot.getXAxis().isAutoRange();
+            xAxisRange = plot.getXAxis().getRange();
+            yAxisAutoRange = plot.getYAxis().isAutoRange();
+            yAxisRange = plot.getYAxis().getRange();
+            gridLineVisible = plot.isGridLineVisible();
+            plotOutlineVisible = plot.isPlotOutlineVisible();
+        }
+
+        private void restore(AbstractXYStatPlot plot) {
+            plot.setTitle(title);
+            plot.setXAxisLabel(xAxisLabel);
+            plot.setYAxisLabel(yAxisLabel);
+            restore(plot.getXAxis(), xAxisAutoRange, xAxisRange);
+            restore(plot.getYAxis(), yAxisAutoRange, yAxisRange);
+            plot.setGridLineVisible(gridLineVisible);
+            plot.setPlotOutlineVisible(plotOutlineVisible);
+        }
+
+        private static void restore(NumberAxis axis, boolean autoRange, Range range) {
+            if (autoRange) {
+                axis.setAutoRange(true);
+            } else {
+                axis.setRange(range);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.plot;
+
+import java.io.File;
+import java.util.function.Consumer;
+
+/**
+ * A chart to render in a batch: the data to add to the plot and the PNG file
+ * to write it to.
+ *
+ * Oct 19, 2026 7:41:52 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ * @param <P> type of plot
+ */
+public class ChartJob<P extends AbstractXYStatPlot> {
+
+    private final File file;
+    private final int width;
+    private final int height;
+    private final Consumer<P> content;
+
+    /**
+     * @param file PNG file to write
+     * @param width width of the image, in pixels
+     * @param height height of the image, in pixels
+     * @param content adds the data series (and title) to an empty plot
+     */
+    public ChartJob(File file, int width, int height, Consumer<P> content) {
+        if (file == null || content == null) {
+            throw new IllegalArgumentException("A file and the content of the chart are required.");
+        }
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Width and height must be greater than zero.");
+        }
+
+        this.file = file;
+        this.width = width;
+        this.height = height;
+        this.content = content;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public Consumer<P> getContent() {
+        return content;
+    }
+
+}
@@ -33,16 +33,16 @@ import java.util.TreeMap;
  */
 public final class PlotShapeFactory {
 
-    public static final String SQUARE_SHAPE = "square";
-    public static final String CIRCLE_SHAPE = "circle";
-    public static final String HORIZONTAL_RECTANGLE_SHAPE = "horizontal rectangle";
-    public static final String HORIZONTAL_ELLIPSE_SHAPE = "horizontal ellipse";
-    public static final String VERTICAL_RECTANGLE_SHAPE = "vertical rectangle";
-    public static final String UP_POINTING_TRIANGLE_SHAPE = "up-pointing triangle";
-    public static final String DIAMOND_SHAPE = "diamond";
-    public static final String DOWN_POINTING_TRIANGLE_SHAPE = "down-pointing triangle";
-    public static final String RIGHT_POINTING_TRIANGLE_SHAPE = "right-pointing triangle";
-    public static final String LEFT_POINTING_TRIANGLE_SHAPE = "left-pointing triangle";
+    public static final String SQUARE_SHAPE = SvgShapes.SQUARE_SHAPE;
+    public static final String CIRCLE_SHAPE = SvgShapes.CIRCLE_SHAPE;
+    public static final String HORIZONTAL_RECTANGLE_SHAPE = SvgShapes.HORIZONTAL_RECTANGLE_SHAPE;
+    public static final String HORIZONTAL_ELLIPSE_SHAPE = SvgShapes.HORIZONTAL_ELLIPSE_SHAPE;
+    public static final String VERTICAL_RECTANGLE_SHAPE = SvgShapes.VERTICAL_RECTANGLE_SHAPE;
+    public static final String UP_POINTING_TRIANGLE_SHAPE = SvgShapes.UP_POINTING_TRIANGLE_SHAPE;
+    public static final String DIAMOND_SHAPE = SvgShapes.DIAMOND_SHAPE;
+    public static final String DOWN_POINTING_TRIANGLE_SHAPE = SvgShapes.DOWN_POINTING_TRIANGLE_SHAPE;
+    public static final String RIGHT_POINTING_TRIANGLE_SHAPE = SvgShapes.RIGHT_POINTING_TRIANGLE_SHAPE;
+    public static final String LEFT_POINTING_TRIANGLE_SHAPE = SvgShapes.LEFT_POINTING_TRIANGLE_SHAPE;
 
     public static final Map<String, Shape> STANDARD_SHAPES = createShapes(12.0);
 
@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.roc.plot;
+
+import edu.pitt.dbmi.lib.math.classification.plot.AbstractXYStatPlot;
+import edu.pitt.dbmi.lib.math.classification.plot.ArrayXYDataset;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ *
+ * May 17, 2023 10:19:51 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public abstract class AbstractROCCurvePlot extends AbstractXYStatPlot {
+
+    protected XYLineAndShapeRenderer fourtyFiveDegreeLineRenderer;
+
+    /**
+     * Series added directly by subclasses. The curves added with
+     * addDataSeries are kept in a private array-backed dataset instead.
+     */
+    protected XYSeriesCollection pointDataset;
+
+    protected XYLineAndShapeRenderer pointRender;
+    protected XYLineAndShapeRenderer shapeRender;
+
+    /**
+     * No longer filled by addDataSeries; kept for subclasses.
+     */
+    @Deprecated
+    protected Map<String, XYSeries> dataSeriesMap;  // render line and color
+    @Deprecated
+    protected Map<String, XYSeries> dataShapeSeriesMap;  // render shape and color
+
+    /**
+     * Largest distance, in pixels, that the drawn curve may move when the
+     * points are decimated.
+     */
+    public static final double DECIMATION_TOLERANCE = ROCCurveDecimator.PIXEL_TOLERANCE;
+
+    private final ArrayXYDataset curveDataset;
+    private final Map<String, Integer> curveSeriesIndices;  // series index, render line, shape and color
+
+    /**
+     * Points of each series at full resolution, indexed as in the dataset.
+     */
+    private final List<double[]> xPointsPerSeries;
+    private final List<double[]> yPointsPerSeries;
+
+    private int decimatedWidth;
+    private int decimatedHeight;
+
+    public AbstractROCCurvePlot(String title, String xAxisLabel, String yAxisLabel) {
+        super(title, xAxisLabel, yAxisLabel);
+
+        fourtyFiveDegreeLineRenderer = new XYLineAndShapeRenderer();
+        fourtyFiveDegreeLineRenderer.setSeriesShapesVisible(0, false);  // do not show shape for random line
+        fourtyFiveDegreeLineRenderer.setSeriesVisibleInLegend(0, false);
+        fourtyFiveDegreeLineRenderer.setSeriesStroke(0, new BasicStroke(1.0f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND, 1.0f, new float[]{6.0f, 6.0f}, 0.0f));
+        fourtyFiveDegreeLineRenderer.setSeriesPaint(0, Color.GRAY);
+
+        XYSeries fourtyFiveDegreeSeries = new XYSeries("");
+        fourtyFiveDegreeSeries.add(-0.02, -0.02);
+        fourtyFiveDegreeSeries.add(1.02, 1.02);
+        plot.setRenderer(0, fourtyFiveDegreeLineRenderer);
+        plot.setDataset(0, new XYSeriesCollection(fourtyFiveDegreeSeries));
+
+        curveDataset = new ArrayXYDataset();
+        plot.setDataset(1, curveDataset);
+
+        pointRender = new XYLineAndShapeRenderer();
+        plot.setRenderer(1, pointRender);
+
+        pointDataset = new XYSeriesCollection();
+        plot.setDataset(2, pointDataset);
+
+        shapeRender = new XYLineAndShapeRenderer();
+        plot.setRenderer(2, shapeRender);
+
+        dataSeriesMap = new HashMap<String, XYSeries>();
+        dataShapeSeriesMap = new HashMap<String, XYSeries>();
+        curveSeriesIndices = new HashMap<String, Integer>();
+        xPointsPerSeries = new ArrayList<>();
+        yPointsPerSeries = new ArrayList<>();
+    }
+
+    public void setFourtyFiveDegreeLineVisible(boolean visible) {
+        fourtyFiveDegreeLineRenderer.setSeriesVisible(0, visible);
+    }
+
+    public boolean isFourtyFiveDegreeLineVisible() {
+        return fourtyFiveDegreeLineRenderer.getSeriesShapesVisible(0);
+    }
+
+    public void setDataSeriesLine(final String key, final BasicStroke line) {
+        pointRender.setSeriesStroke(curveSeriesIndices.get(key), line);
+    }
+
+    public void setDataSeriesColor(final String key, final Color color) {
+        pointRender.setSeriesPaint(curveSeriesIndices.get(key), color);
+    }
+
+    public void setDataSeriesVisible(final String key, final boolean flag) {
+        pointRender.setSeriesVisible(curveSeriesIndices.get(key), flag);
+    }
+
+    public void setDataSeriesName(final String key, final String name) {
+        curveDataset.setSeriesKey(curveSeriesIndices.get(key), name);
+    }
+
+    public void addDataSeries(
+            final String key, final String label,
+            final double[] xPoints, final double[] yPoints,
+            final Color color, final Shape shape, final Stroke stroke) {
+        // data points, backed by the arrays without copying
+        int seriesIndex = curveDataset.addSeries(label, xPoints, yPoints);
+        pointRender.setSeriesPaint(seriesIndex, color, false);
+        pointRender.setSeriesShape(seriesIndex, shape, false);
+        pointRender.setSeriesStroke(seriesIndex, stroke, false);
+        pointRender.setSeriesVisibleInLegend(seriesIndex, true, false);
+        curveSeriesIndices.put(key, seriesIndex);
+        xPointsPerSeries.add(xPoints);
+        yPointsPerSeries.add(yPoints);
+        decimatedWidth = decimatedHeight = 0;
+
+        chart.fireChartChanged();
+    }
+
+    /**
+     * Remove all the data series so that the plot can be reused for other
+     * data.
+     */
+    @Override
+    public void clearDataSeries() {
+        curveDataset.removeAllSeries();
+        pointRender = new XYLineAndShapeRenderer();
+        plot.setRenderer(1, pointRender);
+        curveSeriesIndices.clear();
+        pointDataset.removeAllSeries();
+        dataSeriesMap.clear();
+        dataShapeSeriesMap.clear();
+        xPointsPerSeries.clear();
+        yPointsPerSeries.clear();
+        decimatedWidth = decimatedHeight = 0;
+    }
+
+    /**
+     * Decimate the curves to the resolution of the image. The dataset keeps
+     * the decimated curves until the next image of a different size.
+     *
+     * @param width width of the image, in pixels
+     * @param height height of the image, in pixels
+     */
+    @Override
+    protected void prepareImage(int width, int height) {
+        if (width == decimatedWidth && height == decimatedHeight) {
+            return;
+        }
+
+        double xTolerance = DECIMATION_TOLERANCE * xAxis.getRange().getLength() / width;
+        double yTolerance = DECIMATION_TOLERANCE * yAxis.getRange().getLength() / height;
+        for (int series = 0; series < xPointsPerSeries.size(); series++) {
+            double[] xPoints = xPointsPerSeries.get(series);
+            double[] yPoints = yPointsPerSeries.get(series);
+            int[] indices = ROCCurveDecimator.decimate(xPoints, yPoints, xTolerance, yTolerance);
+            if (indices.length == xPoints.length) {
+                curveDataset.setSeriesData(series, xPoints, yPoints);
+            } else {
+                curveDataset.setSeriesData(series,
+                        ROCCurveDecimator.select(xPoints, indices),
+                        ROCCurveDecimator.select(yPoints, indices));
+            }
+        }
+
+        decimatedWidth = width;
+        decimatedHeight = height;
+    }
+
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.server;
+
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.data.SyntheticDataGenerator;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A local load generator for {@link EvaluationServer}.
+ *
+ * A number of workers post the same synthetic data set to the server in a loop
+ * for a fixed time, then the throughput, the responses per status code and the
+ * latency percentiles are printed.
+ *
+ * Arguments: [url [workers [seconds [rows [csv|binary]]]]], for example:
+ * <pre>
+ * java -cp ... EvaluationLoadGenerator http://localhost:8080/evaluate 16 30 10000 binary
+ * </pre>
+ *
+ * Oct 20, 2026 11:03:15 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public final class EvaluationLoadGenerator {
+
+    private static final long SEED = 20261020L;
+
+    private EvaluationLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = (args.length > 0) ? args[0] : "http://localhost:" + EvaluationServer.DEFAULT_PORT + "/evaluate";
+        int workers = (args.length > 1) ? Integer.parseInt(args[1]) : 8;
+        int seconds = (args.length > 2) ? Integer.parseInt(args[2]) : 10;
+        int rows = (args.length > 3) ? Integer.parseInt(args[3]) : 10_000;
+        String format = (args.length > 4) ? args[4] : "binary";
+
+        byte[] payload = createPayload(new SyntheticDataGenerator(SEED, 0.3, 0.8).generate(rows), format);
+        URI uri = URI.create(url + (url.contains("?") ? "&" : "?") + "format=" + format);
+
+        System.out.printf("Posting %d rows (%d bytes, %s) to %s with %d workers for %d s%n",
+                rows, payload.length, format, url, workers, seconds);
+
+        Result result = run(uri, payload, workers, Duration.ofSeconds(seconds));
+        System.out.print(result);
+    }
+
+    /**
+     * Post the payload from the given number of workers until the time is up.
+     *
+     * @param uri endpoint
+     * @param payload request body
+     * @param workers number of concurrent requests
+     * @param duration how long to run
+     * @return the responses and their latencies
+     * @throws InterruptedException
+     * @throws ExecutionException if a worker fails
+     */
+    public static Result run(URI uri, byte[] payload, int workers, Duration duration) throws InterruptedException, ExecutionException {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Number of workers must be at least 1.");
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(payload))
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            long startTime = System.nanoTime();
+            long endTime = startTime + duration.toNanos();
+
+            List<Future<Worker>> futures = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                futures.add(executor.submit(() -> new Worker().run(client, request, endTime)));
+            }
+
+            Result result = new Result();
+            for (Future<Worker> future : futures) {
+                result.add(future.get());
+            }
+            result.elapsedNanos = System.nanoTime() - startTime;
+
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static byte[] createPayload(List<ObservedPredictedValue> data, String format) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        switch (format) {
+            case "binary":
+                try (DataOutputStream out = new DataOutputStream(payload)) {
+                    for (ObservedPredictedValue value : data) {
+                        out.writeDouble(value.getPredictedValue());
+                        out.writeByte(value.getObservedValue());
+                    }
+                }
+                break;
+            case "csv":
+                StringBuilder csv = new StringBuilder();
+                for (ObservedPredictedValue value : data) {
+                    csv.append(value.getObservedValue()).append(',').append(value.getPredictedValue()).append('\n');
+                }
+                payload.write(csv.toString().getBytes(StandardCharsets.UTF_8));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown format: " + format);
+        }
+
+        return payload.toByteArray();
+    }
+
+    private static final class Worker {
+
+        private final Map<Integer, Integer> statusCounts = new TreeMap<>();
+        private long[] latencies = new long[1024];
+        private int numOfLatencies;
+        private int numOfErrors;
+
+        Worker run(HttpClient client, HttpRequest request, long endTime) throws InterruptedException {
+            while (System.nanoTime() < endTime) {
+                long startTime = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    statusCounts.merge(response.statusCode(), 1, Integer::sum);
+                } catch (IOException exception) {
+                    numOfErrors++;
+                    continue;
+                }
+
+                if (numOfLatencies == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, 2 * latencies.length);
+                }
+                latencies[numOfLatencies++] = System.nanoTime() - startTime;
+            }
+
+            return this;
+        }
+
+    }
+
+    /**
+     * Responses and latencies of a load run.
+     */
+    public static final class Result {
+
+        private final Map<Integer, Integer> statusCounts = new TreeMap<>();
+        private long[] latencies = new long[0];
+        private int numOfErrors;
+        private long elapsedNanos;
+
+        private void add(Worker worker) {
+            worker.statusCounts.forEach((status, count) -> statusCounts.merge(status, count, Integer::sum));
+            int offset = latencies.length;
+            latencies = Arrays.copyOf(latencies, offset + worker.numOfLatencies);
+            System.arraycopy(worker.latencies, 0, latencies, offset, worker.numOfLatencies);
+            numOfErrors += worker.numOfErrors;
+        }
+
+        public int getNumberOfResponses() {
+            return latencies.length;
+        }
+
+        public int getNumberOfResponses(int status) {
+            return statusCounts.getOrDefault(status, 0);
+        }
+
+        public int getNumberOfErrors() {
+            return numOfErrors;
+        }
+
+        public double getThroughput() {
+            return (elapsedNanos == 0) ? 0 : latencies.length * 1e9 / elapsedNanos;
+        }
+
+        /**
+         * Get the latency at the given percentile, in milliseconds.
+         *
+         * @param percentile between 0 and 100
+         * @return latency, or NaN if there is no response
+         */
+        public double getLatencyPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+            }
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format(Locale.US, "Responses: %d in %.1f s (%.1f/s), errors: %d%n",
+                    latencies.length, elapsedNanos / 1e9, getThroughput(), numOfErrors));
+            statusCounts.forEach((status, count) -> sb.append(String.format("  HTTP %d: %d%n", status, count)));
+            sb.append(String.format(Locale.US, "Latency (ms): p50 %.2f, p90 %.2f, p99 %.2f, max %.2f%n",
+                    getLatencyPercentile(50), getLatencyPercentile(90), getLatencyPercentile(99), getLatencyPercentile(100)));
+
+            return sb.toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,659 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshow;
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshowDecileGroup;
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshowRiskGroup;
+import edu.pitt.dbmi.lib.math.classification.calibration.plot.HosmerLemeshowPlot;
+import edu.pitt.dbmi.lib.math.classification.calibration.plot.HosmerLemeshowSvgPlot;
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.monitoring.Metrics;
+import edu.pitt.dbmi.lib.math.classification.monitoring.PhaseTimer;
+import edu.pitt.dbmi.lib.math.classification.plot.PlotColors;
+import edu.pitt.dbmi.lib.math.classification.plot.PlotShapeFactory;
+import edu.pitt.dbmi.lib.math.classification.plot.SvgColors;
+import edu.pitt.dbmi.lib.math.classification.roc.ROC;
+import edu.pitt.dbmi.lib.math.classification.roc.ROCCurve;
+import edu.pitt.dbmi.lib.math.classification.roc.plot.ROCCurvePlot;
+import edu.pitt.dbmi.lib.math.classification.roc.plot.ROCCurveSvgPlot;
+import edu.pitt.dbmi.lib.math.classification.roc.stat.ConfidenceInterval;
+import edu.pitt.dbmi.lib.math.classification.roc.stat.DeLongConfidenceInterval;
+import edu.pitt.dbmi.lib.math.classification.roc.stat.HanleyConfidenceInterval;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import org.jfree.chart.ChartUtils;
+
+/**
+ * A small embedded HTTP service that evaluates posted score data.
+ *
+ * The request body is a list of observed values (0 or 1) and predicted values,
+ * either as delimited text or as 9-byte binary records (a big-endian double
+ * followed by a byte). The body is streamed straight into the loader; it is
+ * never buffered whole. The endpoints are:
+ * <ul>
+ * <li>{@code POST /evaluate} returns the AUC, its confidence interval and the
+ * Hosmer-Lemeshow statistics as JSON.</li>
+ * <li>{@code POST /plot/roc} returns the ROC curve as a PNG or SVG image.</li>
+ * <li>{@code POST /plot/calibration} returns the Hosmer-Lemeshow plot as a PNG
+ * or SVG image.</li>
+ * <li>{@code GET /health} returns the number of running and waiting
+ * requests.</li>
+ * </ul>
+ * The query parameters are {@code format} (csv or binary), {@code delimiter}
+ * (comma, tab or space), {@code header}, {@code observed} and
+ * {@code predicted} (1-based columns), {@code ci} (hanley or delong),
+ * {@code groups}, {@code grouping} (decile or risk), {@code image} (png or
+ * svg), {@code width}, {@code height}, {@code title} and {@code label}.
+ *
+ * Each request runs on its own thread: a virtual thread when the runtime has
+ * them, otherwise a pooled platform thread. At most {@code maxConcurrency}
+ * requests read and evaluate data at the same time; up to {@code maxQueued}
+ * more wait without reading their bodies, which pushes back on the clients
+ * through TCP flow control. Any request beyond that is answered at once with
+ * 503 and a Retry-After header.
+ *
+ * Oct 20, 2026 10:12:47 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class EvaluationServer implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 8080;
+
+    public static final long DEFAULT_MAX_REQUEST_BYTES = 256L * 1024 * 1024;
+
+    private static final int RETRY_AFTER_SECONDS = 1;
+
+    private static final int DEFAULT_IMAGE_SIZE = 500;
+
+    private static final int MAX_IMAGE_SIZE = 4096;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Semaphore admitted;
+    private final Semaphore running;
+    private final long maxRequestBytes;
+    private final AtomicInteger activeRequests = new AtomicInteger();
+
+    /**
+     * Create a server. Call {@link #start()} to accept requests.
+     *
+     * @param address address to bind to; port 0 picks a free port
+     * @param maxConcurrency maximum number of requests evaluated at the same
+     * time
+     * @param maxQueued maximum number of requests waiting for their turn
+     * @param maxRequestBytes maximum size of a request body
+     * @throws IOException if the address cannot be bound
+     */
+    public EvaluationServer(InetSocketAddress address, int maxConcurrency, int maxQueued, long maxRequestBytes) throws IOException {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Maximum concurrency must be at least 1.");
+        }
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("Maximum queued requests must not be negative.");
+        }
+        if (maxRequestBytes < 1) {
+            throw new IllegalArgumentException("Maximum request size must be at least 1 byte.");
+        }
+
+        this.admitted = new Semaphore(maxConcurrency + maxQueued);
+        this.running = new Semaphore(maxConcurrency, true);
+        this.maxRequestBytes = maxRequestBytes;
+        this.executor = createThreadPerRequestExecutor();
+
+        this.server = HttpServer.create(address, 0);
+        this.server.setExecutor(executor);
+        this.server.createContext("/health", this::handleHealth);
+        this.server.createContext("/evaluate", admit(this::handleEvaluate));
+        this.server.createContext("/plot/roc", admit(this::handleROCPlot));
+        this.server.createContext("/plot/calibration", admit(this::handleCalibrationPlot));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stop accepting requests, wait up to a second for running requests to
+     * finish and release the threads.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.shutdown();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Run the server until the process is stopped.
+     *
+     * Arguments: [port [maxConcurrency [maxQueued [maxRequestBytes]]]]
+     *
+     * @param args command-line arguments
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        // the plots are drawn into images; no display is needed
+        if (System.getProperty("java.awt.headless") == null) {
+            System.setProperty("java.awt.headless", "true");
+        }
+
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int maxConcurrency = (args.length > 1) ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int maxQueued = (args.length > 2) ? Integer.parseInt(args[2]) : 4 * maxConcurrency;
+        long maxRequestBytes = (args.length > 3) ? Long.parseLong(args[3]) : DEFAULT_MAX_REQUEST_BYTES;
+
+        EvaluationServer evaluationServer = new EvaluationServer(new InetSocketAddress(port), maxConcurrency, maxQueued, maxRequestBytes);
+        Runtime.getRuntime().addShutdownHook(new Thread(evaluationServer::close));
+        evaluationServer.start();
+
+        System.out.printf("Listening on port %d (concurrency %d, queue %d)%n", evaluationServer.getPort(), maxConcurrency, maxQueued);
+    }
+
+    /**
+     * Use a virtual thread per request when the runtime supports it (Java 21
+     * and later), otherwise a cached pool of daemon platform threads. The
+     * number of threads that do real work is bounded by the semaphores, not
+     * by the executor.
+     */
+    private static ExecutorService createThreadPerRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            AtomicInteger threadCount = new AtomicInteger();
+
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "evaluation-server-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+
+                return thread;
+            });
+        }
+    }
+
+    private HttpHandler admit(HttpHandler handler) {
+        return exchange -> {
+            try {
+                if (!"POST".equals(exchange.getRequestMethod())) {
+                    exchange.getResponseHeaders().set("Allow", "POST");
+                    sendText(exchange, 405, "Only POST is supported.");
+                    return;
+                }
+
+                long contentLength = getContentLength(exchange);
+                if (contentLength > maxRequestBytes) {
+                    sendText(exchange, 413, "The request body is larger than " + maxRequestBytes + " bytes.");
+                    return;
+                }
+
+                if (!admitted.tryAcquire()) {
+                    if (Metrics.isEnabled()) {
+                        Metrics.counter("EvaluationServer.rejected").increment();
+                    }
+                    exchange.getResponseHeaders().set("Retry-After", String.valueOf(RETRY_AFTER_SECONDS));
+                    sendText(exchange, 503, "The server is busy.");
+                    return;
+                }
+                try {
+                    running.acquire();
+                    activeRequests.incrementAndGet();
+                    try {
+                        handler.handle(exchange);
+                    } finally {
+                        activeRequests.decrementAndGet();
+                        running.release();
+                    }
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    sendText(exchange, 503, "The server is shutting down.");
+                } finally {
+                    admitted.release();
+                }
+            } catch (RequestTooLargeException exception) {
+                sendError(exchange, 413, exception);
+            } catch (BadRequestException | IllegalArgumentException exception) {
+                sendError(exchange, 400, exception);
+            } catch (IOException | RuntimeException exception) {
+                sendError(exchange, 500, exception);
+            } finally {
+                exchange.close();
+            }
+        };
+    }
+
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        try {
+            int active = activeRequests.get();
+            int waiting = running.getQueueLength();
+            String json = "{\"status\":\"ok\",\"active\":" + active + ",\"waiting\":" + waiting + "}";
+
+            sendBytes(exchange, 200, "application/json", json.getBytes(StandardCharsets.UTF_8));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleEvaluate(HttpExchange exchange) throws IOException {
+        Map<String, String> parameters = parseQuery(exchange);
+        List<ObservedPredictedValue> data = readData(exchange, parameters);
+
+        PhaseTimer timer = PhaseTimer.start("EvaluationServer", "evaluate");
+        // ROCCurve is O(n log n); DeLongROCCurve scans all the data for every threshold
+        ROC roc = new ROCCurve(data);
+        ConfidenceInterval confidenceInterval = createConfidenceInterval(roc, parameters);
+        HosmerLemeshow hl = createHosmerLemeshow(data, parameters);
+        String json = toJson(roc, confidenceInterval, hl);
+        timer.stop(data.size());
+
+        sendBytes(exchange, 200, "application/json", json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void handleROCPlot(HttpExchange exchange) throws IOException {
+        Map<String, String> parameters = parseQuery(exchange);
+        List<ObservedPredictedValue> data = readData(exchange, parameters);
+        String title = getParameter(parameters, "title", "ROC Curve");
+        int width = getImageSize(parameters, "width");
+        int height = getImageSize(parameters, "height");
+
+        ROC roc = new ROCCurve(data);
+        String label = getParameter(parameters, "label", "Model");
+        if (isSvg(parameters)) {
+            ROCCurveSvgPlot plot = new ROCCurveSvgPlot(title);
+            plot.add(roc, label, SvgColors.BLUE);
+            sendSvg(exchange, out -> plot.write(out, width, height));
+        } else {
+            ROCCurvePlot plot = new ROCCurvePlot(title);
+            plot.add(roc, "roc", label, PlotColors.BLUE);
+            sendPng(exchange, out -> ChartUtils.writeBufferedImageAsPNG(out, plot.createPlotImage(width, height)));
+        }
+    }
+
+    private void handleCalibrationPlot(HttpExchange exchange) throws IOException {
+        Map<String, String> parameters = parseQuery(exchange);
+        List<ObservedPredictedValue> data = readData(exchange, parameters);
+        String title = getParameter(parameters, "title", "Calibration");
+        String label = getParameter(parameters, "label", "Model");
+        int width = getImageSize(parameters, "width");
+        int height = getImageSize(parameters, "height");
+
+        HosmerLemeshow hl = createHosmerLemeshow(data, parameters);
+        if (isSvg(parameters)) {
+            HosmerLemeshowSvgPlot plot = new HosmerLemeshowSvgPlot(title);
+            plot.addDataSeries(hl, label, SvgColors.RED, PlotShapeFactory.CIRCLE_SHAPE, true);
+            sendSvg(exchange, out -> plot.write(out, width, height));
+        } else {
+            HosmerLemeshowPlot plot = new HosmerLemeshowPlot(title);
+            plot.addDataSeries(hl, "hl", label, PlotColors.RED, PlotShapeFactory.STANDARD_SHAPES.get(PlotShapeFactory.CIRCLE_SHAPE), true);
+            sendPng(exchange, out -> ChartUtils.writeBufferedImageAsPNG(out, plot.createPlotImage(width, height)));
+        }
+    }
+
+    private List<ObservedPredictedValue> readData(HttpExchange exchange, Map<String, String> parameters) throws IOException {
+        PhaseTimer timer = PhaseTimer.start("EvaluationServer", "load");
+
+        InputStream body = new LimitedInputStream(exchange.getRequestBody(), maxRequestBytes);
+        List<ObservedPredictedValue> data;
+        String format = getOption(parameters, "format", "csv");
+        try {
+            switch (format) {
+                case "binary":
+                    data = ResourcesLoader.loadBinaryData(body);
+                    break;
+                case "csv":
+                    data = ResourcesLoader.loadData(
+                            body,
+                            getDelimiter(parameters),
+                            getIntParameter(parameters, "observed", 1),
+                            getIntParameter(parameters, "predicted", 2),
+                            Boolean.parseBoolean(getOption(parameters, "header", "false")));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown format: " + format);
+            }
+        } catch (RequestTooLargeException exception) {
+            throw exception;
+        } catch (IOException exception) {
+            // a malformed body, such as a truncated binary record
+            throw new BadRequestException(exception);
+        }
+
+        timer.stop(data.size());
+
+        return data;
+    }
+
+    private static ConfidenceInterval createConfidenceInterval(ROC roc, Map<String, String> parameters) {
+        String method = getOption(parameters, "ci", "hanley");
+        switch (method) {
+            case "hanley":
+                return new HanleyConfidenceInterval(roc);
+            case "delong":
+                return new DeLongConfidenceInterval(roc);
+            default:
+                throw new IllegalArgumentException("Unknown confidence interval: " + method);
+        }
+    }
+
+    private static HosmerLemeshow createHosmerLemeshow(List<ObservedPredictedValue> data, Map<String, String> parameters) {
+        int groups = getIntParameter(parameters, "groups", HosmerLemeshow.NUM_OF_INTERVAL);
+        String grouping = getOption(parameters, "grouping", "decile");
+        switch (grouping) {
+            case "decile":
+                return new HosmerLemeshowDecileGroup(data, groups);
+            case "risk":
+                return new HosmerLemeshowRiskGroup(data, groups);
+            default:
+                throw new IllegalArgumentException("Unknown grouping: " + grouping);
+        }
+    }
+
+    private static String toJson(ROC roc, ConfidenceInterval confidenceInterval, HosmerLemeshow hl) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"numberOfPositives\":").append(roc.getNumberOfPositives());
+        json.append(",\"numberOfNegatives\":").append(roc.getNumberOfNegatives());
+        json.append(",\"auc\":").append(toJson(roc.getAreaUnderRocCurve()));
+        json.append(",\"confidenceInterval\":{");
+        json.append("\"standardError\":").append(toJson(confidenceInterval.getStandardError()));
+        json.append(",\"lower\":").append(toJson(confidenceInterval.getLowerConfidenceInterval()));
+        json.append(",\"upper\":").append(toJson(confidenceInterval.getUpperConfidenceInterval()));
+        json.append("},\"hosmerLemeshow\":{");
+        json.append("\"numberOfGroups\":").append(hl.getNumberOfGroups());
+        json.append(",\"degreesOfFreedom\":").append(hl.getDegreesOfFreedom());
+        json.append(",\"pValue\":").append(toJson(hl.getPValue()));
+        json.append(",\"expectedCalibrationError\":").append(toJson(hl.getExpectedCalibrationError()));
+        json.append(",\"maxCalibrationError\":").append(toJson(hl.getMaxCalibrationError()));
+        json.append(",\"observed\":").append(toJson(hl.getHlObservedValues()));
+        json.append(",\"expected\":").append(toJson(hl.getHlExpectedValues()));
+        json.append(",\"numberOfDataPerGroup\":").append(toJson(hl.getNumberOfDataPerGroup()));
+        json.append("}}");
+
+        return json.toString();
+    }
+
+    private static String toJson(double value) {
+        return (Double.isNaN(value) || Double.isInfinite(value)) ? "null" : Double.toString(value);
+    }
+
+    private static String toJson(double[] values) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(toJson(values[i]));
+        }
+
+        return json.append(']').toString();
+    }
+
+    private static String toJson(int[] values) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(values[i]);
+        }
+
+        return json.append(']').toString();
+    }
+
+    private static Map<String, String> parseQuery(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                if (pair.isEmpty()) {
+                    continue;
+                }
+
+                int index = pair.indexOf('=');
+                String name = (index < 0) ? pair : pair.substring(0, index);
+                String value = (index < 0) ? "" : pair.substring(index + 1);
+                parameters.put(
+                        URLDecoder.decode(name, StandardCharsets.UTF_8),
+                        URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+        }
+
+        return parameters;
+    }
+
+    private static String getParameter(Map<String, String> parameters, String name, String defaultValue) {
+        String value = parameters.get(name);
+
+        return (value == null || value.isEmpty()) ? defaultValue : value;
+    }
+
+    private static String getOption(Map<String, String> parameters, String name, String defaultValue) {
+        return getParameter(parameters, name, defaultValue).toLowerCase(Locale.US);
+    }
+
+    private static int getIntParameter(Map<String, String> parameters, String name, int defaultValue) {
+        String value = parameters.get(name);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Parameter " + name + " must be an integer.");
+        }
+    }
+
+    private static int getImageSize(Map<String, String> parameters, String name) {
+        int size = getIntParameter(parameters, name, DEFAULT_IMAGE_SIZE);
+        if (size < 1 || size > MAX_IMAGE_SIZE) {
+            throw new IllegalArgumentException("Parameter " + name + " must be between 1 and " + MAX_IMAGE_SIZE + ".");
+        }
+
+        return size;
+    }
+
+    private static Pattern getDelimiter(Map<String, String> parameters) {
+        String delimiter = getOption(parameters, "delimiter", "comma");
+        switch (delimiter) {
+            case "comma":
+                return Delimiters.COMMA;
+            case "tab":
+                return Delimiters.TAB;
+            case "space":
+                return Delimiters.SPACES;
+            default:
+                throw new IllegalArgumentException("Unknown delimiter: " + delimiter);
+        }
+    }
+
+    private static boolean isSvg(Map<String, String> parameters) {
+        String image = getOption(parameters, "image", "png");
+        switch (image) {
+            case "png":
+                return false;
+            case "svg":
+                return true;
+            default:
+                throw new IllegalArgumentException("Unknown image type: " + image);
+        }
+    }
+
+    private static long getContentLength(HttpExchange exchange) {
+        String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (contentLength == null) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(contentLength.trim());
+        } catch (NumberFormatException exception) {
+            return -1;
+        }
+    }
+
+    private static void sendPng(HttpExchange exchange, ImageWriter writer) throws IOException {
+        sendImage(exchange, "image/png", writer);
+    }
+
+    private static void sendSvg(HttpExchange exchange, ImageWriter writer) throws IOException {
+        sendImage(exchange, "image/svg+xml", writer);
+    }
+
+    /**
+     * Render the whole image before sending the headers so that a rendering
+     * error can still be reported with a proper status code.
+     */
+    private static void sendImage(HttpExchange exchange, String contentType, ImageWriter writer) throws IOException {
+        ByteArrayOutputStream image = new ByteArrayOutputStream(64 * 1024);
+        writer.write(image);
+
+        sendBytes(exchange, 200, contentType, image.toByteArray());
+    }
+
+    /**
+     * Send an error status, unless the response has already been started, in
+     * which case the exchange is simply closed by the caller.
+     */
+    private static void sendError(HttpExchange exchange, int status, Exception exception) {
+        if (exchange.getResponseCode() != -1) {
+            return;
+        }
+
+        try {
+            sendText(exchange, status, String.valueOf(exception.getMessage()));
+        } catch (IOException ignored) {
+            // the client is gone
+        }
+    }
+
+    private static void sendText(HttpExchange exchange, int status, String message) throws IOException {
+        sendBytes(exchange, status, "text/plain; charset=utf-8", (message + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void sendBytes(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ImageWriter {
+
+        void write(OutputStream out) throws IOException;
+
+    }
+
+    private static final class RequestTooLargeException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        RequestTooLargeException(long maxBytes) {
+            super("The request body is larger than " + maxBytes + " bytes.");
+        }
+
+    }
+
+    private static final class BadRequestException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        BadRequestException(IOException cause) {
+            super("Unable to read the data: " + cause.getMessage(), cause);
+        }
+
+    }
+
+    /**
+     * Fail once more than the allowed number of bytes has been read, so a
+     * chunked body without a Content-Length cannot exhaust the memory.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long maxBytes;
+        private long count;
+
+        LimitedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+
+            return skipped;
+        }
+
+        private void count(long n) throws RequestTooLargeException {
+            count += n;
+            if (count > maxBytes) {
+                throw new RequestTooLargeException(maxBytes);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.batch;
+
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.roc.ROC;
+import edu.pitt.dbmi.lib.math.classification.roc.ROCCurve;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ *
+ * Oct 20, 2026 2:10:43 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class BatchEvaluatorTest {
+
+    @TempDir
+    public static Path tempDir;
+
+    /**
+     * Test of evaluate method, of class BatchEvaluator.
+     */
+    @Test
+    public void testEvaluate() throws Exception {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        List<ObservedPredictedValue> observedPredictedValues = ResourcesLoader.loadData(file, Delimiters.COMMA, 1, 2, false);
+        ROC roc = new ROCCurve(observedPredictedValues);
+
+        Path directory = Files.createDirectories(tempDir.resolve("scores"));
+        for (int i = 1; i <= 5; i++) {
+            Files.copy(file, directory.resolve("model-" + i + ".csv"));
+        }
+        Files.writeString(directory.resolve("broken.csv"), "1,not-a-number\n");
+        Files.writeString(directory.resolve("notes.txt"), "not a prediction file\n");
+
+        Path csvFile = directory.resolve("summary.csv");
+        Path jsonFile = tempDir.resolve("summary.json");
+        Path plotDirectory = tempDir.resolve("plots");
+        ByteArrayOutputStream progress = new ByteArrayOutputStream();
+
+        BatchEvaluationReport report;
+        try (BatchEvaluator evaluator = new BatchEvaluator(Delimiters.COMMA, 1, 2, false, 3)) {
+            evaluator.setPlotDirectory(plotDirectory);
+            evaluator.setProgress(new PrintStream(progress, true, StandardCharsets.UTF_8));
+            report = evaluator.evaluate(directory, "*.csv", csvFile, jsonFile);
+        }
+
+        // the summary in the same directory is not evaluated
+        Assertions.assertEquals(6, report.getNumberOfFiles());
+        Assertions.assertEquals(1, report.getNumberOfFailures());
+        Assertions.assertEquals(3, report.getNumberOfThreads());
+
+        List<String> lines = Files.readAllLines(csvFile);
+        Assertions.assertEquals(7, lines.size());
+        Assertions.assertTrue(lines.get(0).startsWith("file,status,positives,negatives,auc,"));
+        for (String line : lines.subList(1, lines.size())) {
+            String[] fields = line.split(",", -1);
+            if (fields[0].equals("broken.csv")) {
+                Assertions.assertEquals("error", fields[1]);
+            } else {
+                Assertions.assertEquals("ok", fields[1]);
+                Assertions.assertEquals(roc.getNumberOfPositives(), Integer.parseInt(fields[2]));
+                Assertions.assertEquals(roc.getAreaUnderRocCurve(), Double.parseDouble(fields[4]));
+                Assertions.assertTrue(Double.parseDouble(fields[15]) > 0);
+            }
+        }
+
+        String json = Files.readString(jsonFile).trim();
+        Assertions.assertTrue(json.startsWith("[") && json.endsWith("]"));
+        Assertions.assertEquals(6, json.split("\"file\":").length - 1);
+        Assertions.assertTrue(json.contains("\"status\":\"error\""));
+
+        Assertions.assertTrue(Files.size(plotDirectory.resolve("model-1_roc.png")) > 0);
+        Assertions.assertTrue(Files.size(plotDirectory.resolve("model-5_calibration.png")) > 0);
+
+        String progressLines = progress.toString(StandardCharsets.UTF_8);
+        Assertions.assertTrue(progressLines.contains("[6/6]"));
+        Assertions.assertTrue(progressLines.contains("broken.csv: FAILED"));
+    }
+
+    /**
+     * Test of setPlotDirectory method with subdirectories, of class
+     * BatchEvaluator.
+     */
+    @Test
+    public void testPlotsInSubdirectories() throws Exception {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        Path directory = tempDir.resolve("nested");
+
+        // flattening the paths would give a_b_c for both files
+        Files.createDirectories(directory.resolve("a_b"));
+        Files.createDirectories(directory.resolve("a"));
+        Files.copy(file, directory.resolve("a_b").resolve("c.csv"));
+        Files.copy(file, directory.resolve("a").resolve("b_c.csv"));
+
+        Path plotDirectory = tempDir.resolve("nested-plots");
+        try (BatchEvaluator evaluator = new BatchEvaluator(Delimiters.COMMA, 1, 2, false, 2)) {
+            evaluator.setRecursive(true);
+            evaluator.setPlotDirectory(plotDirectory);
+            evaluator.evaluate(directory, "*.csv", null, tempDir.resolve("nested-summary.json"));
+        }
+
+        Assertions.assertTrue(Files.size(plotDirectory.resolve("a_b").resolve("c_roc.png")) > 0);
+        Assertions.assertTrue(Files.size(plotDirectory.resolve("a").resolve("b_c_roc.png")) > 0);
+        Assertions.assertTrue(Files.size(plotDirectory.resolve("a").resolve("b_c_calibration.png")) > 0);
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.cache;
+
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.plot.PlotColors;
+import edu.pitt.dbmi.lib.math.classification.roc.DeLongROCCurve;
+import edu.pitt.dbmi.lib.math.classification.roc.ROC;
+import edu.pitt.dbmi.lib.math.classification.roc.plot.ROCCurvePlot;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ *
+ * Oct 19, 2026 10:52:26 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class PlotImageCacheTest {
+
+    @TempDir
+    public static Path tempDir;
+
+    /**
+     * Test of getImage method, of class PlotImageCache.
+     */
+    @Test
+    public void testGetImage() throws Exception {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        List<ObservedPredictedValue> observedPredictedValues = ResourcesLoader.loadData(file, Delimiters.COMMA, 1, 2, false);
+        ROC roc = new DeLongROCCurve(observedPredictedValues);
+        CacheKey key = CacheKey.of(observedPredictedValues, "ROCCurvePlot");
+
+        AtomicInteger numOfRenders = new AtomicInteger();
+        Path spillDirectory = tempDir.resolve("spill");
+
+        // room for one image only, so the second size spills the first
+        PlotImageCache cache = new PlotImageCache(1, EvictionPolicy.LRU, spillDirectory);
+        byte[] image = cache.getImage(key, 400, 400, () -> {
+            numOfRenders.incrementAndGet();
+            ROCCurvePlot plot = new ROCCurvePlot("");
+            plot.add(roc, "roc", "data", PlotColors.BLUE);
+            return plot;
+        });
+        Assertions.assertEquals((byte) 0x89, image[0]);
+        Assertions.assertEquals('P', image[1]);
+        Assertions.assertEquals(1, cache.getSpillCount());
+
+        byte[] spilled = cache.getImage(key, 400, 400, () -> {
+            numOfRenders.incrementAndGet();
+            return new ROCCurvePlot("");
+        });
+        Assertions.assertArrayEquals(image, spilled);
+        Assertions.assertEquals(1, numOfRenders.get());
+        Assertions.assertEquals(1, cache.getDiskHitCount());
+    }
+
+}
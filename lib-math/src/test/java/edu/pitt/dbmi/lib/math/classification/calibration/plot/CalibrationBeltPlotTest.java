@@ -19,7 +19,8 @@
 package edu.pitt.dbmi.lib.math.classification.calibration.plot;
 
 import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshow;
-import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshowRiskGroup;
+import edu.pitt.dbmi.lib.math.classification.calibration.HosmerLemeshowDecileGroup;
+import edu.pitt.dbmi.lib.math.classification.calibration.belt.CalibrationBelt;
 import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
 import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
 import edu.pitt.dbmi.lib.math.classification.plot.PlotColors;
@@ -37,17 +38,17 @@ import org.junit.jupiter.api.io.TempDir;
 
 /**
  *
- * Mar 7, 2023 6:11:09 PM
+ * Oct 19, 2026 3:52:40 PM
  *
  * @author Kevin V. Bui (kvb2univpitt@gmail.com)
  */
-public class HosmerLemeshowPlotTest {
+public class CalibrationBeltPlotTest {
 
     @TempDir
     public static Path tempDir;
 
     /**
-     * Test of saveImageAsPNG method, of class HosmerLemeshowPlot.
+     * Test of saveImageAsPNG method, of class CalibrationBeltPlot.
      */
     @Test
     public void testSaveImageAsPNG() throws Exception {
@@ -58,12 +59,14 @@ public class HosmerLemeshowPlotTest {
         boolean hasHeader = false;
         List<ObservedPredictedValue> observedPredictedValues = ResourcesLoader.loadData(dataFile, delimiter, observedColumn, predictedColumn, hasHeader);
 
-        HosmerLemeshow hl = new HosmerLemeshowRiskGroup(observedPredictedValues);
+        HosmerLemeshow hl = new HosmerLemeshowDecileGroup(observedPredictedValues);
+        CalibrationBelt belt = new CalibrationBelt(hl);
 
-        String title = "Hosmer Lemeshow Chart";
+        String title = "Calibration Belt";
         String name = "rfci-bootstrap";
-        HosmerLemeshowPlot plot = new HosmerLemeshowPlot(title);
-        plot.addDataSeries(hl, name, name, PlotColors.BLUE, PlotShapes.CIRCLE_SHAPE, true);
+        CalibrationBeltPlot plot = new CalibrationBeltPlot(title);
+        plot.addCalibrationBelt(belt, name, PlotColors.BLUE);
+        plot.addDataSeries(hl, name, name, PlotColors.BLUE, PlotShapes.CIRCLE_SHAPE, false);
 
         String dirOut = Files.createDirectory(Paths.get(tempDir.toString(), "plot")).toString();
         File imageFile = Paths.get(dirOut, "chart.png").toFile();
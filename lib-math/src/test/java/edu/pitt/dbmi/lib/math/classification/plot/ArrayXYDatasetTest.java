@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.plot;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jfree.data.Range;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Oct 19, 2026 6:48:14 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class ArrayXYDatasetTest {
+
+    /**
+     * Test of addSeries method, of class ArrayXYDataset.
+     */
+    @Test
+    public void testAddSeries() {
+        int size = 1_000_000;
+        double[] xPoints = new double[size];
+        double[] yPoints = new double[size];
+        for (int i = 0; i < size; i++) {
+            xPoints[i] = ((double) i) / (size - 1);
+            yPoints[i] = Math.sqrt(xPoints[i]);
+        }
+
+        ArrayXYDataset dataset = new ArrayXYDataset();
+        AtomicInteger numOfEvents = new AtomicInteger();
+        dataset.addChangeListener(event -> numOfEvents.incrementAndGet());
+
+        int series = dataset.addSeries("curve", xPoints, yPoints);
+        Assertions.assertEquals(0, series);
+        Assertions.assertEquals(1, numOfEvents.get());
+        Assertions.assertEquals(size, dataset.getItemCount(series));
+        Assertions.assertEquals(xPoints[1234], dataset.getXValue(series, 1234));
+        Assertions.assertEquals(yPoints[1234], dataset.getY(series, 1234).doubleValue());
+        Assertions.assertEquals(new Range(0.0, 1.0), dataset.getDomainBounds(false));
+        Assertions.assertEquals(new Range(0.0, 1.0), dataset.getRangeBounds(false));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> dataset.addSeries("curve", xPoints, yPoints));
+
+        dataset.setSeriesKey(series, "renamed");
+        Assertions.assertEquals("renamed", dataset.getSeriesKey(series));
+    }
+
+    /**
+     * Test of setSeriesData method, of class ArrayXYDataset.
+     */
+    @Test
+    public void testSetSeriesData() {
+        ArrayXYDataset dataset = new ArrayXYDataset();
+        int series = dataset.addSeries("curve", new double[]{0.0, 0.5, 1.0}, new double[]{0.0, 0.8, 1.0});
+
+        AtomicInteger numOfEvents = new AtomicInteger();
+        dataset.addChangeListener(event -> numOfEvents.incrementAndGet());
+        dataset.setSeriesData(series, new double[]{0.0, 0.25}, new double[]{0.0, 0.5});
+
+        Assertions.assertEquals(1, numOfEvents.get());
+        Assertions.assertEquals(2, dataset.getItemCount(series));
+        Assertions.assertEquals(new Range(0.0, 0.25), dataset.getDomainBounds(false));
+        Assertions.assertEquals(new Range(0.0, 0.5), dataset.getRangeBounds(false));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> dataset.setSeriesData(series, new double[2], new double[3]));
+    }
+
+}
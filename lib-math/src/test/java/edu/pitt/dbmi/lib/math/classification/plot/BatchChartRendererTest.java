@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.plot;
+
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.roc.DeLongROCCurve;
+import edu.pitt.dbmi.lib.math.classification.roc.ROC;
+import edu.pitt.dbmi.lib.math.classification.roc.plot.ROCCurvePlot;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ *
+ * Oct 19, 2026 8:02:17 PM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class BatchChartRendererTest {
+
+    @TempDir
+    public static Path tempDir;
+
+    private static ROC roc;
+
+    @BeforeAll
+    public static void setUpClass() throws IOException {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        List<ObservedPredictedValue> observedPredictedValues = ResourcesLoader.loadData(file, Delimiters.COMMA, 1, 2, false);
+
+        roc = new DeLongROCCurve(observedPredictedValues);
+    }
+
+    /**
+     * Test of render method, of class BatchChartRenderer.
+     */
+    @Test
+    public void testRender() throws IOException {
+        int numOfCharts = 12;
+        List<ChartJob<ROCCurvePlot>> jobs = new ArrayList<>();
+        for (int i = 0; i < numOfCharts; i++) {
+            String name = "chart" + i;
+            int width = (i % 2 == 0) ? 400 : 300;
+            jobs.add(new ChartJob<>(tempDir.resolve(name + ".png").toFile(), width, 300, plot -> {
+                plot.setTitle(name);
+                plot.add(roc, "roc", name, PlotColors.BLUE);
+            }));
+        }
+
+        try (BatchChartRenderer<ROCCurvePlot> renderer = new BatchChartRenderer<>(() -> new ROCCurvePlot(""), 3)) {
+            BatchRenderReport report = renderer.render(jobs);
+            Assertions.assertEquals(numOfCharts, report.getNumberOfCharts());
+            Assertions.assertEquals(3, report.getNumberOfThreads());
+            Assertions.assertTrue(report.getThroughput() > 0);
+
+            // a failed job does not stop the others
+            File missingDir = tempDir.resolve("missing").resolve("chart.png").toFile();
+            List<ChartJob<ROCCurvePlot>> failingJobs = new ArrayList<>(jobs);
+            failingJobs.add(new ChartJob<>(missingDir, 300, 300, plot -> plot.add(roc, "roc", "roc", PlotColors.BLUE)));
+            Assertions.assertThrows(IOException.class, () -> renderer.render(failingJobs));
+        }
+
+        for (int i = 0; i < numOfCharts; i++) {
+            BufferedImage image = ImageIO.read(jobs.get(i).getFile());
+            Assertions.assertEquals(jobs.get(i).getWidth(), image.getWidth());
+            Assertions.assertEquals(300, image.getHeight());
+        }
+    }
+
+    /**
+     * Test of clearDataSeries method, of class AbstractROCCurvePlot.
+     */
+    @Test
+    public void testClearDataSeries() {
+        ROCCurvePlot plot = new ROCCurvePlot("");
+        plot.add(roc, "roc", "first", PlotColors.BLUE);
+        plot.clearDataSeries();
+        plot.add(roc, "roc", "second", PlotColors.DARK_ORANGE);
+
+        Assertions.assertEquals(1, plot.getPlot().getDataset(1).getSeriesCount());
+        Assertions.assertEquals(PlotColors.DARK_ORANGE, plot.getPlot().getRenderer(1).getSeriesPaint(0));
+    }
+
+    /**
+     * Test that render method of class BatchChartRenderer restores the
+     * template settings before each chart.
+     */
+    @Test
+    public void testRenderRestoresTemplate() throws IOException {
+        ROCCurvePlot template = new ROCCurvePlot("template");
+        String xAxisLabel = template.getXAxisLabel();
+        double xAxisUpperBound = template.getXAxis().getUpperBound();
+
+        List<String> seen = new ArrayList<>();
+        List<ChartJob<ROCCurvePlot>> jobs = new ArrayList<>();
+        jobs.add(new ChartJob<>(tempDir.resolve("changed.png").toFile(), 200, 200, plot -> {
+            plot.setXAxisLabel("changed");
+            plot.setXAxisRange(0.0, 0.5);
+            plot.setGridLineVisible(false);
+            plot.add(roc, "roc", "changed", PlotColors.BLUE);
+        }));
+        jobs.add(new ChartJob<>(tempDir.resolve("default.png").toFile(), 200, 200, plot -> {
+            seen.add(plot.getTitle());
+            seen.add(plot.getXAxisLabel());
+            seen.add(String.valueOf(plot.getXAxis().getUpperBound()));
+            seen.add(String.valueOf(plot.isGridLineVisible()));
+            plot.add(roc, "roc", "default", PlotColors.BLUE);
+        }));
+
+        // one thread, so the second job reuses the template changed by the first
+        try (BatchChartRenderer<ROCCurvePlot> renderer = new BatchChartRenderer<>(() -> new ROCCurvePlot("template"), 1)) {
+            renderer.render(jobs);
+        }
+
+        Assertions.assertEquals(
+                List.of("template", xAxisLabel, String.valueOf(xAxisUpperBound), String.valueOf(template.isGridLineVisible())),
+                seen);
+    }
+
+}
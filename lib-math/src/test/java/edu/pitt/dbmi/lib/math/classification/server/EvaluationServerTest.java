@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2023 University of Pittsburgh.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA 02110-1301  USA
+ */
+package edu.pitt.dbmi.lib.math.classification.server;
+
+import edu.pitt.dbmi.lib.math.classification.data.Delimiters;
+import edu.pitt.dbmi.lib.math.classification.data.ObservedPredictedValue;
+import edu.pitt.dbmi.lib.math.classification.roc.DeLongROCCurve;
+import edu.pitt.dbmi.lib.math.classification.roc.ROC;
+import edu.pitt.dbmi.lib.math.classification.roc.stat.DeLongConfidenceInterval;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoader;
+import edu.pitt.dbmi.lib.math.classification.utils.ResourcesLoaderTest;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * Oct 20, 2026 11:41:08 AM
+ *
+ * @author Kevin V. Bui (kvb2univpitt@gmail.com)
+ */
+public class EvaluationServerTest {
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    /**
+     * Test of the evaluate endpoint with CSV data, of class EvaluationServer.
+     */
+    @Test
+    public void testEvaluateCsv() throws Exception {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        List<ObservedPredictedValue> observedPredictedValues = ResourcesLoader.loadData(file, Delimiters.COMMA, 1, 2, false);
+        ROC roc = new DeLongROCCurve(observedPredictedValues);
+        DeLongConfidenceInterval confidenceInterval = new DeLongConfidenceInterval(roc);
+
+        try (EvaluationServer server = startServer(4, 4, 1 << 20)) {
+            HttpResponse<String> response = CLIENT.send(
+                    HttpRequest.newBuilder(uri(server, "/evaluate?format=csv&ci=delong"))
+                            .POST(HttpRequest.BodyPublishers.ofFile(file))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            Assertions.assertEquals(200, response.statusCode());
+            Assertions.assertEquals("application/json", response.headers().firstValue("Content-Type").orElse(null));
+
+            String json = response.body();
+            Assertions.assertEquals(roc.getAreaUnderRocCurve(), getNumber(json, "auc"), 1e-12);
+            Assertions.assertEquals(confidenceInterval.getStandardError(), getNumber(json, "standardError"), 1e-12);
+            Assertions.assertEquals(roc.getNumberOfPositives(), (int) getNumber(json, "numberOfPositives"));
+            Assertions.assertEquals(10, (int) getNumber(json, "numberOfGroups"));
+        }
+    }
+
+    /**
+     * Test of the evaluate endpoint with binary data, of class
+     * EvaluationServer.
+     */
+    @Test
+    public void testEvaluateBinary() throws Exception {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+        List<ObservedPredictedValue> observedPredictedValues = ResourcesLoader.loadData(file, Delimiters.COMMA, 1, 2, false);
+        ROC roc = new DeLongROCCurve(observedPredictedValues);
+
+        try (EvaluationServer server = startServer(4, 4, 1 << 20)) {
+            HttpResponse<String> response = CLIENT.send(
+                    HttpRequest.newBuilder(uri(server, "/evaluate?format=binary&grouping=risk&groups=5"))
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(toBinary(observedPredictedValues)))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            Assertions.assertEquals(200, response.statusCode());
+            Assertions.assertEquals(roc.getAreaUnderRocCurve(), getNumber(response.body(), "auc"), 1e-12);
+            Assertions.assertEquals(5, (int) getNumber(response.body(), "numberOfGroups"));
+
+            // bad parameters
+            response = CLIENT.send(
+                    HttpRequest.newBuilder(uri(server, "/evaluate?format=xml"))
+                            .POST(HttpRequest.BodyPublishers.ofString("1,0.5\n"))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            Assertions.assertEquals(400, response.statusCode());
+
+            // a truncated record
+            byte[] binary = toBinary(observedPredictedValues);
+            response = CLIENT.send(
+                    HttpRequest.newBuilder(uri(server, "/evaluate?format=binary"))
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(Arrays.copyOf(binary, binary.length - 1)))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            Assertions.assertEquals(400, response.statusCode());
+            Assertions.assertTrue(response.body().contains("middle of a record"));
+        }
+    }
+
+    /**
+     * Test of the plot endpoints, of class EvaluationServer.
+     */
+    @Test
+    public void testPlot() throws Exception {
+        Path file = Paths.get(ResourcesLoaderTest.class.getResource("/data/obs_pred_vals.csv").getFile());
+
+        try (EvaluationServer server = startServer(4, 4, 1 << 20)) {
+            HttpResponse<byte[]> response = CLIENT.send(
+                    HttpRequest.newBuilder(uri(server, "/plot/roc?image=png&width=320&height=240"))
+                            .POST(HttpRequest.BodyPublishers.ofFile(file))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            Assertions.assertEquals(200, response.statusCode());
+            Assertions.assertEquals("image/png", response.headers().firstValue("Content-Type").orElse(null));
+            byte[] pngSignature = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+            Assertions.assertArrayEquals(pngSignature, Arrays.copyOf(response.body(), pngSignature.length));
+
+            response = CLIENT.send(
+                    HttpRequest.newBuilder(uri(server, "/plot/calibration?image=svg&title=Test%20Calibration"))
+                            .POST(HttpRequest.BodyPublishers.ofFile(file))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            Assertions.assertEquals(200, response.statusCode());
+            Assertions.assertEquals("image/svg+xml", response.headers().firstValue("Content-Type").orElse(null));
+            String svg = new String(response.body(), StandardCharsets.UTF_8);
+            Assertions.assertTrue(svg.contains("<svg"));
+            Assertions.assertTrue(svg.contains("Test Calibration"));
+        }
+    }
+
+    /**
+     * Test of the concurrency limit and the request size limit, of class
+     * EvaluationServer.
+     */
+    @Test
+    public void testLimits() throws Exception {
+        try (EvaluationServer server = startServer(1, 0, 1024)) {
+            // hold the only slot with a chunked body that is still being written
+            try (Socket socket = new Socket("127.0.0.1", server.getPort())) {
+                OutputStream out = socket.getOutputStream();
+                out.write(("POST /evaluate HTTP/1.1\r\n"
+                        + "Host: 127.0.0.1\r\n"
+                        + "Transfer-Encoding: chunked\r\n\r\n"
+                        + "c\r\n1,0.9\n0,0.1\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+                waitForActiveRequests(server, 1);
+
+                HttpResponse<String> response = CLIENT.send(
+                        HttpRequest.newBuilder(uri(server, "/evaluate"))
+                                .POST(HttpRequest.BodyPublishers.ofString("1,0.8\n0,0.2\n"))
+                                .build(),
+                        HttpResponse.BodyHandlers.ofString());
+                Assertions.assertEquals(503, response.statusCode());
+                Assertions.assertTrue(response.headers().firstValue("Retry-After").isPresent());
+
+                out.write("c\r\n1,0.7\n0,0.3\n\r\n0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+                BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                Assertions.assertEquals("HTTP/1.1 200 OK", reader.readLine());
+            }
+
+            // too large
+            byte[] largeBody = "1,0.5\n".repeat(200).getBytes(StandardCharsets.UTF_8);
+            HttpResponse<String> response = CLIENT.send(
+                    HttpRequest.newBuilder(uri(server, "/evaluate"))
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(largeBody))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            Assertions.assertEquals(413, response.statusCode());
+        }
+    }
+
+    private static EvaluationServer startServer(int maxConcurrency, int maxQueued, long maxRequestBytes) throws Exception {
+        EvaluationServer server = new EvaluationServer(new InetSocketAddress("127.0.0.1", 0), maxConcurrency, maxQueued, maxRequestBytes);
+        server.start();
+
+        return server;
+    }
+
+    private static URI uri(EvaluationServer server, String path) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + path);
+    }
+
+    private static void waitForActiveRequests(EvaluationServer server, int active) throws Exception {
+        for (int i = 0; i < 500; i++) {
+            HttpResponse<String> response = CLIENT.send(
+                    HttpRequest.newBuilder(uri(server, "/health")).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if ((int) getNumber(response.body(), "active") == active) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+
+        Assertions.fail("The request did not start.");
+    }
+
+    private static double getNumber(String json, String name) {
+        Matcher matcher = Pattern.compile("\"" + name + "\":([-0-9.Ee]+)").matcher(json);
+        Assertions.assertTrue(matcher.find(), name + " is missing from " + json);
+
+        return Double.parseDouble(matcher.group(1));
+    }
+
+    private static byte[] toBinary(List<ObservedPredictedValue> observedPredictedValues) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (ObservedPredictedValue value : observedPredictedValues) {
+                out.writeDouble(value.getPredictedValue());
+                out.writeByte(value.getObservedValue());
+            }
+        }
+
+        return bytes.toByteArray();
+    }
+
+}